@@ -30,6 +30,7 @@ import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Array;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -350,6 +351,39 @@ public class ObjectInputStream
         bin.setBlockDataMode(true);
     }
 
+    /**
+     * Creates an ObjectInputStream that reads from the specified buffer.
+     * A serialization stream header is read from the buffer and verified.
+     *
+     * <p>The stream reads the bytes from the buffer's position to its
+     * limit, advancing its position.  Each refill of the stream's internal
+     * block buffer takes a single bulk {@code get} from the buffer, so the
+     * position may run ahead of the objects read so far.  The buffer may
+     * be a heap, direct or
+     * {@linkplain java.nio.MappedByteBuffer mapped} buffer; its byte order
+     * is ignored.  The buffer's content must not be modified while the
+     * stream is in use.  Closing the stream does not affect the buffer.
+     *
+     * <p>If a security manager is installed, this constructor will check for
+     * the "enableSubclassImplementation" SerializablePermission when invoked
+     * directly or indirectly by the constructor of a subclass which overrides
+     * the ObjectInputStream.readFields or ObjectInputStream.readUnshared
+     * methods.
+     *
+     * @param   buf buffer to read from
+     * @throws  StreamCorruptedException if the stream header is incorrect
+     * @throws  IOException if an I/O error occurs while reading stream header,
+     *          including reaching the limit of the buffer
+     * @throws  SecurityException if untrusted subclass illegally overrides
+     *          security-sensitive methods
+     * @throws  NullPointerException if <code>buf</code> is <code>null</code>
+     * @see     ObjectInputStream#ObjectInputStream(InputStream)
+     * @since   1.8
+     */
+    public ObjectInputStream(ByteBuffer buf) throws IOException {
+        this(new ByteBufferInputStream(buf));
+    }
+
     /**
      * Provide a way for subclasses that are completely reimplementing
      * ObjectInputStream to not have to allocate private data just used by this
@@ -1121,7 +1155,16 @@ public class ObjectInputStream
      *          modified UTF-8 encoding of a string
      */
     public String readUTF() throws IOException {
-        return bin.readUTF();
+        return dedup(bin.readUTF());
+    }
+
+    /**
+     * Returns the copy of str in the system-wide string pool, if there is
+     * one, so that equal strings read from many streams share storage.
+     */
+    private static String dedup(String str) {
+        StringPool pool = StringPool.getSystemPool();
+        return (pool != null) ? pool.intern(str) : str;
     }
 
     /**
@@ -1871,6 +1914,9 @@ public class ObjectInputStream
                 throw new StreamCorruptedException(
                     String.format("invalid type code: %02X", tc));
         }
+        if (!unshared) {
+            str = dedup(str);
+        }
         passHandle = handles.assign(unshared ? unsharedMarker : str);
         handles.finish(passHandle);
         return str;
@@ -2236,9 +2282,13 @@ public class ObjectInputStream
             desc.setPrimFieldValues(obj, primVals);
         }
 
+        int numObjFields = desc.getNumObjFields();
+        if (numObjFields == 0) {
+            return;
+        }
         int objHandle = passHandle;
         ObjectStreamField[] fields = desc.getFields(false);
-        Object[] objVals = new Object[desc.getNumObjFields()];
+        Object[] objVals = new Object[numObjFields];
         int numPrimFields = fields.length - objVals.length;
         for (int i = 0; i < objVals.length; i++) {
             ObjectStreamField f = fields[numPrimFields + i];
@@ -2568,6 +2618,49 @@ public class ObjectInputStream
         }
     }
 
+    /**
+     * Input stream reading the remaining bytes of a ByteBuffer, for
+     * ObjectInputStream(ByteBuffer).
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        /** buffer to read from */
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = Objects.requireNonNull(buf);
+        }
+
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int n = Math.min(len, buf.remaining());
+            if (n == 0) {
+                return -1;
+            }
+            buf.get(b, off, n);
+            return n;
+        }
+
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int k = (int) Math.min(n, buf.remaining());
+            buf.position(buf.position() + k);
+            return k;
+        }
+
+        public int available() {
+            return buf.remaining();
+        }
+    }
+
     /**
      * Input stream supporting single-byte peek operations.
      */
@@ -2695,6 +2788,8 @@ public class ObjectInputStream
         private final byte[] hbuf = new byte[MAX_HEADER_SIZE];
         /** char buffer for fast string reads */
         private final char[] cbuf = new char[CHAR_BUF_SIZE];
+        /** char buffer for buffered strings longer than cbuf, or null */
+        private char[] ubuf;
 
         /** block data mode */
         private boolean blkmode = false;
@@ -3360,10 +3455,18 @@ public class ObjectInputStream
          * utflen bytes.
          */
         private String readUTFBody(long utflen) throws IOException {
-            StringBuilder sbuf = new StringBuilder();
             if (!blkmode) {
                 end = pos = 0;
+                if (utflen <= MAX_BLOCK_SIZE) {
+                    in.readFully(buf, 0, (int) utflen);
+                    end = (int) utflen;
+                }
             }
+            if (utflen <= end - pos) {
+                return readBufferedUTF((int) utflen);
+            }
+
+            StringBuilder sbuf = new StringBuilder();
 
             while (utflen > 0) {
                 int avail = end - pos;
@@ -3388,6 +3491,73 @@ public class ObjectInputStream
             return sbuf.toString();
         }
 
+        /**
+         * Decodes a UTF string whose utflen bytes are all in the internal
+         * buffer, without the StringBuilder of the general case.  A string
+         * of ASCII chars, the common case, is created straight from the
+         * buffer; others are decoded into a char buffer kept by the stream.
+         */
+        @SuppressWarnings("deprecation")
+        private String readBufferedUTF(int utflen) throws IOException {
+            int start = pos;
+            int stop = start + utflen;
+            int i = start;
+            while (i < stop && buf[i] >= 0) {
+                i++;
+            }
+            if (i == stop) {
+                pos = stop;
+                return new String(buf, 0, start, utflen);
+            }
+
+            // at most one char per byte, and utflen is at most MAX_BLOCK_SIZE
+            char[] chars = cbuf;
+            if (utflen > CHAR_BUF_SIZE) {
+                if (ubuf == null) {
+                    ubuf = new char[MAX_BLOCK_SIZE];
+                }
+                chars = ubuf;
+            }
+            int cpos = 0;
+            for (int j = start; j < i; j++) {
+                chars[cpos++] = (char) buf[j];
+            }
+            pos = i;
+            try {
+                while (pos < stop) {
+                    int b1, b2, b3;
+                    b1 = buf[pos++];
+                    if (b1 >= 0) {                      // 0xxxxxxx
+                        chars[cpos++] = (char) b1;
+                    } else if ((b1 & 0xE0) == 0xC0) {   // 110xxxxx 10xxxxxx
+                        b2 = buf[pos++];
+                        if (pos > stop || (b2 & 0xC0) != 0x80) {
+                            throw new UTFDataFormatException();
+                        }
+                        chars[cpos++] = (char) (((b1 & 0x1F) << 6) |
+                                                ((b2 & 0x3F) << 0));
+                    } else if ((b1 & 0xF0) == 0xE0) {   // 1110xxxx 10xxxxxx 10xxxxxx
+                        b2 = buf[pos++];
+                        b3 = buf[pos++];
+                        if (pos > stop || (b2 & 0xC0) != 0x80 ||
+                            (b3 & 0xC0) != 0x80) {
+                            throw new UTFDataFormatException();
+                        }
+                        chars[cpos++] = (char) (((b1 & 0x0F) << 12) |
+                                                ((b2 & 0x3F) << 6) |
+                                                ((b3 & 0x3F) << 0));
+                    } else {                            // 10xxxxxx, 1111xxxx
+                        throw new UTFDataFormatException();
+                    }
+                }
+            } catch (ArrayIndexOutOfBoundsException | UTFDataFormatException ex) {
+                // as in readUTFSpan, only consume the expected number of bytes
+                pos = stop;
+                throw new UTFDataFormatException();
+            }
+            return new String(chars, 0, cpos);
+        }
+
         /**
          * Reads span of UTF-encoded characters out of internal buffer
          * (starting at offset pos and ending at or before offset end),
@@ -179,6 +179,8 @@ public class ObjectOutputStream
     private final HandleTable handles;
     /** obj -> replacement obj map */
     private final ReplaceTable subs;
+    /** class -> descriptor cache, kept across resets */
+    private final DescCache descs;
     /** stream protocol version */
     private int protocol = PROTOCOL_VERSION_2;
     /** recursion depth */
@@ -242,6 +244,7 @@ public class ObjectOutputStream
         bout = new BlockDataOutputStream(out);
         handles = new HandleTable(10, (float) 3.00);
         subs = new ReplaceTable(10, (float) 3.00);
+        descs = new DescCache();
         enableOverride = false;
         writeStreamHeader();
         bout.setBlockDataMode(true);
@@ -277,6 +280,7 @@ public class ObjectOutputStream
         bout = null;
         handles = null;
         subs = null;
+        descs = null;
         enableOverride = true;
         debugInfoStack = null;
     }
@@ -1131,7 +1135,7 @@ public class ObjectOutputStream
             for (;;) {
                 // REMIND: skip this check for strings/arrays?
                 Class<?> repCl;
-                desc = ObjectStreamClass.lookup(cl, true);
+                desc = descs.lookup(cl);
                 if (!desc.hasWriteReplaceMethod() ||
                     (obj = desc.invokeWriteReplace(obj)) == null ||
                     (repCl = obj.getClass()) == cl)
@@ -1144,7 +1148,7 @@ public class ObjectOutputStream
                 Object rep = replaceObject(obj);
                 if (rep != obj && rep != null) {
                     cl = rep.getClass();
-                    desc = ObjectStreamClass.lookup(cl, true);
+                    desc = descs.lookup(cl);
                 }
                 obj = rep;
             }
@@ -1210,7 +1214,7 @@ public class ObjectOutputStream
      */
     private void writeClass(Class<?> cl, boolean unshared) throws IOException {
         bout.writeByte(TC_CLASS);
-        writeClassDesc(ObjectStreamClass.lookup(cl, true), false);
+        writeClassDesc(descs.lookup(cl), false);
         handles.assign(unshared ? null : cl);
     }
 
@@ -1533,8 +1537,12 @@ public class ObjectOutputStream
         desc.getPrimFieldValues(obj, primVals);
         bout.write(primVals, 0, primDataSize, false);
 
+        int numObjFields = desc.getNumObjFields();
+        if (numObjFields == 0) {
+            return;
+        }
         ObjectStreamField[] fields = desc.getFields(false);
-        Object[] objVals = new Object[desc.getNumObjFields()];
+        Object[] objVals = new Object[numObjFields];
         int numPrimFields = fields.length - objVals.length;
         desc.getObjFieldValues(obj, objVals);
         for (int i = 0; i < objVals.length; i++) {
@@ -2264,7 +2272,7 @@ public class ObjectOutputStream
             next = new int[initialCapacity];
             objs = new Object[initialCapacity];
             threshold = (int) (initialCapacity * loadFactor);
-            clear();
+            Arrays.fill(spine, -1);
         }
 
         /**
@@ -2300,10 +2308,19 @@ public class ObjectOutputStream
         }
 
         /**
-         * Resets table to its initial (empty) state.
+         * Resets table to its initial (empty) state.  The table keeps its
+         * capacity, and if only a small part of it is in use, only the
+         * buckets in use are emptied, so that reset() on a stream once used
+         * for a large object graph costs no more than the last graph.
          */
         void clear() {
-            Arrays.fill(spine, -1);
+            if (size < (spine.length >>> 2)) {
+                for (int i = 0; i < size; i++) {
+                    spine[hash(objs[i]) % spine.length] = -1;
+                }
+            } else {
+                Arrays.fill(spine, -1);
+            }
             Arrays.fill(objs, 0, size, null);
             size = 0;
         }
@@ -2361,6 +2378,39 @@ public class ObjectOutputStream
         }
     }
 
+    /**
+     * Small direct-mapped cache of the class descriptors used by a stream.
+     * Descriptors do not depend on the state of the stream, so unlike
+     * handles the cache is kept across resets; a long-lived stream then
+     * looks up each of its classes in the shared ObjectStreamClass cache,
+     * which allocates a weak key per lookup, only once.
+     */
+    private static class DescCache {
+
+        /* number of entries, a power of two */
+        private static final int SIZE = 32;
+
+        /* maps hash value -> class of cached descriptor */
+        private final Class<?>[] classes = new Class<?>[SIZE];
+        /* maps hash value -> cached descriptor */
+        private final ObjectStreamClass[] descs = new ObjectStreamClass[SIZE];
+
+        /**
+         * Returns the descriptor for the given class, as
+         * ObjectStreamClass.lookup(cl, true) does.
+         */
+        ObjectStreamClass lookup(Class<?> cl) {
+            int i = System.identityHashCode(cl) & (SIZE - 1);
+            if (classes[i] == cl) {
+                return descs[i];
+            }
+            ObjectStreamClass desc = ObjectStreamClass.lookup(cl, true);
+            classes[i] = cl;
+            descs[i] = desc;
+            return desc;
+        }
+    }
+
     /**
      * Lightweight identity hash table which maps objects to replacement
      * objects.
@@ -1192,6 +1192,15 @@ public final class String
                 char c1 = s1.charAt(i);
                 char c2 = s2.charAt(i);
                 if (c1 != c2) {
+                    if ((c1 | c2) < 0x80) {
+                        // ASCII: only 'A'..'Z' change case
+                        if (c1 >= 'A' && c1 <= 'Z') c1 += 'a' - 'A';
+                        if (c2 >= 'A' && c2 <= 'Z') c2 += 'a' - 'A';
+                        if (c1 != c2) {
+                            return c1 - c2;
+                        }
+                        continue;
+                    }
                     c1 = Character.toUpperCase(c1);
                     c2 = Character.toUpperCase(c2);
                     if (c1 != c2) {
@@ -1356,6 +1365,17 @@ public final class String
                 continue;
             }
             if (ignoreCase) {
+                // Two ASCII characters match only if they are the same
+                // letter in different case, that is, differ in bit 0x20.
+                // (Non-ASCII characters such as the Kelvin sign may fold
+                // to ASCII letters, so they take the general path.)
+                if ((c1 | c2) < 0x80) {
+                    char l1 = (char)(c1 | 0x20);
+                    if ((c1 ^ c2) == 0x20 && l1 >= 'a' && l1 <= 'z') {
+                        continue;
+                    }
+                    return false;
+                }
                 // If characters don't match but case may be ignored,
                 // try converting both characters to uppercase.
                 // If the results match, then the comparison scan should
@@ -1550,18 +1570,74 @@ public final class String
         if (ch < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
             // handle most cases here (ch is a BMP code point or a
             // negative value (invalid code point))
-            final char[] value = this.value;
-            for (int i = fromIndex; i < max; i++) {
-                if (value[i] == ch) {
-                    return i;
-                }
+            if (ch < 0) {
+                return -1;
             }
-            return -1;
+            return indexOfChar(value, fromIndex, max, (char)ch);
         } else {
             return indexOfSupplementary(ch, fromIndex);
         }
     }
 
+    /**
+     * Minimum number of chars to scan for indexOfChar to go a word at a
+     * time; shorter ranges are cheaper to scan char by char.
+     */
+    private static final int WORD_SCAN_MIN = 16;
+
+    /**
+     * Returns the index of the first occurrence of {@code c} in
+     * {@code a[from, to)}, or -1 if there is none.
+     *
+     * Long ranges are scanned four chars at a time: each aligned long
+     * word is XORed with {@code c} in every 16-bit lane, and the
+     * classic "has zero lane" test {@code (x - 0x0001..) & ~x & 0x8000..}
+     * tells whether any of its chars match.  The test has no false
+     * positives when asked only whether some lane is zero, so the
+     * matching word is then rescanned char by char, which also keeps
+     * the result independent of the platform byte order.
+     */
+    static int indexOfChar(char[] a, int from, int to, char c) {
+        int i = from;
+        if (to - i >= WORD_SCAN_MIN) {
+            // scan up to a long aligned address
+            for (; ((CharWords.BASE + ((long)i << 1)) & 7) != 0; i++) {
+                if (a[i] == c) {
+                    return i;
+                }
+            }
+            long pattern = c * 0x0001000100010001L;
+            long off = CharWords.BASE + ((long)i << 1);
+            for (int lim = to - 3; i < lim; i += 4, off += 8) {
+                long x = CharWords.unsafe.getLong(a, off) ^ pattern;
+                if (((x - 0x0001000100010001L) & ~x & 0x8000800080008000L) != 0) {
+                    break;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unsafe access to char arrays for word at a time scans, in a holder
+     * class to keep it out of the static initializer of String.
+     */
+    private static class CharWords {
+        private static final sun.misc.Unsafe unsafe = sun.misc.Unsafe.getUnsafe();
+        // offset of the first element of a char[]
+        private static final long BASE = unsafe.arrayBaseOffset(char[].class);
+
+        static {
+            if (unsafe.arrayIndexScale(char[].class) != 2)
+                throw new Error("char[] index scale not 2");
+        }
+    }
+
     /**
      * Handles (rare) calls of indexOf with a supplementary character.
      */
@@ -1759,13 +1835,22 @@ public final class String
             return fromIndex;
         }
 
+        if (targetCount >= HORSPOOL_MIN_TARGET
+                && sourceCount - fromIndex >= HORSPOOL_MIN_SOURCE) {
+            return horspool(source, sourceOffset, sourceCount,
+                            target, targetOffset, targetCount, fromIndex);
+        }
+
         char first = target[targetOffset];
         int max = sourceOffset + (sourceCount - targetCount);
 
         for (int i = sourceOffset + fromIndex; i <= max; i++) {
             /* Look for first character. */
             if (source[i] != first) {
-                while (++i <= max && source[i] != first);
+                i = indexOfChar(source, i + 1, max + 1, first);
+                if (i < 0) {
+                    return -1;
+                }
             }
 
             /* Found first character, now look at the rest of v2 */
@@ -1784,6 +1869,60 @@ public final class String
         return -1;
     }
 
+    /*
+     * Targets at least this long, searched for in at least HORSPOOL_MIN_SOURCE
+     * chars, use Boyer-Moore-Horspool rather than a first char scan.  Below
+     * that the shifts do not pay for building the skip table.
+     */
+    private static final int HORSPOOL_MIN_TARGET = 8;
+    private static final int HORSPOOL_MIN_SOURCE = 256;
+
+    /**
+     * Boyer-Moore-Horspool search, with the arguments and result of
+     * {@link #indexOf(char[], int, int, char[], int, int, int)}.  The
+     * caller ensures that {@code targetCount > 0} and
+     * {@code 0 <= fromIndex < sourceCount}.
+     */
+    private static int horspool(char[] source, int sourceOffset, int sourceCount,
+            char[] target, int targetOffset, int targetCount,
+            int fromIndex) {
+        int[] shift = skipTable(target, targetOffset, targetCount);
+        int last = targetCount - 1;
+        char lastChar = target[targetOffset + last];
+        int max = sourceOffset + (sourceCount - targetCount);
+
+        for (int i = sourceOffset + fromIndex; i <= max; ) {
+            char c = source[i + last];
+            if (c == lastChar) {
+                int j = 0;
+                while (j < last && source[i + j] == target[targetOffset + j]) {
+                    j++;
+                }
+                if (j == last) {
+                    return i - sourceOffset;
+                }
+            }
+            i += shift[c & 0xff];
+        }
+        return -1;
+    }
+
+    /**
+     * Horspool bad character shifts for a target, indexed by the low byte
+     * of a char.  Chars sharing a low byte share the smallest of their
+     * shifts, which keeps the table small and the shifts safe.  The table
+     * is built afresh for each search; HORSPOOL_MIN_SOURCE keeps that cost
+     * small next to the scan it shortens.
+     */
+    private static int[] skipTable(char[] target, int offset, int count) {
+        int[] shift = new int[256];
+        Arrays.fill(shift, count);
+        for (int j = 0, end = count - 1; j < end; j++) {
+            shift[target[offset + j] & 0xff] = end - j;
+        }
+        return shift;
+    }
+
     /**
      * Returns the index within this string of the last occurrence of the
      * specified substring.  The last occurrence of the empty string ""
@@ -36,6 +36,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.Arrays;
 import sun.misc.MessageUtils;
@@ -118,12 +119,71 @@ class StringCoding {
     }
 
 
+    // -- Latin-1 fast paths --
+    //
+    // Most strings are ASCII, and are coded in UTF-8, US-ASCII or
+    // ISO-8859-1.  For those the result has exactly one char per byte
+    // (or one byte per char), so it is filled with a plain widening or
+    // narrowing copy into an array of the right size, instead of
+    // allocating for the worst-case expansion, running a coder and
+    // trimming.  The input is scanned before anything is allocated, so
+    // when a byte or char needs real coding the fast path costs only the
+    // scan up to it, and the caller then falls back to the coder.
+
+    private static final int NO_FAST_PATH = 0;  // no fast path
+    private static final int ASCII_ONLY   = 1;  // ASCII maps one to one
+    private static final int LATIN1       = 2;  // all of Latin-1 maps one to one
+
+    private static int fastPath(Charset cs) {
+        Class<?> c = cs.getClass();
+        if (c == StandardCharsets.UTF_8.getClass()
+                || c == StandardCharsets.US_ASCII.getClass())
+            return ASCII_ONLY;
+        if (c == StandardCharsets.ISO_8859_1.getClass())
+            return LATIN1;
+        return NO_FAST_PATH;
+    }
+
+    // Returns the chars of the bytes, or null if they need a decoder
+    //
+    private static char[] fastDecode(int fast, byte[] ba, int off, int len) {
+        if (fast == NO_FAST_PATH)
+            return null;
+        if (fast == ASCII_ONLY) {
+            for (int i = off, end = off + len; i < end; i++) {
+                if (ba[i] < 0)
+                    return null;
+            }
+        }
+        char[] ca = new char[len];
+        for (int i = 0; i < len; i++)
+            ca[i] = (char)(ba[off + i] & 0xff);
+        return ca;
+    }
+
+    // Returns the bytes of the chars, or null if they need an encoder
+    //
+    private static byte[] fastEncode(int fast, char[] ca, int off, int len) {
+        if (fast == NO_FAST_PATH)
+            return null;
+        int max = (fast == LATIN1) ? 0xff : 0x7f;
+        for (int i = off, end = off + len; i < end; i++) {
+            if (ca[i] > max)
+                return null;
+        }
+        byte[] ba = new byte[len];
+        for (int i = 0; i < len; i++)
+            ba[i] = (byte)ca[off + i];
+        return ba;
+    }
+
     // -- Decoding --
     private static class StringDecoder {
         private final String requestedCharsetName;
         private final Charset cs;
         private final CharsetDecoder cd;
         private final boolean isTrusted;
+        private final int fast;
 
         private StringDecoder(Charset cs, String rcn) {
             this.requestedCharsetName = rcn;
@@ -132,6 +192,7 @@ class StringCoding {
                 .onMalformedInput(CodingErrorAction.REPLACE)
                 .onUnmappableCharacter(CodingErrorAction.REPLACE);
             this.isTrusted = (cs.getClass().getClassLoader0() == null);
+            this.fast = fastPath(cs);
         }
 
         String charsetName() {
@@ -145,6 +206,9 @@ class StringCoding {
         }
 
         char[] decode(byte[] ba, int off, int len) {
+            char[] fca = fastDecode(fast, ba, off, len);
+            if (fca != null)
+                return fca;
             int en = scale(len, cd.maxCharsPerByte());
             char[] ca = new char[en];
             if (len == 0)
@@ -210,6 +274,9 @@ class StringCoding {
         // check (... && (isTrusted || SM == null || getClassLoader0())) in trim
         // but it then can be argued that the SM is null when the opertaion
         // is started...
+        char[] fca = fastDecode(fastPath(cs), ba, off, len);
+        if (fca != null)
+            return fca;
         CharsetDecoder cd = cs.newDecoder();
         int en = scale(len, cd.maxCharsPerByte());
         char[] ca = new char[en];
@@ -275,6 +342,7 @@ class StringCoding {
         private CharsetEncoder ce;
         private final String requestedCharsetName;
         private final boolean isTrusted;
+        private final int fast;
 
         private StringEncoder(Charset cs, String rcn) {
             this.requestedCharsetName = rcn;
@@ -283,6 +351,7 @@ class StringCoding {
                 .onMalformedInput(CodingErrorAction.REPLACE)
                 .onUnmappableCharacter(CodingErrorAction.REPLACE);
             this.isTrusted = (cs.getClass().getClassLoader0() == null);
+            this.fast = fastPath(cs);
         }
 
         String charsetName() {
@@ -296,6 +365,9 @@ class StringCoding {
         }
 
         byte[] encode(char[] ca, int off, int len) {
+            byte[] fba = fastEncode(fast, ca, off, len);
+            if (fba != null)
+                return fba;
             int en = scale(len, ce.maxBytesPerChar());
             byte[] ba = new byte[en];
             if (len == 0)
@@ -345,6 +417,9 @@ class StringCoding {
     }
 
     static byte[] encode(Charset cs, char[] ca, int off, int len) {
+        byte[] fba = fastEncode(fastPath(cs), ca, off, len);
+        if (fba != null)
+            return fba;
         CharsetEncoder ce = cs.newEncoder();
         int en = scale(len, ce.maxBytesPerChar());
         byte[] ba = new byte[en];
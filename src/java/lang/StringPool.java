@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.lang;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A bounded pool of canonical strings, for deduplicating the many equal
+ * strings that parsers tend to create.
+ *
+ * <p>{@link #intern(String)} returns a string equal to its argument that
+ * is shared by all callers interning an equal string, much like
+ * {@link String#intern()}.  Unlike {@code String.intern()}, a pool:
+ * <ul>
+ * <li>holds its strings weakly, so strings that are no longer used
+ *     elsewhere are reclaimed by the garbage collector;
+ * <li>holds at most a given number of strings, so its memory use stays
+ *     bounded however many distinct strings are interned;
+ * <li>can intern a range of a {@code char} array, which creates a string
+ *     only if no equal string is pooled yet.
+ * </ul>
+ *
+ * <p>A string pooled by one {@code StringPool} is in general not the
+ * same instance as the one returned by {@code String.intern()} or by
+ * another pool, so pooled strings must still be compared with {@link
+ * String#equals equals}.  Once a pool is full, interning a string not in
+ * the pool drops part of the pooled strings to make room for it; a
+ * dropped string remains valid, but later equal strings are no longer
+ * deduplicated against it.
+ *
+ * <p>Pools are safe for use by multiple concurrent threads.  The pool is
+ * divided into segments that are locked independently, so threads
+ * interning different strings rarely contend.
+ *
+ * <p>A system-wide pool, which some parsers of the platform intern
+ * the strings they read through, is enabled by setting the system
+ * property {@code java.lang.StringPool.maxSize} to its maximum size
+ * on the command line.  See {@link #getSystemPool()}.
+ *
+ * @since 1.8
+ */
+public final class StringPool {
+
+    /**
+     * The maximum size of pools created with the no-argument
+     * constructor.
+     */
+    private static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    /**
+     * The maximum number of segments.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * The initial number of buckets of a segment.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int maxSize;
+
+    /**
+     * Creates a pool holding at most 65536 strings.
+     */
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool holding at most the given number of strings.
+     *
+     * @param maxSize the maximum number of strings to pool
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public StringPool(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Illegal max size: " + maxSize);
+        int n = Math.min(Integer.highestOneBit(maxSize), MAX_SEGMENTS);
+        int segmentMax = (maxSize + n - 1) / n;
+        Segment[] segments = new Segment[n];
+        for (int i = 0; i < n; i++)
+            segments[i] = new Segment(segmentMax);
+        this.segments = segments;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(n);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled string equal to the given string, pooling the
+     * given string if there is none.
+     *
+     * @param s a string
+     * @return a string equal to {@code s}, shared with other callers
+     *         interning an equal string
+     * @throws NullPointerException if {@code s} is null
+     */
+    public String intern(String s) {
+        int h = spread(s.hashCode());
+        return segmentFor(h).intern(s, h);
+    }
+
+    /**
+     * Returns the pooled string holding the given range of a
+     * {@code char} array, pooling a new string holding it if there is
+     * none.  The array is not retained.
+     *
+     * @param chars the array holding the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return a string equal to {@code new String(chars, offset, length)},
+     *         shared with other callers interning an equal string
+     * @throws NullPointerException if {@code chars} is null
+     * @throws IndexOutOfBoundsException if {@code offset} or
+     *         {@code length} is negative, or {@code offset + length} is
+     *         greater than {@code chars.length}
+     */
+    public String intern(char[] chars, int offset, int length) {
+        if ((offset | length) < 0 || offset > chars.length - length)
+            throw new IndexOutOfBoundsException(
+                "offset " + offset + ", length " + length +
+                ", array length " + chars.length);
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++)
+            h = 31 * h + chars[i];
+        h = spread(h);
+        return segmentFor(h).intern(chars, offset, length, h);
+    }
+
+    /**
+     * Returns the number of strings in this pool.  Strings that have
+     * been garbage collected but not yet purged from the pool are
+     * counted, so the result is an upper bound.
+     *
+     * @return the number of strings in this pool
+     */
+    public int size() {
+        int n = 0;
+        for (Segment seg : segments) {
+            synchronized (seg) {
+                n += seg.count;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the maximum number of strings in this pool.
+     *
+     * @return the maximum number of strings in this pool
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all strings from this pool.
+     */
+    public void clear() {
+        for (Segment seg : segments) {
+            synchronized (seg) {
+                seg.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the system-wide pool, or {@code null} if there is none.
+     *
+     * <p>The system-wide pool exists if the system property
+     * {@code java.lang.StringPool.maxSize} is set to a positive integer
+     * on the command line, which is then the maximum size of the pool.
+     * {@link java.io.ObjectInputStream} interns the strings it
+     * deserializes and {@link java.util.Properties#load(java.io.Reader)
+     * Properties.load} the keys and values it reads through this pool,
+     * and other libraries may do the same.
+     *
+     * @return the system-wide pool, or {@code null} if there is none
+     */
+    public static StringPool getSystemPool() {
+        // the saved properties are not yet set while the VM boots
+        return sun.misc.VM.isBooted() ? SystemPool.pool : null;
+    }
+
+    private static class SystemPool {
+        static final StringPool pool;
+
+        static {
+            StringPool p = null;
+            String maxSize =
+                sun.misc.VM.getSavedProperty("java.lang.StringPool.maxSize");
+            if (maxSize != null) {
+                try {
+                    int n = Integer.parseInt(maxSize);
+                    if (n > 0)
+                        p = new StringPool(n);
+                } catch (NumberFormatException nfe) {
+                    // If the property cannot be parsed into an int, ignore it.
+                }
+            }
+            pool = p;
+        }
+    }
+
+    /**
+     * Spreads the higher bits of a String hash code, which pick the
+     * segment, into the lower bits, which pick the bucket.
+     */
+    private static int spread(int h) {
+        h *= 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private Segment segmentFor(int h) {
+        // a single segment has segmentShift 32, which Java masks to 0
+        return segments.length == 1 ? segments[0] : segments[h >>> segmentShift];
+    }
+
+    /**
+     * A weakly referenced pooled string.
+     */
+    private static final class Entry extends WeakReference<String> {
+        final int hash;
+        Entry next;
+
+        Entry(String s, int hash, Entry next, ReferenceQueue<String> queue) {
+            super(s, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A separately locked hash table of pooled strings.  All methods
+     * are called with the segment locked.
+     */
+    private static final class Segment {
+        private final ReferenceQueue<String> queue = new ReferenceQueue<>();
+        private final int max;
+        private Entry[] table = new Entry[MIN_CAPACITY];
+        int count;
+
+        Segment(int max) {
+            this.max = max;
+        }
+
+        synchronized String intern(String s, int h) {
+            Entry[] tab = table;
+            for (Entry e = tab[h & (tab.length - 1)]; e != null; e = e.next) {
+                String t;
+                if (e.hash == h && (t = e.get()) != null && t.equals(s))
+                    return t;
+            }
+            add(s, h);
+            return s;
+        }
+
+        synchronized String intern(char[] chars, int offset, int length, int h) {
+            Entry[] tab = table;
+            for (Entry e = tab[h & (tab.length - 1)]; e != null; e = e.next) {
+                String t;
+                if (e.hash == h && (t = e.get()) != null &&
+                    matches(t, chars, offset, length))
+                    return t;
+            }
+            String s = new String(chars, offset, length);
+            add(s, h);
+            return s;
+        }
+
+        private static boolean matches(String s, char[] chars, int offset,
+                                       int length) {
+            if (s.length() != length)
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != chars[offset + i])
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Adds a string not in this segment, first making room for it
+         * if the segment is full.  Collected strings are purged first;
+         * if that does not free an entry, all entries are dropped, which
+         * is cheaper than tracking their age and rarely worse for the
+         * many short lived strings of a parse.
+         */
+        private void add(String s, int h) {
+            expungeStaleEntries();
+            if (count >= max) {
+                clear();
+            } else if (count >= table.length - (table.length >>> 2) &&
+                       table.length < max) {
+                resize();
+            }
+            Entry[] tab = table;
+            int i = h & (tab.length - 1);
+            tab[i] = new Entry(s, h, tab[i], queue);
+            count++;
+        }
+
+        private void resize() {
+            Entry[] oldTab = table;
+            Entry[] newTab = new Entry[oldTab.length << 1];
+            int mask = newTab.length - 1;
+            for (Entry e : oldTab) {
+                while (e != null) {
+                    Entry next = e.next;
+                    int i = e.hash & mask;
+                    e.next = newTab[i];
+                    newTab[i] = e;
+                    e = next;
+                }
+            }
+            table = newTab;
+        }
+
+        private void clear() {
+            // entries already queued are ignored by expungeStaleEntries
+            while (queue.poll() != null)
+                ;
+            table = new Entry[MIN_CAPACITY];
+            count = 0;
+        }
+
+        /**
+         * Removes the entries of collected strings.
+         */
+        private void expungeStaleEntries() {
+            for (Object x; (x = queue.poll()) != null; ) {
+                Entry e = (Entry)x;
+                Entry[] tab = table;
+                int i = e.hash & (tab.length - 1);
+                Entry prev = null;
+                for (Entry p = tab[i]; p != null; prev = p, p = p.next) {
+                    if (p == e) {
+                        if (prev == null)
+                            tab[i] = e.next;
+                        else
+                            prev.next = e.next;
+                        count--;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
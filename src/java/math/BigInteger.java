@@ -36,6 +36,9 @@ import java.io.ObjectStreamField;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.fork.ForkJoinPool;
+import java.util.concurrent.fork.ForkJoinTask;
+import java.util.concurrent.fork.RecursiveTask;
 import sun.misc.DoubleConsts;
 import sun.misc.FloatConsts;
 
@@ -242,6 +245,22 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      */
     private static final int TOOM_COOK_SQUARE_THRESHOLD = 216;
 
+    /**
+     * The threshold value for using Schoenhage-Strassen multiplication.
+     * If the number of ints in both mag arrays are greater than this
+     * number, then Schoenhage-Strassen multiplication will be used.
+     * This value is found experimentally to work well.
+     */
+    private static final int SCHOENHAGE_STRASSEN_THRESHOLD = 4000;
+
+    /**
+     * The threshold value for using Schoenhage-Strassen squaring.  If the
+     * number of ints in the number are larger than this value,
+     * Schoenhage-Strassen squaring will be used.  This value is found
+     * experimentally to work well.
+     */
+    private static final int SCHOENHAGE_STRASSEN_SQUARE_THRESHOLD = 4000;
+
     /**
      * The threshold value for using Burnikel-Ziegler division.  If the number
      * of ints in the divisor are larger than this value, Burnikel-Ziegler
@@ -1482,13 +1501,61 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * @return {@code this * val}
      */
     public BigInteger multiply(BigInteger val) {
+        return multiply(val, 0);
+    }
+
+    /**
+     * Returns a BigInteger whose value is {@code (this * val)}.
+     * When both {@code this} and {@code val} are large, typically
+     * in the thousands of bits, parallel multiply might be used.
+     * This method returns the exact same mathematical result as
+     * {@link #multiply}.
+     *
+     * @implNote This implementation may offer better algorithmic
+     * performance when {@code val == this}.
+     *
+     * @implNote Compared to {@link #multiply}, this implementation
+     * computes the sub-products of its Toom-Cook and Schoenhage-Strassen
+     * algorithms as tasks in the {@linkplain ForkJoinPool#commonPool()
+     * common pool}, using more CPU resources to compute the result
+     * faster, and may do so with a slight increase in memory consumption.
+     *
+     * @param  val value to be multiplied by this BigInteger.
+     * @return {@code this * val}
+     * @see #multiply
+     * @since 1.8
+     */
+    public BigInteger parallelMultiply(BigInteger val) {
+        return multiply(val, parallelForkDepth());
+    }
+
+    /**
+     * Returns the number of Toom-Cook levels whose sub-products
+     * parallelMultiply computes as tasks.  Each level multiplies the
+     * number of tasks by five; forking stops once there are enough to
+     * keep every thread of the common pool busy.
+     */
+    private static int parallelForkDepth() {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int depth = 1;
+        for (long tasks = 5; tasks < 2L * parallelism; tasks *= 5)
+            depth++;
+        return depth;
+    }
+
+    /**
+     * Returns a BigInteger whose value is {@code (this * val)}, computing
+     * sub-products in parallel for the next {@code forkDepth} levels of
+     * recursion.
+     */
+    private BigInteger multiply(BigInteger val, int forkDepth) {
         if (val.signum == 0 || signum == 0)
             return ZERO;
 
         int xlen = mag.length;
 
         if (val == this && xlen > MULTIPLY_SQUARE_THRESHOLD) {
-            return square();
+            return square(forkDepth);
         }
 
         int ylen = val.mag.length;
@@ -1508,12 +1575,39 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
         } else {
             if ((xlen < TOOM_COOK_THRESHOLD) && (ylen < TOOM_COOK_THRESHOLD)) {
                 return multiplyKaratsuba(this, val);
+            } else if ((xlen < SCHOENHAGE_STRASSEN_THRESHOLD) ||
+                       (ylen < SCHOENHAGE_STRASSEN_THRESHOLD)) {
+                return multiplyToomCook3(this, val, forkDepth);
             } else {
-                return multiplyToomCook3(this, val);
+                int resultSign = signum == val.signum ? 1 : -1;
+                return new BigInteger(SchoenhageStrassen.multiply(mag, val.mag,
+                                                                  forkDepth > 0),
+                                      resultSign);
             }
         }
     }
 
+    /**
+     * A product computed as a fork/join task by parallelMultiply.
+     */
+    private static final class MultiplyTask extends RecursiveTask<BigInteger> {
+        private static final long serialVersionUID = -2733407880960387311L;
+
+        private final BigInteger a;
+        private final BigInteger b;
+        private final int forkDepth;
+
+        MultiplyTask(BigInteger a, BigInteger b, int forkDepth) {
+            this.a = a;
+            this.b = b;
+            this.forkDepth = forkDepth;
+        }
+
+        protected BigInteger compute() {
+            return a.multiply(b, forkDepth);
+        }
+    }
+
     private static BigInteger multiplyByInt(int[] x, int y, int sign) {
         if (Integer.bitCount(y) == 1) {
             return new BigInteger(shiftLeft(x,Integer.numberOfTrailingZeros(y)), sign);
@@ -1684,8 +1778,11 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * In C.Carlet and B.Sunar, Eds., "WAIFI'07 proceedings", p. 116-133,
      * LNCS #4547. Springer, Madrid, Spain, June 21-22, 2007.
      *
+     * If forkDepth is positive, the five products are computed in parallel
+     * as fork/join tasks.
      */
-    private static BigInteger multiplyToomCook3(BigInteger a, BigInteger b) {
+    private static BigInteger multiplyToomCook3(BigInteger a, BigInteger b,
+                                                int forkDepth) {
         int alen = a.mag.length;
         int blen = b.mag.length;
 
@@ -1709,16 +1806,40 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
 
         BigInteger v0, v1, v2, vm1, vinf, t1, t2, tm1, da1, db1;
 
-        v0 = a0.multiply(b0);
-        da1 = a2.add(a0);
-        db1 = b2.add(b0);
-        vm1 = da1.subtract(a1).multiply(db1.subtract(b1));
-        da1 = da1.add(a1);
-        db1 = db1.add(b1);
-        v1 = da1.multiply(db1);
-        v2 = da1.add(a2).shiftLeft(1).subtract(a0).multiply(
-             db1.add(b2).shiftLeft(1).subtract(b0));
-        vinf = a2.multiply(b2);
+        if (forkDepth > 0) {
+            BigInteger dam1, dbm1, da2, db2;
+            da1 = a2.add(a0);
+            db1 = b2.add(b0);
+            dam1 = da1.subtract(a1);
+            dbm1 = db1.subtract(b1);
+            da1 = da1.add(a1);
+            db1 = db1.add(b1);
+            da2 = da1.add(a2).shiftLeft(1).subtract(a0);
+            db2 = db1.add(b2).shiftLeft(1).subtract(b0);
+
+            // Fork four products and compute the fifth in this thread
+            int depth = forkDepth - 1;
+            ForkJoinTask<BigInteger> p0 = new MultiplyTask(a0, b0, depth).fork();
+            ForkJoinTask<BigInteger> pm1 = new MultiplyTask(dam1, dbm1, depth).fork();
+            ForkJoinTask<BigInteger> p1 = new MultiplyTask(da1, db1, depth).fork();
+            ForkJoinTask<BigInteger> p2 = new MultiplyTask(da2, db2, depth).fork();
+            vinf = a2.multiply(b2, depth);
+            v2 = p2.join();
+            v1 = p1.join();
+            vm1 = pm1.join();
+            v0 = p0.join();
+        } else {
+            v0 = a0.multiply(b0);
+            da1 = a2.add(a0);
+            db1 = b2.add(b0);
+            vm1 = da1.subtract(a1).multiply(db1.subtract(b1));
+            da1 = da1.add(a1);
+            db1 = db1.add(b1);
+            v1 = da1.multiply(db1);
+            v2 = da1.add(a2).shiftLeft(1).subtract(a0).multiply(
+                 db1.add(b2).shiftLeft(1).subtract(b0));
+            vinf = a2.multiply(b2);
+        }
 
         // The algorithm requires two divisions by 2 and one by 3.
         // All divisions are known to be exact, that is, they do not produce
@@ -1884,6 +2005,17 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * @return {@code this<sup>2</sup>}
      */
     private BigInteger square() {
+        return square(0);
+    }
+
+    /**
+     * Returns a BigInteger whose value is {@code (this<sup>2</sup>)},
+     * computing sub-products in parallel for the next {@code forkDepth}
+     * levels of recursion.
+     *
+     * @return {@code this<sup>2</sup>}
+     */
+    private BigInteger square(int forkDepth) {
         if (signum == 0) {
             return ZERO;
         }
@@ -1895,8 +2027,12 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
         } else {
             if (len < TOOM_COOK_SQUARE_THRESHOLD) {
                 return squareKaratsuba();
+            } else if (len < SCHOENHAGE_STRASSEN_SQUARE_THRESHOLD) {
+                return squareToomCook3(forkDepth);
             } else {
-                return squareToomCook3();
+                return new BigInteger(SchoenhageStrassen.multiply(mag, mag,
+                                                                  forkDepth > 0),
+                                      1);
             }
         }
     }
@@ -2029,7 +2165,7 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
      * that has better asymptotic performance than the algorithm used in
      * squareToLen or squareKaratsuba.
      */
-    private BigInteger squareToomCook3() {
+    private BigInteger squareToomCook3(int forkDepth) {
         int len = mag.length;
 
         // k is the size (in ints) of the lower-order slices.
@@ -2046,13 +2182,33 @@ public class BigInteger extends Number implements Comparable<BigInteger> {
         a0 = getToomSlice(k, r, 2, len);
         BigInteger v0, v1, v2, vm1, vinf, t1, t2, tm1, da1;
 
-        v0 = a0.square();
-        da1 = a2.add(a0);
-        vm1 = da1.subtract(a1).square();
-        da1 = da1.add(a1);
-        v1 = da1.square();
-        vinf = a2.square();
-        v2 = da1.add(a2).shiftLeft(1).subtract(a0).square();
+        if (forkDepth > 0) {
+            BigInteger dam1, da2;
+            da1 = a2.add(a0);
+            dam1 = da1.subtract(a1);
+            da1 = da1.add(a1);
+            da2 = da1.add(a2).shiftLeft(1).subtract(a0);
+
+            // Fork four squares and compute the fifth in this thread
+            int depth = forkDepth - 1;
+            ForkJoinTask<BigInteger> p0 = new MultiplyTask(a0, a0, depth).fork();
+            ForkJoinTask<BigInteger> pm1 = new MultiplyTask(dam1, dam1, depth).fork();
+            ForkJoinTask<BigInteger> p1 = new MultiplyTask(da1, da1, depth).fork();
+            ForkJoinTask<BigInteger> p2 = new MultiplyTask(da2, da2, depth).fork();
+            vinf = a2.square(depth);
+            v2 = p2.join();
+            v1 = p1.join();
+            vm1 = pm1.join();
+            v0 = p0.join();
+        } else {
+            v0 = a0.square();
+            da1 = a2.add(a0);
+            vm1 = da1.subtract(a1).square();
+            da1 = da1.add(a1);
+            v1 = da1.square();
+            vinf = a2.square();
+            v2 = da1.add(a2).shiftLeft(1).subtract(a0).square();
+        }
 
         // The algorithm requires two divisions by 2 and one by 3.
         // All divisions are known to be exact, that is, they do not produce
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.math;
+
+import static java.math.BigInteger.LONG_MASK;
+import java.util.concurrent.fork.ForkJoinTask;
+import java.util.concurrent.fork.RecursiveAction;
+
+/**
+ * Schoenhage-Strassen multiplication of large magnitudes.
+ *
+ * <p>Each factor is cut into pieces of {@code pieceLen} ints, which are
+ * taken as the coefficients of a polynomial.  The product of the
+ * polynomials is computed by a number theoretic transform of length
+ * {@code 2^k} over the ring of integers modulo the Fermat number
+ * {@code F = 2^n + 1}, in which 2 is a {@code 2n}-th root of unity,
+ * so all twiddle factors are powers of two and multiplying by them is a
+ * shift.  The ring is chosen large enough to hold the exact coefficients
+ * of the product, which are then added up at their offsets.  The
+ * {@code 2^k} pointwise products are ordinary (recursive) BigInteger
+ * multiplications of {@code n} bit numbers.  The complexity is
+ * O(n log n log log n).
+ *
+ * <p>Ring elements are held in {@code n/32 + 1} ints, least significant
+ * first, with values in {@code [0, 2^n]}.  The coefficients of a
+ * transform are packed into a single array.
+ *
+ * @see     BigInteger
+ * @since   1.8
+ */
+final class SchoenhageStrassen {
+
+    private SchoenhageStrassen() {}
+
+    /**
+     * The number of pointwise products below which they are not split
+     * further among tasks.
+     */
+    private static final int PARALLEL_PRODUCTS_MIN = 4;
+
+    /**
+     * Returns the magnitude of {@code x * y}, which must both be
+     * nonzero; {@code x == y} squares.  Pointwise products are computed
+     * in parallel if {@code parallel}.
+     */
+    static int[] multiply(int[] x, int[] y, boolean parallel) {
+        int xlen = x.length;
+        int ylen = y.length;
+        int k = transformLog(xlen + ylen);
+        int len = 1 << k;
+        // ints per piece, so that the pieces of x and y number at most len + 1
+        int pieceLen = (xlen + ylen + len - 2) / (len - 1);
+        // coefficients are less than 2^(64 * pieceLen + k); the ring size
+        // must also be a multiple of len/2 for 2^(2n/len) to be a root
+        int n = roundUp(64 * pieceLen + k, Math.max(32, len >>> 1));
+        Ring r = new Ring(n, k);
+
+        int[] a = r.split(x, pieceLen);
+        r.forward(a);
+        int[] b;
+        if (x == y) {
+            b = a;
+        } else {
+            b = r.split(y, pieceLen);
+            r.forward(b);
+        }
+        if (parallel) {
+            new PointwiseTask(r, a, b, 0, len).invoke();
+        } else {
+            r.pointwise(a, b, 0, len);
+        }
+        r.inverse(a);
+        return r.join(a, pieceLen, xlen + ylen);
+    }
+
+    /**
+     * Returns the log of the transform length for a product of the
+     * given number of ints.  The ring elements have about 2/len times
+     * as many ints as the product, so the length grows with the square
+     * root of the product length, which balances the cost of the
+     * transforms against that of the pointwise products.
+     */
+    private static int transformLog(int productLen) {
+        int lg = 32 - Integer.numberOfLeadingZeros(productLen - 1) + 5;
+        return Math.max(4, lg / 2);
+    }
+
+    private static int roundUp(int v, int powerOfTwo) {
+        return (v + powerOfTwo - 1) & -powerOfTwo;
+    }
+
+    /**
+     * Computes pointwise products of a range of coefficients, splitting
+     * the range among subtasks.
+     */
+    private static final class PointwiseTask extends RecursiveAction {
+        private static final long serialVersionUID = 8404373812478470476L;
+
+        final Ring r;
+        final int[] a, b;
+        final int from, to;
+
+        PointwiseTask(Ring r, int[] a, int[] b, int from, int to) {
+            this.r = r;
+            this.a = a;
+            this.b = b;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            if (to - from <= PARALLEL_PRODUCTS_MIN) {
+                r.pointwise(a, b, from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                ForkJoinTask.invokeAll(new PointwiseTask(r, a, b, from, mid),
+                                       new PointwiseTask(r, a, b, mid, to));
+            }
+        }
+    }
+
+    /**
+     * Arithmetic modulo {@code 2^n + 1} on coefficient arrays of a
+     * transform of length {@code 2^k}.
+     */
+    private static final class Ring {
+        final int n;        // bits, a multiple of 32
+        final int words;    // n / 32
+        final int stride;   // ints per element, words + 1
+        final int k;
+        final int len;      // transform length, 2^k
+
+        Ring(int n, int k) {
+            this.n = n;
+            this.words = n >>> 5;
+            this.stride = words + 1;
+            this.k = k;
+            this.len = 1 << k;
+        }
+
+        /**
+         * Cuts a big endian magnitude into pieces of pieceLen ints and
+         * returns them as the first coefficients of a transform.
+         */
+        int[] split(int[] mag, int pieceLen) {
+            int[] c = new int[len * stride];
+            int mlen = mag.length;
+            for (int i = 0; i < mlen; i++) {
+                int piece = i / pieceLen;
+                c[piece * stride + i - piece * pieceLen] = mag[mlen - 1 - i];
+            }
+            return c;
+        }
+
+        /**
+         * Adds up the coefficients of the product at their offsets and
+         * returns the result as a big endian magnitude of at most
+         * resultLen ints.
+         */
+        int[] join(int[] c, int pieceLen, int resultLen) {
+            int[] sum = new int[Math.max(resultLen, (len - 1) * pieceLen + stride) + 1];
+            for (int i = 0; i < len; i++) {
+                int off = i * pieceLen;
+                int co = i * stride;
+                long carry = 0;
+                int j = 0;
+                for (; j < stride; j++) {
+                    carry += (sum[off + j] & LONG_MASK) + (c[co + j] & LONG_MASK);
+                    sum[off + j] = (int)carry;
+                    carry >>>= 32;
+                }
+                for (j += off; carry != 0; j++) {
+                    carry += sum[j] & LONG_MASK;
+                    sum[j] = (int)carry;
+                    carry >>>= 32;
+                }
+            }
+            int top = resultLen;
+            while (top > 0 && sum[top - 1] == 0)
+                top--;
+            int[] mag = new int[top];
+            for (int i = 0; i < top; i++)
+                mag[top - 1 - i] = sum[i];
+            return mag;
+        }
+
+        /**
+         * Transforms in place, from natural to bit reversed order
+         * (decimation in frequency).
+         */
+        void forward(int[] c) {
+            int[] t = new int[stride];
+            int[] scratch = new int[2 * words];
+            for (int m = len; m >= 2; m >>>= 1) {
+                int half = m >>> 1;
+                int step = 2 * n / m;
+                for (int start = 0; start < len; start += m) {
+                    for (int j = 0; j < half; j++) {
+                        int u = (start + j) * stride;
+                        int v = u + half * stride;
+                        sub(c, u, c, v, t, 0);
+                        add(c, u, c, v, c, u);
+                        shift(t, 0, j * step, c, v, scratch);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Transforms back in place, from bit reversed to natural order
+         * (decimation in time), including the division by the length.
+         */
+        void inverse(int[] c) {
+            int[] t = new int[stride];
+            int[] scratch = new int[2 * words];
+            for (int m = 2; m <= len; m <<= 1) {
+                int half = m >>> 1;
+                int step = 2 * n / m;
+                for (int start = 0; start < len; start += m) {
+                    for (int j = 0; j < half; j++) {
+                        int u = (start + j) * stride;
+                        int v = u + half * stride;
+                        if (j == 0)
+                            System.arraycopy(c, v, t, 0, stride);
+                        else
+                            shift(c, v, 2 * n - j * step, t, 0, scratch);
+                        sub(c, u, t, 0, c, v);
+                        add(c, u, t, 0, c, u);
+                    }
+                }
+            }
+            // 1/len is 2^-k, that is 2^(2n - k)
+            for (int i = 0; i < len; i++) {
+                int o = i * stride;
+                System.arraycopy(c, o, t, 0, stride);
+                shift(t, 0, 2 * n - k, c, o, scratch);
+            }
+        }
+
+        /**
+         * Replaces a[i] with a[i] * b[i] for i in [from, to).
+         */
+        void pointwise(int[] a, int[] b, int from, int to) {
+            for (int i = from; i < to; i++) {
+                int o = i * stride;
+                if (a[o + words] != 0) {            // a[i] is -1
+                    sub(new int[stride], 0, b, o, a, o);
+                } else if (b[o + words] != 0) {     // b[i] is -1
+                    sub(new int[stride], 0, a, o, a, o);
+                } else {
+                    BigInteger p = toBigInteger(a, o).multiply(toBigInteger(b, o));
+                    int[] pm = p.mag;
+                    int plen = pm.length;
+                    // p = hi * 2^n + lo, which is lo - hi modulo F
+                    int[] lo = new int[stride];
+                    int[] hi = new int[stride];
+                    for (int j = 0; j < plen; j++) {
+                        int w = pm[plen - 1 - j];
+                        if (j < words)
+                            lo[j] = w;
+                        else
+                            hi[j - words] = w;
+                    }
+                    sub(lo, 0, hi, 0, a, o);
+                }
+            }
+        }
+
+        private BigInteger toBigInteger(int[] c, int o) {
+            int top = words;
+            while (top > 0 && c[o + top - 1] == 0)
+                top--;
+            int[] mag = new int[top];
+            for (int i = 0; i < top; i++)
+                mag[top - 1 - i] = c[o + i];
+            return new BigInteger(mag, 1);
+        }
+
+        /**
+         * z = x + y.  z may be x or y.
+         */
+        void add(int[] x, int xo, int[] y, int yo, int[] z, int zo) {
+            long carry = 0;
+            for (int i = 0; i < stride; i++) {
+                carry += (x[xo + i] & LONG_MASK) + (y[yo + i] & LONG_MASK);
+                z[zo + i] = (int)carry;
+                carry >>>= 32;
+            }
+            // z is lo + t * 2^n with t at most 2, which is lo - t
+            int t = z[zo + words];
+            if (t != 0) {
+                z[zo + words] = 0;
+                long borrow = (z[zo] & LONG_MASK) - t;
+                z[zo] = (int)borrow;
+                borrow >>= 32;
+                for (int i = 1; borrow != 0 && i < words; i++) {
+                    borrow += z[zo + i] & LONG_MASK;
+                    z[zo + i] = (int)borrow;
+                    borrow >>= 32;
+                }
+                if (borrow != 0)     // lo < t, so add F
+                    increment(z, zo);
+            }
+        }
+
+        /**
+         * z = x - y.  z may be x or y.
+         */
+        void sub(int[] x, int xo, int[] y, int yo, int[] z, int zo) {
+            long borrow = 0;
+            for (int i = 0; i < stride; i++) {
+                borrow += (x[xo + i] & LONG_MASK) - (y[yo + i] & LONG_MASK);
+                z[zo + i] = (int)borrow;
+                borrow >>= 32;
+            }
+            if (borrow != 0) {
+                // z is lo - 2^n in two's complement; adding F leaves lo + 1
+                z[zo + words] = 0;
+                increment(z, zo);
+            }
+        }
+
+        /**
+         * Adds one to an element below 2^n.
+         */
+        private void increment(int[] z, int zo) {
+            for (int i = 0; i < words; i++) {
+                if (++z[zo + i] != 0)
+                    return;
+            }
+            z[zo + words] = 1;
+        }
+
+        /**
+         * z = x * 2^s for s in [0, 2n).  z must not be x; scratch holds
+         * 2 * words ints.
+         */
+        void shift(int[] x, int xo, int s, int[] z, int zo, int[] scratch) {
+            boolean negate = s >= n;
+            if (negate)
+                s -= n;
+            if (x[xo + words] != 0) {
+                // x is -1: the result is -(2^s)
+                java.util.Arrays.fill(z, zo, zo + stride, 0);
+                z[zo + (s >>> 5)] = 1 << (s & 31);
+                negate = !negate;
+            } else {
+                // x * 2^s = hi * 2^n + lo, which is lo - hi
+                int ws = s >>> 5;
+                int bs = s & 31;
+                java.util.Arrays.fill(scratch, 0);
+                if (bs == 0) {
+                    System.arraycopy(x, xo, scratch, ws, words);
+                } else {
+                    int carry = 0;
+                    for (int i = 0; i < words; i++) {
+                        int w = x[xo + i];
+                        scratch[ws + i] = (w << bs) | carry;
+                        carry = w >>> (32 - bs);
+                    }
+                    scratch[ws + words] = carry;
+                }
+                long borrow = 0;
+                for (int i = 0; i < words; i++) {
+                    borrow += (scratch[i] & LONG_MASK) - (scratch[words + i] & LONG_MASK);
+                    z[zo + i] = (int)borrow;
+                    borrow >>= 32;
+                }
+                z[zo + words] = 0;
+                if (borrow != 0)
+                    increment(z, zo);
+            }
+            if (negate) {
+                // F - z, which is the complement of z plus 2, unless z is 0
+                boolean zero = true;
+                for (int i = 0; i <= words; i++) {
+                    if (z[zo + i] != 0) {
+                        zero = false;
+                        break;
+                    }
+                }
+                if (!zero) {
+                    // 2^n + 1 - z is (2^n - 1 - z) + 2
+                    if (z[zo + words] != 0) {
+                        // z is 2^n, so the result is 1
+                        java.util.Arrays.fill(z, zo, zo + stride, 0);
+                        z[zo] = 1;
+                    } else {
+                        long carry = 2;
+                        for (int i = 0; i < words; i++) {
+                            carry += ~z[zo + i] & LONG_MASK;
+                            z[zo + i] = (int)carry;
+                            carry >>>= 32;
+                        }
+                        z[zo + words] = (int)carry;
+                    }
+                }
+            }
+        }
+    }
+}
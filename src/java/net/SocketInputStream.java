@@ -113,9 +113,76 @@ class SocketInputStream extends FileInputStream
                            byte b[], int off, int len,
                            int timeout)
         throws IOException {
+        Thread t = Thread.currentThread();
+        if (t instanceof java.util.concurrent.fork.ForkJoinWorkerThread &&
+            ((java.util.concurrent.fork.ForkJoinWorkerThread)t).getPool()
+            .isBlockingCompensated())
+            return compensatedRead(fd, b, off, len, timeout);
         return socketRead0(fd, b, off, len, timeout);
     }
 
+    /**
+     * Performs a socket read from a worker of a ForkJoinPool that
+     * compensates for blocking, letting the pool activate a spare
+     * worker while this one waits for input.
+     */
+    private int compensatedRead(FileDescriptor fd,
+                                byte b[], int off, int len,
+                                int timeout)
+        throws IOException {
+        CompensatedRead r = new CompensatedRead(fd, b, off, len, timeout);
+        try {
+            java.util.concurrent.fork.ForkJoinPool.managedBlock(r);
+        } catch (InterruptedException | RuntimeException ex) {
+            // spare not available; read uncompensated below
+        }
+        if (!r.done)
+            r.block();
+        if (r.ex != null)
+            throw r.ex;
+        return r.n;
+    }
+
+    /**
+     * A ManagedBlocker performing a single read.  As with parking in
+     * LockSupport, a declined compensation makes the next call to
+     * isReleasable read uncompensated rather than retrying.
+     */
+    private final class CompensatedRead
+        implements java.util.concurrent.fork.ForkJoinPool.ManagedBlocker {
+        final FileDescriptor fd;
+        final byte[] b;
+        final int off, len, timeout;
+        boolean attempted, done;
+        int n;
+        IOException ex;
+        CompensatedRead(FileDescriptor fd, byte b[], int off, int len,
+                        int timeout) {
+            this.fd = fd;
+            this.b = b;
+            this.off = off;
+            this.len = len;
+            this.timeout = timeout;
+        }
+        public boolean isReleasable() {
+            if (attempted && !done)
+                block();
+            attempted = true;
+            return done;
+        }
+        public boolean block() {
+            if (!done) {
+                done = true;
+                try {
+                    n = socketRead0(fd, b, off, len, timeout);
+                } catch (IOException e) {
+                    ex = e;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * Reads into a byte array data from the socket.
      * @param b the buffer into which the data is read
@@ -962,6 +962,601 @@ public class Arrays {
                  MIN_ARRAY_SORT_GRAN : g).invoke();
     }
 
+    /*
+     * Radix sorting of primitive arrays.
+     */
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 4 bytes of the values, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(int[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(int[]) sort}. The algorithm
+     * requires a working space no greater than the size of the array.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(int[] a) {
+        RadixSort.sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 4 bytes of the values, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(int[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(int[]) sort}. The algorithm
+     * requires a working space no greater than the size of the range.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(int[])}. The
+     * algorithm requires a working space no greater than the size of the
+     * array. The {@link ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(int[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, a.length);
+        else
+            RadixSort.parallelSort(a, 0, a.length, p);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the range is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(int[], int,
+     * int)}. The algorithm requires a working space no greater than the
+     * size of the range. The {@link ForkJoinPool#commonPool() ForkJoin
+     * common pool} is used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, p);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 8 bytes of the values, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(long[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(long[]) sort}. The algorithm
+     * requires a working space no greater than the size of the array.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(long[] a) {
+        RadixSort.sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 8 bytes of the values, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(long[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(long[]) sort}. The algorithm
+     * requires a working space no greater than the size of the range.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(long[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(long[])}.
+     * The algorithm requires a working space no greater than the size of
+     * the array. The {@link ForkJoinPool#commonPool() ForkJoin common
+     * pool} is used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(long[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, a.length);
+        else
+            RadixSort.parallelSort(a, 0, a.length, p);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the range is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(long[], int,
+     * int)}. The algorithm requires a working space no greater than the
+     * size of the range. The {@link ForkJoinPool#commonPool() ForkJoin
+     * common pool} is used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(long[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex);
+        else
+            RadixSort.parallelSort(a, fromIndex, toIndex, p);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 4 bytes of the values' bit patterns, adjusted so that
+     * unsigned order is numerical order, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(float[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(float[]) sort}. The
+     * algorithm requires a working space no greater than two times the
+     * size of the array.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(float[] a) {
+        RadixSort.sort(a, 0, a.length, 1);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 4 bytes of the values' bit patterns, adjusted so that
+     * unsigned order is numerical order, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(float[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(float[]) sort}. The
+     * algorithm requires a working space no greater than two times the
+     * size of the range.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(float[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex, 1);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(float[])}.
+     * The algorithm requires a working space no greater than two times the
+     * size of the array. The {@link ForkJoinPool#commonPool() ForkJoin
+     * common pool} is used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(float[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, a.length, 1);
+        else
+            RadixSort.sort(a, 0, a.length, p);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all float
+     * values: {@code -0.0f == 0.0f} is {@code true} and a {@code Float.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Float#compareTo}: {@code -0.0f} is treated as less than value
+     * {@code 0.0f} and {@code Float.NaN} is considered greater than any
+     * other value and all {@code Float.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the range is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(float[],
+     * int, int)}. The algorithm requires a working space no greater than
+     * two times the size of the range. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(float[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, 1);
+        else
+            RadixSort.sort(a, fromIndex, toIndex, p);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 8 bytes of the values' bit patterns, adjusted so that
+     * unsigned order is numerical order, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(double[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(double[]) sort}. The
+     * algorithm requires a working space no greater than two times the
+     * size of the array.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void radixSort(double[] a) {
+        RadixSort.sort(a, 0, a.length, 1);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a least-significant-digit radix
+     * sort on the 8 bytes of the values' bit patterns, adjusted so that
+     * unsigned order is numerical order, skipping bytes that are the same
+     * in all elements. It runs in time linear in the number of elements
+     * and is typically faster than {@link #sort(double[]) sort} on large
+     * arrays of uniformly distributed values. Ranges shorter than a small
+     * threshold are sorted using {@link #sort(double[]) sort}. The
+     * algorithm requires a working space no greater than two times the
+     * size of the range.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void radixSort(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex, 1);
+    }
+
+    /**
+     * Sorts the specified array into ascending numerical order.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the array is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(double[])}.
+     * The algorithm requires a working space no greater than two times the
+     * size of the array. The {@link ForkJoinPool#commonPool() ForkJoin
+     * common pool} is used to execute any parallel tasks.
+     *
+     * @param a the array to be sorted
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(double[] a) {
+        int n = a.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, 0, a.length, 1);
+        else
+            RadixSort.sort(a, 0, a.length, p);
+    }
+
+    /**
+     * Sorts the specified range of the array into ascending numerical order.
+     * The range to be sorted extends from the index {@code fromIndex},
+     * inclusive, to the index {@code toIndex}, exclusive. If
+     * {@code fromIndex == toIndex}, the range to be sorted is empty.
+     *
+     * <p>The {@code <} relation does not provide a total order on all double
+     * values: {@code -0.0d == 0.0d} is {@code true} and a {@code Double.NaN}
+     * value compares neither less than, greater than, nor equal to any value,
+     * even itself. This method uses the total order imposed by the method
+     * {@link Double#compareTo}: {@code -0.0d} is treated as less than value
+     * {@code 0.0d} and {@code Double.NaN} is considered greater than any
+     * other value and all {@code Double.NaN} values are considered equal.
+     *
+     * @implNote The sorting algorithm is a parallel radix sort. The
+     * elements are first distributed by their most significant
+     * distinguishing byte, in parallel chunks, and the resulting buckets
+     * are then sorted independently by a least-significant-digit radix
+     * sort of their remaining bytes, recursively in parallel if they are
+     * still large. If the length of the range is less than the minimum
+     * granularity, it is sorted using {@link Arrays#radixSort(double[],
+     * int, int)}. The algorithm requires a working space no greater than
+     * two times the size of the range. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
+     *
+     * @param a the array to be sorted
+     * @param fromIndex the index of the first element, inclusive, to be sorted
+     * @param toIndex the index of the last element, exclusive, to be sorted
+     *
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException
+     *     if {@code fromIndex < 0} or {@code toIndex > a.length}
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(a, fromIndex, toIndex, 1);
+        else
+            RadixSort.sort(a, fromIndex, toIndex, p);
+    }
+
+    /**
+     * Sorts the specified array of indices into ascending order of the
+     * {@code long} keys computed for them by the given key extractor.
+     * The sort is <i>stable</i>: indices with equal keys keep their
+     * relative order.
+     *
+     * <p>This is intended for data held as parallel arrays of fields
+     * ("struct of arrays"), where the index order by one field is
+     * computed once and then used to access all of them, as in:
+     * <pre>{@code
+     *     int[] order = new int[n];
+     *     Arrays.setAll(order, i -> i);
+     *     Arrays.radixSort(order, i -> timestamps[i]);
+     * }</pre>
+     *
+     * @implNote The key extractor is applied exactly once per index, and
+     * the indices are then sorted by a least-significant-digit radix sort
+     * on the bytes of the keys, skipping bytes that are the same in all
+     * keys. The algorithm requires a working space of two {@code long}
+     * arrays and one {@code int} array of the size of the array.
+     *
+     * @param indices the array of indices to be sorted
+     * @param keyExtractor the function computing the key of an index
+     * @throws NullPointerException if {@code indices} or
+     *         {@code keyExtractor} is null
+     *
+     * @since 1.8
+     */
+    public static void radixSort(int[] indices, IntToLongFunction keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        RadixSort.sort(indices, keyExtractor, 1);
+    }
+
+    /**
+     * Sorts the specified array of indices into ascending order of the
+     * {@code long} keys computed for them by the given key extractor,
+     * using parallel tasks.  The sort is <i>stable</i>: indices with equal
+     * keys keep their relative order.
+     *
+     * <p>The key extractor may be applied concurrently from multiple
+     * threads, so it should be side-effect-free.
+     *
+     * @implNote The keys are computed in parallel chunks, and the indices
+     * are then sorted by the parallel radix sort described in {@link
+     * #parallelRadixSort(long[])}, carrying each index along with its key.
+     * If the length of the array is less than the minimum granularity, it
+     * is sorted using {@link #radixSort(int[], IntToLongFunction)}. The
+     * algorithm requires a working space of two {@code long} arrays and
+     * one {@code int} array of the size of the array. The {@link
+     * ForkJoinPool#commonPool() ForkJoin common pool} is used to execute
+     * any parallel tasks.
+     *
+     * @param indices the array of indices to be sorted
+     * @param keyExtractor the function computing the key of an index
+     * @throws NullPointerException if {@code indices} or
+     *         {@code keyExtractor} is null
+     *
+     * @since 1.8
+     */
+    public static void parallelRadixSort(int[] indices, IntToLongFunction keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        int n = indices.length, p;
+        if (n <= MIN_ARRAY_SORT_GRAN ||
+            (p = ForkJoinPool.getCommonPoolParallelism()) == 1)
+            RadixSort.sort(indices, keyExtractor, 1);
+        else
+            RadixSort.sort(indices, keyExtractor, p);
+    }
+
     /**
      * Sorts the specified array of objects into ascending order, according
      * to the {@linkplain Comparable natural ordering} of its elements.
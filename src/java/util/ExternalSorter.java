@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import sun.misc.Cleaner;
+import sun.nio.ch.DirectBuffer;
+
+/**
+ * Sorts files of fixed-length records that may be much larger than
+ * the Java heap.  Records are compared by a {@code Comparator} over
+ * {@link ByteBuffer} views of their bytes, so they are never
+ * deserialized into objects.
+ *
+ * <p>Sorting proceeds in two phases.  The source file is first divided
+ * into runs of a bounded number of records.  Each run is mapped into
+ * memory, its records are ordered with {@link Arrays#parallelSort(Object[],
+ * Comparator)}, and the run is written in that order to a temporary
+ * file.  The sorted runs are then mapped and merged in a single pass
+ * with a tree of losers, writing the result to the target file.  If the
+ * whole source fits in one run, it is written to the target directly.
+ *
+ * <p>The sort is <i>stable</i>: records that compare equal appear in the
+ * target in the same order as in the source.
+ *
+ * <p>The buffers passed to the comparator are read-only, have position
+ * zero and a limit and capacity equal to the record size.  A buffer is
+ * compared more than once, so comparators should read it with the
+ * absolute {@code get} methods, or otherwise restore its position.
+ * For example, records ordered by a big-endian {@code long} key in
+ * their first eight bytes can be sorted with:
+ * <pre>{@code
+ *     new ExternalSorter(recordSize, Comparator.comparingLong(b -> b.getLong(0)))
+ *         .sort(source, target);
+ * }</pre>
+ *
+ * <p>The temporary file holding the runs is as large as the source and
+ * is created in the directory of the target file, and deleted when
+ * sorting completes.  Heap usage is proportional to the run length,
+ * which may be chosen when constructing the sorter.
+ *
+ * @since 1.8
+ */
+public final class ExternalSorter {
+
+    /** The default maximum number of records in a run. */
+    private static final int DEFAULT_RUN_LENGTH = 1 << 20;
+
+    /** Size of the buffer through which the merged output is written. */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+    private final int recordSize;
+    private final Comparator<? super ByteBuffer> comparator;
+    private final int runLength;
+
+    /**
+     * Creates a sorter for records of the given size, ordered by the
+     * given comparator, using the default run length.
+     *
+     * @param recordSize the size of each record, in bytes
+     * @param comparator the comparator determining the order of records
+     * @throws IllegalArgumentException if {@code recordSize} is not positive
+     * @throws NullPointerException if {@code comparator} is null
+     */
+    public ExternalSorter(int recordSize, Comparator<? super ByteBuffer> comparator) {
+        this(recordSize, comparator, DEFAULT_RUN_LENGTH);
+    }
+
+    /**
+     * Creates a sorter for records of the given size, ordered by the
+     * given comparator, that sorts runs of at most {@code runLength}
+     * records in memory.  The run length is further limited so that a
+     * run spans at most {@code Integer.MAX_VALUE} bytes.
+     *
+     * @param recordSize the size of each record, in bytes
+     * @param comparator the comparator determining the order of records
+     * @param runLength the maximum number of records sorted in memory at once
+     * @throws IllegalArgumentException if {@code recordSize} or
+     *         {@code runLength} is not positive
+     * @throws NullPointerException if {@code comparator} is null
+     */
+    public ExternalSorter(int recordSize, Comparator<? super ByteBuffer> comparator,
+                          int runLength) {
+        if (recordSize <= 0)
+            throw new IllegalArgumentException("Illegal record size: " + recordSize);
+        if (runLength <= 0)
+            throw new IllegalArgumentException("Illegal run length: " + runLength);
+        this.recordSize = recordSize;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.runLength = Math.min(runLength, Integer.MAX_VALUE / recordSize);
+    }
+
+    /**
+     * Returns the size of the records this sorter sorts.
+     *
+     * @return the record size, in bytes
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Returns the maximum number of records this sorter sorts in memory
+     * at once.
+     *
+     * @return the run length
+     */
+    public int getRunLength() {
+        return runLength;
+    }
+
+    /**
+     * Sorts the records of the source file into the target file, which
+     * is created, or truncated if it exists.
+     *
+     * @param source the file holding the records to be sorted
+     * @param target the file to which the sorted records are written
+     * @throws IllegalArgumentException if the source and target are the
+     *         same file
+     * @throws IOException if an I/O error occurs, or if the size of the
+     *         source is not a multiple of the record size
+     */
+    public void sort(Path source, Path target) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target))
+            throw new IllegalArgumentException("Source and target are the same file: " +
+                                               source);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                                                StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            if (size % recordSize != 0)
+                throw new IOException("Size of " + source + " (" + size +
+                                      ") is not a multiple of the record size " +
+                                      recordSize);
+            long records = size / recordSize;
+            if (records <= runLength) {
+                if (records > 0)
+                    sortRun(in, 0L, (int)records, out);
+                return;
+            }
+            Path dir = target.toAbsolutePath().getParent();
+            Path runs = Files.createTempFile(dir, "sort", ".runs");
+            try (FileChannel tmp = FileChannel.open(runs, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                int k = (int)((records + runLength - 1) / runLength);
+                long runBytes = (long)runLength * recordSize;
+                for (int i = 0; i < k; ++i) {
+                    long pos = i * runBytes;
+                    int n = (int)Math.min(runLength, records - (long)i * runLength);
+                    tmp.position(pos);
+                    sortRun(in, pos, n, tmp);
+                }
+                merge(tmp, k, runBytes, size, out);
+            } finally {
+                Files.deleteIfExists(runs);
+            }
+        }
+    }
+
+    /**
+     * Sorts the n records of the source starting at byte position pos,
+     * writing them at the current position of the target.
+     */
+    private void sortRun(FileChannel in, long pos, int n, FileChannel out)
+        throws IOException {
+        int rs = recordSize;
+        MappedByteBuffer run = in.map(FileChannel.MapMode.READ_ONLY, pos, (long)n * rs);
+        try {
+            ByteBuffer[] records = new ByteBuffer[n];
+            for (int i = 0, off = 0; i < n; ++i, off += rs)
+                records[i] = slice(run, off, rs);
+            Arrays.parallelSort(records, comparator);
+            ByteBuffer buf = ByteBuffer.allocateDirect(outputBufferSize());
+            try {
+                for (ByteBuffer r : records) {
+                    if (buf.remaining() < rs)
+                        drain(buf, out);
+                    r.rewind();
+                    buf.put(r);
+                }
+                drain(buf, out);
+            } finally {
+                unmap(buf);
+            }
+        } finally {
+            unmap(run);
+        }
+    }
+
+    /**
+     * Merges the k sorted runs of the given length in bytes (the last
+     * possibly shorter) held in the runs file of the given total size,
+     * writing the result to the target.
+     */
+    private void merge(FileChannel runs, int k, long runBytes, long size,
+                       FileChannel out) throws IOException {
+        int rs = recordSize;
+        MappedByteBuffer[] maps = new MappedByteBuffer[k];
+        ByteBuffer buf = null;
+        try {
+            for (int i = 0; i < k; ++i) {
+                long pos = i * runBytes;
+                maps[i] = runs.map(FileChannel.MapMode.READ_ONLY, pos,
+                                   Math.min(runBytes, size - pos));
+            }
+            LoserTree tree = new LoserTree(maps, rs, comparator);
+            buf = ByteBuffer.allocateDirect(outputBufferSize());
+            for (int w; (w = tree.winner()) >= 0; ) {
+                if (buf.remaining() < rs)
+                    drain(buf, out);
+                ByteBuffer r = tree.current(w);
+                r.rewind();
+                buf.put(r);
+                tree.advance(w);
+            }
+            drain(buf, out);
+        } finally {
+            for (MappedByteBuffer m : maps)
+                if (m != null)
+                    unmap(m);
+            if (buf != null)
+                unmap(buf);
+        }
+    }
+
+    private int outputBufferSize() {
+        return Math.max(OUTPUT_BUFFER_SIZE - OUTPUT_BUFFER_SIZE % recordSize,
+                        recordSize);
+    }
+
+    /**
+     * Writes the contents of the buffer to the channel and clears it.
+     */
+    private static void drain(ByteBuffer buf, FileChannel out) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining())
+            out.write(buf);
+        buf.clear();
+    }
+
+    /**
+     * Releases the memory mapped or allocated by the buffer without
+     * waiting for it to become unreachable, so that large sorts do not
+     * accumulate address space.  The buffer must not be used afterwards.
+     */
+    private static void unmap(ByteBuffer buf) {
+        Cleaner cl = ((DirectBuffer)buf).cleaner();
+        if (cl != null)
+            cl.clean();
+    }
+
+    /**
+     * A tree of losers selecting the least current record among a
+     * number of sorted runs.  Internal nodes 1 .. k-1 of the implicit
+     * binary tree, whose leaves k .. 2k-1 stand for the runs, hold the
+     * run that lost the comparison at that node; node 0 holds the
+     * overall winner.  Replacing the winner's record therefore costs one
+     * comparison per level.  Exhausted runs lose to all others, and ties
+     * are won by the earlier run, which keeps the merge stable.
+     */
+    static final class LoserTree {
+        final ByteBuffer[] runs;
+        final ByteBuffer[] current;   // current record of each run, or null
+        final int[] offset;           // offset of the next record of each run
+        final int[] tree;
+        final int recordSize;
+        final Comparator<? super ByteBuffer> comparator;
+
+        LoserTree(ByteBuffer[] runs, int recordSize,
+                  Comparator<? super ByteBuffer> comparator) {
+            int k = runs.length;
+            this.runs = runs;
+            this.recordSize = recordSize;
+            this.comparator = comparator;
+            current = new ByteBuffer[k];
+            offset = new int[k];
+            tree = new int[k];
+            for (int i = 0; i < k; ++i)
+                next(i);
+            tree[0] = (k == 1) ? 0 : build(1);
+        }
+
+        /**
+         * Returns the run holding the least current record, or -1 if
+         * all runs are exhausted.
+         */
+        int winner() {
+            int w = tree[0];
+            return (current[w] == null) ? -1 : w;
+        }
+
+        ByteBuffer current(int i) {
+            return current[i];
+        }
+
+        /**
+         * Moves run i, which must be the winner, to its next record and
+         * replays its path to the root.
+         */
+        void advance(int i) {
+            next(i);
+            int k = runs.length, s = i;
+            for (int t = (s + k) >>> 1; t > 0; t >>>= 1) {
+                int x = tree[t];
+                if (less(x, s)) {
+                    tree[t] = s;
+                    s = x;
+                }
+            }
+            tree[0] = s;
+        }
+
+        private void next(int i) {
+            ByteBuffer r = runs[i];
+            int off = offset[i];
+            if (off >= r.capacity())
+                current[i] = null;
+            else {
+                current[i] = slice(r, off, recordSize);
+                offset[i] = off + recordSize;
+            }
+        }
+
+        /**
+         * Plays the matches of the subtree rooted at node, recording
+         * the losers, and returns its winner.
+         */
+        private int build(int node) {
+            int k = runs.length;
+            if (node >= k)
+                return node - k;
+            int l = build(node << 1), r = build((node << 1) + 1);
+            if (less(r, l)) {
+                tree[node] = l;
+                return r;
+            }
+            tree[node] = r;
+            return l;
+        }
+
+        private boolean less(int i, int j) {
+            ByteBuffer a = current[i], b = current[j];
+            if (a == null)
+                return false;
+            if (b == null)
+                return true;
+            int c = comparator.compare(a, b);
+            return c < 0 || (c == 0 && i < j);
+        }
+    }
+
+    /**
+     * Returns a read-only view of len bytes of buf starting at off.
+     */
+    static ByteBuffer slice(ByteBuffer buf, int off, int len) {
+        ByteBuffer b = buf.duplicate();
+        b.position(off);
+        b.limit(off + len);
+        return b.slice().asReadOnlyBuffer();
+    }
+}
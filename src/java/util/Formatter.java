@@ -1892,6 +1892,13 @@ public final class Formatter implements Closeable, Flushable {
         this.zero = getZero(l);
     }
 
+    // Used by Template, which caches the zero digit of the last locale
+    private Formatter(Locale l, Appendable a, char zero) {
+        this.a = a;
+        this.l = l;
+        this.zero = zero;
+    }
+
     private Formatter(Charset charset, Locale l, File file)
         throws FileNotFoundException
     {
@@ -2533,6 +2540,472 @@ public final class Formatter implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * Compiles the given format string into a reusable {@link Template}.
+     *
+     * <p> The format string is parsed and checked once, here, rather than
+     * on every use.  Rendering the template with a given locale and
+     * arguments produces the same output as {@link #format(Locale, String,
+     * Object...)} would for the format string.
+     *
+     * @param  format
+     *         A format string as described in <a href="#syntax">Format string
+     *         syntax</a>.
+     *
+     * @throws  IllegalFormatException
+     *          If the format string contains an illegal syntax, or a
+     *          format specifier with an illegal combination of flags,
+     *          width, precision and conversion
+     *
+     * @return  A template for the format string
+     *
+     * @since 1.8
+     */
+    public static Template compile(String format) {
+        return new Template(format);
+    }
+
+    /**
+     * A compiled format string, produced by {@link Formatter#compile(String)}.
+     *
+     * <p> A template renders its format string with given arguments directly
+     * into a caller-supplied {@code StringBuilder} or {@link
+     * java.nio.CharBuffer}, as {@link Formatter#format(Locale, String,
+     * Object...)} would.  Templates are immutable and may be shared and
+     * used concurrently by multiple threads.
+     *
+     * <p> Fixed text is appended as is, and the {@code %d}, {@code %s},
+     * {@code %x} and {@code %X} conversions are rendered without
+     * intermediate strings or formatter objects, unless they use flags
+     * other than {@code '-'}, {@code '0'} and (for {@code %x}) {@code '#'},
+     * or the argument is of a type that needs general handling (such as
+     * {@link Formattable} or {@link BigInteger}).  For {@code %d} this
+     * applies only when the locale's zero digit is {@code '0'}, so that no
+     * digit localization is needed.  All other specifiers are rendered
+     * exactly as by {@code Formatter}.
+     *
+     * @see Formatter#compile(String)
+     * @since 1.8
+     */
+    public static final class Template {
+        // Fast paths for specifiers
+        private static final byte SLOW = 0;
+        private static final byte DECIMAL = 1;
+        private static final byte STRING = 2;
+        private static final byte HEX = 3;
+
+        private static final char[] LOWER_HEX = "0123456789abcdef".toCharArray();
+        private static final char[] UPPER_HEX = "0123456789ABCDEF".toCharArray();
+
+        private final String format;
+        private final String[] text;            // fixed text, or null for a specifier
+        private final FormatSpecifier[] specs;  // parsed specifiers, or null for text
+        private final byte[] kinds;             // fast path of each specifier
+
+        /**
+         * The zero digit of the locale last rendered with.  Looking it up
+         * requires a DecimalFormatSymbols instance, so it is cached for
+         * the common case of a template always used with one locale.
+         */
+        private volatile LocaleZero lastZero;
+
+        private static final class LocaleZero {
+            final Locale locale;
+            final char zero;
+            LocaleZero(Locale locale, char zero) {
+                this.locale = locale;
+                this.zero = zero;
+            }
+        }
+
+        Template(String format) {
+            this.format = format;
+            FormatString[] fsa = new Formatter(Locale.ROOT, null, '0').parse(format);
+            int n = fsa.length;
+            text = new String[n];
+            specs = new FormatSpecifier[n];
+            kinds = new byte[n];
+            for (int i = 0; i < n; i++) {
+                FormatString fs = fsa[i];
+                if (fs instanceof FixedString) {
+                    text[i] = fs.toString();
+                    continue;
+                }
+                FormatSpecifier sp = (FormatSpecifier)fs;
+                int fv = sp.f.valueOf();
+                if (!sp.dt && sp.index == -2 && sp.width == -1) {
+                    // "%n" and "%%" without width are fixed text
+                    text[i] = (sp.c == Conversion.LINE_SEPARATOR)
+                        ? System.lineSeparator() : "%";
+                    continue;
+                }
+                specs[i] = sp;
+                if (sp.dt)
+                    kinds[i] = SLOW;
+                else if (sp.c == Conversion.DECIMAL_INTEGER)
+                    kinds[i] = onlyFlags(fv, Flags.LEFT_JUSTIFY, Flags.ZERO_PAD)
+                        ? DECIMAL : SLOW;
+                else if (sp.c == Conversion.STRING)
+                    kinds[i] = onlyFlags(fv, Flags.LEFT_JUSTIFY, Flags.PREVIOUS)
+                        ? STRING : SLOW;
+                else if (sp.c == Conversion.HEXADECIMAL_INTEGER)
+                    kinds[i] = onlyFlags(fv, Flags.LEFT_JUSTIFY, Flags.ZERO_PAD,
+                                         Flags.ALTERNATE, Flags.UPPERCASE)
+                        ? HEX : SLOW;
+            }
+        }
+
+        private static boolean onlyFlags(int fv, Flags... allowed) {
+            int mask = Flags.PREVIOUS.valueOf();
+            for (Flags a : allowed)
+                mask |= a.valueOf();
+            return (fv & ~mask) == 0;
+        }
+
+        /**
+         * Appends this template rendered with the given arguments to the
+         * string builder, using the {@linkplain
+         * Locale#getDefault(Locale.Category) default locale} for {@linkplain
+         * Locale.Category#FORMAT formatting}.
+         *
+         * @param  sb
+         *         The string builder to append to
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @return  {@code sb}
+         */
+        public StringBuilder formatTo(StringBuilder sb, Object... args) {
+            return formatTo(sb, Locale.getDefault(Locale.Category.FORMAT), args);
+        }
+
+        /**
+         * Appends this template rendered with the given locale and
+         * arguments to the string builder.
+         *
+         * @param  sb
+         *         The string builder to append to
+         *
+         * @param  l
+         *         The {@linkplain java.util.Locale locale} to apply during
+         *         formatting.  If {@code l} is {@code null} then no
+         *         localization is applied.
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @return  {@code sb}
+         */
+        public StringBuilder formatTo(StringBuilder sb, Locale l, Object... args) {
+            Objects.requireNonNull(sb);
+            try {
+                render(sb, l, args);
+            } catch (IOException x) {
+                throw new AssertionError(x); // StringBuilder does not throw
+            }
+            return sb;
+        }
+
+        /**
+         * Writes this template rendered with the given arguments into the
+         * char buffer, at its current position, using the {@linkplain
+         * Locale#getDefault(Locale.Category) default locale} for {@linkplain
+         * Locale.Category#FORMAT formatting}.
+         *
+         * @param  cb
+         *         The char buffer to write to
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @throws  java.nio.BufferOverflowException
+         *          If there is insufficient space in the buffer
+         *
+         * @return  {@code cb}
+         */
+        public java.nio.CharBuffer formatTo(java.nio.CharBuffer cb, Object... args) {
+            return formatTo(cb, Locale.getDefault(Locale.Category.FORMAT), args);
+        }
+
+        /**
+         * Writes this template rendered with the given locale and
+         * arguments into the char buffer, at its current position.
+         *
+         * @param  cb
+         *         The char buffer to write to
+         *
+         * @param  l
+         *         The {@linkplain java.util.Locale locale} to apply during
+         *         formatting.  If {@code l} is {@code null} then no
+         *         localization is applied.
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @throws  java.nio.BufferOverflowException
+         *          If there is insufficient space in the buffer
+         *
+         * @throws  java.nio.ReadOnlyBufferException
+         *          If the buffer is read-only
+         *
+         * @return  {@code cb}
+         */
+        public java.nio.CharBuffer formatTo(java.nio.CharBuffer cb, Locale l,
+                                            Object... args) {
+            Objects.requireNonNull(cb);
+            try {
+                render(cb, l, args);
+            } catch (IOException x) {
+                throw new AssertionError(x); // CharBuffer does not throw
+            }
+            return cb;
+        }
+
+        /**
+         * Returns this template rendered with the given arguments, using
+         * the {@linkplain Locale#getDefault(Locale.Category) default
+         * locale} for {@linkplain Locale.Category#FORMAT formatting}.
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @return  The formatted string
+         */
+        public String format(Object... args) {
+            return formatTo(new StringBuilder(), args).toString();
+        }
+
+        /**
+         * Returns this template rendered with the given locale and
+         * arguments.
+         *
+         * @param  l
+         *         The {@linkplain java.util.Locale locale} to apply during
+         *         formatting.  If {@code l} is {@code null} then no
+         *         localization is applied.
+         *
+         * @param  args
+         *         Arguments referenced by the format specifiers
+         *
+         * @throws  IllegalFormatException
+         *          If a format specifier is incompatible with the given
+         *          arguments, or there are insufficient arguments
+         *
+         * @return  The formatted string
+         */
+        public String format(Locale l, Object... args) {
+            return formatTo(new StringBuilder(), l, args).toString();
+        }
+
+        /**
+         * Returns the format string this template was compiled from.
+         *
+         * @return  The format string
+         */
+        public String toString() {
+            return format;
+        }
+
+        /**
+         * Renders into out, resolving arguments as Formatter.format does.
+         * Specifiers without a fast path (or whose argument does not
+         * qualify for it) are printed through a Formatter over out,
+         * created on first need.
+         */
+        private void render(Appendable out, Locale l, Object[] args)
+            throws IOException
+        {
+            // index of last argument referenced
+            int last = -1;
+            // last ordinary index
+            int lasto = -1;
+            Formatter fmt = null;
+            int zero = -1;
+
+            for (int i = 0; i < text.length; i++) {
+                String t = text[i];
+                if (t != null) {
+                    out.append(t);
+                    continue;
+                }
+                FormatSpecifier fs = specs[i];
+                Object arg;
+                int index = fs.index;
+                switch (index) {
+                case -2:  // "%n" or "%%" with a width
+                    arg = null;
+                    break;
+                case -1:  // relative index
+                    if (last < 0 || (args != null && last > args.length - 1))
+                        throw new MissingFormatArgumentException(fs.toString());
+                    arg = (args == null ? null : args[last]);
+                    break;
+                case 0:  // ordinary index
+                    lasto++;
+                    last = lasto;
+                    if (args != null && lasto > args.length - 1)
+                        throw new MissingFormatArgumentException(fs.toString());
+                    arg = (args == null ? null : args[lasto]);
+                    break;
+                default:  // explicit index
+                    last = index - 1;
+                    if (args != null && last > args.length - 1)
+                        throw new MissingFormatArgumentException(fs.toString());
+                    arg = (args == null ? null : args[last]);
+                    break;
+                }
+
+                byte kind = kinds[i];
+                if (kind == DECIMAL && zero < 0)
+                    zero = zeroFor(l);
+                if ((kind == DECIMAL && zero == '0' && printDecimal(out, fs, arg)) ||
+                    (kind == STRING && printString(out, fs, arg)) ||
+                    (kind == HEX && printHex(out, fs, arg)))
+                    continue;
+                if (fmt == null) {
+                    if (zero < 0)
+                        zero = zeroFor(l);
+                    fmt = new Formatter(l, out, (char)zero);
+                }
+                fmt.new FormatSpecifier(fs).print(arg, l);
+            }
+        }
+
+        private char zeroFor(Locale l) {
+            if (l == null || l.equals(Locale.US))
+                return '0';
+            LocaleZero lz = lastZero;
+            if (lz == null || !lz.locale.equals(l))
+                lastZero = lz = new LocaleZero(l, DecimalFormatSymbols.getInstance(l)
+                                                  .getZeroDigit());
+            return lz.zero;
+        }
+
+        private static boolean printDecimal(Appendable out, FormatSpecifier fs,
+                                            Object arg) throws IOException {
+            long v;
+            if (arg instanceof Integer || arg instanceof Long ||
+                arg instanceof Short || arg instanceof Byte)
+                v = ((Number)arg).longValue();
+            else
+                return false;
+            boolean zeroPad = fs.f.contains(Flags.ZERO_PAD);
+            if (zeroPad && v < 0)
+                return false;
+            int len = decimalLength(v);
+            int pad = fs.width - len;
+            boolean left = fs.f.contains(Flags.LEFT_JUSTIFY);
+            if (pad > 0 && !left)
+                pad(out, zeroPad ? '0' : ' ', pad);
+            appendDecimal(out, v);
+            if (pad > 0 && left)
+                pad(out, ' ', pad);
+            return true;
+        }
+
+        private static boolean printString(Appendable out, FormatSpecifier fs,
+                                           Object arg) throws IOException {
+            if (arg instanceof Formattable)
+                return false;
+            String s = (arg == null) ? "null" : arg.toString();
+            int len = s.length();
+            if (fs.precision != -1 && fs.precision < len)
+                len = fs.precision;
+            int pad = fs.width - len;
+            boolean left = fs.f.contains(Flags.LEFT_JUSTIFY);
+            if (pad > 0 && !left)
+                pad(out, ' ', pad);
+            out.append(s, 0, len);
+            if (pad > 0 && left)
+                pad(out, ' ', pad);
+            return true;
+        }
+
+        private static boolean printHex(Appendable out, FormatSpecifier fs,
+                                        Object arg) throws IOException {
+            long v;
+            if (arg instanceof Integer)
+                v = ((Integer)arg) & 0xffffffffL;
+            else if (arg instanceof Long)
+                v = (Long)arg;
+            else if (arg instanceof Short)
+                v = ((Short)arg) & 0xffffL;
+            else if (arg instanceof Byte)
+                v = ((Byte)arg) & 0xffL;
+            else
+                return false;
+            Flags f = fs.f;
+            boolean upper = f.contains(Flags.UPPERCASE);
+            boolean alt = f.contains(Flags.ALTERNATE);
+            int digits = Math.max((67 - Long.numberOfLeadingZeros(v)) >> 2, 1);
+            int len = digits + (alt ? 2 : 0);
+            int pad = fs.width - len;
+            boolean zeroPad = f.contains(Flags.ZERO_PAD);
+            boolean left = f.contains(Flags.LEFT_JUSTIFY);
+            if (pad > 0 && !zeroPad && !left)
+                pad(out, ' ', pad);
+            if (alt)
+                out.append('0').append(upper ? 'X' : 'x');
+            if (pad > 0 && zeroPad)
+                pad(out, '0', pad);
+            char[] hex = upper ? UPPER_HEX : LOWER_HEX;
+            for (int shift = (digits - 1) << 2; shift >= 0; shift -= 4)
+                out.append(hex[(int)(v >>> shift) & 0xf]);
+            if (pad > 0 && left && !zeroPad)
+                pad(out, ' ', pad);
+            return true;
+        }
+
+        private static void pad(Appendable out, char c, int n) throws IOException {
+            for (int i = 0; i < n; i++)
+                out.append(c);
+        }
+
+        // number of chars in the decimal representation of v, with sign
+        private static int decimalLength(long v) {
+            int len = (v < 0) ? 2 : 1;
+            // count in the negative range, which holds Long.MIN_VALUE
+            for (long q = (v < 0) ? v : -v; q <= -10; q /= 10)
+                len++;
+            return len;
+        }
+
+        private static void appendDecimal(Appendable out, long v) throws IOException {
+            long q = v;
+            if (v < 0)
+                out.append('-');
+            else
+                q = -v;
+            // q <= 0 now; emit digits of -q from the most significant one
+            long p = 1;
+            while (q / p <= -10)
+                p *= 10;
+            for (; p > 0; p /= 10)
+                out.append((char)('0' - (q / p) % 10));
+        }
+    }
+
     // %[argument_index$][flags][width][.precision][t]conversion
     private static final String formatSpecifier
         = "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])";
@@ -2702,6 +3175,16 @@ public final class Formatter implements Closeable, Flushable {
             return c;
         }
 
+        // Copies a parsed specifier so that it prints to this formatter
+        FormatSpecifier(FormatSpecifier fs) {
+            index = fs.index;
+            f = fs.f;
+            width = fs.width;
+            precision = fs.precision;
+            dt = fs.dt;
+            c = fs.c;
+        }
+
         FormatSpecifier(Matcher m) {
             int idx = 1;
 
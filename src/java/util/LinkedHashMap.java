@@ -145,8 +145,11 @@ import java.io.IOException;
  *
  * @implNote
  * The spliterators returned by the spliterator method of the collections
- * returned by all of this class's collection view methods are created from
- * the iterators of the corresponding collections.
+ * returned by all of this class's collection view methods traverse the
+ * linked entries directly and split by copying successive runs of
+ * elements into arrays, each roughly half of the remaining elements.
+ * Both the top-level spliterators and the split-off batches report
+ * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -547,9 +550,7 @@ public class LinkedHashMap<K,V>
             return removeNode(hash(key), key, null, false, true) != null;
         }
         public final Spliterator<K> spliterator()  {
-            return Spliterators.spliterator(this, Spliterator.SIZED |
-                                            Spliterator.ORDERED |
-                                            Spliterator.DISTINCT);
+            return new LinkedKeySpliterator(-1, 0);
         }
         public final void forEach(Consumer<? super K> action) {
             if (action == null)
@@ -597,8 +598,7 @@ public class LinkedHashMap<K,V>
         }
         public final boolean contains(Object o) { return containsValue(o); }
         public final Spliterator<V> spliterator() {
-            return Spliterators.spliterator(this, Spliterator.SIZED |
-                                            Spliterator.ORDERED);
+            return new LinkedValueSpliterator(-1, 0);
         }
         public final void forEach(Consumer<? super V> action) {
             if (action == null)
@@ -659,9 +659,7 @@ public class LinkedHashMap<K,V>
             return false;
         }
         public final Spliterator<Map.Entry<K,V>> spliterator() {
-            return Spliterators.spliterator(this, Spliterator.SIZED |
-                                            Spliterator.ORDERED |
-                                            Spliterator.DISTINCT);
+            return new LinkedEntrySpliterator(-1, 0);
         }
         public final void forEach(Consumer<? super Map.Entry<K,V>> action) {
             if (action == null)
@@ -752,5 +750,127 @@ public class LinkedHashMap<K,V>
         public final Map.Entry<K,V> next() { return nextNode(); }
     }
 
+    // Spliterators
+
+    /**
+     * Base of the spliterators over the linked entries.  Like the
+     * spliterator of {@link LinkedList}, splitting copies a run of
+     * elements into an array, since a linked list cannot be divided
+     * without traversal.  Because the remaining size is always known,
+     * each split takes about half of what is left (at least
+     * BATCH_UNIT, at most MAX_BATCH elements), so the resulting array
+     * spliterators can be divided evenly and all estimates are exact.
+     */
+    abstract class LinkedHashSpliterator<T> implements Spliterator<T> {
+        static final int BATCH_UNIT = 1 << 10;  // min batch array size
+        static final int MAX_BATCH = 1 << 25;   // max batch array size
+        LinkedHashMap.Entry<K,V> current; // current entry; null until initialized
+        int est;                  // remaining elements; -1 until first needed
+        int expectedModCount;     // initialized when est set
+
+        LinkedHashSpliterator(int est, int expectedModCount) {
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        abstract T item(LinkedHashMap.Entry<K,V> e);
+
+        final int getEst() {
+            int s; // force initialization
+            if ((s = est) < 0) {
+                expectedModCount = modCount;
+                current = head;
+                s = est = size;
+            }
+            return s;
+        }
+
+        public final long estimateSize() { return (long) getEst(); }
+
+        public final Spliterator<T> trySplit() {
+            LinkedHashMap.Entry<K,V> p;
+            int s = getEst();
+            if (s > 1 && (p = current) != null) {
+                int n = s >>> 1;
+                if (n < BATCH_UNIT)
+                    n = (s < BATCH_UNIT) ? s : BATCH_UNIT;
+                if (n > MAX_BATCH)
+                    n = MAX_BATCH;
+                Object[] a = new Object[n];
+                int j = 0;
+                do { a[j++] = item(p); } while ((p = p.after) != null && j < n);
+                current = p;
+                est = s - j;
+                return Spliterators.spliterator(a, 0, j, characteristics());
+            }
+            return null;
+        }
+
+        public final void forEachRemaining(Consumer<? super T> action) {
+            LinkedHashMap.Entry<K,V> p; int n;
+            if (action == null) throw new NullPointerException();
+            if ((n = getEst()) > 0 && (p = current) != null) {
+                current = null;
+                est = 0;
+                do {
+                    T t = item(p);
+                    p = p.after;
+                    action.accept(t);
+                } while (p != null && --n > 0);
+            }
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public final boolean tryAdvance(Consumer<? super T> action) {
+            LinkedHashMap.Entry<K,V> p;
+            if (action == null) throw new NullPointerException();
+            if (getEst() > 0 && (p = current) != null) {
+                --est;
+                T t = item(p);
+                current = p.after;
+                action.accept(t);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    final class LinkedKeySpliterator extends LinkedHashSpliterator<K> {
+        LinkedKeySpliterator(int est, int expectedModCount) {
+            super(est, expectedModCount);
+        }
+        final K item(LinkedHashMap.Entry<K,V> e) { return e.key; }
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED |
+                Spliterator.SUBSIZED | Spliterator.DISTINCT;
+        }
+    }
+
+    final class LinkedValueSpliterator extends LinkedHashSpliterator<V> {
+        LinkedValueSpliterator(int est, int expectedModCount) {
+            super(est, expectedModCount);
+        }
+        final V item(LinkedHashMap.Entry<K,V> e) { return e.value; }
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED |
+                Spliterator.SUBSIZED;
+        }
+    }
+
+    final class LinkedEntrySpliterator
+        extends LinkedHashSpliterator<Map.Entry<K,V>> {
+        LinkedEntrySpliterator(int est, int expectedModCount) {
+            super(est, expectedModCount);
+        }
+        final Map.Entry<K,V> item(LinkedHashMap.Entry<K,V> e) { return e; }
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED |
+                Spliterator.SUBSIZED | Spliterator.DISTINCT;
+        }
+    }
+
 
 }
@@ -1171,13 +1171,12 @@ public class LinkedList<E>
 
     /** A customized variant of Spliterators.IteratorSpliterator */
     static final class LLSpliterator<E> implements Spliterator<E> {
-        static final int BATCH_UNIT = 1 << 10;  // batch array size increment
+        static final int BATCH_UNIT = 1 << 10;  // min batch array size
         static final int MAX_BATCH = 1 << 25;  // max batch array size;
         final LinkedList<E> list; // null OK unless traversed
         Node<E> current;      // current node; null until initialized
         int est;              // size estimate; -1 until first needed
         int expectedModCount; // initialized when est set
-        int batch;            // batch size for splits
 
         LLSpliterator(LinkedList<E> list, int est, int expectedModCount) {
             this.list = list;
@@ -1206,16 +1205,18 @@ public class LinkedList<E>
             Node<E> p;
             int s = getEst();
             if (s > 1 && (p = current) != null) {
-                int n = batch + BATCH_UNIT;
-                if (n > s)
-                    n = s;
+                // The size is exact, so split off about half rather than
+                // growing batches arithmetically; the array half then
+                // divides evenly on further splits.
+                int n = s >>> 1;
+                if (n < BATCH_UNIT)
+                    n = (s < BATCH_UNIT) ? s : BATCH_UNIT;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 Object[] a = new Object[n];
                 int j = 0;
                 do { a[j++] = p.item; } while ((p = p.next) != null && j < n);
                 current = p;
-                batch = j;
                 est = s - j;
                 return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
             }
@@ -0,0 +1,834 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongIntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash table based mapping from {@code long} keys to {@code int} values.
+ * Unlike a {@code HashMap<Long,Integer>}, keys and values are held in
+ * two parallel primitive arrays and collisions are resolved by open
+ * addressing with linear probing, so a mapping costs no allocation, no
+ * boxing and no per-entry object header.
+ *
+ * <p>Every {@code long} is a legal key.  Because a primitive value cannot
+ * signal absence, the single-key accessors that would return {@code null}
+ * in a {@link Map} instead return {@code 0}; use {@link #containsKey} or
+ * {@link #getOrDefault} to distinguish a missing key from one that maps to
+ * {@code 0}.
+ *
+ * <p>Removal uses backward-shift deletion, so the table never accumulates
+ * tombstones and lookup cost depends only on the current load.  The load
+ * factor must be strictly less than one; the default of 0.5 keeps probe
+ * sequences short at the cost of a table twice the size of its contents.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * If multiple threads access the map concurrently, and at least one of
+ * them modifies it structurally, it <i>must</i> be synchronized
+ * externally.  The spliterators returned by {@link #keySpliterator} and
+ * {@link #valueSpliterator} are <em>fail-fast</em> on a best-effort basis,
+ * in the same manner as those of {@link HashMap}.
+ *
+ * @see HashMap
+ * @see IntIntHashMap
+ * @since 1.8
+ */
+public class LongIntHashMap implements Cloneable {
+
+    /**
+     * The default initial capacity - MUST be a power of two.
+     */
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified
+     * by either of the constructors with arguments.
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The load factor used when none specified in constructor.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * Key slots; {@code 0} marks a free slot.  The key {@code 0} itself is
+     * kept out of the table in {@link #containsZeroKey}/{@link #zeroValue}.
+     * Length is always a power of two.
+     */
+    transient long[] keys;
+
+    /**
+     * Value slots, parallel to {@link #keys}.
+     */
+    transient int[] values;
+
+    /**
+     * Whether a mapping for key {@code 0} is present.
+     */
+    transient boolean containsZeroKey;
+
+    /**
+     * The value mapped to key {@code 0}, if {@link #containsZeroKey}.
+     */
+    transient int zeroValue;
+
+    /**
+     * The number of key-value mappings contained in this map.
+     */
+    transient int size;
+
+    /**
+     * The number of times this map has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * The number of table slots that may be occupied before resizing.
+     */
+    int threshold;
+
+    /**
+     * The load factor for the hash table.
+     */
+    final float loadFactor;
+
+    /**
+     * Constructs an empty {@code LongIntHashMap} with the specified
+     * expected size and load factor.
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @param  loadFactor the load factor, in the range {@code (0, 1)}
+     * @throws IllegalArgumentException if the expected size is negative
+     *         or the load factor is out of range
+     */
+    public LongIntHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Illegal expected size: " +
+                                               expectedSize);
+        if (!(loadFactor > 0.0f && loadFactor < 1.0f))
+            throw new IllegalArgumentException("Illegal load factor: " +
+                                               loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Constructs an empty {@code LongIntHashMap} with the specified
+     * expected size and the default load factor (0.5).
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public LongIntHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty {@code LongIntHashMap} with the default initial
+     * capacity (16) and the default load factor (0.5).
+     */
+    public LongIntHashMap() {
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /* ---------------- Static utilities -------------- */
+
+    /**
+     * Spreads the bits of the key with a multiplicative (Fibonacci) step
+     * followed by a fold of the high half, so that sequential keys, which
+     * are common, do not fill consecutive slots and lengthen probe runs.
+     */
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        int x = (int)(h ^ (h >>> 32));
+        return x ^ (x >>> 16);
+    }
+
+    /**
+     * Returns the power of two table length able to hold the given number
+     * of mappings at the given load factor.
+     */
+    static int capacityFor(int expectedSize, float loadFactor) {
+        long n = (long)Math.ceil(expectedSize / (double)loadFactor) + 1L;
+        if (n >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+        return Math.max(2, HashMap.tableSizeFor((int)n));
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no key-value mappings.
+     *
+     * @return {@code true} if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the
+     * specified key.
+     *
+     * @param  key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    public boolean containsKey(long key) {
+        return (key == 0) ? containsZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this map maps one or more keys to the
+     * specified value.  This operation requires time linear in the
+     * table length.
+     *
+     * @param  value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the value
+     */
+    public boolean containsValue(int value) {
+        if (containsZeroKey && zeroValue == value)
+            return true;
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            if (ks[i] != 0 && vs[i] == value)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code 0} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @return the value to which the key is mapped, or {@code 0}
+     */
+    public int get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @param  defaultValue the value to return if the key is absent
+     * @return the value to which the key is mapped, or
+     *         {@code defaultValue}
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == 0)
+            return containsZeroKey ? zeroValue : defaultValue;
+        long[] ks = keys;
+        int mask = ks.length - 1, i = hash(key) & mask;
+        long k;
+        while ((k = ks[i]) != 0) {
+            if (k == key)
+                return values[i];
+            i = (i + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map,
+     * replacing any previous value.
+     *
+     * @param  key key with which the specified value is to be associated
+     * @param  value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code 0} if there was no mapping for {@code key}
+     * @throws IllegalStateException if the table is at its maximum
+     *         capacity and cannot accept another key
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            int old = zeroValue;
+            zeroValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                ++size;
+                ++modCount;
+            }
+            return old;
+        }
+        long[] ks = keys;
+        int mask = ks.length - 1, i = hash(key) & mask;
+        long k;
+        while ((k = ks[i]) != 0) {
+            if (k == key) {
+                int old = values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = key;
+        values[i] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return 0;
+    }
+
+    /**
+     * If the specified key is not already associated with a value,
+     * associates it with the given value.  Otherwise, replaces the
+     * associated value with the result of the given remapping function
+     * applied to the old value and the given value.  This is the
+     * primitive counterpart of {@link Map#merge}; a common use is
+     * accumulating counts with {@code merge(key, 1, Integer::sum)}.
+     *
+     * @param  key key with which the resulting value is to be associated
+     * @param  value the value to use if absent, and the second argument
+     *         to the remapping function otherwise
+     * @param  remappingFunction the function to recompute a value if
+     *         present
+     * @return the new value associated with the specified key
+     * @throws NullPointerException if the remapping function is null
+     * @throws IllegalStateException if the table is at its maximum
+     *         capacity and cannot accept another key
+     * @throws ConcurrentModificationException if the remapping function
+     *         structurally modified this map
+     */
+    public int merge(long key, int value, IntBinaryOperator remappingFunction) {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+        if (key == 0) {
+            if (containsZeroKey) {
+                int mc = modCount;
+                int v = remappingFunction.applyAsInt(zeroValue, value);
+                if (mc != modCount)
+                    throw new ConcurrentModificationException();
+                return zeroValue = v;
+            }
+            put(0, value);
+            return value;
+        }
+        long[] ks = keys;
+        int mask = ks.length - 1, i = hash(key) & mask;
+        long k;
+        while ((k = ks[i]) != 0) {
+            if (k == key) {
+                int mc = modCount;
+                int v = remappingFunction.applyAsInt(values[i], value);
+                if (mc != modCount)
+                    throw new ConcurrentModificationException();
+                return values[i] = v;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = key;
+        values[i] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return value;
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param  key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     *         {@code 0} if there was no mapping for {@code key}
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey)
+                return 0;
+            int old = zeroValue;
+            containsZeroKey = false;
+            zeroValue = 0;
+            --size;
+            ++modCount;
+            return old;
+        }
+        int i;
+        if ((i = indexOf(key)) < 0)
+            return 0;
+        int old = values[i];
+        shiftKeys(i);
+        --size;
+        ++modCount;
+        return old;
+    }
+
+    /**
+     * Removes all of the mappings from this map.  The table keeps its
+     * current capacity.
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, 0);
+            containsZeroKey = false;
+            zeroValue = 0;
+            size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * Performs the given action for each mapping in this map until all
+     * mappings have been processed or the action throws an exception.
+     * Mappings are presented in table order, which is unspecified.
+     *
+     * @param  action the action to be performed for each mapping
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the map is structurally
+     *         modified by the action
+     */
+    public void forEach(LongIntConsumer action) {
+        if (action == null)
+            throw new NullPointerException();
+        int mc = modCount;
+        if (containsZeroKey)
+            action.accept(0, zeroValue);
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length && modCount == mc; ++i) {
+            long k;
+            if ((k = ks[i]) != 0)
+                action.accept(k, vs[i]);
+        }
+        if (modCount != mc)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfLong} over the keys in this map.
+     *
+     * <p>The spliterator is <em>late-binding</em> and <em>fail-fast</em>,
+     * and reports {@link Spliterator#SIZED} and
+     * {@link Spliterator#DISTINCT}.  It splits by halving the slot range,
+     * so split estimates are approximate.
+     *
+     * @return a {@code Spliterator.OfLong} over the keys in this map
+     */
+    public Spliterator.OfLong keySpliterator() {
+        return new KeySpliterator(this, 0, -1, 0, 0, false);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfInt} over the values in this map,
+     * with the same traversal order and characteristics as
+     * {@link #keySpliterator}, except that it does not report
+     * {@link Spliterator#DISTINCT}.
+     *
+     * @return a {@code Spliterator.OfInt} over the values in this map
+     */
+    public Spliterator.OfInt valueSpliterator() {
+        return new ValueSpliterator(this, 0, -1, 0, 0, false);
+    }
+
+    /**
+     * Returns a sequential {@code LongStream} of the keys in this map.
+     *
+     * @return a {@code LongStream} of the keys in this map
+     */
+    public LongStream keyStream() {
+        return StreamSupport.longStream(keySpliterator(), false);
+    }
+
+    /**
+     * Returns a sequential {@code IntStream} of the values in this map.
+     *
+     * @return an {@code IntStream} of the values in this map
+     */
+    public IntStream valueStream() {
+        return StreamSupport.intStream(valueSpliterator(), false);
+    }
+
+    /**
+     * Compares the specified object with this map for equality.  Returns
+     * {@code true} if the given object is also an {@code LongIntHashMap}
+     * and the two maps represent the same mappings.
+     *
+     * @param  o object to be compared for equality with this map
+     * @return {@code true} if the specified object is equal to this map
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LongIntHashMap))
+            return false;
+        LongIntHashMap m = (LongIntHashMap)o;
+        if (m.size != size || m.containsZeroKey != containsZeroKey ||
+            (containsZeroKey && m.zeroValue != zeroValue))
+            return false;
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            long k;
+            int j;
+            if ((k = ks[i]) != 0 &&
+                ((j = m.indexOf(k)) < 0 || m.values[j] != vs[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code value for this map, defined as the sum of
+     * {@code key ^ value} over all mappings, in the manner of
+     * {@link Map#hashCode}.
+     *
+     * @return the hash code value for this map
+     */
+    public int hashCode() {
+        int h = containsZeroKey ? zeroValue : 0;
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            long k;
+            if ((k = ks[i]) != 0)
+                h += Long.hashCode(k) ^ vs[i];
+        }
+        return h;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same format as
+     * {@link AbstractMap#toString}.
+     *
+     * @return a string representation of this map
+     */
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        if (containsZeroKey)
+            sb.append(0L).append('=').append(zeroValue).append(", ");
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            long k;
+            if ((k = ks[i]) != 0)
+                sb.append(k).append('=').append(vs[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Returns a copy of this {@code LongIntHashMap} instance.
+     *
+     * @return a copy of this map
+     */
+    public LongIntHashMap clone() {
+        LongIntHashMap result;
+        try {
+            result = (LongIntHashMap)super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        result.keys = keys.clone();
+        result.values = values.clone();
+        result.modCount = 0;
+        return result;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * Installs empty arrays of the given power of two length.
+     */
+    private void allocate(int n) {
+        keys = new long[n];
+        values = new int[n];
+        threshold = (n == MAXIMUM_CAPACITY) ? n - 1 :
+            Math.min(n - 1, (int)(n * loadFactor));
+    }
+
+    /**
+     * Returns the slot holding the given non-zero key, or -1 if absent.
+     */
+    final int indexOf(long key) {
+        long[] ks = keys;
+        int mask = ks.length - 1, i = hash(key) & mask;
+        long k;
+        while ((k = ks[i]) != 0) {
+            if (k == key)
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the table and reinserts every key.  At maximum capacity the
+     * table is instead allowed to fill up to its last free slot, which
+     * must remain empty to terminate probe sequences.
+     */
+    final void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int oldCap = oldKeys.length;
+        if (oldCap >= MAXIMUM_CAPACITY) {
+            if (size >= MAXIMUM_CAPACITY - 1)
+                throw new IllegalStateException("Map is full");
+            threshold = MAXIMUM_CAPACITY - 1;
+            return;
+        }
+        allocate(oldCap << 1);
+        long[] ks = keys;
+        int[] vs = values;
+        int mask = ks.length - 1;
+        for (int j = 0; j < oldCap; ++j) {
+            long k;
+            if ((k = oldKeys[j]) != 0) {
+                int i = hash(k) & mask;
+                while (ks[i] != 0)
+                    i = (i + 1) & mask;
+                ks[i] = k;
+                vs[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Empties the slot at {@code pos} by shifting back any following entry
+     * of the same probe run whose home slot does not lie cyclically in
+     * {@code (last, pos]}, repeating until a free slot ends the run.
+     */
+    private void shiftKeys(int pos) {
+        long[] ks = keys;
+        int[] vs = values;
+        int mask = ks.length - 1;
+        for (;;) {
+            int last = pos;
+            long k;
+            pos = (pos + 1) & mask;
+            for (;;) {
+                if ((k = ks[pos]) == 0) {
+                    ks[last] = 0;
+                    vs[last] = 0;
+                    return;
+                }
+                int slot = hash(k) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) :
+                    (last >= slot && slot > pos))
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            ks[last] = k;
+            vs[last] = vs[pos];
+        }
+    }
+
+    /* ---------------- Spliterators -------------- */
+
+    static class LongIntHashMapSpliterator {
+        final LongIntHashMap map;
+        int index;                  // current slot, modified on advance/split
+        int fence;                  // one past last slot
+        int est;                    // size estimate
+        int expectedModCount;       // for comodification checks
+        boolean zero;               // whether key 0 is still to be reported
+
+        LongIntHashMapSpliterator(LongIntHashMap m, int origin, int fence,
+                                 int est, int expectedModCount,
+                                 boolean zero) {
+            this.map = m;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+            this.zero = zero;
+        }
+
+        final int getFence() { // initialize fence and size on first use
+            int hi;
+            if ((hi = fence) < 0) {
+                LongIntHashMap m = map;
+                est = m.size;
+                expectedModCount = m.modCount;
+                zero = m.containsZeroKey;
+                hi = fence = m.keys.length;
+            }
+            return hi;
+        }
+
+        public final long estimateSize() {
+            getFence(); // force init
+            return (long) est;
+        }
+    }
+
+    static final class KeySpliterator
+        extends LongIntHashMapSpliterator
+        implements Spliterator.OfLong {
+        KeySpliterator(LongIntHashMap m, int origin, int fence, int est,
+                       int expectedModCount, boolean zero) {
+            super(m, origin, fence, est, expectedModCount, zero);
+        }
+
+        public KeySpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new KeySpliterator(map, lo, index = mid, est >>>= 1,
+                                   expectedModCount, false);
+        }
+
+        public void forEachRemaining(LongConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongIntHashMap m = map;
+            int hi = getFence(), i = index;
+            long[] ks = m.keys;
+            index = hi;
+            if (zero) {
+                zero = false;
+                action.accept(0L);
+            }
+            for (; i < hi; ++i) {
+                long k;
+                if ((k = ks[i]) != 0)
+                    action.accept(k);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongIntHashMap m = map;
+            int hi = getFence();
+            if (zero) {
+                zero = false;
+                action.accept(0L);
+            }
+            else {
+                long[] ks = m.keys;
+                long k;
+                for (;;) {
+                    if (index >= hi)
+                        return false;
+                    if ((k = ks[index++]) != 0)
+                        break;
+                }
+                action.accept(k);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0) |
+                Spliterator.DISTINCT;
+        }
+    }
+
+    static final class ValueSpliterator
+        extends LongIntHashMapSpliterator
+        implements Spliterator.OfInt {
+        ValueSpliterator(LongIntHashMap m, int origin, int fence, int est,
+                         int expectedModCount, boolean zero) {
+            super(m, origin, fence, est, expectedModCount, zero);
+        }
+
+        public ValueSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new ValueSpliterator(map, lo, index = mid, est >>>= 1,
+                                     expectedModCount, false);
+        }
+
+        public void forEachRemaining(IntConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongIntHashMap m = map;
+            int hi = getFence(), i = index;
+            long[] ks = m.keys;
+            int[] vs = m.values;
+            index = hi;
+            if (zero) {
+                zero = false;
+                action.accept(m.zeroValue);
+            }
+            for (; i < hi; ++i) {
+                if (ks[i] != 0)
+                    action.accept(vs[i]);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongIntHashMap m = map;
+            int hi = getFence();
+            if (zero) {
+                zero = false;
+                action.accept(m.zeroValue);
+            }
+            else {
+                long[] ks = m.keys;
+                int i;
+                for (;;) {
+                    if (index >= hi)
+                        return false;
+                    if (ks[i = index++] != 0)
+                        break;
+                }
+                action.accept(m.values[i]);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0);
+        }
+    }
+}
@@ -0,0 +1,740 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongObjConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash table based mapping from {@code long} keys to object values.
+ * Unlike a {@code HashMap<Long,V>}, keys are held unboxed in a primitive
+ * array parallel to the value array and collisions are resolved by open
+ * addressing with linear probing, so a mapping costs no allocation beyond
+ * the value itself.
+ *
+ * <p>Every {@code long} is a legal key.  {@code null} values are not
+ * permitted; as with {@link java.util.concurrent.collection.ConcurrentHashMap},
+ * a {@code null} return from {@link #get} unambiguously means the key is
+ * absent.
+ *
+ * <p>Removal uses backward-shift deletion, so the table never accumulates
+ * tombstones.  The load factor must be strictly less than one.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * If multiple threads access the map concurrently, and at least one of
+ * them modifies it structurally, it <i>must</i> be synchronized
+ * externally.  The spliterators returned by this map are
+ * <em>fail-fast</em> on a best-effort basis.
+ *
+ * @param <V> the type of mapped values
+ *
+ * @see HashMap
+ * @see LongIntHashMap
+ * @since 1.8
+ */
+public class LongObjectHashMap<V> implements Cloneable {
+
+    /**
+     * The default initial capacity - MUST be a power of two.
+     */
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified
+     * by either of the constructors with arguments.
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The load factor used when none specified in constructor.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * Key slots.  A slot is free iff the corresponding value slot is
+     * {@code null}.  Length is always a power of two.
+     */
+    transient long[] keys;
+
+    /**
+     * Value slots, parallel to {@link #keys}.
+     */
+    transient Object[] values;
+
+    /**
+     * The number of key-value mappings contained in this map.
+     */
+    transient int size;
+
+    /**
+     * The number of times this map has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * The number of table slots that may be occupied before resizing.
+     */
+    int threshold;
+
+    /**
+     * The load factor for the hash table.
+     */
+    final float loadFactor;
+
+    /**
+     * Constructs an empty {@code LongObjectHashMap} with the specified
+     * expected size and load factor.
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @param  loadFactor the load factor, in the range {@code (0, 1)}
+     * @throws IllegalArgumentException if the expected size is negative
+     *         or the load factor is out of range
+     */
+    public LongObjectHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Illegal expected size: " +
+                                               expectedSize);
+        if (!(loadFactor > 0.0f && loadFactor < 1.0f))
+            throw new IllegalArgumentException("Illegal load factor: " +
+                                               loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(IntIntHashMap.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Constructs an empty {@code LongObjectHashMap} with the specified
+     * expected size and the default load factor (0.5).
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public LongObjectHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty {@code LongObjectHashMap} with the default
+     * initial capacity (16) and the default load factor (0.5).
+     */
+    public LongObjectHashMap() {
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no key-value mappings.
+     *
+     * @return {@code true} if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the
+     * specified key.
+     *
+     * @param  key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this map maps one or more keys to the
+     * specified value.  This operation requires time linear in the
+     * table length.
+     *
+     * @param  value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the value
+     */
+    public boolean containsValue(Object value) {
+        if (value != null) {
+            Object[] vs = values;
+            for (int i = 0; i < vs.length; ++i) {
+                Object v;
+                if ((v = vs[i]) != null && (v == value || value.equals(v)))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code null} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @return the value to which the key is mapped, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1, i = LongIntHashMap.hash(key) & mask;
+        Object v;
+        while ((v = vs[i]) != null) {
+            if (ks[i] == key)
+                return (V)v;
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @param  defaultValue the value to return if the key is absent
+     * @return the value to which the key is mapped, or
+     *         {@code defaultValue}
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        V v;
+        return ((v = get(key)) == null) ? defaultValue : v;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map,
+     * replacing any previous value.
+     *
+     * @param  key key with which the specified value is to be associated
+     * @param  value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     * @throws NullPointerException if the specified value is null
+     * @throws IllegalStateException if the table is at its maximum
+     *         capacity and cannot accept another key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null)
+            throw new NullPointerException();
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1, i = LongIntHashMap.hash(key) & mask;
+        Object v;
+        while ((v = vs[i]) != null) {
+            if (ks[i] == key) {
+                vs[i] = value;
+                return (V)v;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = key;
+        vs[i] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return null;
+    }
+
+    /**
+     * If the specified key is not already associated with a value,
+     * attempts to compute its value using the given mapping function and
+     * enters it into this map unless {@code null}.
+     *
+     * @param  key key with which the specified value is to be associated
+     * @param  mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with
+     *         the specified key, or null if the computed value is null
+     * @throws NullPointerException if the mapping function is null
+     * @throws ConcurrentModificationException if the mapping function
+     *         structurally modified this map
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key,
+                             LongFunction<? extends V> mappingFunction) {
+        if (mappingFunction == null)
+            throw new NullPointerException();
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1, i = LongIntHashMap.hash(key) & mask;
+        Object v;
+        while ((v = vs[i]) != null) {
+            if (ks[i] == key)
+                return (V)v;
+            i = (i + 1) & mask;
+        }
+        int mc = modCount;
+        V value = mappingFunction.apply(key);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+        if (value != null) {
+            ks[i] = key;
+            vs[i] = value;
+            ++modCount;
+            if (++size > threshold)
+                resize();
+        }
+        return value;
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param  key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int i;
+        if ((i = indexOf(key)) < 0)
+            return null;
+        Object old = values[i];
+        shiftKeys(i);
+        --size;
+        ++modCount;
+        return (V)old;
+    }
+
+    /**
+     * Removes all of the mappings from this map.  The table keeps its
+     * current capacity.
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0L);
+            Arrays.fill(values, null);
+            size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * Performs the given action for each mapping in this map until all
+     * mappings have been processed or the action throws an exception.
+     * Mappings are presented in table order, which is unspecified.
+     *
+     * @param  action the action to be performed for each mapping
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the map is structurally
+     *         modified by the action
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjConsumer<? super V> action) {
+        if (action == null)
+            throw new NullPointerException();
+        int mc = modCount;
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < vs.length && modCount == mc; ++i) {
+            Object v;
+            if ((v = vs[i]) != null)
+                action.accept(ks[i], (V)v);
+        }
+        if (modCount != mc)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfLong} over the keys in this map.
+     *
+     * <p>The spliterator is <em>late-binding</em> and <em>fail-fast</em>,
+     * and reports {@link Spliterator#SIZED} and
+     * {@link Spliterator#DISTINCT}.  It splits by halving the slot range,
+     * so split estimates are approximate.
+     *
+     * @return a {@code Spliterator.OfLong} over the keys in this map
+     */
+    public Spliterator.OfLong keySpliterator() {
+        return new KeySpliterator<>(this, 0, -1, 0, 0);
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the values in this map, with the
+     * same traversal order as {@link #keySpliterator}.  It reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#NONNULL}.
+     *
+     * @return a {@code Spliterator} over the values in this map
+     */
+    public Spliterator<V> valueSpliterator() {
+        return new ValueSpliterator<>(this, 0, -1, 0, 0);
+    }
+
+    /**
+     * Returns a sequential {@code LongStream} of the keys in this map.
+     *
+     * @return a {@code LongStream} of the keys in this map
+     */
+    public LongStream keyStream() {
+        return StreamSupport.longStream(keySpliterator(), false);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the values in this map.
+     *
+     * @return a {@code Stream} of the values in this map
+     */
+    public Stream<V> valueStream() {
+        return StreamSupport.stream(valueSpliterator(), false);
+    }
+
+    /**
+     * Compares the specified object with this map for equality.  Returns
+     * {@code true} if the given object is also a {@code LongObjectHashMap}
+     * and the two maps represent the same mappings.
+     *
+     * @param  o object to be compared for equality with this map
+     * @return {@code true} if the specified object is equal to this map
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LongObjectHashMap))
+            return false;
+        LongObjectHashMap<?> m = (LongObjectHashMap<?>)o;
+        if (m.size != size)
+            return false;
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < vs.length; ++i) {
+            Object v;
+            if ((v = vs[i]) != null && !v.equals(m.get(ks[i])))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code value for this map, defined as the sum of
+     * {@code Long.hashCode(key) ^ value.hashCode()} over all mappings, in
+     * the manner of {@link Map#hashCode}.
+     *
+     * @return the hash code value for this map
+     */
+    public int hashCode() {
+        int h = 0;
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < vs.length; ++i) {
+            Object v;
+            if ((v = vs[i]) != null)
+                h += Long.hashCode(ks[i]) ^ v.hashCode();
+        }
+        return h;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same format as
+     * {@link AbstractMap#toString}.
+     *
+     * @return a string representation of this map
+     */
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < vs.length; ++i) {
+            Object v;
+            if ((v = vs[i]) != null) {
+                sb.append(ks[i]).append('=');
+                sb.append(v == this ? "(this Map)" : v).append(", ");
+            }
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Returns a shallow copy of this {@code LongObjectHashMap} instance:
+     * the values themselves are not cloned.
+     *
+     * @return a shallow copy of this map
+     */
+    @SuppressWarnings("unchecked")
+    public LongObjectHashMap<V> clone() {
+        LongObjectHashMap<V> result;
+        try {
+            result = (LongObjectHashMap<V>)super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        result.keys = keys.clone();
+        result.values = values.clone();
+        result.modCount = 0;
+        return result;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * Installs empty arrays of the given power of two length.
+     */
+    private void allocate(int n) {
+        keys = new long[n];
+        values = new Object[n];
+        threshold = (n == MAXIMUM_CAPACITY) ? n - 1 :
+            Math.min(n - 1, (int)(n * loadFactor));
+    }
+
+    /**
+     * Returns the slot holding the given key, or -1 if absent.
+     */
+    final int indexOf(long key) {
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1, i = LongIntHashMap.hash(key) & mask;
+        while (vs[i] != null) {
+            if (ks[i] == key)
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the table and reinserts every key.  At maximum capacity the
+     * table is instead allowed to fill up to its last free slot, which
+     * must remain empty to terminate probe sequences.
+     */
+    final void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldCap = oldKeys.length;
+        if (oldCap >= MAXIMUM_CAPACITY) {
+            if (size >= MAXIMUM_CAPACITY - 1)
+                throw new IllegalStateException("Map is full");
+            threshold = MAXIMUM_CAPACITY - 1;
+            return;
+        }
+        allocate(oldCap << 1);
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1;
+        for (int j = 0; j < oldCap; ++j) {
+            Object v;
+            if ((v = oldValues[j]) != null) {
+                long k = oldKeys[j];
+                int i = LongIntHashMap.hash(k) & mask;
+                while (vs[i] != null)
+                    i = (i + 1) & mask;
+                ks[i] = k;
+                vs[i] = v;
+            }
+        }
+    }
+
+    /**
+     * Empties the slot at {@code pos} by shifting back any following entry
+     * of the same probe run whose home slot does not lie cyclically in
+     * {@code (last, pos]}, repeating until a free slot ends the run.
+     */
+    private void shiftKeys(int pos) {
+        long[] ks = keys;
+        Object[] vs = values;
+        int mask = ks.length - 1;
+        for (;;) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            for (;;) {
+                if (vs[pos] == null) {
+                    ks[last] = 0L;
+                    vs[last] = null;
+                    return;
+                }
+                int slot = LongIntHashMap.hash(ks[pos]) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) :
+                    (last >= slot && slot > pos))
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            ks[last] = ks[pos];
+            vs[last] = vs[pos];
+        }
+    }
+
+    /* ---------------- Spliterators -------------- */
+
+    static class LongObjectHashMapSpliterator<V> {
+        final LongObjectHashMap<V> map;
+        int index;                  // current slot, modified on advance/split
+        int fence;                  // one past last slot
+        int est;                    // size estimate
+        int expectedModCount;       // for comodification checks
+
+        LongObjectHashMapSpliterator(LongObjectHashMap<V> m, int origin,
+                                     int fence, int est,
+                                     int expectedModCount) {
+            this.map = m;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        final int getFence() { // initialize fence and size on first use
+            int hi;
+            if ((hi = fence) < 0) {
+                LongObjectHashMap<V> m = map;
+                est = m.size;
+                expectedModCount = m.modCount;
+                hi = fence = m.values.length;
+            }
+            return hi;
+        }
+
+        public final long estimateSize() {
+            getFence(); // force init
+            return (long) est;
+        }
+    }
+
+    static final class KeySpliterator<V>
+        extends LongObjectHashMapSpliterator<V>
+        implements Spliterator.OfLong {
+        KeySpliterator(LongObjectHashMap<V> m, int origin, int fence, int est,
+                       int expectedModCount) {
+            super(m, origin, fence, est, expectedModCount);
+        }
+
+        public KeySpliterator<V> trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new KeySpliterator<>(map, lo, index = mid, est >>>= 1,
+                                     expectedModCount);
+        }
+
+        public void forEachRemaining(LongConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongObjectHashMap<V> m = map;
+            int hi = getFence(), i = index;
+            long[] ks = m.keys;
+            Object[] vs = m.values;
+            for (index = hi; i < hi; ++i) {
+                if (vs[i] != null)
+                    action.accept(ks[i]);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongObjectHashMap<V> m = map;
+            int hi = getFence();
+            Object[] vs = m.values;
+            while (index < hi) {
+                int i = index++;
+                if (vs[i] != null) {
+                    action.accept(m.keys[i]);
+                    if (m.modCount != expectedModCount)
+                        throw new ConcurrentModificationException();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0) |
+                Spliterator.DISTINCT;
+        }
+    }
+
+    static final class ValueSpliterator<V>
+        extends LongObjectHashMapSpliterator<V>
+        implements Spliterator<V> {
+        ValueSpliterator(LongObjectHashMap<V> m, int origin, int fence,
+                         int est, int expectedModCount) {
+            super(m, origin, fence, est, expectedModCount);
+        }
+
+        public ValueSpliterator<V> trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new ValueSpliterator<>(map, lo, index = mid, est >>>= 1,
+                                       expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super V> action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongObjectHashMap<V> m = map;
+            int hi = getFence(), i = index;
+            Object[] vs = m.values;
+            for (index = hi; i < hi; ++i) {
+                Object v;
+                if ((v = vs[i]) != null)
+                    action.accept((V)v);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super V> action) {
+            if (action == null)
+                throw new NullPointerException();
+            LongObjectHashMap<V> m = map;
+            int hi = getFence();
+            Object[] vs = m.values;
+            while (index < hi) {
+                Object v;
+                if ((v = vs[index++]) != null) {
+                    action.accept((V)v);
+                    if (m.modCount != expectedModCount)
+                        throw new ConcurrentModificationException();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0) |
+                Spliterator.NONNULL;
+        }
+    }
+}
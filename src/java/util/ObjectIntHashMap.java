@@ -0,0 +1,758 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash table based mapping from object keys to {@code int} values.
+ * Unlike a {@code HashMap<K,Integer>}, values are held unboxed in a
+ * primitive array parallel to the key array and collisions are resolved
+ * by open addressing with linear probing, so a mapping costs no
+ * allocation beyond the key itself.
+ *
+ * <p>This map permits the {@code null} key.  Because a primitive value
+ * cannot signal absence, {@link #get}, {@link #put} and {@link #remove}
+ * return {@code 0} where a {@link Map} would return {@code null}; use
+ * {@link #containsKey} or {@link #getOrDefault} to distinguish a missing
+ * key from one that maps to {@code 0}.
+ *
+ * <p>Removal uses backward-shift deletion, so the table never accumulates
+ * tombstones.  The load factor must be strictly less than one.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * If multiple threads access the map concurrently, and at least one of
+ * them modifies it structurally, it <i>must</i> be synchronized
+ * externally.  The spliterators returned by this map are
+ * <em>fail-fast</em> on a best-effort basis.
+ *
+ * @param <K> the type of keys maintained by this map
+ *
+ * @see HashMap
+ * @see IntIntHashMap
+ * @since 1.8
+ */
+public class ObjectIntHashMap<K> implements Cloneable {
+
+    /**
+     * The default initial capacity - MUST be a power of two.
+     */
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified
+     * by either of the constructors with arguments.
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The load factor used when none specified in constructor.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * Value representing null keys inside tables.
+     */
+    static final Object NULL_KEY = new Object();
+
+    /**
+     * Key slots; {@code null} marks a free slot and {@link #NULL_KEY}
+     * stands for the {@code null} key.  Length is always a power of two.
+     */
+    transient Object[] keys;
+
+    /**
+     * Value slots, parallel to {@link #keys}.
+     */
+    transient int[] values;
+
+    /**
+     * The number of key-value mappings contained in this map.
+     */
+    transient int size;
+
+    /**
+     * The number of times this map has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * The number of table slots that may be occupied before resizing.
+     */
+    int threshold;
+
+    /**
+     * The load factor for the hash table.
+     */
+    final float loadFactor;
+
+    /**
+     * Constructs an empty {@code ObjectIntHashMap} with the specified
+     * expected size and load factor.
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @param  loadFactor the load factor, in the range {@code (0, 1)}
+     * @throws IllegalArgumentException if the expected size is negative
+     *         or the load factor is out of range
+     */
+    public ObjectIntHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Illegal expected size: " +
+                                               expectedSize);
+        if (!(loadFactor > 0.0f && loadFactor < 1.0f))
+            throw new IllegalArgumentException("Illegal load factor: " +
+                                               loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(IntIntHashMap.capacityFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Constructs an empty {@code ObjectIntHashMap} with the specified
+     * expected size and the default load factor (0.5).
+     *
+     * @param  expectedSize the number of mappings the map should hold
+     *         without resizing
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public ObjectIntHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty {@code ObjectIntHashMap} with the default
+     * initial capacity (16) and the default load factor (0.5).
+     */
+    public ObjectIntHashMap() {
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /* ---------------- Static utilities -------------- */
+
+    /**
+     * Use NULL_KEY for key if it is null.
+     */
+    private static Object maskNull(Object key) {
+        return (key == null ? NULL_KEY : key);
+    }
+
+    /**
+     * Returns internal representation of null key back to caller as null.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> K unmaskNull(Object key) {
+        return (K)(key == NULL_KEY ? null : key);
+    }
+
+    /**
+     * Applies the {@link IntIntHashMap#hash} spread to the key's own hash
+     * code, which for many key types has poorly distributed low bits.
+     */
+    static int hash(Object k) {
+        return IntIntHashMap.hash(k.hashCode());
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Returns the number of key-value mappings in this map.
+     *
+     * @return the number of key-value mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no key-value mappings.
+     *
+     * @return {@code true} if this map contains no key-value mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the
+     * specified key.
+     *
+     * @param  key the key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the key
+     */
+    public boolean containsKey(Object key) {
+        return indexOf(maskNull(key)) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this map maps one or more keys to the
+     * specified value.  This operation requires time linear in the
+     * table length.
+     *
+     * @param  value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the value
+     */
+    public boolean containsValue(int value) {
+        Object[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            if (ks[i] != null && vs[i] == value)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code 0} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @return the value to which the key is mapped, or {@code 0}
+     */
+    public int get(Object key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param  key the key whose associated value is to be returned
+     * @param  defaultValue the value to return if the key is absent
+     * @return the value to which the key is mapped, or
+     *         {@code defaultValue}
+     */
+    public int getOrDefault(Object key, int defaultValue) {
+        int i;
+        return ((i = indexOf(maskNull(key))) < 0) ? defaultValue : values[i];
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map,
+     * replacing any previous value.
+     *
+     * @param  key key with which the specified value is to be associated
+     * @param  value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code 0} if there was no mapping for {@code key}
+     * @throws IllegalStateException if the table is at its maximum
+     *         capacity and cannot accept another key
+     */
+    public int put(K key, int value) {
+        Object mk = maskNull(key);
+        Object[] ks = keys;
+        int mask = ks.length - 1, i = hash(mk) & mask;
+        Object k;
+        while ((k = ks[i]) != null) {
+            if (k == mk || k.equals(mk)) {
+                int old = values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = mk;
+        values[i] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return 0;
+    }
+
+    /**
+     * If the specified key is not already associated with a value,
+     * associates it with the given value.  Otherwise, replaces the
+     * associated value with the result of the given remapping function
+     * applied to the old value and the given value.  This is the
+     * primitive counterpart of {@link Map#merge}; a common use is
+     * accumulating counts with {@code merge(key, 1, Integer::sum)}.
+     *
+     * @param  key key with which the resulting value is to be associated
+     * @param  value the value to use if absent, and the second argument
+     *         to the remapping function otherwise
+     * @param  remappingFunction the function to recompute a value if
+     *         present
+     * @return the new value associated with the specified key
+     * @throws NullPointerException if the remapping function is null
+     * @throws IllegalStateException if the table is at its maximum
+     *         capacity and cannot accept another key
+     * @throws ConcurrentModificationException if the remapping function
+     *         structurally modified this map
+     */
+    public int merge(K key, int value, IntBinaryOperator remappingFunction) {
+        if (remappingFunction == null)
+            throw new NullPointerException();
+        Object mk = maskNull(key);
+        Object[] ks = keys;
+        int mask = ks.length - 1, i = hash(mk) & mask;
+        Object k;
+        while ((k = ks[i]) != null) {
+            if (k == mk || k.equals(mk)) {
+                int mc = modCount;
+                int v = remappingFunction.applyAsInt(values[i], value);
+                if (mc != modCount)
+                    throw new ConcurrentModificationException();
+                return values[i] = v;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = mk;
+        values[i] = value;
+        ++modCount;
+        if (++size > threshold)
+            resize();
+        return value;
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param  key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     *         {@code 0} if there was no mapping for {@code key}
+     */
+    public int remove(Object key) {
+        int i;
+        if ((i = indexOf(maskNull(key))) < 0)
+            return 0;
+        int old = values[i];
+        shiftKeys(i);
+        --size;
+        ++modCount;
+        return old;
+    }
+
+    /**
+     * Removes all of the mappings from this map.  The table keeps its
+     * current capacity.
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, 0);
+            size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * Performs the given action for each mapping in this map until all
+     * mappings have been processed or the action throws an exception.
+     * Mappings are presented in table order, which is unspecified.
+     *
+     * @param  action the action to be performed for each mapping
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the map is structurally
+     *         modified by the action
+     */
+    public void forEach(ObjIntConsumer<? super K> action) {
+        if (action == null)
+            throw new NullPointerException();
+        int mc = modCount;
+        Object[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length && modCount == mc; ++i) {
+            Object k;
+            if ((k = ks[i]) != null)
+                action.accept(ObjectIntHashMap.<K>unmaskNull(k), vs[i]);
+        }
+        if (modCount != mc)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the keys in this map.
+     *
+     * <p>The spliterator is <em>late-binding</em> and <em>fail-fast</em>,
+     * and reports {@link Spliterator#SIZED} and
+     * {@link Spliterator#DISTINCT}.  It splits by halving the slot range,
+     * so split estimates are approximate.
+     *
+     * @return a {@code Spliterator} over the keys in this map
+     */
+    public Spliterator<K> keySpliterator() {
+        return new KeySpliterator<>(this, 0, -1, 0, 0);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfInt} over the values in this map,
+     * with the same traversal order and characteristics as
+     * {@link #keySpliterator}, except that it does not report
+     * {@link Spliterator#DISTINCT}.
+     *
+     * @return a {@code Spliterator.OfInt} over the values in this map
+     */
+    public Spliterator.OfInt valueSpliterator() {
+        return new ValueSpliterator<>(this, 0, -1, 0, 0);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the keys in this map.
+     *
+     * @return a {@code Stream} of the keys in this map
+     */
+    public Stream<K> keyStream() {
+        return StreamSupport.stream(keySpliterator(), false);
+    }
+
+    /**
+     * Returns a sequential {@code IntStream} of the values in this map.
+     *
+     * @return an {@code IntStream} of the values in this map
+     */
+    public IntStream valueStream() {
+        return StreamSupport.intStream(valueSpliterator(), false);
+    }
+
+    /**
+     * Compares the specified object with this map for equality.  Returns
+     * {@code true} if the given object is also an {@code ObjectIntHashMap}
+     * and the two maps represent the same mappings.
+     *
+     * @param  o object to be compared for equality with this map
+     * @return {@code true} if the specified object is equal to this map
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ObjectIntHashMap))
+            return false;
+        ObjectIntHashMap<?> m = (ObjectIntHashMap<?>)o;
+        if (m.size != size)
+            return false;
+        Object[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            Object k;
+            int j;
+            if ((k = ks[i]) != null &&
+                ((j = m.indexOf(k)) < 0 || m.values[j] != vs[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code value for this map, defined as the sum of
+     * {@code Objects.hashCode(key) ^ value} over all mappings, in the
+     * manner of {@link Map#hashCode}.
+     *
+     * @return the hash code value for this map
+     */
+    public int hashCode() {
+        int h = 0;
+        Object[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            Object k;
+            if ((k = ks[i]) != null)
+                h += (k == NULL_KEY ? 0 : k.hashCode()) ^ vs[i];
+        }
+        return h;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same format as
+     * {@link AbstractMap#toString}.
+     *
+     * @return a string representation of this map
+     */
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        Object[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; ++i) {
+            Object k;
+            if ((k = ks[i]) != null) {
+                sb.append(k == this ? "(this Map)" : unmaskNull(k));
+                sb.append('=').append(vs[i]).append(", ");
+            }
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Returns a shallow copy of this {@code ObjectIntHashMap} instance:
+     * the keys themselves are not cloned.
+     *
+     * @return a shallow copy of this map
+     */
+    @SuppressWarnings("unchecked")
+    public ObjectIntHashMap<K> clone() {
+        ObjectIntHashMap<K> result;
+        try {
+            result = (ObjectIntHashMap<K>)super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        result.keys = keys.clone();
+        result.values = values.clone();
+        result.modCount = 0;
+        return result;
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * Installs empty arrays of the given power of two length.
+     */
+    private void allocate(int n) {
+        keys = new Object[n];
+        values = new int[n];
+        threshold = (n == MAXIMUM_CAPACITY) ? n - 1 :
+            Math.min(n - 1, (int)(n * loadFactor));
+    }
+
+    /**
+     * Returns the slot holding the given masked key, or -1 if absent.
+     */
+    final int indexOf(Object mk) {
+        Object[] ks = keys;
+        int mask = ks.length - 1, i = hash(mk) & mask;
+        Object k;
+        while ((k = ks[i]) != null) {
+            if (k == mk || k.equals(mk))
+                return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the table and reinserts every key.  At maximum capacity the
+     * table is instead allowed to fill up to its last free slot, which
+     * must remain empty to terminate probe sequences.
+     */
+    final void resize() {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        int oldCap = oldKeys.length;
+        if (oldCap >= MAXIMUM_CAPACITY) {
+            if (size >= MAXIMUM_CAPACITY - 1)
+                throw new IllegalStateException("Map is full");
+            threshold = MAXIMUM_CAPACITY - 1;
+            return;
+        }
+        allocate(oldCap << 1);
+        Object[] ks = keys;
+        int[] vs = values;
+        int mask = ks.length - 1;
+        for (int j = 0; j < oldCap; ++j) {
+            Object k;
+            if ((k = oldKeys[j]) != null) {
+                int i = hash(k) & mask;
+                while (ks[i] != null)
+                    i = (i + 1) & mask;
+                ks[i] = k;
+                vs[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Empties the slot at {@code pos} by shifting back any following entry
+     * of the same probe run whose home slot does not lie cyclically in
+     * {@code (last, pos]}, repeating until a free slot ends the run.
+     */
+    private void shiftKeys(int pos) {
+        Object[] ks = keys;
+        int[] vs = values;
+        int mask = ks.length - 1;
+        for (;;) {
+            int last = pos;
+            Object k;
+            pos = (pos + 1) & mask;
+            for (;;) {
+                if ((k = ks[pos]) == null) {
+                    ks[last] = null;
+                    vs[last] = 0;
+                    return;
+                }
+                int slot = hash(k) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) :
+                    (last >= slot && slot > pos))
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            ks[last] = k;
+            vs[last] = vs[pos];
+        }
+    }
+
+    /* ---------------- Spliterators -------------- */
+
+    static class ObjectIntHashMapSpliterator<K> {
+        final ObjectIntHashMap<K> map;
+        int index;                  // current slot, modified on advance/split
+        int fence;                  // one past last slot
+        int est;                    // size estimate
+        int expectedModCount;       // for comodification checks
+
+        ObjectIntHashMapSpliterator(ObjectIntHashMap<K> m, int origin,
+                                    int fence, int est,
+                                    int expectedModCount) {
+            this.map = m;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        final int getFence() { // initialize fence and size on first use
+            int hi;
+            if ((hi = fence) < 0) {
+                ObjectIntHashMap<K> m = map;
+                est = m.size;
+                expectedModCount = m.modCount;
+                hi = fence = m.keys.length;
+            }
+            return hi;
+        }
+
+        public final long estimateSize() {
+            getFence(); // force init
+            return (long) est;
+        }
+    }
+
+    static final class KeySpliterator<K>
+        extends ObjectIntHashMapSpliterator<K>
+        implements Spliterator<K> {
+        KeySpliterator(ObjectIntHashMap<K> m, int origin, int fence, int est,
+                       int expectedModCount) {
+            super(m, origin, fence, est, expectedModCount);
+        }
+
+        public KeySpliterator<K> trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new KeySpliterator<>(map, lo, index = mid, est >>>= 1,
+                                     expectedModCount);
+        }
+
+        public void forEachRemaining(Consumer<? super K> action) {
+            if (action == null)
+                throw new NullPointerException();
+            ObjectIntHashMap<K> m = map;
+            int hi = getFence(), i = index;
+            Object[] ks = m.keys;
+            for (index = hi; i < hi; ++i) {
+                Object k;
+                if ((k = ks[i]) != null)
+                    action.accept(ObjectIntHashMap.<K>unmaskNull(k));
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public boolean tryAdvance(Consumer<? super K> action) {
+            if (action == null)
+                throw new NullPointerException();
+            ObjectIntHashMap<K> m = map;
+            int hi = getFence();
+            Object[] ks = m.keys;
+            while (index < hi) {
+                Object k;
+                if ((k = ks[index++]) != null) {
+                    action.accept(ObjectIntHashMap.<K>unmaskNull(k));
+                    if (m.modCount != expectedModCount)
+                        throw new ConcurrentModificationException();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0) |
+                Spliterator.DISTINCT;
+        }
+    }
+
+    static final class ValueSpliterator<K>
+        extends ObjectIntHashMapSpliterator<K>
+        implements Spliterator.OfInt {
+        ValueSpliterator(ObjectIntHashMap<K> m, int origin, int fence,
+                         int est, int expectedModCount) {
+            super(m, origin, fence, est, expectedModCount);
+        }
+
+        public ValueSpliterator<K> trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                new ValueSpliterator<>(map, lo, index = mid, est >>>= 1,
+                                       expectedModCount);
+        }
+
+        public void forEachRemaining(IntConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            ObjectIntHashMap<K> m = map;
+            int hi = getFence(), i = index;
+            Object[] ks = m.keys;
+            int[] vs = m.values;
+            for (index = hi; i < hi; ++i) {
+                if (ks[i] != null)
+                    action.accept(vs[i]);
+            }
+            if (m.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            ObjectIntHashMap<K> m = map;
+            int hi = getFence();
+            Object[] ks = m.keys;
+            while (index < hi) {
+                int i = index++;
+                if (ks[i] != null) {
+                    action.accept(m.values[i]);
+                    if (m.modCount != expectedModCount)
+                        throw new ConcurrentModificationException();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int characteristics() {
+            return (fence < 0 || est == map.size ? Spliterator.SIZED : 0);
+        }
+    }
+}
@@ -587,6 +587,10 @@ class Properties extends Hashtable<Object,Object> {
                 out[outLen++] = aChar;
             }
         }
+        StringPool pool = StringPool.getSystemPool();
+        if (pool != null) {
+            return pool.intern(out, 0, outLen);
+        }
         return new String (out, 0, outLen);
     }
 
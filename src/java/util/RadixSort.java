@@ -0,0 +1,679 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util;
+
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Least-significant-digit radix sorts for int, long, float and double
+ * arrays, and for int index arrays ordered by a long key, with
+ * parallel versions that first distribute the elements by their most
+ * significant digit and then sort the resulting buckets
+ * independently.
+ *
+ * Keys are processed a byte at a time. Signed integer keys have their
+ * sign bit flipped while extracting digits, and floating-point values
+ * are first mapped to integer keys whose unsigned order is the order
+ * of {@link Double#compare} (negative values have all bits flipped,
+ * others only the sign bit), after moving NaNs to the end of the
+ * range as DualPivotQuicksort does. A pass is skipped whenever all
+ * keys share the digit it would sort by, so narrow key ranges (such
+ * as small non-negative ints in a long array) cost only as many
+ * passes as they have significant bytes.
+ *
+ * All sorts are stable, which matters only for the index sorts, and
+ * use a workspace as large as the range being sorted.
+ *
+ * All exposed methods are package-private, designed to be invoked
+ * from public methods (in class Arrays) after performing any
+ * necessary array bounds checks and expanding parameters into the
+ * required forms.
+ *
+ * @since 1.8
+ */
+final class RadixSort {
+
+    /**
+     * Prevents instantiation.
+     */
+    private RadixSort() {}
+
+    /*
+     * Tuning parameters.
+     */
+
+    /** Number of bits per digit. */
+    private static final int BITS = 8;
+
+    /** Number of distinct digit values. */
+    private static final int RADIX = 1 << BITS;
+
+    /** Mask extracting one digit. */
+    private static final int MASK = RADIX - 1;
+
+    /**
+     * If the length of an array to be sorted is less than this
+     * constant, DualPivotQuicksort is used in preference to radix sort.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 1 << 9;
+
+    /**
+     * If the length of a bucket to be sorted is less than this
+     * constant, insertion sort is used in preference to radix sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 48;
+
+    /**
+     * The minimum number of elements a parallel task handles.
+     */
+    private static final int MIN_PARALLEL_GRAN = 1 << 13;
+
+    /*
+     * int
+     */
+
+    /**
+     * Sorts the specified range of the array.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     */
+    static void sort(int[] a, int lo, int hi) {
+        int n = hi - lo;
+        if (n < RADIX_SORT_THRESHOLD)
+            DualPivotQuicksort.sort(a, lo, hi - 1, null, 0, 0);
+        else {
+            int[] w = new int[n];
+            if (lsd(a, lo, w, 0, n, Integer.MIN_VALUE, 4))
+                System.arraycopy(w, 0, a, lo, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param p the target parallelism
+     */
+    static void parallelSort(int[] a, int lo, int hi, int p) {
+        int n = hi - lo;
+        msd(a, lo, new int[n], 0, n, Integer.MIN_VALUE, 4, p);
+    }
+
+    /**
+     * Sorts n elements of a starting at ao by the lowest digits bytes
+     * of their keys (element ^ flip, compared as unsigned), using w
+     * starting at wo as workspace.
+     *
+     * @return true if the sorted elements ended up in w
+     */
+    private static boolean lsd(int[] a, int ao, int[] w, int wo, int n,
+                               int flip, int digits) {
+        if (n < INSERTION_SORT_THRESHOLD) {
+            // compare keys as unsigned by flipping their sign bits
+            int f = flip ^ Integer.MIN_VALUE;
+            for (int i = ao + 1, end = ao + n; i < end; ++i) {
+                int x = a[i], kx = x ^ f, j = i - 1;
+                while (j >= ao && (a[j] ^ f) > kx) {
+                    a[j + 1] = a[j];
+                    --j;
+                }
+                a[j + 1] = x;
+            }
+            return false;
+        }
+        int[] c = new int[digits << BITS];
+        for (int i = ao, end = ao + n; i < end; ++i) {
+            int k = a[i] ^ flip;
+            for (int d = 0; d < digits; ++d)
+                ++c[(d << BITS) + ((k >>> (d * BITS)) & MASK)];
+        }
+        int[] src = a, dst = w;
+        int so = ao, dof = wo;
+        boolean inW = false;
+        for (int d = 0; d < digits; ++d) {
+            int base = d << BITS, shift = d * BITS;
+            if (c[base + (((src[so] ^ flip) >>> shift) & MASK)] == n)
+                continue; // all keys share this digit
+            for (int v = base, sum = dof, end = base + RADIX; v < end; ++v) {
+                int t = c[v];
+                c[v] = sum;
+                sum += t;
+            }
+            for (int i = so, end = so + n; i < end; ++i) {
+                int x = src[i];
+                dst[c[base + (((x ^ flip) >>> shift) & MASK)]++] = x;
+            }
+            int[] t = src; src = dst; dst = t;
+            int o = so; so = dof; dof = o;
+            inW = !inW;
+        }
+        return inW;
+    }
+
+    /**
+     * Sorts n elements of a starting at ao by the lowest digits bytes
+     * of their keys, leaving the result in a. Elements are
+     * distributed by their highest digit into w starting at wo, in
+     * parallel chunks, and the buckets are then sorted in parallel,
+     * recursively if they are still large.
+     */
+    private static void msd(int[] a, int ao, int[] w, int wo, int n,
+                            int flip, int digits, int p) {
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        if (n <= gran || digits == 1) {
+            if (lsd(a, ao, w, wo, n, flip, digits))
+                System.arraycopy(w, wo, a, ao, n);
+            return;
+        }
+        int chunks = (n + gran - 1) / gran;
+        int[][] counts = new int[chunks][];
+        int shift;
+        for (;;) { // find the highest digit that separates the keys
+            int sh = shift = (digits - 1) * BITS;
+            IntStream.range(0, chunks).parallel().forEach(j -> {
+                int[] c = new int[RADIX];
+                for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                     i < end; ++i)
+                    ++c[((a[i] ^ flip) >>> sh) & MASK];
+                counts[j] = c;
+            });
+            if (digits == 1 || !sameDigit(counts, n))
+                break;
+            --digits;
+        }
+        int[] start = offsets(counts, wo);
+        int sh = shift;
+        IntStream.range(0, chunks).parallel().forEach(j -> {
+            int[] c = counts[j];
+            for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                 i < end; ++i) {
+                int x = a[i];
+                w[c[((x ^ flip) >>> sh) & MASK]++] = x;
+            }
+        });
+        int rest = digits - 1;
+        IntStream.range(0, RADIX).parallel().forEach(v -> {
+            int s = start[v], m = start[v + 1] - s, as = ao + (s - wo);
+            if (m == 0 || rest == 0)
+                System.arraycopy(w, s, a, as, m);
+            else if (m > gran) {
+                msd(w, s, a, as, m, flip, rest, p);
+                System.arraycopy(w, s, a, as, m);
+            }
+            else if (!lsd(w, s, a, as, m, flip, rest))
+                System.arraycopy(w, s, a, as, m);
+        });
+    }
+
+    /*
+     * long
+     */
+
+    /**
+     * Sorts the specified range of the array.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     */
+    static void sort(long[] a, int lo, int hi) {
+        int n = hi - lo;
+        if (n < RADIX_SORT_THRESHOLD)
+            DualPivotQuicksort.sort(a, lo, hi - 1, null, 0, 0);
+        else {
+            long[] w = new long[n];
+            if (lsd(a, lo, w, 0, n, Long.MIN_VALUE, 8))
+                System.arraycopy(w, 0, a, lo, n);
+        }
+    }
+
+    /**
+     * Sorts the specified range of the array in parallel.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param p the target parallelism
+     */
+    static void parallelSort(long[] a, int lo, int hi, int p) {
+        int n = hi - lo;
+        msd(a, lo, new long[n], 0, n, Long.MIN_VALUE, 8, p);
+    }
+
+    /**
+     * Version of {@link #lsd(int[], int, int[], int, int, int, int)}
+     * for long keys.
+     */
+    private static boolean lsd(long[] a, int ao, long[] w, int wo, int n,
+                               long flip, int digits) {
+        if (n < INSERTION_SORT_THRESHOLD) {
+            long f = flip ^ Long.MIN_VALUE;
+            for (int i = ao + 1, end = ao + n; i < end; ++i) {
+                long x = a[i], kx = x ^ f;
+                int j = i - 1;
+                while (j >= ao && (a[j] ^ f) > kx) {
+                    a[j + 1] = a[j];
+                    --j;
+                }
+                a[j + 1] = x;
+            }
+            return false;
+        }
+        int[] c = new int[digits << BITS];
+        for (int i = ao, end = ao + n; i < end; ++i) {
+            long k = a[i] ^ flip;
+            for (int d = 0; d < digits; ++d)
+                ++c[(d << BITS) + (int)((k >>> (d * BITS)) & MASK)];
+        }
+        long[] src = a, dst = w;
+        int so = ao, dof = wo;
+        boolean inW = false;
+        for (int d = 0; d < digits; ++d) {
+            int base = d << BITS, shift = d * BITS;
+            if (c[base + (int)(((src[so] ^ flip) >>> shift) & MASK)] == n)
+                continue;
+            for (int v = base, sum = dof, end = base + RADIX; v < end; ++v) {
+                int t = c[v];
+                c[v] = sum;
+                sum += t;
+            }
+            for (int i = so, end = so + n; i < end; ++i) {
+                long x = src[i];
+                dst[c[base + (int)(((x ^ flip) >>> shift) & MASK)]++] = x;
+            }
+            long[] t = src; src = dst; dst = t;
+            int o = so; so = dof; dof = o;
+            inW = !inW;
+        }
+        return inW;
+    }
+
+    /**
+     * Version of {@link #msd(int[], int, int[], int, int, int, int, int)}
+     * for long keys.
+     */
+    private static void msd(long[] a, int ao, long[] w, int wo, int n,
+                            long flip, int digits, int p) {
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        if (n <= gran || digits == 1) {
+            if (lsd(a, ao, w, wo, n, flip, digits))
+                System.arraycopy(w, wo, a, ao, n);
+            return;
+        }
+        int chunks = (n + gran - 1) / gran;
+        int[][] counts = new int[chunks][];
+        int shift;
+        for (;;) {
+            int sh = shift = (digits - 1) * BITS;
+            IntStream.range(0, chunks).parallel().forEach(j -> {
+                int[] c = new int[RADIX];
+                for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                     i < end; ++i)
+                    ++c[(int)(((a[i] ^ flip) >>> sh) & MASK)];
+                counts[j] = c;
+            });
+            if (digits == 1 || !sameDigit(counts, n))
+                break;
+            --digits;
+        }
+        int[] start = offsets(counts, wo);
+        int sh = shift;
+        IntStream.range(0, chunks).parallel().forEach(j -> {
+            int[] c = counts[j];
+            for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                 i < end; ++i) {
+                long x = a[i];
+                w[c[(int)(((x ^ flip) >>> sh) & MASK)]++] = x;
+            }
+        });
+        int rest = digits - 1;
+        IntStream.range(0, RADIX).parallel().forEach(v -> {
+            int s = start[v], m = start[v + 1] - s, as = ao + (s - wo);
+            if (m == 0 || rest == 0)
+                System.arraycopy(w, s, a, as, m);
+            else if (m > gran) {
+                msd(w, s, a, as, m, flip, rest, p);
+                System.arraycopy(w, s, a, as, m);
+            }
+            else if (!lsd(w, s, a, as, m, flip, rest))
+                System.arraycopy(w, s, a, as, m);
+        });
+    }
+
+    /*
+     * float and double
+     */
+
+    /**
+     * Sorts the specified range of the array, in parallel if p > 1.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param p the target parallelism
+     */
+    static void sort(float[] a, int lo, int hi, int p) {
+        if (hi - lo < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, lo, hi - 1, null, 0, 0);
+            return;
+        }
+        hi = moveNaNsToEnd(a, lo, hi);
+        int n = hi - lo;
+        int[] k = new int[n];
+        int[] w = new int[n];
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        IntStream r = IntStream.range(0, (n + gran - 1) / gran);
+        if (p > 1)
+            r = r.parallel();
+        r.forEach(j -> {
+            for (int i = j * gran, end = Math.min(i + gran, n); i < end; ++i) {
+                int b = Float.floatToRawIntBits(a[lo + i]);
+                k[i] = b ^ ((b >> 31) | Integer.MIN_VALUE);
+            }
+        });
+        if (p > 1)
+            msd(k, 0, w, 0, n, 0, 4, p);
+        else if (lsd(k, 0, w, 0, n, 0, 4))
+            System.arraycopy(w, 0, k, 0, n);
+        r = IntStream.range(0, (n + gran - 1) / gran);
+        if (p > 1)
+            r = r.parallel();
+        r.forEach(j -> {
+            for (int i = j * gran, end = Math.min(i + gran, n); i < end; ++i) {
+                int b = k[i];
+                a[lo + i] = Float.intBitsToFloat(b ^ ((~b >> 31) | Integer.MIN_VALUE));
+            }
+        });
+    }
+
+    /**
+     * Sorts the specified range of the array, in parallel if p > 1.
+     *
+     * @param a the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param p the target parallelism
+     */
+    static void sort(double[] a, int lo, int hi, int p) {
+        if (hi - lo < RADIX_SORT_THRESHOLD) {
+            DualPivotQuicksort.sort(a, lo, hi - 1, null, 0, 0);
+            return;
+        }
+        hi = moveNaNsToEnd(a, lo, hi);
+        int n = hi - lo;
+        long[] k = new long[n];
+        long[] w = new long[n];
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        IntStream r = IntStream.range(0, (n + gran - 1) / gran);
+        if (p > 1)
+            r = r.parallel();
+        r.forEach(j -> {
+            for (int i = j * gran, end = Math.min(i + gran, n); i < end; ++i) {
+                long b = Double.doubleToRawLongBits(a[lo + i]);
+                k[i] = b ^ ((b >> 63) | Long.MIN_VALUE);
+            }
+        });
+        if (p > 1)
+            msd(k, 0, w, 0, n, 0L, 8, p);
+        else if (lsd(k, 0, w, 0, n, 0L, 8))
+            System.arraycopy(w, 0, k, 0, n);
+        r = IntStream.range(0, (n + gran - 1) / gran);
+        if (p > 1)
+            r = r.parallel();
+        r.forEach(j -> {
+            for (int i = j * gran, end = Math.min(i + gran, n); i < end; ++i) {
+                long b = k[i];
+                a[lo + i] = Double.longBitsToDouble(b ^ ((~b >> 63) | Long.MIN_VALUE));
+            }
+        });
+    }
+
+    /**
+     * Moves all NaNs in the range to its end, returning the index of
+     * the first NaN (or hi if there are none).
+     */
+    private static int moveNaNsToEnd(float[] a, int lo, int hi) {
+        for (int k = hi - 1; k >= lo; --k) {
+            float ak = a[k];
+            if (ak != ak) {
+                a[k] = a[--hi];
+                a[hi] = ak;
+            }
+        }
+        return hi;
+    }
+
+    /**
+     * Moves all NaNs in the range to its end, returning the index of
+     * the first NaN (or hi if there are none).
+     */
+    private static int moveNaNsToEnd(double[] a, int lo, int hi) {
+        for (int k = hi - 1; k >= lo; --k) {
+            double ak = a[k];
+            if (ak != ak) {
+                a[k] = a[--hi];
+                a[hi] = ak;
+            }
+        }
+        return hi;
+    }
+
+    /*
+     * int indices ordered by long keys
+     */
+
+    /**
+     * Stably sorts the indices by the keys the extractor computes for
+     * them, in parallel if p > 1.
+     *
+     * @param indices the indices to be sorted
+     * @param keyExtractor the function computing the key of an index
+     * @param p the target parallelism
+     */
+    static void sort(int[] indices, IntToLongFunction keyExtractor, int p) {
+        int n = indices.length;
+        long[] k = new long[n];
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        IntStream r = IntStream.range(0, (n + gran - 1) / gran);
+        if (p > 1)
+            r = r.parallel();
+        r.forEach(j -> {
+            for (int i = j * gran, end = Math.min(i + gran, n); i < end; ++i)
+                k[i] = keyExtractor.applyAsLong(indices[i]);
+        });
+        long[] kw = new long[n];
+        int[] iw = new int[n];
+        if (p > 1)
+            msd(k, indices, 0, kw, iw, 0, n, 8, p);
+        else if (lsd(k, indices, 0, kw, iw, 0, n, 8))
+            System.arraycopy(iw, 0, indices, 0, n);
+    }
+
+    /**
+     * Sorts n keys of k starting at ao by their lowest digits bytes
+     * (as signed values), permuting the values of v in the same way,
+     * using kw and vw starting at wo as workspace.
+     *
+     * @return true if the sorted elements ended up in kw and vw
+     */
+    private static boolean lsd(long[] k, int[] v, int ao, long[] kw, int[] vw,
+                               int wo, int n, int digits) {
+        if (n < INSERTION_SORT_THRESHOLD) {
+            for (int i = ao + 1, end = ao + n; i < end; ++i) {
+                long x = k[i];
+                int y = v[i], j = i - 1;
+                while (j >= ao && k[j] > x) {
+                    k[j + 1] = k[j];
+                    v[j + 1] = v[j];
+                    --j;
+                }
+                k[j + 1] = x;
+                v[j + 1] = y;
+            }
+            return false;
+        }
+        final long flip = Long.MIN_VALUE;
+        int[] c = new int[digits << BITS];
+        for (int i = ao, end = ao + n; i < end; ++i) {
+            long x = k[i] ^ flip;
+            for (int d = 0; d < digits; ++d)
+                ++c[(d << BITS) + (int)((x >>> (d * BITS)) & MASK)];
+        }
+        long[] ks = k, kd = kw;
+        int[] vs = v, vd = vw;
+        int so = ao, dof = wo;
+        boolean inW = false;
+        for (int d = 0; d < digits; ++d) {
+            int base = d << BITS, shift = d * BITS;
+            if (c[base + (int)(((ks[so] ^ flip) >>> shift) & MASK)] == n)
+                continue;
+            for (int u = base, sum = dof, end = base + RADIX; u < end; ++u) {
+                int t = c[u];
+                c[u] = sum;
+                sum += t;
+            }
+            for (int i = so, end = so + n; i < end; ++i) {
+                long x = ks[i];
+                int pos = c[base + (int)(((x ^ flip) >>> shift) & MASK)]++;
+                kd[pos] = x;
+                vd[pos] = vs[i];
+            }
+            long[] kt = ks; ks = kd; kd = kt;
+            int[] vt = vs; vs = vd; vd = vt;
+            int o = so; so = dof; dof = o;
+            inW = !inW;
+        }
+        return inW;
+    }
+
+    /**
+     * Version of {@link #msd(long[], int, long[], int, int, long, int, int)}
+     * permuting the values of v along with the keys of k.
+     */
+    private static void msd(long[] k, int[] v, int ao, long[] kw, int[] vw,
+                            int wo, int n, int digits, int p) {
+        int gran = Math.max(n / (p << 2), MIN_PARALLEL_GRAN);
+        if (n <= gran || digits == 1) {
+            if (lsd(k, v, ao, kw, vw, wo, n, digits)) {
+                System.arraycopy(kw, wo, k, ao, n);
+                System.arraycopy(vw, wo, v, ao, n);
+            }
+            return;
+        }
+        final long flip = Long.MIN_VALUE;
+        int chunks = (n + gran - 1) / gran;
+        int[][] counts = new int[chunks][];
+        int shift;
+        for (;;) {
+            int sh = shift = (digits - 1) * BITS;
+            IntStream.range(0, chunks).parallel().forEach(j -> {
+                int[] c = new int[RADIX];
+                for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                     i < end; ++i)
+                    ++c[(int)(((k[i] ^ flip) >>> sh) & MASK)];
+                counts[j] = c;
+            });
+            if (digits == 1 || !sameDigit(counts, n))
+                break;
+            --digits;
+        }
+        int[] start = offsets(counts, wo);
+        int sh = shift;
+        IntStream.range(0, chunks).parallel().forEach(j -> {
+            int[] c = counts[j];
+            for (int i = ao + j * gran, end = Math.min(i + gran, ao + n);
+                 i < end; ++i) {
+                long x = k[i];
+                int pos = c[(int)(((x ^ flip) >>> sh) & MASK)]++;
+                kw[pos] = x;
+                vw[pos] = v[i];
+            }
+        });
+        int rest = digits - 1;
+        IntStream.range(0, RADIX).parallel().forEach(u -> {
+            int s = start[u], m = start[u + 1] - s, as = ao + (s - wo);
+            boolean inV;
+            if (m == 0 || rest == 0)
+                inV = false;
+            else if (m > gran) {
+                msd(kw, vw, s, k, v, as, m, rest, p);
+                inV = false;
+            }
+            else
+                inV = lsd(kw, vw, s, k, v, as, m, rest);
+            if (!inV) {
+                System.arraycopy(kw, s, k, as, m);
+                System.arraycopy(vw, s, v, as, m);
+            }
+        });
+    }
+
+    /*
+     * Utilities
+     */
+
+    /**
+     * Returns true if the per-chunk digit counts show that all n keys
+     * have the same digit.
+     */
+    private static boolean sameDigit(int[][] counts, int n) {
+        for (int v = 0; v < RADIX; ++v) {
+            int sum = 0;
+            for (int[] c : counts)
+                sum += c[v];
+            if (sum != 0)
+                return sum == n;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces each per-chunk digit count by the position at which the
+     * chunk's first element with that digit is to be stored, so that
+     * buckets are laid out in digit order starting at base and each
+     * bucket holds the elements of the chunks in order. Returns the
+     * bucket boundaries, of length RADIX + 1.
+     */
+    private static int[] offsets(int[][] counts, int base) {
+        int[] start = new int[RADIX + 1];
+        int sum = base;
+        for (int v = 0; v < RADIX; ++v) {
+            start[v] = sum;
+            for (int[] c : counts) {
+                int t = c[v];
+                c[v] = sum;
+                sum += t;
+            }
+        }
+        start[RADIX] = sum;
+        return start;
+    }
+}
@@ -316,6 +316,36 @@ public class ArrayBlockingQueue<E> extends AbstractQueue<E>
         }
     }
 
+    /**
+     * Inserts as many of the elements of the given collection as there
+     * is room for under a single acquisition of the lock, signalling one
+     * waiting taker per element inserted.
+     *
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    public int offerAll(Collection<? extends E> c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c == this)
+            throw new IllegalArgumentException();
+        Object[] a = c.toArray();
+        for (Object e : a)
+            checkNotNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            int n = Math.min(a.length, items.length - count);
+            for (int i = 0; i < n; ++i)
+                enqueue((E)a[i]);
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * 将指定的元素插入此队列的末尾，如果队列已满，则等待空间变得可用。
      *
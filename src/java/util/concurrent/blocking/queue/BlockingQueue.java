@@ -323,4 +323,47 @@ public interface BlockingQueue<E> extends Queue<E> {
      *         it from being added to the specified collection
      */
     int drainTo(Collection<? super E> c, int maxElements);
+
+    /**
+     * Inserts as many of the elements of the given collection as it is
+     * possible to insert immediately without violating capacity
+     * restrictions, in the collection's iteration order, and returns
+     * the number inserted.  Insertion stops at the first element that
+     * does not fit.  Implementations may insert the whole batch with a
+     * single synchronization action, which is typically much cheaper
+     * than repeated calls to {@link #offer(Object) offer}; no elements
+     * are inserted if any element of the collection is null.
+     *
+     * @implSpec
+     * The default implementation takes a snapshot of the collection
+     * using {@code toArray}, checks it for null elements, and then
+     * invokes {@code offer} for each element in turn until one fails.
+     *
+     * @param c the elements to insert
+     * @return the number of elements inserted
+     * @throws ClassCastException if the class of an element of the
+     *         collection prevents it from being added to this queue
+     * @throws NullPointerException if the specified collection or any
+     *         of its elements is null
+     * @throws IllegalArgumentException if the specified collection is
+     *         this queue, or some property of an element prevents it
+     *         from being added to this queue
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    default int offerAll(Collection<? extends E> c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c == this)
+            throw new IllegalArgumentException();
+        Object[] a = c.toArray();
+        for (Object e : a) {
+            if (e == null)
+                throw new NullPointerException();
+        }
+        int n = 0;
+        while (n < a.length && offer((E)a[n]))
+            ++n;
+        return n;
+    }
 }
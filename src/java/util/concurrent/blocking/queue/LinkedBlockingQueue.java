@@ -431,6 +431,62 @@ public class LinkedBlockingQueue<E> extends AbstractQueue<E>
         return c >= 0;
     }
 
+    /**
+     * Inserts as many of the elements of the given collection as there
+     * is room for, under a single acquisition of the put lock.  Nodes
+     * are allocated before the lock is taken, only for as many elements
+     * as there was room for on entry, and at most one waiting
+     * taker is signalled; takers signal each other in turn while
+     * elements remain, so no more of them wake than there are elements
+     * to take.
+     *
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    public int offerAll(Collection<? extends E> c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c == this)
+            throw new IllegalArgumentException();
+        Object[] a = c.toArray();
+        for (Object e : a) {
+            if (e == null)
+                throw new NullPointerException();
+        }
+        final AtomicInteger count = this.count;
+        int len = Math.min(a.length, capacity - count.get());
+        if (len <= 0)
+            return 0;
+        Node<E>[] nodes = (Node<E>[])new Node<?>[len];
+        for (int i = 0; i < len; ++i) {
+            nodes[i] = new Node<E>((E)a[i]);
+            if (i > 0)
+                nodes[i - 1].next = nodes[i];
+        }
+        int n = 0, k = -1;
+        final ReentrantLock putLock = this.putLock;
+        putLock.lock();
+        try {
+            n = Math.min(len, capacity - count.get());
+            if (n > 0) {
+                Node<E> tail = nodes[n - 1];
+                tail.next = null;
+                last.next = nodes[0];
+                last = tail;
+                k = count.getAndAdd(n);
+                if (k + n < capacity)
+                    notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (k == 0)
+            signalNotEmpty();
+        return n;
+    }
+
     public E take() throws InterruptedException {
         E x;
         int c = -1;
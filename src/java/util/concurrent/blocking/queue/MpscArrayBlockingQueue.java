@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.blocking.queue;
+
+/**
+ * A bounded {@linkplain BlockingQueue blocking queue} backed by a ring
+ * buffer, for use by any number of producer threads and, typically,
+ * one consumer thread.  This queue orders elements FIFO
+ * (first-in-first-out) with respect to the order in which producers
+ * claim slots.
+ *
+ * <p>Unlike {@link ArrayBlockingQueue}, producers take no locks.
+ * Producers claim slots by compare-and-set of a shared producer
+ * sequence, and then publish the element into the claimed slot with an
+ * ordered store; consumers own their own sequence, padded onto a
+ * separate cache line, and never contend with producers.  A
+ * slot that has been claimed but not yet published is waited for by
+ * the consumer, so a producer that is descheduled between the two
+ * steps briefly delays the consumer but never corrupts the queue.
+ * Blocking operations wait according to the {@link WaitStrategy}
+ * supplied at construction.
+ *
+ * <p>{@link #offerAll offerAll} claims room for a whole batch with a
+ * single compare-and-set, which is much cheaper under contention than
+ * offering the elements one at a time; the batch appears contiguously
+ * in the queue.
+ *
+ * <p>Removing and inspecting operations ({@code poll}, {@code take},
+ * {@code peek}, {@code drainTo}, {@code clear}, {@code remove},
+ * {@code contains}, {@code iterator}) are serialized by a consumer
+ * lock that is uncontended while a single thread consumes, so the
+ * queue may also serve several consumers, such as the workers of a
+ * {@link java.util.concurrent.executor.ThreadPoolExecutor}.  All
+ * operations may be called from any thread.  The iterator traverses a
+ * snapshot of the queue, and its {@code remove} method removes the
+ * last element returned from the queue.
+ *
+ * <p>This queue does not permit {@code null} elements.
+ *
+ * @param <E> the type of elements held in this queue
+ * @see SpscArrayBlockingQueue
+ * @since 1.8
+ */
+public class MpscArrayBlockingQueue<E> extends RingBufferBlockingQueue<E> {
+
+    /**
+     * Creates a {@code MpscArrayBlockingQueue} with the given (fixed)
+     * capacity whose blocking operations use a
+     * {@linkplain WaitStrategy#parking() parking} wait strategy.
+     *
+     * @param capacity the capacity of this queue
+     * @throws IllegalArgumentException if {@code capacity < 1} or
+     *         {@code capacity > 2^30}
+     */
+    public MpscArrayBlockingQueue(int capacity) {
+        this(capacity, WaitStrategy.parking());
+    }
+
+    /**
+     * Creates a {@code MpscArrayBlockingQueue} with the given (fixed)
+     * capacity and wait strategy.
+     *
+     * @param capacity the capacity of this queue
+     * @param waitStrategy how blocked producers and consumers wait
+     * @throws IllegalArgumentException if {@code capacity < 1} or
+     *         {@code capacity > 2^30}
+     * @throws NullPointerException if the wait strategy is null
+     */
+    public MpscArrayBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue if it is
+     * possible to do so immediately without exceeding the queue's
+     * capacity, returning {@code true} upon success and {@code false}
+     * if this queue is full.
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(E e) {
+        if (e == null)
+            throw new NullPointerException();
+        for (;;) {
+            long p = producerIndex;
+            if (p >= producerLimit) {
+                // Any consumerIndex ever read gives a valid (if stale)
+                // bound, so racing updates of the cache are harmless
+                long limit = consumerIndex + capacity;
+                if (p >= limit)
+                    return false;
+                U.putOrderedLong(this, PRODUCER_LIMIT, limit);
+            }
+            if (U.compareAndSwapLong(this, PRODUCER_INDEX, p, p + 1L)) {
+                U.putOrderedObject(buffer, slotOffset(p), e);
+                return true;
+            }
+        }
+    }
+
+    final int offerArray(Object[] a) {
+        final Object[] items = buffer;
+        for (;;) {
+            long p = producerIndex, limit = producerLimit;
+            if (limit - p < a.length) {
+                limit = consumerIndex + capacity;
+                U.putOrderedLong(this, PRODUCER_LIMIT, limit);
+            }
+            int n = (int)Math.min(a.length, limit - p);
+            if (n <= 0)
+                return 0;
+            if (U.compareAndSwapLong(this, PRODUCER_INDEX, p, p + n)) {
+                for (int i = 0; i < n; ++i)
+                    U.putOrderedObject(items, slotOffset(p + i), a[i]);
+                return n;
+            }
+        }
+    }
+}
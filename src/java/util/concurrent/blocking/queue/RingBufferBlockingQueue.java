@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.blocking.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Skeletal implementation of a bounded, array-backed
+ * {@link BlockingQueue} whose producers are lock-free.  Elements live in a
+ * power-of-two array indexed by two ever-increasing sequence counters:
+ * {@code producerIndex}, the next slot to fill, and
+ * {@code consumerIndex}, the next slot to empty.  Each counter sits on
+ * its own cache line, and each side caches a bound derived from the
+ * other's counter ({@code producerLimit}) so that it rarely needs to
+ * read the other side's line at all.
+ *
+ * <p>A slot is published by an ordered (lazy) store of the element,
+ * followed, for the single-producer variant, by an ordered store of
+ * the advanced producer index; the consumer treats a null slot as not
+ * yet published.  The consumer empties a slot with an ordered store of
+ * null before advancing its own index, which is what licenses a
+ * producer that has read the consumer index to reuse the slot.
+ *
+ * <p>Subclasses supply {@link #offer} and {@link #offerArray}; every
+ * consuming operation ({@code poll}, {@code take}, {@code peek},
+ * {@code drainTo}, {@code clear}, {@code remove(Object)},
+ * {@code contains}) is implemented here and runs holding
+ * {@code consumerLock}, so that any number of threads may consume, as
+ * the workers of a {@link
+ * java.util.concurrent.executor.ThreadPoolExecutor} do.  With a single
+ * consuming thread the lock is never contended.  Producers never take
+ * it.  Blocking operations wait using the queue's {@link WaitStrategy},
+ * without holding the lock, rather than on conditions, so producers and
+ * consumers never signal each other.
+ *
+ * @param <E> the type of elements held in this queue
+ */
+abstract class RingBufferBlockingQueue<E> extends AbstractQueue<E>
+        implements BlockingQueue<E> {
+
+    /** The queued items; length is a power of two at least capacity */
+    final Object[] buffer;
+
+    /** Mask for buffer indices */
+    final int mask;
+
+    /** The maximum number of queued items */
+    final int capacity;
+
+    /** How blocked producers and consumers wait */
+    final WaitStrategy waitStrategy;
+
+    /** Next slot to fill */
+    @sun.misc.Contended("producer")
+    volatile long producerIndex;
+
+    /**
+     * Cached bound on producerIndex: producers may fill slots below it
+     * without reading consumerIndex.  Never larger than the true bound
+     * consumerIndex + capacity.
+     */
+    @sun.misc.Contended("producer")
+    volatile long producerLimit;
+
+    /** Next slot to empty */
+    @sun.misc.Contended("consumer")
+    volatile long consumerIndex;
+
+    /** Lock held by all consuming operations */
+    final ReentrantLock consumerLock = new ReentrantLock();
+
+    RingBufferBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException();
+        if (waitStrategy == null)
+            throw new NullPointerException();
+        int n = 1;
+        while (n < capacity)
+            n <<= 1;
+        this.buffer = new Object[n];
+        this.mask = n - 1;
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.producerLimit = capacity;
+    }
+
+    /**
+     * Inserts as many of the given non-null elements as there is room
+     * for, in order, and returns the number inserted.
+     */
+    abstract int offerArray(Object[] a);
+
+    /**
+     * Returns the address offset of the slot for the given index.
+     */
+    final long slotOffset(long index) {
+        return ((index & mask) << ASHIFT) + ABASE;
+    }
+
+    /**
+     * Reads the element in the slot for the given consumer index,
+     * waiting for a producer that has claimed the slot to publish it.
+     * Returns null only if the queue is empty at that index.
+     */
+    final Object awaitSlot(long c, long offset) {
+        Object e = U.getObjectVolatile(buffer, offset);
+        if (e == null && producerIndex != c) {
+            do {                        // claimed but not yet published
+                e = U.getObjectVolatile(buffer, offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    /**
+     * Inserts all of the elements of the given collection that fit,
+     * in iteration order, and returns the number inserted.  Elements
+     * beyond the first that does not fit are not inserted.  Insertion
+     * of the batch is published with a single update of the producer
+     * sequence (and, for multiple producers, claimed with a single
+     * atomic operation), which is considerably cheaper than offering
+     * the elements one at a time.
+     *
+     * @param c the elements to insert
+     * @return the number of elements inserted
+     * @throws NullPointerException if the collection or any of its
+     *         elements is null
+     * @throws IllegalArgumentException if the collection is this queue
+     */
+    public int offerAll(Collection<? extends E> c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c == this)
+            throw new IllegalArgumentException();
+        Object[] a = c.toArray();
+        for (Object e : a) {
+            if (e == null)
+                throw new NullPointerException();
+        }
+        return (a.length == 0) ? 0 : offerArray(a);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns
+     * {@code null} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            long c = consumerIndex, offset = slotOffset(c);
+            Object e = awaitSlot(c, offset);
+            if (e != null) {
+                U.putOrderedObject(buffer, offset, null);
+                U.putOrderedLong(this, CONSUMER_INDEX, c + 1L);
+            }
+            return (E)e;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or
+     * returns {@code null} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is
+     *         empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            long c = consumerIndex;
+            return (E)awaitSlot(c, slotOffset(c));
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue, waiting
+     * according to the wait strategy for space to become available.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    public void put(E e) throws InterruptedException {
+        if (e == null)
+            throw new NullPointerException();
+        final WaitStrategy ws = waitStrategy;
+        for (int k = 0; !offer(e); k = ws.idle(k)) {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue, waiting
+     * up to the specified wait time for space to become available.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    public boolean offer(E e, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        if (e == null)
+            throw new NullPointerException();
+        if (offer(e))
+            return true;
+        final WaitStrategy ws = waitStrategy;
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int k = 0; ; k = ws.idle(k)) {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            if (offer(e))
+                return true;
+            if (deadline - System.nanoTime() <= 0L)
+                return false;
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting according
+     * to the wait strategy until an element becomes available.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     */
+    public E take() throws InterruptedException {
+        final WaitStrategy ws = waitStrategy;
+        E e;
+        for (int k = 0; (e = poll()) == null; k = ws.idle(k)) {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the
+     * specified wait time if necessary for an element to become
+     * available.
+     *
+     * @throws InterruptedException {@inheritDoc}
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e;
+        if ((e = poll()) != null)
+            return e;
+        final WaitStrategy ws = waitStrategy;
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int k = 0; ; k = ws.idle(k)) {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            if ((e = poll()) != null)
+                return e;
+            if (deadline - System.nanoTime() <= 0L)
+                return null;
+        }
+    }
+
+    /**
+     * Returns the number of elements in this queue.  The value is
+     * exact when the queue is not concurrently modified, and otherwise
+     * some value the size had during the call.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        for (long c = consumerIndex;;) {
+            long p = producerIndex, c2 = consumerIndex;
+            if (c == c2)
+                return (int)Math.max(0L, Math.min(capacity, p - c));
+            c = c2;
+        }
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    /**
+     * Returns the number of additional elements that this queue can
+     * ideally (in the absence of memory or resource constraints) accept
+     * without blocking.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Returns the capacity this queue was created with.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the wait strategy used by blocking operations.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Removes all available elements, publishing the consumer sequence
+     * once for the whole batch.
+     *
+     * @throws UnsupportedOperationException {@inheritDoc}
+     * @throws ClassCastException            {@inheritDoc}
+     * @throws NullPointerException          {@inheritDoc}
+     * @throws IllegalArgumentException      {@inheritDoc}
+     */
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes at most the given number of available elements,
+     * publishing the consumer sequence once for the whole batch.  If
+     * adding an element to the collection fails, that element remains
+     * at the head of this queue.
+     *
+     * @throws UnsupportedOperationException {@inheritDoc}
+     * @throws ClassCastException            {@inheritDoc}
+     * @throws NullPointerException          {@inheritDoc}
+     * @throws IllegalArgumentException      {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c == this)
+            throw new IllegalArgumentException();
+        if (maxElements <= 0)
+            return 0;
+        final Object[] items = buffer;
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            final long c0 = consumerIndex;
+            int n = 0;
+            try {
+                while (n < maxElements) {
+                    long offset = slotOffset(c0 + n);
+                    Object e = awaitSlot(c0 + n, offset);
+                    if (e == null)
+                        break;
+                    c.add((E)e);
+                    U.putOrderedObject(items, offset, null);
+                    ++n;
+                }
+            } finally {
+                if (n > 0)
+                    U.putOrderedLong(this, CONSUMER_INDEX, c0 + n);
+            }
+            return n;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if this queue contains the specified
+     * element.
+     *
+     * @param o object to be checked for containment in this queue
+     * @return {@code true} if this queue contains the specified element
+     */
+    public boolean contains(Object o) {
+        if (o == null)
+            return false;
+        final Object[] items = buffer;
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            for (long c = consumerIndex, p = producerIndex; c < p; ++c) {
+                Object e = U.getObjectVolatile(items, slotOffset(c));
+                if (e == null)
+                    break;              // not yet published
+                if (o.equals(e))
+                    return true;
+            }
+            return false;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a single instance of the specified element from this
+     * queue, if it is present.
+     *
+     * @param o element to be removed from this queue, if present
+     * @return {@code true} if this queue changed as a result of the call
+     */
+    public boolean remove(Object o) {
+        return (o != null) && remove(o, false);
+    }
+
+    /**
+     * Identity-based version for use in Itr.remove.
+     */
+    void removeEQ(Object o) {
+        remove(o, true);
+    }
+
+    /**
+     * Removes the first element equal to, or if identity is true the
+     * same as, o.  The elements ahead of it are shifted one slot towards
+     * the tail, so only slots that consumers already own are written,
+     * and the consumer sequence is then advanced past the freed head
+     * slot.
+     */
+    private boolean remove(Object o, boolean identity) {
+        final Object[] items = buffer;
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            final long c0 = consumerIndex;
+            for (long i = c0, p = producerIndex; i < p; ++i) {
+                Object e = U.getObjectVolatile(items, slotOffset(i));
+                if (e == null)
+                    break;              // not yet published
+                if (identity ? o == e : o.equals(e)) {
+                    for (long j = i; j > c0; --j)
+                        U.putOrderedObject(items, slotOffset(j),
+                                           U.getObject(items, slotOffset(j - 1)));
+                    U.putOrderedObject(items, slotOffset(c0), null);
+                    U.putOrderedLong(this, CONSUMER_INDEX, c0 + 1L);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in this
+     * queue, in proper sequence.  The snapshot reflects some state of
+     * the queue during the call.  The iterator's {@code remove} method
+     * removes the last element returned from the queue, if it is still
+     * present.
+     *
+     * @return an iterator over the elements in this queue
+     */
+    public Iterator<E> iterator() {
+        final Object[] items = buffer;
+        final ReentrantLock consumerLock = this.consumerLock;
+        consumerLock.lock();
+        try {
+            long c = consumerIndex, p = producerIndex;
+            ArrayList<Object> snapshot =
+                new ArrayList<Object>((int)Math.max(0L, Math.min(capacity, p - c)));
+            for (; c < p; ++c) {
+                Object e = U.getObjectVolatile(items, slotOffset(c));
+                if (e == null)
+                    break;              // not yet published
+                snapshot.add(e);
+            }
+            return new Itr(snapshot.toArray());
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Snapshot iterator that works off copy of underlying q array.
+     */
+    final class Itr implements Iterator<E> {
+        final Object[] array; // Array of all elements
+        int cursor;           // index of next element to return
+        int lastRet;          // index of last element, or -1 if no such
+
+        Itr(Object[] array) {
+            lastRet = -1;
+            this.array = array;
+        }
+
+        public boolean hasNext() {
+            return cursor < array.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (cursor >= array.length)
+                throw new NoSuchElementException();
+            lastRet = cursor;
+            return (E)array[cursor++];
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            removeEQ(array[lastRet]);
+            lastRet = -1;
+        }
+    }
+
+    // Unsafe mechanics
+    static final sun.misc.Unsafe U;
+    static final long PRODUCER_INDEX;
+    static final long PRODUCER_LIMIT;
+    static final long CONSUMER_INDEX;
+    private static final long ABASE;
+    private static final int ASHIFT;
+    static {
+        try {
+            U = sun.misc.Unsafe.getUnsafe();
+            Class<?> k = RingBufferBlockingQueue.class;
+            PRODUCER_INDEX = U.objectFieldOffset
+                (k.getDeclaredField("producerIndex"));
+            PRODUCER_LIMIT = U.objectFieldOffset
+                (k.getDeclaredField("producerLimit"));
+            CONSUMER_INDEX = U.objectFieldOffset
+                (k.getDeclaredField("consumerIndex"));
+            Class<?> ak = Object[].class;
+            ABASE = U.arrayBaseOffset(ak);
+            int scale = U.arrayIndexScale(ak);
+            if ((scale & (scale - 1)) != 0)
+                throw new Error("data type scale not a power of two");
+            ASHIFT = 31 - Integer.numberOfLeadingZeros(scale);
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+}
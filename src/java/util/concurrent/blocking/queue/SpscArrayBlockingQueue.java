@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.blocking.queue;
+
+/**
+ * A bounded {@linkplain BlockingQueue blocking queue} backed by a ring
+ * buffer, for use by exactly one producer thread and, typically, one
+ * consumer thread.  This queue orders elements FIFO (first-in-first-out).
+ *
+ * <p>Unlike {@link ArrayBlockingQueue}, the producer takes no locks:
+ * the producer and consumers each own a sequence counter, padded onto
+ * separate cache lines, and hand elements over by ordered stores.  In
+ * the common case an {@code offer} or {@code poll} touches only its own
+ * counter, the array slot, a cached bound on the other side's counter,
+ * and for {@code poll} an uncontended consumer lock.  Blocking
+ * operations wait according to the {@link WaitStrategy} supplied at
+ * construction.
+ *
+ * <p>Correct operation requires that at any moment at most one thread
+ * performs inserting operations ({@code offer}, {@code put},
+ * {@code add}, {@link #offerAll offerAll}).  The producer thread may
+ * change over time, provided each hand-off between threads is itself
+ * properly synchronized.  Removing and inspecting operations
+ * ({@code poll}, {@code take}, {@code peek}, {@code drainTo},
+ * {@code clear}, {@code remove}, {@code contains}, {@code iterator})
+ * are serialized by a consumer lock and may be called from any thread,
+ * as may {@code size}, {@code isEmpty} and {@code remainingCapacity}.
+ * The iterator traverses a snapshot of the queue, and its
+ * {@code remove} method removes the last element returned from the
+ * queue.  Since a {@link java.util.concurrent.executor.ThreadPoolExecutor}
+ * inserts tasks from every thread that submits them, use
+ * {@link MpscArrayBlockingQueue} as its work queue.
+ *
+ * <p>This queue does not permit {@code null} elements.
+ *
+ * @param <E> the type of elements held in this queue
+ * @see MpscArrayBlockingQueue
+ * @since 1.8
+ */
+public class SpscArrayBlockingQueue<E> extends RingBufferBlockingQueue<E> {
+
+    /**
+     * Creates a {@code SpscArrayBlockingQueue} with the given (fixed)
+     * capacity whose blocking operations use a
+     * {@linkplain WaitStrategy#parking() parking} wait strategy.
+     *
+     * @param capacity the capacity of this queue
+     * @throws IllegalArgumentException if {@code capacity < 1} or
+     *         {@code capacity > 2^30}
+     */
+    public SpscArrayBlockingQueue(int capacity) {
+        this(capacity, WaitStrategy.parking());
+    }
+
+    /**
+     * Creates a {@code SpscArrayBlockingQueue} with the given (fixed)
+     * capacity and wait strategy.
+     *
+     * @param capacity the capacity of this queue
+     * @param waitStrategy how blocked producers and consumers wait
+     * @throws IllegalArgumentException if {@code capacity < 1} or
+     *         {@code capacity > 2^30}
+     * @throws NullPointerException if the wait strategy is null
+     */
+    public SpscArrayBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue if it is
+     * possible to do so immediately without exceeding the queue's
+     * capacity, returning {@code true} upon success and {@code false}
+     * if this queue is full.  Must only be called by the producer.
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(E e) {
+        if (e == null)
+            throw new NullPointerException();
+        long p = producerIndex;
+        if (p >= producerLimit) {
+            long limit = consumerIndex + capacity;
+            if (p >= limit)
+                return false;
+            U.putOrderedLong(this, PRODUCER_LIMIT, limit);
+        }
+        U.putOrderedObject(buffer, slotOffset(p), e);
+        U.putOrderedLong(this, PRODUCER_INDEX, p + 1L);
+        return true;
+    }
+
+    final int offerArray(Object[] a) {
+        long p = producerIndex, limit = producerLimit;
+        if (limit - p < a.length) {
+            limit = consumerIndex + capacity;
+            U.putOrderedLong(this, PRODUCER_LIMIT, limit);
+        }
+        int n = (int)Math.min(a.length, limit - p);
+        if (n <= 0)
+            return 0;
+        final Object[] items = buffer;
+        for (int i = 0; i < n; ++i)
+            U.putOrderedObject(items, slotOffset(p + i), a[i]);
+        U.putOrderedLong(this, PRODUCER_INDEX, p + n);
+        return n;
+    }
+}
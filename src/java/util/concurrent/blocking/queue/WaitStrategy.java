@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.blocking.queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A policy for how a thread waits for a condition that another thread
+ * will make true without signalling it, such as a lock-free queue
+ * becoming non-empty.  The waiting thread calls {@link #idle}
+ * repeatedly, re-checking its condition between calls, and passes back
+ * the returned counter each time so that the strategy can escalate from
+ * cheap to expensive forms of waiting.
+ *
+ * <p>Three standard strategies are provided:
+ * <ul>
+ * <li>{@link #spinning()} busy-waits, giving the lowest latency at the
+ * cost of a fully occupied processor per waiting thread.
+ * <li>{@link #yielding()} spins briefly, then calls {@link Thread#yield}.
+ * <li>{@link #parking()} spins, then yields, then parks for
+ * exponentially increasing periods, trading latency for processor use
+ * when the wait turns out to be long.
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe; the standard strategies are
+ * stateless apart from their configuration, and may be shared.
+ *
+ * @see SpscArrayBlockingQueue
+ * @see MpscArrayBlockingQueue
+ * @since 1.8
+ */
+public abstract class WaitStrategy {
+
+    /**
+     * The number of times the yielding and parking strategies spin
+     * before yielding.
+     */
+    static final int SPINS = 1 << 7;
+
+    /**
+     * The number of times the parking strategy yields before parking.
+     */
+    static final int YIELDS = 1 << 4;
+
+    /** The default initial park time, in nanoseconds. */
+    static final long DEFAULT_MIN_PARK_NANOS = 1L << 10;
+
+    /** The default maximum park time, in nanoseconds. */
+    static final long DEFAULT_MAX_PARK_NANOS = 1L << 20;
+
+    /**
+     * Constructor for use by subclasses.
+     */
+    protected WaitStrategy() {
+    }
+
+    /**
+     * Waits briefly.  Returns normally, possibly early, and does not
+     * check the condition being waited for; the caller re-checks it
+     * (and its interrupt status and any deadline) after each call.
+     *
+     * @param counter zero on the first call of a wait, and thereafter
+     * the value returned by the previous call
+     * @return the counter to pass to the next call
+     */
+    public abstract int idle(int counter);
+
+    /**
+     * Returns a strategy that busy-waits.
+     *
+     * @return a spinning wait strategy
+     */
+    public static WaitStrategy spinning() {
+        return Spinning.INSTANCE;
+    }
+
+    /**
+     * Returns a strategy that spins briefly and then yields the
+     * processor on each call.
+     *
+     * @return a yielding wait strategy
+     */
+    public static WaitStrategy yielding() {
+        return Yielding.INSTANCE;
+    }
+
+    /**
+     * Returns a strategy that spins, then yields, then parks for
+     * periods doubling from about one microsecond to about one
+     * millisecond.
+     *
+     * @return a parking wait strategy
+     */
+    public static WaitStrategy parking() {
+        return Parking.DEFAULT;
+    }
+
+    /**
+     * Returns a strategy that spins, then yields, then parks for
+     * periods doubling from {@code minParkNanos} up to
+     * {@code maxParkNanos}.
+     *
+     * @param minParkNanos the first park time, in nanoseconds
+     * @param maxParkNanos the maximum park time, in nanoseconds
+     * @return a parking wait strategy
+     * @throws IllegalArgumentException if {@code minParkNanos} is not
+     *         positive or exceeds {@code maxParkNanos}
+     */
+    public static WaitStrategy parking(long minParkNanos, long maxParkNanos) {
+        if (minParkNanos <= 0L || minParkNanos > maxParkNanos)
+            throw new IllegalArgumentException();
+        return new Parking(minParkNanos, maxParkNanos);
+    }
+
+    static final class Spinning extends WaitStrategy {
+        static final Spinning INSTANCE = new Spinning();
+        public int idle(int counter) {
+            return counter + 1;
+        }
+        public String toString() {
+            return "WaitStrategy.spinning";
+        }
+    }
+
+    static final class Yielding extends WaitStrategy {
+        static final Yielding INSTANCE = new Yielding();
+        public int idle(int counter) {
+            if (counter < SPINS)
+                return counter + 1;
+            Thread.yield();
+            return counter;
+        }
+        public String toString() {
+            return "WaitStrategy.yielding";
+        }
+    }
+
+    static final class Parking extends WaitStrategy {
+        static final Parking DEFAULT =
+            new Parking(DEFAULT_MIN_PARK_NANOS, DEFAULT_MAX_PARK_NANOS);
+        final long minParkNanos;
+        final long maxParkNanos;
+        final int maxShift;
+
+        Parking(long minParkNanos, long maxParkNanos) {
+            this.minParkNanos = minParkNanos;
+            this.maxParkNanos = maxParkNanos;
+            int shift = 0;
+            while (shift < 62 && (minParkNanos << shift) < maxParkNanos)
+                ++shift;
+            this.maxShift = shift;
+        }
+
+        public int idle(int counter) {
+            if (counter < SPINS)
+                return counter + 1;
+            if (counter < SPINS + YIELDS) {
+                Thread.yield();
+                return counter + 1;
+            }
+            int shift = counter - (SPINS + YIELDS);
+            LockSupport.parkNanos(this, Math.min(maxParkNanos,
+                                                 minParkNanos << shift));
+            return (shift < maxShift) ? counter + 1 : counter;
+        }
+
+        public String toString() {
+            return "WaitStrategy.parking[" + minParkNanos + ", " +
+                maxParkNanos + "]";
+        }
+    }
+}
@@ -0,0 +1,1164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.collection;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.blocking.queue.ConcurrentLinkedQueue;
+import java.util.concurrent.executor.Executor;
+import java.util.concurrent.fork.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded cache supporting full concurrency of retrievals, built on a
+ * {@link ConcurrentHashMap}.  When the number of entries exceeds the
+ * maximum size, entries are evicted according to an
+ * {@linkplain EvictionPolicy eviction policy}: either least-recently-used,
+ * or Window TinyLFU, which admits a new entry into the main region only
+ * if its estimated access frequency beats that of the entry it would
+ * displace.  Entries may additionally expire a fixed time after their
+ * last access or their last write.
+ *
+ * <p>Retrieval operations do <em>not</em> entail locking.  Rather than
+ * reordering the policy's lists on every hit, a read records the accessed
+ * entry in one of several striped, padded ring buffers (selected by the
+ * same per-thread probe that {@link java.util.concurrent.atomic.LongAdder}
+ * uses) and returns.  Writes are recorded in a separate queue.  Both are
+ * replayed against the eviction policy in batches under a single lock,
+ * which writers acquire with {@link ReentrantLock#tryLock} and readers
+ * never touch: when a read buffer fills up, the drain is handed to the
+ * maintenance executor instead.  Read buffers are lossy; if one is full
+ * or contended the access is simply not recorded, which affects only
+ * the precision of the policy, never correctness.
+ *
+ * <p>Because eviction runs asynchronously with respect to insertion, the
+ * cache may transiently hold somewhat more than its maximum size.
+ * {@link #cleanUp} forces pending maintenance to run.
+ *
+ * <p>Like {@code ConcurrentHashMap}, this class does not allow
+ * {@code null} to be used as a key or value.  Hit, miss and eviction
+ * counts are maintained in {@link LongAdder}s and may be sampled at any
+ * time.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @since 1.8
+ */
+public class ConcurrentBoundedCache<K,V> {
+
+    /*
+     * Overview:
+     *
+     * The cache is a ConcurrentHashMap from keys to Nodes.  A Node's
+     * value field is volatile and is nulled out exactly once, when the
+     * node is removed from the map; a node with a null value is "dead"
+     * and is treated as absent by every reader.  Values of live nodes
+     * are replaced in place while holding the node's monitor, so a
+     * mapping is never re-pointed at a different Node.
+     *
+     * The eviction policy is a set of intrusive doubly-linked access
+     * order deques (plus a write order deque when expireAfterWrite is
+     * set) and a frequency sketch.  None of these are thread-safe; they
+     * are only touched while holding evictionLock, by maintenance().
+     *
+     * Other threads communicate with the policy through two buffers:
+     *
+     * - readBuffers: a fixed array of ReadBuffers, one per stripe,
+     *   sized to the next power of two at least NCPU.  Each is a small
+     *   multiple-producer/single-consumer ring: producers claim a slot
+     *   by CASing writeCount and lazily publish the node; the drainer
+     *   consumes up to the first not-yet-published slot.  An offer that
+     *   finds the ring full or loses a CAS race is dropped.
+     *
+     * - writeBuffer: an unbounded queue of tasks describing adds,
+     *   updates and removals, which unlike reads must not be lost.
+     *
+     * drainStatus tracks whether a drain is needed.  Writers set it to
+     * REQUIRED and then try to acquire evictionLock to drain inline;
+     * the lock holder loops while the status is not IDLE after it
+     * finishes, so a task enqueued while the lock was held is never
+     * stranded.  Readers only CAS the status to REQUIRED and submit a
+     * drain to the executor.
+     *
+     * Window TinyLFU: new entries enter a small LRU "window" (1% of the
+     * maximum size).  Entries overflowing the window become candidates
+     * at the tail of the "probation" segment of the main region; while
+     * the cache is over capacity, the candidate at the probation tail is
+     * compared with the victim at the probation head, and whichever has
+     * the lower sketch frequency is evicted.  A probation entry that is
+     * accessed again is promoted to the "protected" segment (80% of the
+     * main region), whose overflow is demoted back to probation.  With
+     * the LRU policy, only the probation deque is used.
+     */
+
+    /**
+     * Policy used to choose which entry to evict when the cache exceeds
+     * its maximum size.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evict the least recently used entry.
+         */
+        LRU,
+        /**
+         * Window TinyLFU: recency for newly added entries, and admission
+         * into the main region by estimated frequency of use.
+         */
+        TINY_LFU
+    }
+
+    /* ---------------- Constants -------------- */
+
+    /** Number of CPUS, to place bounds on the number of read stripes */
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    /** The number of slots in each read buffer. Must be a power of two. */
+    static final int READ_BUFFER_SIZE = 16;
+
+    /** Mask for read buffer slot indices. */
+    static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    /** The maximum number of write tasks applied in one drain pass. */
+    static final int WRITE_BUFFER_DRAIN_THRESHOLD = 1024;
+
+    /** drainStatus values */
+    static final int IDLE       = 0;
+    static final int REQUIRED   = 1;
+    static final int PROCESSING = 2;
+
+    /** Node queue types */
+    static final int NONE      = 0;
+    static final int WINDOW    = 1;
+    static final int PROBATION = 2;
+    static final int PROTECTED = 3;
+
+    /* ---------------- Fields -------------- */
+
+    /** The backing map */
+    final ConcurrentHashMap<K,Node<K,V>> data;
+
+    /** The maximum number of entries; written only under evictionLock */
+    volatile long maximumSize;
+
+    /** The eviction policy */
+    final EvictionPolicy policy;
+
+    /** Nanoseconds after last access until expiry, or zero if none */
+    final long expireAfterAccessNanos;
+
+    /** Nanoseconds after last write until expiry, or zero if none */
+    final long expireAfterWriteNanos;
+
+    /** Runs drains requested by readers */
+    final Executor executor;
+
+    /** Guards the eviction policy */
+    final ReentrantLock evictionLock = new ReentrantLock();
+
+    /** Striped buffers of recent reads */
+    final ReadBuffer<K,V>[] readBuffers;
+
+    /** Pending adds, updates and removals */
+    final ConcurrentLinkedQueue<Runnable> writeBuffer =
+        new ConcurrentLinkedQueue<Runnable>();
+
+    /** Whether a drain is needed; one of IDLE, REQUIRED, PROCESSING */
+    volatile int drainStatus;
+
+    /** Reusable task handed to the executor by readers */
+    final Runnable drainTask = new Runnable() {
+        public void run() { scheduleDrain(); }
+    };
+
+    final LongAdder hitCount = new LongAdder();
+    final LongAdder missCount = new LongAdder();
+    final LongAdder evictionCount = new LongAdder();
+
+    // Policy state, all guarded by evictionLock
+
+    final AccessDeque<K,V> window = new AccessDeque<K,V>();
+    final AccessDeque<K,V> probation = new AccessDeque<K,V>();
+    final AccessDeque<K,V> protectedDeque = new AccessDeque<K,V>();
+    final WriteDeque<K,V> writeOrder = new WriteDeque<K,V>();
+    FrequencySketch sketch;
+
+    /** Number of entries linked into the policy */
+    long size;
+    long windowSize;
+    long protectedSize;
+    long windowMaximum;
+    long protectedMaximum;
+
+    /* ---------------- Constructors -------------- */
+
+    /**
+     * Creates a new cache with the given maximum size, eviction policy,
+     * expiration times and maintenance executor.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param policy the eviction policy
+     * @param expireAfterAccess the time after an entry's last read or
+     * write at which it expires, or zero for no access expiry
+     * @param expireAfterWrite the time after an entry's creation or last
+     * value replacement at which it expires, or zero for no write expiry
+     * @param unit the time unit of the expiration arguments
+     * @param executor the executor that runs maintenance requested by
+     * readers
+     * @throws IllegalArgumentException if {@code maximumSize} is not
+     * positive or either expiration time is negative
+     * @throws NullPointerException if {@code policy}, {@code unit} or
+     * {@code executor} is null
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentBoundedCache(long maximumSize, EvictionPolicy policy,
+                                  long expireAfterAccess,
+                                  long expireAfterWrite, TimeUnit unit,
+                                  Executor executor) {
+        if (maximumSize <= 0L || expireAfterAccess < 0L ||
+            expireAfterWrite < 0L)
+            throw new IllegalArgumentException();
+        if (policy == null || unit == null || executor == null)
+            throw new NullPointerException();
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        this.expireAfterAccessNanos = unit.toNanos(expireAfterAccess);
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+        this.executor = executor;
+        this.data = new ConcurrentHashMap<K,Node<K,V>>
+            ((int)Math.min(maximumSize, 1 << 16));
+        int n = 1;
+        while (n < NCPU)
+            n <<= 1;
+        ReadBuffer<K,V>[] rb = (ReadBuffer<K,V>[])new ReadBuffer<?,?>[n];
+        for (int i = 0; i < n; ++i)
+            rb[i] = new ReadBuffer<K,V>();
+        this.readBuffers = rb;
+        if (policy == EvictionPolicy.TINY_LFU) {
+            this.sketch = new FrequencySketch(maximumSize);
+            setRegionMaximums(maximumSize);
+        }
+    }
+
+    /**
+     * Creates a new cache with the given maximum size and eviction
+     * policy, no expiration, and {@link ForkJoinPool#commonPool()} as its
+     * maintenance executor.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param policy the eviction policy
+     * @throws IllegalArgumentException if {@code maximumSize} is not
+     * positive
+     * @throws NullPointerException if {@code policy} is null
+     */
+    public ConcurrentBoundedCache(long maximumSize, EvictionPolicy policy) {
+        this(maximumSize, policy, 0L, 0L, TimeUnit.NANOSECONDS,
+             ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new cache with the given maximum size, the
+     * {@linkplain EvictionPolicy#TINY_LFU Window TinyLFU} eviction policy,
+     * and no expiration.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if {@code maximumSize} is not
+     * positive
+     */
+    public ConcurrentBoundedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.TINY_LFU);
+    }
+
+    /* ---------------- Public operations -------------- */
+
+    /**
+     * Returns the value to which the specified key is mapped, or
+     * {@code null} if this cache contains no live, unexpired mapping for
+     * the key.  This method never blocks.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the key is mapped, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    public V get(Object key) {
+        Node<K,V> n = data.get(key);
+        V v;
+        if (n == null || (v = n.value) == null) {
+            missCount.increment();
+            return null;
+        }
+        long now = expiresAfterAny() ? System.nanoTime() : 0L;
+        if (hasExpired(n, now)) {
+            missCount.increment();
+            requestDrain();
+            return null;
+        }
+        if (expireAfterAccessNanos != 0L)
+            n.accessTime = now;
+        hitCount.increment();
+        afterRead(n);
+        return v;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this
+     * cache, replacing any previous value.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous live value associated with {@code key}, or
+     *         {@code null} if there was none
+     * @throws NullPointerException if the specified key or value is null
+     */
+    public V put(K key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * If the specified key is not already associated with a live value,
+     * associates it with the given value.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous live value associated with {@code key}, or
+     *         {@code null} if there was none
+     * @throws NullPointerException if the specified key or value is null
+     */
+    public V putIfAbsent(K key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * If the specified key is not already associated with a live value,
+     * attempts to compute its value using the given mapping function and
+     * enters it into this cache unless {@code null}.  The computation is
+     * performed at most once per absent key across concurrent callers,
+     * as with {@link ConcurrentHashMap#computeIfAbsent}, and so should be
+     * short and simple.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with
+     *         the specified key, or null if the computed value is null
+     * @throws NullPointerException if the specified key or
+     *         mappingFunction is null
+     */
+    public V computeIfAbsent(K key,
+                             Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null)
+            throw new NullPointerException();
+        for (;;) {
+            long now = expiresAfterAny() ? System.nanoTime() : 0L;
+            Node<K,V> prior = data.get(key);
+            if (prior != null) {
+                V v = prior.value;
+                if (v != null && !hasExpired(prior, now)) {
+                    if (expireAfterAccessNanos != 0L)
+                        prior.accessTime = now;
+                    hitCount.increment();
+                    afterRead(prior);
+                    return v;
+                }
+                if (v != null && data.remove(key, prior)) {
+                    prior.retire();
+                    afterWrite(new RemovalTask(prior));
+                }
+                continue;
+            }
+            missCount.increment();
+            @SuppressWarnings("unchecked")
+            Node<K,V>[] created = (Node<K,V>[])new Node<?,?>[1];
+            Node<K,V> n = data.computeIfAbsent(key, k -> {
+                V v = mappingFunction.apply(k);
+                return (v == null) ? null : (created[0] = new Node<K,V>(k, v, now));
+            });
+            if (n == null)
+                return null;
+            if (n == created[0]) {
+                afterWrite(new AddTask(n));
+                return n.value;
+            }
+            // lost a race to a concurrent insertion; retry as a read
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present.
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the previous live value associated with {@code key}, or
+     *         {@code null} if there was none
+     * @throws NullPointerException if the specified key is null
+     */
+    public V remove(Object key) {
+        Node<K,V> n = data.remove(key);
+        if (n == null)
+            return null;
+        V old = n.retire();
+        afterWrite(new RemovalTask(n));
+        return (old == null || hasExpired(n, expiresAfterAny() ?
+                                           System.nanoTime() : 0L)) ?
+            null : old;
+    }
+
+    /**
+     * Removes all of the mappings from this cache.
+     */
+    public void invalidateAll() {
+        for (K key : data.keySet())
+            remove(key);
+    }
+
+    /**
+     * Returns the approximate number of mappings in this cache, which
+     * may include entries that have expired or are pending eviction.
+     *
+     * @return the approximate number of mappings
+     */
+    public long estimatedSize() {
+        return data.mappingCount();
+    }
+
+    /**
+     * Performs any pending maintenance: replays buffered reads and
+     * writes, removes expired entries, and evicts entries until the
+     * cache is within its maximum size.  Unlike the maintenance
+     * triggered by ordinary operations, this method blocks until the
+     * eviction lock is available.
+     */
+    public void cleanUp() {
+        final ReentrantLock lock = evictionLock;
+        lock.lock();
+        try {
+            drainStatus = PROCESSING;
+            maintenance();
+        } finally {
+            casDrainStatus(PROCESSING, IDLE);
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Returns the maximum number of entries this cache retains.
+     *
+     * @return the maximum size
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries this cache retains, evicting
+     * entries as needed if the new bound is smaller.  This method blocks
+     * until the eviction lock is available.
+     *
+     * @param maximumSize the new maximum size
+     * @throws IllegalArgumentException if {@code maximumSize} is not
+     * positive
+     */
+    public void setMaximumSize(long maximumSize) {
+        if (maximumSize <= 0L)
+            throw new IllegalArgumentException();
+        final ReentrantLock lock = evictionLock;
+        lock.lock();
+        try {
+            this.maximumSize = maximumSize;
+            if (policy == EvictionPolicy.TINY_LFU) {
+                if (maximumSize > sketch.table.length)
+                    sketch = new FrequencySketch(maximumSize);
+                setRegionMaximums(maximumSize);
+                while (protectedSize > protectedMaximum) {
+                    Node<K,V> demoted = protectedDeque.pollFirst();
+                    --protectedSize;
+                    demoted.queueType = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            drainStatus = PROCESSING;
+            maintenance();
+        } finally {
+            casDrainStatus(PROCESSING, IDLE);
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Returns the eviction policy of this cache.
+     *
+     * @return the eviction policy
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of lookups that found a live value.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no live value, including
+     * those by {@link #computeIfAbsent} that led to a computation.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed because of size or
+     * expiration, excluding explicit removals.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns a string identifying this cache, as well as its size
+     * bound and hit, miss and eviction counts.
+     *
+     * @return a string identifying this cache, as well as its state
+     */
+    public String toString() {
+        return super.toString() +
+            "[maximumSize = " + maximumSize +
+            ", policy = " + policy +
+            ", size = " + estimatedSize() +
+            ", hits = " + hitCount() +
+            ", misses = " + missCount() +
+            ", evictions = " + evictionCount() + "]";
+    }
+
+    /* ---------------- Internals -------------- */
+
+    /**
+     * Splits the given maximum size into window and protected region
+     * bounds.  Called on construction and under evictionLock.
+     */
+    final void setRegionMaximums(long maximumSize) {
+        long w = Math.max(1L, maximumSize / 100L);
+        windowMaximum = w;
+        protectedMaximum = (maximumSize - w) * 8L / 10L;
+    }
+
+    final boolean expiresAfterAny() {
+        return (expireAfterAccessNanos | expireAfterWriteNanos) != 0L;
+    }
+
+    final boolean hasExpired(Node<K,V> n, long now) {
+        return (expireAfterAccessNanos != 0L &&
+                now - n.accessTime >= expireAfterAccessNanos) ||
+            (expireAfterWriteNanos != 0L &&
+             now - n.writeTime >= expireAfterWriteNanos);
+    }
+
+    final V put(K key, V value, boolean onlyIfAbsent) {
+        if (key == null || value == null)
+            throw new NullPointerException();
+        for (;;) {
+            long now = expiresAfterAny() ? System.nanoTime() : 0L;
+            Node<K,V> prior = data.get(key);
+            if (prior == null) {
+                Node<K,V> n = new Node<K,V>(key, value, now);
+                if ((prior = data.putIfAbsent(key, n)) == null) {
+                    afterWrite(new AddTask(n));
+                    return null;
+                }
+            }
+            V old;
+            boolean expired;
+            synchronized (prior) {
+                if ((old = prior.value) == null)
+                    continue;               // dead; wait for unmapping
+                expired = hasExpired(prior, now);
+                if (onlyIfAbsent && !expired) {
+                    // fall through to record the access
+                } else {
+                    prior.value = value;
+                    prior.accessTime = now;
+                    prior.writeTime = now;
+                }
+            }
+            if (onlyIfAbsent && !expired) {
+                afterRead(prior);
+                return old;
+            }
+            afterWrite(new UpdateTask(prior));
+            return expired ? null : old;
+        }
+    }
+
+    /**
+     * Records a read of the given node in the current thread's read
+     * buffer, requesting a drain if the buffer is full.
+     */
+    final void afterRead(Node<K,V> n) {
+        int h;
+        if ((h = getProbe()) == 0) {
+            ThreadLocalRandom.current(); // force initialization
+            h = getProbe();
+        }
+        ReadBuffer<K,V>[] rb = readBuffers;
+        if (!rb[h & (rb.length - 1)].offer(n))
+            requestDrain();
+    }
+
+    /**
+     * Asks the executor to drain the buffers unless a drain is already
+     * pending.  Used by readers, which must not acquire evictionLock.
+     */
+    final void requestDrain() {
+        int s = drainStatus;
+        if (s != REQUIRED && casDrainStatus(s, REQUIRED)) {
+            try {
+                executor.execute(drainTask);
+            } catch (Throwable ex) {
+                // rejected; the next write will drain inline
+            }
+        }
+    }
+
+    /**
+     * Enqueues a write task and drains inline if the lock is free.
+     */
+    final void afterWrite(Runnable task) {
+        writeBuffer.offer(task);
+        drainStatus = REQUIRED;
+        scheduleDrain();
+    }
+
+    /**
+     * Performs maintenance while a drain is required and evictionLock
+     * can be acquired without blocking.
+     */
+    final void scheduleDrain() {
+        final ReentrantLock lock = evictionLock;
+        while (drainStatus != IDLE && lock.tryLock()) {
+            try {
+                drainStatus = PROCESSING;
+                maintenance();
+            } finally {
+                casDrainStatus(PROCESSING, IDLE);
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replays buffered reads and writes against the policy, expires
+     * entries, and evicts to bring the cache within its bound.  Must be
+     * called holding evictionLock.
+     */
+    final void maintenance() {
+        for (ReadBuffer<K,V> rb : readBuffers)
+            rb.drainTo(this);
+        Runnable task;
+        for (int i = 0; i < WRITE_BUFFER_DRAIN_THRESHOLD &&
+                 (task = writeBuffer.poll()) != null; ++i)
+            task.run();
+        if (!writeBuffer.isEmpty())
+            drainStatus = REQUIRED;     // keep looping in scheduleDrain
+        if (expiresAfterAny())
+            expireEntries(System.nanoTime());
+        evictEntries();
+    }
+
+    /** Applies a buffered read to the policy. */
+    final void onAccess(Node<K,V> n) {
+        if (n.queueType == NONE)
+            return;                     // not yet added, or already removed
+        if (sketch != null)
+            sketch.increment(n.key);
+        switch (n.queueType) {
+        case WINDOW:
+            window.moveToBack(n);
+            break;
+        case PROBATION:
+            if (policy == EvictionPolicy.LRU) {
+                probation.moveToBack(n);
+            } else {
+                probation.remove(n);
+                n.queueType = PROTECTED;
+                protectedDeque.addLast(n);
+                if (++protectedSize > protectedMaximum) {
+                    Node<K,V> demoted = protectedDeque.pollFirst();
+                    --protectedSize;
+                    demoted.queueType = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            break;
+        case PROTECTED:
+            protectedDeque.moveToBack(n);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /** Removes a node from whichever policy structures hold it. */
+    final void unlink(Node<K,V> n) {
+        switch (n.queueType) {
+        case WINDOW:
+            window.remove(n);
+            --windowSize;
+            break;
+        case PROBATION:
+            probation.remove(n);
+            break;
+        case PROTECTED:
+            protectedDeque.remove(n);
+            --protectedSize;
+            break;
+        default:
+            return;
+        }
+        n.queueType = NONE;
+        if (expireAfterWriteNanos != 0L)
+            writeOrder.remove(n);
+        --size;
+    }
+
+    /**
+     * Unmaps, retires and unlinks the given node unless a concurrent
+     * removal already unmapped it.
+     */
+    final void evict(Node<K,V> n) {
+        if (data.remove(n.key, n)) {
+            n.retire();
+            evictionCount.increment();
+        }
+        unlink(n);
+    }
+
+    final void expireEntries(long now) {
+        if (expireAfterAccessNanos != 0L) {
+            expireAccessOrder(window, now);
+            expireAccessOrder(probation, now);
+            expireAccessOrder(protectedDeque, now);
+        }
+        if (expireAfterWriteNanos != 0L) {
+            Node<K,V> n;
+            while ((n = writeOrder.first) != null &&
+                   now - n.writeTime >= expireAfterWriteNanos)
+                evict(n);
+        }
+    }
+
+    final void expireAccessOrder(AccessDeque<K,V> deque, long now) {
+        Node<K,V> n;
+        while ((n = deque.first) != null &&
+               now - n.accessTime >= expireAfterAccessNanos)
+            evict(n);
+    }
+
+    final void evictEntries() {
+        if (policy == EvictionPolicy.LRU) {
+            while (size > maximumSize)
+                evict(probation.first);
+            return;
+        }
+        // Move window overflow to the probation tail as candidates
+        int candidates = 0;
+        while (windowSize > windowMaximum) {
+            Node<K,V> n = window.pollFirst();
+            --windowSize;
+            n.queueType = PROBATION;
+            probation.addLast(n);
+            ++candidates;
+        }
+        while (size > maximumSize) {
+            Node<K,V> victim = probation.first;
+            Node<K,V> candidate = (candidates > 0) ? probation.last : null;
+            if (victim == null) {
+                // Probation exhausted; fall back to protected, then window
+                evict((protectedDeque.first != null) ?
+                      protectedDeque.first : window.first);
+            } else if (candidate == null || candidate == victim) {
+                evict(victim);
+                if (candidate != null)
+                    --candidates;
+            } else if (sketch.frequency(candidate.key) >
+                       sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+                --candidates;
+            }
+        }
+    }
+
+    final boolean casDrainStatus(int expect, int update) {
+        return U.compareAndSwapInt(this, DRAIN_STATUS, expect, update);
+    }
+
+    static final int getProbe() {
+        return U.getInt(Thread.currentThread(), PROBE);
+    }
+
+    /* ---------------- Write tasks -------------- */
+
+    final class AddTask implements Runnable {
+        final Node<K,V> node;
+        AddTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            Node<K,V> n = node;
+            if (n.value == null || n.queueType != NONE)
+                return;                 // removed before we got here
+            if (policy == EvictionPolicy.LRU) {
+                n.queueType = PROBATION;
+                probation.addLast(n);
+            } else {
+                n.queueType = WINDOW;
+                window.addLast(n);
+                ++windowSize;
+                sketch.increment(n.key);
+            }
+            if (expireAfterWriteNanos != 0L)
+                writeOrder.addLast(n);
+            ++size;
+        }
+    }
+
+    final class UpdateTask implements Runnable {
+        final Node<K,V> node;
+        UpdateTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            Node<K,V> n = node;
+            if (n.queueType == NONE)
+                return;
+            if (expireAfterWriteNanos != 0L)
+                writeOrder.moveToBack(n);
+            onAccess(n);
+        }
+    }
+
+    final class RemovalTask implements Runnable {
+        final Node<K,V> node;
+        RemovalTask(Node<K,V> node) { this.node = node; }
+        public void run() {
+            unlink(node);
+        }
+    }
+
+    /* ---------------- Nodes and deques -------------- */
+
+    /**
+     * A cache entry.  The key is final, the value and timestamps are
+     * volatile, and the links are guarded by evictionLock.
+     */
+    static final class Node<K,V> {
+        final K key;
+        volatile V value;
+        volatile long accessTime;
+        volatile long writeTime;
+        int queueType;
+        Node<K,V> prevAccess, nextAccess;
+        Node<K,V> prevWrite, nextWrite;
+
+        Node(K key, V value, long now) {
+            this.key = key;
+            this.value = value;
+            this.accessTime = now;
+            this.writeTime = now;
+        }
+
+        /**
+         * Nulls out the value, marking this node dead, and returns the
+         * value it held.  Called only after unmapping the node.
+         */
+        V retire() {
+            synchronized (this) {
+                V v = value;
+                value = null;
+                return v;
+            }
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked list through the access links of Nodes.
+     */
+    static final class AccessDeque<K,V> {
+        Node<K,V> first, last;
+
+        void addLast(Node<K,V> n) {
+            Node<K,V> l = last;
+            n.prevAccess = l;
+            n.nextAccess = null;
+            last = n;
+            if (l == null)
+                first = n;
+            else
+                l.nextAccess = n;
+        }
+
+        void remove(Node<K,V> n) {
+            Node<K,V> p = n.prevAccess, s = n.nextAccess;
+            if (p == null)
+                first = s;
+            else
+                p.nextAccess = s;
+            if (s == null)
+                last = p;
+            else
+                s.prevAccess = p;
+            n.prevAccess = n.nextAccess = null;
+        }
+
+        void moveToBack(Node<K,V> n) {
+            if (n != last) {
+                remove(n);
+                addLast(n);
+            }
+        }
+
+        Node<K,V> pollFirst() {
+            Node<K,V> f = first;
+            if (f != null)
+                remove(f);
+            return f;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked list through the write links of Nodes.
+     */
+    static final class WriteDeque<K,V> {
+        Node<K,V> first, last;
+
+        void addLast(Node<K,V> n) {
+            Node<K,V> l = last;
+            n.prevWrite = l;
+            n.nextWrite = null;
+            last = n;
+            if (l == null)
+                first = n;
+            else
+                l.nextWrite = n;
+        }
+
+        void remove(Node<K,V> n) {
+            Node<K,V> p = n.prevWrite, s = n.nextWrite;
+            if (p == null)
+                first = s;
+            else
+                p.nextWrite = s;
+            if (s == null)
+                last = p;
+            else
+                s.prevWrite = p;
+            n.prevWrite = n.nextWrite = null;
+        }
+
+        void moveToBack(Node<K,V> n) {
+            if (n != last) {
+                remove(n);
+                addLast(n);
+            }
+        }
+    }
+
+    /**
+     * A lossy multiple-producer/single-consumer ring of recently read
+     * nodes, padded to avoid false sharing with neighbouring stripes.
+     */
+    @sun.misc.Contended static final class ReadBuffer<K,V> {
+        final Node<?,?>[] buffer = new Node<?,?>[READ_BUFFER_SIZE];
+        volatile long writeCount;       // next slot to claim
+        volatile long readCount;        // next slot to drain
+
+        /**
+         * Attempts to record the node.  Returns false if the buffer is
+         * full; a lost CAS race silently drops the read.
+         */
+        boolean offer(Node<K,V> n) {
+            long tail = writeCount;
+            if (tail - readCount >= READ_BUFFER_SIZE)
+                return false;
+            if (U.compareAndSwapLong(this, WRITE_COUNT, tail, tail + 1L))
+                U.putOrderedObject(buffer, slotOffset(tail), n);
+            return true;
+        }
+
+        /**
+         * Applies published reads to the cache's policy.  Must be called
+         * holding evictionLock.
+         */
+        @SuppressWarnings("unchecked")
+        void drainTo(ConcurrentBoundedCache<K,V> cache) {
+            long head = readCount, tail = writeCount;
+            for (; head != tail; ++head) {
+                long offset = slotOffset(head);
+                Object n = U.getObjectVolatile(buffer, offset);
+                if (n == null)
+                    break;              // claimed but not yet published
+                U.putOrderedObject(buffer, offset, null);
+                cache.onAccess((Node<K,V>)n);
+            }
+            U.putOrderedLong(this, READ_COUNT, head);
+        }
+
+        static long slotOffset(long i) {
+            return ((long)((int)i & READ_BUFFER_MASK) << ASHIFT) + ABASE;
+        }
+
+        private static final long WRITE_COUNT;
+        private static final long READ_COUNT;
+        private static final long ABASE;
+        private static final int ASHIFT;
+        static {
+            try {
+                Class<?> k = ReadBuffer.class;
+                WRITE_COUNT = U.objectFieldOffset
+                    (k.getDeclaredField("writeCount"));
+                READ_COUNT = U.objectFieldOffset
+                    (k.getDeclaredField("readCount"));
+                Class<?> ak = Node[].class;
+                ABASE = U.arrayBaseOffset(ak);
+                int scale = U.arrayIndexScale(ak);
+                if ((scale & (scale - 1)) != 0)
+                    throw new Error("data type scale not a power of two");
+                ASHIFT = 31 - Integer.numberOfLeadingZeros(scale);
+            } catch (Exception e) {
+                throw new Error(e);
+            }
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often each key
+     * has been used recently.  Each key maps to four counters, one per
+     * hash function, chosen from a single 64-bit word so that an update
+     * touches at most four words.  When the number of increments reaches
+     * ten times the table width all counters are halved, so the sketch
+     * favours recent popularity.  Not thread-safe; guarded by
+     * evictionLock.
+     */
+    static final class FrequencySketch {
+        static final long[] SEED = { // A mixture of seeds from FNV-1a, CityHash, and Murmur3
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+            0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        static final long RESET_MASK = 0x7777777777777777L;
+        static final long ONE_MASK = 0x1111111111111111L;
+
+        final long[] table;
+        final int tableMask;
+        final int sampleSize;
+        int additions;
+
+        FrequencySketch(long maximumSize) {
+            int n = (int)Math.min(maximumSize, 1 << 26);
+            int cap = 8;
+            while (cap < n)
+                cap <<= 1;
+            table = new long[cap];
+            tableMask = cap - 1;
+            sampleSize = 10 * cap;
+        }
+
+        int frequency(Object e) {
+            int hash = spread(e.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; ++i) {
+                int index = indexOf(hash, i);
+                int count = (int)((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object e) {
+            int hash = spread(e.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; ++i)
+                added |= incrementAt(indexOf(hash, i), start + i);
+            if (added && ++additions == sampleSize)
+                reset();
+        }
+
+        boolean incrementAt(int i, int j) {
+            int offset = j << 2;
+            long mask = 0xfL << offset;
+            if ((table[i] & mask) != mask) {
+                table[i] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        void reset() {
+            int count = 0;
+            for (int i = 0; i < table.length; ++i) {
+                count += Long.bitCount(table[i] & ONE_MASK);
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = (additions >>> 1) - (count >>> 2);
+        }
+
+        int indexOf(int item, int i) {
+            long hash = (item + SEED[i]) * SEED[i];
+            hash += hash >>> 32;
+            return ((int)hash) & tableMask;
+        }
+
+        static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+
+    // Unsafe mechanics
+    private static final sun.misc.Unsafe U;
+    private static final long DRAIN_STATUS;
+    private static final long PROBE;
+    static {
+        try {
+            U = sun.misc.Unsafe.getUnsafe();
+            Class<?> k = ConcurrentBoundedCache.class;
+            DRAIN_STATUS = U.objectFieldOffset
+                (k.getDeclaredField("drainStatus"));
+            Class<?> tk = Thread.class;
+            PROBE = U.objectFieldOffset
+                (tk.getDeclaredField("threadLocalRandomProbe"));
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+}
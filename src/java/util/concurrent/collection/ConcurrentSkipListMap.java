@@ -3273,13 +3273,15 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
      *
      * The basic split strategy is to recursively descend from top
      * level, row by row, descending to next row when either split
-     * off, or the end of row is encountered. Control of the number of
-     * splits relies on some statistical estimation: The expected
-     * remaining number of elements of a skip list when advancing
-     * either across or down decreases by about 25%. To make this
-     * observation useful, we need to know initial size, which we
-     * don't. But we can just use Integer.MAX_VALUE so that we
-     * don't prematurely zero out while splitting.
+     * off, or the end of row is encountered. Each split uses the
+     * index in the middle of the part of the current row lying within
+     * the spliterator's range (see splitIndex), so that both halves
+     * cover about the same number of nodes, and the estimate is
+     * halved accordingly. The initial estimate comes from
+     * estimatedSize, which scales the number of indices on a
+     * sufficiently populated row by the expected index density at
+     * that level, so that AbstractTask sizes leaf tasks against
+     * something close to the real size rather than Integer.MAX_VALUE.
      */
     abstract static class CSLMSpliterator<K,V> {
         final Comparator<? super K> comparator;
@@ -3294,6 +3296,79 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
         }
 
         public final long estimateSize() { return (long)est; }
+
+        /**
+         * Returns the middle one of the indices on the row to the right
+         * of q whose keys are at least lo and less than the fence, or
+         * q.right if there are none. Returns null, so that the caller
+         * descends, if there are fewer than SPLIT_MIN_INDICES of them
+         * and q is not on the lowest row, since splitting at one of a
+         * few widely spaced indices is likely to be lopsided.
+         */
+        final Index<K,V> splitIndex(Index<K,V> q, K lo) {
+            Comparator<? super K> cmp = comparator;
+            K f = fence;
+            Index<K,V> first = null;
+            int c = 0;
+            for (Index<K,V> t = q.right; t != null; t = t.right) {
+                Node<K,V> b; K k;
+                if ((b = t.node) == null || (k = b.key) == null ||
+                    (f != null && cpr(cmp, k, f) >= 0))
+                    break;
+                if (cpr(cmp, k, lo) >= 0) {
+                    if (first == null)
+                        first = t;
+                    ++c;
+                }
+            }
+            if (c < SPLIT_MIN_INDICES && q.down != null)
+                return null;
+            if (first == null)
+                return q.right;
+            Index<K,V> s = first;
+            for (int i = (c - 1) >>> 1; i > 0 && s.right != null; --i)
+                s = s.right;
+            return s;
+        }
+    }
+
+    /**
+     * Minimum number of indices within range on a row for a
+     * spliterator to split at that row rather than descend.
+     */
+    private static final int SPLIT_MIN_INDICES = 16;
+
+    /**
+     * Minimum number of indices on the row used by estimatedSize.
+     */
+    private static final int ESTIMATE_SAMPLE = 64;
+
+    /**
+     * Returns an estimate of the number of nodes, used as the initial
+     * size estimate of spliterators.  An index of level i is created
+     * for about one node in 2^(i+1) (see doPut), so counting the
+     * indices of the highest row holding at least ESTIMATE_SAMPLE of
+     * them and scaling gives an estimate with a few percent error in
+     * time independent of the size of the map.  Maps too small to
+     * have such a row are counted exactly.
+     */
+    final int estimatedSize(HeadIndex<K,V> h) {
+        int level = h.level;
+        for (Index<K,V> q = h; q != null; q = q.down, --level) {
+            int c = 0;
+            for (Index<K,V> r = q.right; r != null; r = r.right)
+                ++c;
+            if (c >= ESTIMATE_SAMPLE) {
+                long n = (long)c << (level + 1);
+                return (n >= Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int)n;
+            }
+        }
+        int n = 0;
+        for (Node<K,V> p = h.node.next; p != null; p = p.next) {
+            if (p.getValidValue() != null && ++n == Integer.MAX_VALUE)
+                break;
+        }
+        return n;
     }
 
     static final class KeySpliterator<K,V> extends CSLMSpliterator<K,V>
@@ -3310,14 +3385,15 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             if ((e = current) != null && (ek = e.key) != null) {
                 for (Index<K,V> q = row; q != null; q = row = q.down) {
                     Index<K,V> s; Node<K,V> b, n; K sk;
-                    if ((s = q.right) != null && (b = s.node) != null &&
+                    if ((s = splitIndex(q, ek)) != null &&
+                        (b = s.node) != null &&
                         (n = b.next) != null && n.value != null &&
                         (sk = n.key) != null && cpr(cmp, sk, ek) > 0 &&
                         (f == null || cpr(cmp, sk, f) < 0)) {
                         current = n;
                         Index<K,V> r = q.down;
                         row = (s.right != null) ? s : s.down;
-                        est -= est >>> 2;
+                        est -= est >>> 1;
                         return new KeySpliterator<K,V>(cmp, r, e, sk, est);
                     }
                 }
@@ -3379,7 +3455,7 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             Node<K,V> b = (h = head).node;
             if ((p = b.next) == null || p.value != null)
                 return new KeySpliterator<K,V>(cmp, h, p, null, (p == null) ?
-                                               0 : Integer.MAX_VALUE);
+                                               0 : estimatedSize(h));
             p.helpDelete(b, p.next);
         }
     }
@@ -3398,14 +3474,15 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             if ((e = current) != null && (ek = e.key) != null) {
                 for (Index<K,V> q = row; q != null; q = row = q.down) {
                     Index<K,V> s; Node<K,V> b, n; K sk;
-                    if ((s = q.right) != null && (b = s.node) != null &&
+                    if ((s = splitIndex(q, ek)) != null &&
+                        (b = s.node) != null &&
                         (n = b.next) != null && n.value != null &&
                         (sk = n.key) != null && cpr(cmp, sk, ek) > 0 &&
                         (f == null || cpr(cmp, sk, f) < 0)) {
                         current = n;
                         Index<K,V> r = q.down;
                         row = (s.right != null) ? s : s.down;
-                        est -= est >>> 2;
+                        est -= est >>> 1;
                         return new ValueSpliterator<K,V>(cmp, r, e, sk, est);
                     }
                 }
@@ -3466,7 +3543,7 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             Node<K,V> b = (h = head).node;
             if ((p = b.next) == null || p.value != null)
                 return new ValueSpliterator<K,V>(cmp, h, p, null, (p == null) ?
-                                                 0 : Integer.MAX_VALUE);
+                                                 0 : estimatedSize(h));
             p.helpDelete(b, p.next);
         }
     }
@@ -3485,14 +3562,15 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             if ((e = current) != null && (ek = e.key) != null) {
                 for (Index<K,V> q = row; q != null; q = row = q.down) {
                     Index<K,V> s; Node<K,V> b, n; K sk;
-                    if ((s = q.right) != null && (b = s.node) != null &&
+                    if ((s = splitIndex(q, ek)) != null &&
+                        (b = s.node) != null &&
                         (n = b.next) != null && n.value != null &&
                         (sk = n.key) != null && cpr(cmp, sk, ek) > 0 &&
                         (f == null || cpr(cmp, sk, f) < 0)) {
                         current = n;
                         Index<K,V> r = q.down;
                         row = (s.right != null) ? s : s.down;
-                        est -= est >>> 2;
+                        est -= est >>> 1;
                         return new EntrySpliterator<K,V>(cmp, r, e, sk, est);
                     }
                 }
@@ -3570,7 +3648,7 @@ public class ConcurrentSkipListMap<K,V> extends AbstractMap<K,V>
             Node<K,V> b = (h = head).node;
             if ((p = b.next) == null || p.value != null)
                 return new EntrySpliterator<K,V>(cmp, h, p, null, (p == null) ?
-                                                 0 : Integer.MAX_VALUE);
+                                                 0 : estimatedSize(h));
             p.helpDelete(b, p.next);
         }
     }
@@ -211,6 +211,30 @@ public abstract class AbstractExecutorService implements ExecutorService {
         return doInvokeAny(tasks, true, unit.toNanos(timeout));
     }
 
+    /**
+     * Arranges for the execution of the tasks of an {@code invokeAll}
+     * call, returning the number submitted.  This implementation calls
+     * {@code execute} for each task in turn, and if timed, stops as soon
+     * as the deadline passes, in case the executor doesn't have
+     * any/much parallelism.  {@link ThreadPoolExecutor} overrides it to
+     * submit all of the tasks as one batch, unless a subclass overrides
+     * {@code execute}.
+     *
+     * @param tasks the tasks
+     * @param timed true if the call has a deadline
+     * @param deadline the {@link System#nanoTime} deadline, if timed
+     * @return the number of tasks submitted
+     */
+    int executeBatch(List<? extends Runnable> tasks, boolean timed,
+                     long deadline) {
+        for (int i = 0, size = tasks.size(); i < size; ) {
+            execute(tasks.get(i++));
+            if (timed && deadline - System.nanoTime() <= 0L)
+                return i;
+        }
+        return tasks.size();
+    }
+
     public <T> List<java.util.concurrent.future.Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
         throws InterruptedException {
         if (tasks == null)
@@ -218,11 +242,13 @@ public abstract class AbstractExecutorService implements ExecutorService {
         ArrayList<java.util.concurrent.future.Future<T>> futures = new ArrayList<java.util.concurrent.future.Future<T>>(tasks.size());
         boolean done = false;
         try {
+            ArrayList<RunnableFuture<T>> batch = new ArrayList<RunnableFuture<T>>(tasks.size());
             for (Callable<T> t : tasks) {
                 RunnableFuture<T> f = newTaskFor(t);
                 futures.add(f);
-                execute(f);
+                batch.add(f);
             }
+            executeBatch(batch, false, 0L);
             for (int i = 0, size = futures.size(); i < size; i++) {
                 java.util.concurrent.future.Future<T> f = futures.get(i);
                 if (!f.isDone()) {
@@ -251,20 +277,21 @@ public abstract class AbstractExecutorService implements ExecutorService {
         ArrayList<java.util.concurrent.future.Future<T>> futures = new ArrayList<java.util.concurrent.future.Future<T>>(tasks.size());
         boolean done = false;
         try {
-            for (Callable<T> t : tasks)
-                futures.add(newTaskFor(t));
+            ArrayList<RunnableFuture<T>> batch = new ArrayList<RunnableFuture<T>>(tasks.size());
+            for (Callable<T> t : tasks) {
+                RunnableFuture<T> f = newTaskFor(t);
+                futures.add(f);
+                batch.add(f);
+            }
 
             final long deadline = System.nanoTime() + nanos;
             final int size = futures.size();
 
-            // Interleave time checks and calls to execute in case
-            // executor doesn't have any/much parallelism.
-            for (int i = 0; i < size; i++) {
-                execute((Runnable)futures.get(i));
-                nanos = deadline - System.nanoTime();
-                if (nanos <= 0L)
-                    return futures;
-            }
+            if (executeBatch(batch, true, deadline) < size)
+                return futures;
+            nanos = deadline - System.nanoTime();
+            if (nanos <= 0L)
+                return futures;
 
             for (int i = 0; i < size; i++) {
                 java.util.concurrent.future.Future<T> f = futures.get(i);
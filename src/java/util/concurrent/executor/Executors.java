@@ -140,6 +140,28 @@ public class Executors {
              null, true);
     }
 
+    /**
+     * Creates a work-stealing thread pool suitable for tasks written in
+     * a blocking, thread-per-request style.  While a task running in
+     * the pool is parked via {@link java.util.concurrent.locks.LockSupport}
+     * (as when waiting for a lock, a condition or a blocking queue) or
+     * is blocked reading a socket, the pool may activate or create a
+     * spare thread so that other tasks continue to run at the target
+     * parallelism level.
+     *
+     * @param parallelism the targeted parallelism level
+     * @return the newly created thread pool
+     * @throws IllegalArgumentException if {@code parallelism <= 0}
+     * @see java.util.concurrent.fork.ForkJoinPool#isBlockingCompensated
+     * @since 1.8
+     */
+    public static java.util.concurrent.executor.ExecutorService newBlockingTaskPool(int parallelism) {
+        return new java.util.concurrent.fork.ForkJoinPool
+            (parallelism,
+             java.util.concurrent.fork.ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+             null, true, true);
+    }
+
 
 
     /**
@@ -629,6 +629,28 @@ public class ScheduledThreadPoolExecutor
         schedule(command, 0, NANOSECONDS);
     }
 
+    /**
+     * Executes each of the given tasks with zero required delay, as if
+     * by calling {@link #execute} for each in turn.  Tasks must pass
+     * through the delayed work queue individually, so unlike the
+     * {@link ThreadPoolExecutor} implementation this is no cheaper than
+     * repeated calls to {@code execute}.
+     *
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public void executeAll(Collection<? extends Runnable> commands) {
+        if (commands == null)
+            throw new NullPointerException();
+        Runnable[] a = commands.toArray(new Runnable[0]);
+        for (Runnable command : a) {
+            if (command == null)
+                throw new NullPointerException();
+        }
+        for (Runnable command : a)
+            execute(command);
+    }
+
     // Override AbstractExecutorService methods
 
     /**
@@ -391,6 +391,13 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
      */
     private volatile boolean allowCoreThreadTimeOut;
 
+    /**
+     * The maximum number of tasks a worker takes from the queue at a
+     * time.  Tasks beyond the first are held in the worker's batch
+     * until it runs them.  The default of one disables batching.
+     */
+    private volatile int taskBatchSize = 1;
+
     /**
      * 除非设置allowCoreThreadTimeOut，否则核心池大小是保持活动状态（并且不允许超时等）的最小工作线程数，在这种情况下，最小值为零。
      */
@@ -451,6 +458,21 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
         /** 每个线程完成任务计数器 */
         volatile long completedTasks;
 
+        /**
+         * Tasks taken from the queue but not yet run, when batching.
+         * Guarded by its own monitor, which shutdownNow and worker exit
+         * also take in order to reclaim the tasks.
+         */
+        final ArrayDeque<Runnable> batch = new ArrayDeque<Runnable>();
+
+        /**
+         * An upper bound on the size of batch, read and written only
+         * by this worker's thread, so that the monitor need not be
+         * taken while batching is unused.  Only this worker adds to
+         * batch, so the bound can only go stale by being too large.
+         */
+        int batched;
+
         /**
          * 使用给定的第一个任务和线程工厂中的线程创建
          * @param firstTask 第一项任务（如果没有则为null）
@@ -500,6 +522,53 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
         public void unlock()      { release(1); }
         public boolean isLocked() { return isHeldExclusively(); }
 
+        /**
+         * Removes and returns the next batched task, or null if none or
+         * if the pool is stopping, in which case shutdownNow reclaims
+         * the batch.  Called only by this worker's thread.
+         */
+        Runnable pollBatch() {
+            if (batched == 0 || runStateAtLeast(ctl.get(), STOP))
+                return null;
+            synchronized (batch) {
+                Runnable r = batch.poll();
+                batched = (r == null) ? 0 : batched - 1;
+                return r;
+            }
+        }
+
+        /**
+         * Moves up to max further tasks from the work queue into the
+         * batch, unless the pool is stopping, in which case shutdownNow
+         * may already have reclaimed this worker's batch.  Called only
+         * by this worker's thread.
+         */
+        void fillBatch(int max) {
+            synchronized (batch) {
+                if (runStateLessThan(ctl.get(), STOP))
+                    batched += workQueue.drainTo(batch, max);
+            }
+        }
+
+        /**
+         * Removes all batched tasks and adds them to the given list.
+         */
+        void drainBatch(List<Runnable> taskList) {
+            synchronized (batch) {
+                taskList.addAll(batch);
+                batch.clear();
+            }
+        }
+
+        /**
+         * Returns the number of batched tasks.
+         */
+        int batchSize() {
+            synchronized (batch) {
+                return batch.size();
+            }
+        }
+
         void interruptIfStarted() {
             Thread t;
             if (getState() >= 0 && (t = thread) != null && !t.isInterrupted()) {
@@ -851,11 +920,15 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
         if (completedAbruptly)
             decrementWorkerCount();
 
+        // 归还未运行的批量任务；在mainLock下进行，以免与shutdownNow竞争
+        List<Runnable> unqueued = null;
         final ReentrantLock mainLock = this.mainLock;
         mainLock.lock();
         try {
             completedTaskCount += w.completedTasks;
             workers.remove(w);
+            if (w.batched != 0)
+                unqueued = requeueBatch(w);
         } finally {
             mainLock.unlock();
         }
@@ -875,6 +948,25 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
             }
             addWorker(null, false);
         }
+
+        if (unqueued != null) {
+            for (Runnable r : unqueued)
+                reject(r);
+        }
+    }
+
+    /**
+     * Puts the tasks left in an exiting worker's batch back on the
+     * work queue, returning those that do not fit, or null if all do.
+     * A worker can only exit with a non-empty batch if a task threw.
+     * Call only while holding mainLock.
+     */
+    private List<Runnable> requeueBatch(Worker w) {
+        ArrayList<Runnable> taskList = new ArrayList<Runnable>();
+        w.drainBatch(taskList);
+        int n = taskList.isEmpty() ? 0 : workQueue.offerAll(taskList);
+        return (n == taskList.size()) ? null :
+            taskList.subList(n, taskList.size());
     }
 
     /**
@@ -885,9 +977,12 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
      * 4. 该工作程序等待任务超时，并且超时工作程序会终止（即* {@code allowCoreThreadTimeOut || workerCount> corePoolSize}）在定时等待之前和之后，
      *      以及队列是否为*非空，此工作程序不是池中的最后一个线程。
      *
+     * <p>如果启用了批量获取，则同时将更多任务从队列移入该worker的batch中。
+     *
+     * @param w the worker
      * @return 任务，如果工作人员必须退出，则返回null，在这种情况下workerCount递减
      */
-    private Runnable getTask() {
+    private Runnable getTask(Worker w) {
         boolean timedOut = false; // 最后的poll（）是否超时?
 
         for (;;) {
@@ -925,8 +1020,12 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
                 Runnable r = timed ?
                     workQueue.poll(keepAliveTime, TimeUnit.NANOSECONDS) :
                     workQueue.take();
-                if (r != null)
+                if (r != null) {
+                    int b = taskBatchSize;
+                    if (b > 1)
+                        w.fillBatch(b - 1);
                     return r;
+                }
                 timedOut = true;
             } catch (InterruptedException retry) {
                 timedOut = false;
@@ -974,7 +1073,9 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
             /**
              * 如果添加的任务存在 或者 获取任务不为空
              */
-            while (task != null || (task = getTask()) != null) {
+            while (task != null ||
+                   (task = w.pollBatch()) != null ||
+                   (task = getTask(w)) != null) {
                 // worker上锁，不允许执行其他任务
                 w.lock();
 
@@ -1230,6 +1331,106 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
             reject(command);
     }
 
+    /**
+     * Executes the given tasks sometime in the future, as if by calling
+     * {@link #execute} for each of them in iteration order, but with
+     * far less overhead per task.  Core threads are started for as
+     * many leading tasks as the pool is short of them, then the rest
+     * are inserted into the work queue with a single
+     * {@link BlockingQueue#offerAll offerAll} operation, so that only as
+     * many waiting workers are woken as there are tasks for them to
+     * take.  Tasks that do not fit in the queue are handled as by
+     * {@code execute}: each starts a new thread if the maximum pool
+     * size allows, and is otherwise rejected.
+     *
+     * <p>If a task is rejected and the handler throws an exception,
+     * the tasks after it in the collection may not have been submitted.
+     *
+     * @param commands the tasks to execute
+     * @throws RejectedExecutionException at discretion of
+     *         {@code RejectedExecutionHandler}, if a task
+     *         cannot be accepted for execution
+     * @throws NullPointerException if {@code commands} or any of its
+     *         elements is null
+     * @since 1.8
+     */
+    public void executeAll(Collection<? extends Runnable> commands) {
+        if (commands == null)
+            throw new NullPointerException();
+        Runnable[] a = commands.toArray(new Runnable[0]);
+        for (Runnable r : a) {
+            if (r == null)
+                throw new NullPointerException();
+        }
+        final int n = a.length;
+        int i = 0;
+        int c = ctl.get();
+        while (i < n && workerCountOf(c) < corePoolSize &&
+               addWorker(a[i], true)) {
+            ++i;
+            c = ctl.get();
+        }
+        if (i < n && isRunning(c = ctl.get())) {
+            int k = workQueue.offerAll(Arrays.asList(a).subList(i, n));
+            if (k > 0) {
+                int recheck = ctl.get();
+                if (!isRunning(recheck)) {
+                    for (int j = i; j < i + k; ++j) {
+                        if (remove(a[j]))
+                            reject(a[j]);
+                    }
+                }
+                else if (workerCountOf(recheck) == 0)
+                    addWorker(null, false);
+                i += k;
+            }
+        }
+        for (; i < n; ++i) {
+            if (!addWorker(a[i], false))
+                reject(a[i]);
+        }
+    }
+
+    /**
+     * Submits a batch of tasks on behalf of invokeAll, through
+     * executeAll unless a subclass overrides execute, in which case
+     * each task still goes through that override.
+     */
+    @Override
+    int executeBatch(List<? extends Runnable> tasks, boolean timed,
+                     long deadline) {
+        if (EXECUTE_OVERRIDDEN.get(getClass()))
+            return super.executeBatch(tasks, timed, deadline);
+        executeAll(tasks);
+        return tasks.size();
+    }
+
+    /**
+     * Whether a subclass of ThreadPoolExecutor declares its own
+     * execute(Runnable).
+     */
+    private static final ClassValue<Boolean> EXECUTE_OVERRIDDEN =
+        new ClassValue<Boolean>() {
+            protected Boolean computeValue(final Class<?> type) {
+                return AccessController.doPrivileged(
+                    new PrivilegedAction<Boolean>() {
+                        public Boolean run() {
+                            for (Class<?> cl = type;
+                                 cl != ThreadPoolExecutor.class;
+                                 cl = cl.getSuperclass()) {
+                                try {
+                                    cl.getDeclaredMethod("execute",
+                                                         Runnable.class);
+                                    return Boolean.TRUE;
+                                } catch (NoSuchMethodException e) {
+                                }
+                            }
+                            return Boolean.FALSE;
+                        }
+                    });
+            }
+        };
+
     /**
      * 启动有序关闭，在该关闭中执行先前提交的任务，但不接受任何新任务。
      * 如果调用已经关闭，则调用不会产生任何其他影响。
@@ -1275,6 +1476,8 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
             advanceRunState(STOP);
             interruptWorkers();
             tasks = drainQueue();
+            for (Worker w : workers)
+                w.drainBatch(tasks);
         } finally {
             mainLock.unlock();
         }
@@ -1552,6 +1755,52 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
         return unit.convert(keepAliveTime, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Sets the maximum number of tasks a worker thread takes from the
+     * work queue in one round trip.  With a batch size greater than
+     * one, a worker that obtains a task also moves up to
+     * {@code batchSize - 1} further queued tasks into a private batch
+     * using {@link BlockingQueue#drainTo(java.util.Collection, int)
+     * drainTo}, and runs them before returning to the queue.  This
+     * amortizes queue synchronization over many tasks, which pays off
+     * for large numbers of short tasks, at the cost of fairness: a
+     * batched task waits for the tasks ahead of it in the same batch
+     * even if other workers are idle.  Each task is still run with its
+     * own {@link #beforeExecute beforeExecute} and {@link #afterExecute
+     * afterExecute} calls.
+     *
+     * <p>Batched tasks are no longer in the {@linkplain #getQueue queue},
+     * so they cannot be {@linkplain #remove removed} or
+     * {@linkplain #purge purged}, though {@link #shutdownNow} still
+     * returns them and {@link #getTaskCount} still counts them.  If a
+     * worker dies because a task threw an exception, the rest of its
+     * batch is put back on the queue, and any tasks that no longer fit
+     * are passed to the rejected execution handler.
+     *
+     * @param batchSize the maximum number of tasks taken at a time
+     * @throws IllegalArgumentException if {@code batchSize} is less
+     *         than one
+     * @see #getTaskBatchSize
+     * @since 1.8
+     */
+    public void setTaskBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException();
+        this.taskBatchSize = batchSize;
+    }
+
+    /**
+     * Returns the maximum number of tasks a worker thread takes from
+     * the work queue in one round trip.
+     *
+     * @return the task batch size
+     * @see #setTaskBatchSize
+     * @since 1.8
+     */
+    public int getTaskBatchSize() {
+        return taskBatchSize;
+    }
+
     /* 用户级队列实用程序 */
 
     /**
@@ -1675,7 +1924,7 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
         try {
             long n = completedTaskCount;
             for (Worker w : workers) {
-                n += w.completedTasks;
+                n += w.completedTasks + w.batchSize();
                 if (w.isLocked())
                     ++n;
             }
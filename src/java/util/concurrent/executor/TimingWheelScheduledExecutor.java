@@ -0,0 +1,893 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.executor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.blocking.queue.ConcurrentLinkedQueue;
+import java.util.concurrent.blocking.queue.Delayed;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.exception.RejectedExecutionException;
+import java.util.concurrent.future.Future;
+import java.util.concurrent.future.FutureTask;
+import java.util.concurrent.future.RunnableScheduledFuture;
+import java.util.concurrent.future.ScheduledFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ScheduledExecutorService} that holds delayed tasks in a
+ * hierarchical hashed timing wheel rather than a priority queue.
+ * Scheduling and cancelling a task take constant time, independent of
+ * the number of scheduled tasks, and submitting threads never block
+ * one another, which makes this class preferable to {@link
+ * ScheduledThreadPoolExecutor} when very many short timeouts are
+ * scheduled and most are cancelled before they expire.
+ *
+ * <p>Time is divided into ticks of a fixed duration, given on
+ * construction.  A task becomes eligible to run on the first tick at
+ * or after its delay has elapsed, so tasks never run early but may run
+ * up to one tick late, and tasks becoming eligible on the same tick
+ * are run in no particular order.  Eligible tasks are run by a single
+ * timer thread, or handed to a given {@link Executor}, in which case
+ * the timer thread does no more than keep time.  Tasks run by the
+ * timer thread should be short, as they delay all others.
+ *
+ * <p>Cancelled tasks are removed from the wheel on the next tick.
+ * After {@link #shutdown}, delayed tasks still run when they become
+ * eligible, but periodic tasks are cancelled, and the executor
+ * terminates once no delayed tasks remain and every task handed to a
+ * supplied {@code Executor} has completed.  A supplied {@code Executor}
+ * is not shut down by this class.
+ *
+ * @since 1.8
+ */
+public class TimingWheelScheduledExecutor extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+    /*
+     * The wheel consists of levels of 2^wheelBits slots each.  Slot
+     * s of level l holds tasks whose deadline tick has digit s in
+     * position l (in base 2^wheelBits), where l is the highest digit
+     * in which the deadline differs from the current tick.  Each slot
+     * is an intrusive doubly-linked list, so a task is unlinked from
+     * it in constant time.  When the current tick advances so that
+     * digits below position l all become zero, the slot of level l
+     * for the new digit is cascaded: its tasks are reinserted, and so
+     * move to lower levels.  Tasks in the level-0 slot of the current
+     * tick are due.  Enough levels are used to cover any deadline, so
+     * no overflow list is needed, and the arrays of higher levels are
+     * created only when first used.
+     *
+     * The wheel is accessed only by the timer thread, under mainLock,
+     * which otherwise is held only by shutdownNow, termination and
+     * thread creation.  Submitting and cancelling threads instead add
+     * tasks to the lock-free pending and cancelled queues, which the
+     * timer thread drains on each tick.  When the wheel is empty, the
+     * timer thread parks until a task is submitted, rather than
+     * ticking idly.
+     */
+
+    private static final int RUNNING    = 0;
+    private static final int SHUTDOWN   = 1;
+    private static final int STOP       = 2;
+    private static final int TERMINATED = 3;
+
+    /** Default tick duration, in nanoseconds */
+    private static final long DEFAULT_TICK_NANOS = 1000L * 1000L;
+
+    /** Default number of slots per level */
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /** Maximum number of slots per level */
+    private static final int MAXIMUM_TICKS_PER_WHEEL = 1 << 16;
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final long startTime;
+    private final ThreadFactory threadFactory;
+    private final Executor taskExecutor;
+
+    /** Tasks submitted since the last tick */
+    private final ConcurrentLinkedQueue<TimerTask<?>> pending =
+        new ConcurrentLinkedQueue<TimerTask<?>>();
+
+    /** Tasks cancelled since the last tick */
+    private final ConcurrentLinkedQueue<TimerTask<?>> cancelled =
+        new ConcurrentLinkedQueue<TimerTask<?>>();
+
+    private final ReentrantLock mainLock = new ReentrantLock();
+    private final Condition termination = mainLock.newCondition();
+
+    /** Slot lists of each level; guarded by mainLock */
+    private final TimerTask<?>[][] wheels;
+
+    /** The last tick processed; guarded by mainLock */
+    private long currentTick;
+
+    /** Number of tasks in the wheel; guarded by mainLock */
+    private int timerCount;
+
+    /** True once periodic tasks are purged after shutdown */
+    private boolean purged;
+
+    private volatile int runState;
+
+    /** The timer thread, or null if not started */
+    private volatile Thread ticker;
+
+    /** True while the timer thread is parked with an empty wheel */
+    private volatile boolean idle;
+
+    /** Number of tasks handed to taskExecutor that have not completed */
+    private final AtomicInteger handOffCount = new AtomicInteger();
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutor} with a tick
+     * duration of one millisecond, 512 ticks per wheel, the default
+     * thread factory, and tasks run by the timer thread.
+     */
+    public TimingWheelScheduledExecutor() {
+        this(DEFAULT_TICK_NANOS, NANOSECONDS, DEFAULT_TICKS_PER_WHEEL,
+             Executors.defaultThreadFactory(), null);
+    }
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutor} with the given
+     * tick duration, 512 ticks per wheel, the default thread factory,
+     * and tasks run by the timer thread.
+     *
+     * @param tickDuration the duration of a tick
+     * @param unit the time unit of the tickDuration argument
+     * @throws IllegalArgumentException if {@code tickDuration <= 0}
+     * @throws NullPointerException if {@code unit} is null
+     */
+    public TimingWheelScheduledExecutor(long tickDuration, TimeUnit unit) {
+        this(tickDuration, unit, DEFAULT_TICKS_PER_WHEEL,
+             Executors.defaultThreadFactory(), null);
+    }
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutor} with the given
+     * parameters.
+     *
+     * @param tickDuration the duration of a tick
+     * @param unit the time unit of the tickDuration argument
+     * @param ticksPerWheel the number of slots in each level of the
+     *        wheel, rounded up to a power of two.  Tasks due within
+     *        this many ticks are held in the lowest level and are never
+     *        reinserted.
+     * @param threadFactory the factory to use to create the timer thread
+     * @param taskExecutor the executor to which tasks are handed when
+     *        they become eligible to run, or {@code null} if they
+     *        should be run by the timer thread
+     * @throws IllegalArgumentException if {@code tickDuration <= 0}, or
+     *         {@code ticksPerWheel < 2} or {@code ticksPerWheel > 65536}
+     * @throws NullPointerException if {@code unit} or
+     *         {@code threadFactory} is null
+     */
+    public TimingWheelScheduledExecutor(long tickDuration,
+                                        TimeUnit unit,
+                                        int ticksPerWheel,
+                                        ThreadFactory threadFactory,
+                                        Executor taskExecutor) {
+        if (unit == null || threadFactory == null)
+            throw new NullPointerException();
+        long nanos = unit.toNanos(tickDuration);
+        if (tickDuration <= 0 || nanos <= 0 ||
+            ticksPerWheel < 2 || ticksPerWheel > MAXIMUM_TICKS_PER_WHEEL)
+            throw new IllegalArgumentException();
+        int bits = 32 - Integer.numberOfLeadingZeros(ticksPerWheel - 1);
+        this.tickNanos = nanos;
+        this.wheelBits = bits;
+        this.wheelMask = (1 << bits) - 1;
+        this.wheels = new TimerTask<?>[62 / bits + 1][];
+        this.threadFactory = threadFactory;
+        this.taskExecutor = taskExecutor;
+        this.startTime = System.nanoTime();
+    }
+
+    private final class TimerTask<V>
+            extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /** The time the task is enabled to execute in nanoTime units */
+        private long time;
+
+        /**
+         * Period in nanoseconds for repeating tasks.  A positive
+         * value indicates fixed-rate execution.  A negative value
+         * indicates fixed-delay execution.  A value of 0 indicates a
+         * non-repeating task.
+         */
+        private final long period;
+
+        /** The tick on which the task is due; guarded by mainLock */
+        long deadline;
+
+        /** Slot list links; guarded by mainLock */
+        TimerTask<?> prev, next;
+
+        /** Level of the wheel holding the task, or -1 if none */
+        int level = -1;
+
+        /** Slot of the level holding the task */
+        int slot;
+
+        /** True while handed to taskExecutor and not yet run */
+        volatile boolean handedOff;
+
+        TimerTask(Runnable r, V result, long ns, long period) {
+            super(r, result);
+            this.time = ns;
+            this.period = period;
+        }
+
+        TimerTask(Callable<V> callable, long ns) {
+            super(callable);
+            this.time = ns;
+            this.period = 0;
+        }
+
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), NANOSECONDS);
+        }
+
+        public int compareTo(Delayed other) {
+            if (other == this)
+                return 0;
+            long diff = (other instanceof TimerTask) ?
+                time - ((TimerTask<?>)other).time :
+                getDelay(NANOSECONDS) - other.getDelay(NANOSECONDS);
+            return (diff < 0) ? -1 : (diff > 0) ? 1 : 0;
+        }
+
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean c = super.cancel(mayInterruptIfRunning);
+            if (c)
+                cancelled.add(this);
+            return c;
+        }
+
+        /**
+         * Overrides FutureTask version so as to reschedule if periodic.
+         */
+        public void run() {
+            try {
+                boolean periodic = isPeriodic();
+                if (periodic && runState != RUNNING)
+                    cancel(false);
+                else if (!periodic)
+                    super.run();
+                else if (super.runAndReset()) {
+                    long p = period;
+                    time = (p > 0) ? time + p : triggerTime(-p);
+                    reschedule(this);
+                }
+            } finally {
+                if (handedOff)
+                    handOffDone(this);
+            }
+        }
+
+        /** Completes the task with the exception of a failed hand-off. */
+        void reject(Throwable ex) {
+            setException(ex);
+            if (handedOff)
+                handOffDone(this);
+        }
+    }
+
+    /**
+     * Returns the trigger time of a delayed action.
+     */
+    private static long triggerTime(long delay) {
+        return System.nanoTime() +
+            ((delay < (Long.MAX_VALUE >> 1)) ? delay : (Long.MAX_VALUE >> 1));
+    }
+
+    /**
+     * Returns the trigger time of a delayed action.
+     */
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return triggerTime(unit.toNanos((delay < 0) ? 0 : delay));
+    }
+
+    /**
+     * Adds the task to the pending queue and ensures that the timer
+     * thread will see it, rejecting the task if shut down.
+     */
+    private void delayedExecute(TimerTask<?> task, boolean immediate) {
+        if (runState != RUNNING)
+            throw new RejectedExecutionException();
+        pending.add(task);
+        Thread w = ticker;
+        if ((runState != RUNNING || (w == null && !startTicker())) &&
+            pending.remove(task))
+            throw new RejectedExecutionException();
+        if (w != null && (immediate || idle))
+            LockSupport.unpark(w);
+    }
+
+    /**
+     * Requeues a periodic task unless shut down.
+     */
+    private void reschedule(TimerTask<?> task) {
+        if (runState == RUNNING) {
+            pending.add(task);
+            Thread w = ticker;
+            if (w != null && idle)
+                LockSupport.unpark(w);
+            if (runState != RUNNING && pending.remove(task))
+                task.cancel(false);
+        }
+        else
+            task.cancel(false);
+    }
+
+    /**
+     * Starts the timer thread if not already started, returning
+     * false if it could not be started.
+     */
+    private boolean startTicker() {
+        final ReentrantLock mainLock = this.mainLock;
+        mainLock.lock();
+        try {
+            if (ticker == null) {
+                if (runState >= STOP)
+                    return false;
+                Thread w = threadFactory.newThread(new Runnable() {
+                        public void run() { runTicker(); }
+                    });
+                if (w == null)
+                    return false;
+                ticker = w;
+                w.start();
+            }
+            return true;
+        } finally {
+            mainLock.unlock();
+        }
+    }
+
+    /**
+     * Main loop of the timer thread.  Advances the wheel, runs or
+     * hands off due tasks, and waits for the next tick, or parks
+     * indefinitely if the wheel is empty.
+     */
+    final void runTicker() {
+        ArrayList<TimerTask<?>> due = new ArrayList<TimerTask<?>>();
+        boolean completedAbruptly = true;
+        try {
+            for (int rs; (rs = runState) < STOP; ) {
+                boolean empty;
+                final ReentrantLock mainLock = this.mainLock;
+                mainLock.lock();
+                try {
+                    empty = advance(due, rs);
+                } finally {
+                    mainLock.unlock();
+                }
+                for (int i = 0, n = due.size(); i < n; ++i)
+                    dispatch(due.get(i));
+                due.clear();
+                if (runState < STOP)
+                    Thread.interrupted();   // clear any interrupt by a task
+                if (!empty || !pending.isEmpty()) {
+                    long d = startTime + (currentTick + 1) * tickNanos -
+                        System.nanoTime();
+                    if (d > 0L)
+                        LockSupport.parkNanos(this, d);
+                }
+                else if (rs != RUNNING)
+                    break;
+                else {
+                    idle = true;
+                    if (pending.isEmpty() && runState == RUNNING)
+                        LockSupport.park(this);
+                    idle = false;
+                }
+            }
+            completedAbruptly = false;
+        } finally {
+            tickerExit(completedAbruptly);
+        }
+    }
+
+    /**
+     * Runs the task, or hands it to the task executor.
+     */
+    private void dispatch(TimerTask<?> task) {
+        Executor e = taskExecutor;
+        if (e == null)
+            task.run();
+        else {
+            handOffCount.incrementAndGet();
+            task.handedOff = true;
+            try {
+                e.execute(task);
+            } catch (RuntimeException ex) {
+                task.reject(ex);
+            }
+        }
+    }
+
+    /**
+     * Records the completion of a task handed to the task executor,
+     * terminating if it was the last one after the timer thread exited.
+     */
+    private void handOffDone(TimerTask<?> task) {
+        task.handedOff = false;
+        if (handOffCount.decrementAndGet() == 0 && runState != RUNNING) {
+            final ReentrantLock mainLock = this.mainLock;
+            mainLock.lock();
+            try {
+                if (ticker == null)
+                    tryTerminate();
+            } finally {
+                mainLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Transitions to TERMINATED if shut down and no task handed to the
+     * task executor is still outstanding.  Call only holding mainLock,
+     * when the timer thread has exited or was never started.
+     */
+    private void tryTerminate() {
+        int rs = runState;
+        if (rs != RUNNING && rs != TERMINATED && handOffCount.get() == 0) {
+            runState = TERMINATED;
+            termination.signalAll();
+        }
+    }
+
+    /**
+     * Handles exit of the timer thread, terminating if shut down, or
+     * otherwise starting a replacement if tasks remain.
+     */
+    private void tickerExit(boolean completedAbruptly) {
+        boolean replace = false;
+        final ReentrantLock mainLock = this.mainLock;
+        mainLock.lock();
+        try {
+            ticker = null;
+            if (runState != RUNNING)
+                tryTerminate();
+            else
+                replace = completedAbruptly;
+        } finally {
+            mainLock.unlock();
+        }
+        if (replace)
+            startTicker();
+    }
+
+    /**
+     * Removes cancelled tasks, inserts pending ones, and advances the
+     * current tick up to the present time, collecting due tasks.  Call
+     * only from the timer thread, holding mainLock.
+     *
+     * @param due the list to which due tasks are added
+     * @param rs the run state
+     * @return true if the wheel is empty
+     */
+    private boolean advance(ArrayList<TimerTask<?>> due, int rs) {
+        for (TimerTask<?> t; (t = cancelled.poll()) != null; ) {
+            if (t.level >= 0)
+                unlink(t);
+        }
+        if (rs != RUNNING && !purged) {
+            purged = true;
+            purgePeriodic();
+        }
+        long target = (System.nanoTime() - startTime) / tickNanos;
+        if (timerCount == 0 && target > currentTick)
+            currentTick = target;           // nothing to cascade
+        for (TimerTask<?> t; (t = pending.poll()) != null; ) {
+            if (t.isCancelled())
+                continue;
+            if (rs != RUNNING && t.isPeriodic())
+                t.cancel(false);
+            else {
+                long d = t.time - startTime;
+                t.deadline = (d <= 0L) ? 0L : (d - 1L) / tickNanos + 1L;
+                insert(t, due);
+            }
+        }
+        while (currentTick < target && timerCount > 0) {
+            long tick = ++currentTick;
+            int top = 0;
+            while (top + 1 < wheels.length &&
+                   (tick & ((1L << ((top + 1) * wheelBits)) - 1L)) == 0L)
+                ++top;
+            for (int l = top; l > 0; --l) {   // cascade highest first
+                TimerTask<?> t = take(l, (int)(tick >>> (l * wheelBits)) &
+                                      wheelMask);
+                while (t != null) {
+                    TimerTask<?> n = t.next;
+                    t.next = null;
+                    insert(t, due);
+                    t = n;
+                }
+            }
+            for (TimerTask<?> t = take(0, (int)tick & wheelMask); t != null; ) {
+                TimerTask<?> n = t.next;
+                t.next = null;
+                due.add(t);
+                t = n;
+            }
+        }
+        if (timerCount == 0 && target > currentTick)
+            currentTick = target;
+        return timerCount == 0;
+    }
+
+    /**
+     * Inserts the task into the wheel relative to the current tick,
+     * or adds it to the due list if its deadline has passed.
+     */
+    private void insert(TimerTask<?> t, ArrayList<TimerTask<?>> due) {
+        long d = t.deadline, c = currentTick;
+        if (d <= c) {
+            due.add(t);
+            return;
+        }
+        int l = (63 - Long.numberOfLeadingZeros(d ^ c)) / wheelBits;
+        int s = (int)(d >>> (l * wheelBits)) & wheelMask;
+        TimerTask<?>[] w;
+        if ((w = wheels[l]) == null)
+            w = wheels[l] = new TimerTask<?>[wheelMask + 1];
+        TimerTask<?> h = w[s];
+        t.prev = null;
+        t.next = h;
+        if (h != null)
+            h.prev = t;
+        w[s] = t;
+        t.level = l;
+        t.slot = s;
+        ++timerCount;
+    }
+
+    /**
+     * Removes the task from its slot.
+     */
+    private void unlink(TimerTask<?> t) {
+        TimerTask<?> p = t.prev, n = t.next;
+        if (p != null)
+            p.next = n;
+        else
+            wheels[t.level][t.slot] = n;
+        if (n != null)
+            n.prev = p;
+        t.prev = t.next = null;
+        t.level = -1;
+        --timerCount;
+    }
+
+    /**
+     * Detaches and returns the list of tasks in the given slot,
+     * linked by their next fields.
+     */
+    private TimerTask<?> take(int level, int slot) {
+        TimerTask<?>[] w;
+        TimerTask<?> h;
+        if ((w = wheels[level]) == null || (h = w[slot]) == null)
+            return null;
+        w[slot] = null;
+        for (TimerTask<?> t = h; t != null; t = t.next) {
+            t.prev = null;
+            t.level = -1;
+            --timerCount;
+        }
+        return h;
+    }
+
+    /**
+     * Removes and cancels all periodic tasks in the wheel.
+     */
+    private void purgePeriodic() {
+        for (TimerTask<?>[] w : wheels) {
+            if (w != null) {
+                for (TimerTask<?> t : w) {
+                    while (t != null) {
+                        TimerTask<?> n = t.next;
+                        if (t.isPeriodic()) {
+                            unlink(t);
+                            t.cancel(false);
+                        }
+                        t = n;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public ScheduledFuture<?> schedule(Runnable command,
+                                       long delay,
+                                       TimeUnit unit) {
+        if (command == null || unit == null)
+            throw new NullPointerException();
+        TimerTask<Void> t = new TimerTask<Void>(command, null,
+                                                triggerTime(delay, unit), 0);
+        delayedExecute(t, delay <= 0);
+        return t;
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable,
+                                           long delay,
+                                           TimeUnit unit) {
+        if (callable == null || unit == null)
+            throw new NullPointerException();
+        TimerTask<V> t = new TimerTask<V>(callable, triggerTime(delay, unit));
+        delayedExecute(t, delay <= 0);
+        return t;
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     * @throws IllegalArgumentException   {@inheritDoc}
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command,
+                                                  long initialDelay,
+                                                  long period,
+                                                  TimeUnit unit) {
+        if (command == null || unit == null)
+            throw new NullPointerException();
+        if (period <= 0)
+            throw new IllegalArgumentException();
+        TimerTask<Void> t =
+            new TimerTask<Void>(command, null,
+                                triggerTime(initialDelay, unit),
+                                unit.toNanos(period));
+        delayedExecute(t, initialDelay <= 0);
+        return t;
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     * @throws IllegalArgumentException   {@inheritDoc}
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command,
+                                                     long initialDelay,
+                                                     long delay,
+                                                     TimeUnit unit) {
+        if (command == null || unit == null)
+            throw new NullPointerException();
+        if (delay <= 0)
+            throw new IllegalArgumentException();
+        TimerTask<Void> t =
+            new TimerTask<Void>(command, null,
+                                triggerTime(initialDelay, unit),
+                                unit.toNanos(-delay));
+        delayedExecute(t, initialDelay <= 0);
+        return t;
+    }
+
+    /**
+     * Executes {@code command} with zero required delay.
+     * This has effect equivalent to
+     * {@link #schedule(Runnable,long,TimeUnit) schedule(command, 0, anyUnit)}.
+     *
+     * @throws RejectedExecutionException if this executor has been
+     *         shut down
+     * @throws NullPointerException {@inheritDoc}
+     */
+    public void execute(Runnable command) {
+        schedule(command, 0, NANOSECONDS);
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public Future<?> submit(Runnable task) {
+        return schedule(task, 0, NANOSECONDS);
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public <T> Future<T> submit(Runnable task, T result) {
+        return schedule(Executors.callable(task, result), 0, NANOSECONDS);
+    }
+
+    /**
+     * @throws RejectedExecutionException {@inheritDoc}
+     * @throws NullPointerException       {@inheritDoc}
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return schedule(task, 0, NANOSECONDS);
+    }
+
+    /**
+     * Initiates an orderly shutdown in which delayed tasks are run
+     * when they become eligible, periodic tasks are cancelled, and no
+     * new tasks will be accepted.  Invocation has no additional effect
+     * if already shut down.
+     *
+     * <p>This method does not wait for previously submitted tasks to
+     * complete execution.  Use {@link #awaitTermination awaitTermination}
+     * to do that.
+     */
+    public void shutdown() {
+        Thread w;
+        final ReentrantLock mainLock = this.mainLock;
+        mainLock.lock();
+        try {
+            if (runState == RUNNING)
+                runState = SHUTDOWN;
+            if ((w = ticker) == null && runState == SHUTDOWN) {
+                if (pending.isEmpty())
+                    tryTerminate();
+                else
+                    startTicker();
+            }
+        } finally {
+            mainLock.unlock();
+        }
+        if (w != null)
+            LockSupport.unpark(w);
+    }
+
+    /**
+     * Attempts to stop all actively executing tasks, halts the
+     * processing of waiting tasks, and returns a list of the tasks
+     * that were awaiting execution.  These tasks are drained (removed)
+     * from the wheel upon return from this method.
+     *
+     * <p>This method does not wait for actively executing tasks to
+     * terminate.  Use {@link #awaitTermination awaitTermination} to
+     * do that.
+     *
+     * <p>There are no guarantees beyond best-effort attempts to stop
+     * processing actively executing tasks.  This implementation
+     * interrupts the timer thread, so a task run by it that fails to
+     * respond to interrupts may never terminate.  Tasks already handed
+     * to a supplied {@code Executor} are not interrupted, and the
+     * executor does not terminate until they complete.
+     *
+     * @return list of tasks that never commenced execution.  Each
+     *         element of this list is a {@link ScheduledFuture}.
+     */
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        final ReentrantLock mainLock = this.mainLock;
+        mainLock.lock();
+        try {
+            if (runState < STOP)
+                runState = STOP;
+            for (TimerTask<?>[] w : wheels) {
+                if (w != null) {
+                    for (int s = 0; s < w.length; ++s) {
+                        for (TimerTask<?> t = w[s]; t != null; ) {
+                            TimerTask<?> n = t.next;
+                            t.prev = t.next = null;
+                            t.level = -1;
+                            tasks.add(t);
+                            t = n;
+                        }
+                        w[s] = null;
+                    }
+                }
+            }
+            timerCount = 0;
+            for (TimerTask<?> t; (t = pending.poll()) != null; )
+                tasks.add(t);
+            cancelled.clear();
+            Thread w = ticker;
+            if (w != null)
+                w.interrupt();
+            else
+                tryTerminate();
+        } finally {
+            mainLock.unlock();
+        }
+        return tasks;
+    }
+
+    public boolean isShutdown() {
+        return runState != RUNNING;
+    }
+
+    public boolean isTerminated() {
+        return runState == TERMINATED;
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock mainLock = this.mainLock;
+        mainLock.lock();
+        try {
+            for (;;) {
+                if (runState == TERMINATED)
+                    return true;
+                if (nanos <= 0)
+                    return false;
+                nanos = termination.awaitNanos(nanos);
+            }
+        } finally {
+            mainLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the duration of a tick, in the given unit.
+     *
+     * @param unit the time unit of the result
+     * @return the duration of a tick
+     */
+    public long getTickDuration(TimeUnit unit) {
+        return unit.convert(tickNanos, NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of slots in each level of the wheel.
+     *
+     * @return the number of slots in each level of the wheel
+     */
+    public int getTicksPerWheel() {
+        return wheelMask + 1;
+    }
+
+    /**
+     * Returns a string identifying this executor, as well as its
+     * state, tick duration and number of slots per level.
+     *
+     * @return a string identifying this executor, as well as its state
+     */
+    public String toString() {
+        int rs = runState;
+        String state = (rs == RUNNING ? "Running" :
+                        rs == TERMINATED ? "Terminated" : "Shutting down");
+        return super.toString() +
+            "[" + state +
+            ", tick = " + tickNanos + "ns" +
+            ", ticks per wheel = " + (wheelMask + 1) +
+            "]";
+    }
+}
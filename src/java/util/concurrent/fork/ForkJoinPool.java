@@ -42,8 +42,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.exception.RejectedExecutionException;
 import java.util.concurrent.executor.AbstractExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,7 +53,7 @@ import java.util.concurrent.future.Future;
 import java.util.concurrent.future.RunnableFuture;
 
 /**
- * An {@link java.util.concurrent.executor.ExecutorService} for running {@link java.util.concurrent.ForkJoinTask}s.
+ * An {@link java.util.concurrent.executor.ExecutorService} for running {@link ForkJoinTask}s.
  * A {@code ForkJoinPool} provides the entry point for submissions
  * from non-{@code ForkJoinTask} clients, as well as management and
  * monitoring operations.
@@ -97,6 +95,17 @@ import java.util.concurrent.future.RunnableFuture;
  * {@link #toString} returns indications of pool state in a
  * convenient form for informal monitoring.
  *
+ * <p>On machines where the cost of moving data between processors
+ * depends on their distance (for example, multi-socket systems), a pool
+ * may be constructed with <em>worker groups</em> mirroring the
+ * processor topology.  Workers then try to steal from the other
+ * members of their own group before scanning the whole pool, and
+ * per-group steal and scan counts (for example {@link
+ * #getGroupLocalStealCount}) report how often this succeeds.  Groups
+ * do not by themselves bind threads to processors; a {@link
+ * ForkJoinWorkerThreadFactory} may do so using {@link
+ * ForkJoinWorkerThread#getGroupIndex}.
+ *
  * <p>As is the case with other ExecutorServices, there are three
  * main task execution methods summarized in the following table.
  * These are designed to be used primarily by clients not already
@@ -118,23 +127,23 @@ import java.util.concurrent.future.RunnableFuture;
  *  </tr>
  *  <tr>
  *    <td> <b>Arrange async execution</b></td>
- *    <td> {@link #execute(java.util.concurrent.ForkJoinTask)}</td>
- *    <td> {@link java.util.concurrent.ForkJoinTask#fork}</td>
+ *    <td> {@link #execute(ForkJoinTask)}</td>
+ *    <td> {@link ForkJoinTask#fork}</td>
  *  </tr>
  *  <tr>
  *    <td> <b>Await and obtain result</b></td>
- *    <td> {@link #invoke(java.util.concurrent.ForkJoinTask)}</td>
- *    <td> {@link java.util.concurrent.ForkJoinTask#invoke}</td>
+ *    <td> {@link #invoke(ForkJoinTask)}</td>
+ *    <td> {@link ForkJoinTask#invoke}</td>
  *  </tr>
  *  <tr>
  *    <td> <b>Arrange exec and obtain Future</b></td>
- *    <td> {@link #submit(java.util.concurrent.ForkJoinTask)}</td>
- *    <td> {@link java.util.concurrent.ForkJoinTask#fork} (ForkJoinTasks <em>are</em> Futures)</td>
+ *    <td> {@link #submit(ForkJoinTask)}</td>
+ *    <td> {@link ForkJoinTask#fork} (ForkJoinTasks <em>are</em> Futures)</td>
  *  </tr>
  * </table>
  *
  * <p>The common pool is by default constructed with default
- * parameters, but these may be controlled by setting three
+ * parameters, but these may be controlled by setting four
  * {@linkplain System#getProperty system properties}:
  * <ul>
  * <li>{@code java.util.concurrent.fork.ForkJoinPool.common.parallelism}
@@ -143,6 +152,11 @@ import java.util.concurrent.future.RunnableFuture;
  * - the class name of a {@link ForkJoinWorkerThreadFactory}
  * <li>{@code java.util.concurrent.fork.ForkJoinPool.common.exceptionHandler}
  * - the class name of a {@link UncaughtExceptionHandler}
+ * <li>{@code java.util.concurrent.fork.ForkJoinPool.common.groupSizes}
+ * - a comma-separated list of positive worker group sizes summing to
+ * the parallelism level (see {@link #ForkJoinPool(int,
+ * ForkJoinWorkerThreadFactory, UncaughtExceptionHandler, boolean,
+ * int[])})
  * </ul>
  * If a {@link SecurityManager} is present and no factory is
  * specified, then the default pool uses a factory supplying
@@ -490,6 +504,18 @@ public class ForkJoinPool extends AbstractExecutorService {
      * field of WorkQueues to reduce unnecessary calls to unpark.
      * (This requires a secondary recheck to avoid missed signals.)
      *
+     * Worker groups. When constructed with group sizes, each worker is
+     * assigned on registration to the first group with fewer members
+     * than its size (or else the least over-full one), and the
+     * group's copy-on-write member array is updated under the
+     * runState lock.  Before its regular randomized scan, a worker
+     * makes one pass over its group's members (see scanGroup).  The
+     * regular scan is unchanged, so a group with no work falls back to
+     * stealing anywhere, and inactivation and signalling are not group
+     * aware.  Steal and scan counts are kept in owner-written
+     * WorkQueue fields, as with nsteals, and folded into the group on
+     * deregistration.
+     *
      * Trimming workers. To release resources after periods of lack of
      * use, a worker starting to wait when the pool is quiescent will
      * time out and terminate (see awaitWork) if the pool has remained
@@ -705,7 +731,7 @@ public class ForkJoinPool extends AbstractExecutorService {
     // Nested classes
 
     /**
-     * Factory for creating new {@link java.util.concurrent.ForkJoinWorkerThread}s.
+     * Factory for creating new {@link ForkJoinWorkerThread}s.
      * A {@code ForkJoinWorkerThreadFactory} must be defined and used
      * for {@code ForkJoinWorkerThread} subclasses that extend base
      * functionality or initialize threads with different contexts.
@@ -718,7 +744,7 @@ public class ForkJoinPool extends AbstractExecutorService {
          * @return the new worker thread
          * @throws NullPointerException if the pool is null
          */
-        public java.util.concurrent.ForkJoinWorkerThread newThread(ForkJoinPool pool);
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool);
     }
 
     /**
@@ -727,8 +753,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      */
     static final class DefaultForkJoinWorkerThreadFactory
         implements ForkJoinWorkerThreadFactory {
-        public final java.util.concurrent.ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-            return new java.util.concurrent.ForkJoinWorkerThread(pool);
+        public final ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            return new ForkJoinWorkerThread(pool);
         }
     }
 
@@ -738,9 +764,9 @@ public class ForkJoinPool extends AbstractExecutorService {
      * in WorkQueue.tryRemoveAndExec. We don't need the proxy to
      * actually do anything beyond having a unique identity.
      */
-    static final class EmptyTask extends java.util.concurrent.ForkJoinTask<Void> {
+    static final class EmptyTask extends ForkJoinTask<Void> {
         private static final long serialVersionUID = -7721805057305804111L;
-        EmptyTask() { status = java.util.concurrent.ForkJoinTask.NORMAL; } // force done
+        EmptyTask() { status = ForkJoinTask.NORMAL; } // force done
         public final Void getRawResult() { return null; }
         public final void setRawResult(Void x) {}
         public final boolean exec() { return true; }
@@ -763,6 +789,7 @@ public class ForkJoinPool extends AbstractExecutorService {
     static final int MODE_MASK    = 0xffff << 16;  // top half of int
     static final int LIFO_QUEUE   = 0;
     static final int FIFO_QUEUE   = 1 << 16;
+    static final int COMPENSATED  = 1 << 17;       // compensate for parks
     static final int SHARED_QUEUE = 1 << 31;       // must be negative
 
     /**
@@ -802,20 +829,25 @@ public class ForkJoinPool extends AbstractExecutorService {
         int stackPred;             // pool stack (ctl) predecessor
         int nsteals;               // number of steals
         int hint;                  // randomization and stealer index hint
+        int group;                 // worker group index, or -1 if none
+        long localSteals;          // steals from own group (if grouped)
+        long remoteSteals;         // steals from elsewhere (if grouped)
+        long nscans;               // group scans (if grouped)
         int config;                // pool index and mode
         volatile int qlock;        // 1: locked, < 0: terminate; else 0
         volatile int base;         // index of next slot for poll
         int top;                   // index of next slot for push
-        java.util.concurrent.ForkJoinTask<?>[] array;   // the elements (initially unallocated)
+        ForkJoinTask<?>[] array;   // the elements (initially unallocated)
         final ForkJoinPool pool;   // the containing pool (may be null)
-        final java.util.concurrent.ForkJoinWorkerThread owner; // owning thread or null if shared
+        final ForkJoinWorkerThread owner; // owning thread or null if shared
         volatile Thread parker;    // == owner during call to park; else null
-        volatile java.util.concurrent.ForkJoinTask<?> currentJoin;  // task being joined in awaitJoin
-        volatile java.util.concurrent.ForkJoinTask<?> currentSteal; // mainly used by helpStealer
+        volatile ForkJoinTask<?> currentJoin;  // task being joined in awaitJoin
+        volatile ForkJoinTask<?> currentSteal; // mainly used by helpStealer
 
-        WorkQueue(ForkJoinPool pool, java.util.concurrent.ForkJoinWorkerThread owner) {
+        WorkQueue(ForkJoinPool pool, ForkJoinWorkerThread owner) {
             this.pool = pool;
             this.owner = owner;
+            this.group = -1;
             // Place indices in the center of array (that is not yet allocated)
             base = top = INITIAL_QUEUE_CAPACITY >>> 1;
         }
@@ -841,7 +873,7 @@ public class ForkJoinPool extends AbstractExecutorService {
          * near-empty queue has at least one unclaimed task.
          */
         final boolean isEmpty() {
-            java.util.concurrent.ForkJoinTask<?>[] a; int n, m, s;
+            ForkJoinTask<?>[] a; int n, m, s;
             return ((n = base - (s = top)) >= 0 ||
                     (n == -1 &&           // possibly one task
                      ((a = array) == null || (m = a.length - 1) < 0 ||
@@ -856,8 +888,8 @@ public class ForkJoinPool extends AbstractExecutorService {
          * @param task the task. Caller must ensure non-null.
          * @throws java.util.concurrent.exception.RejectedExecutionException if array cannot be resized
          */
-        final void push(java.util.concurrent.ForkJoinTask<?> task) {
-            java.util.concurrent.ForkJoinTask<?>[] a; ForkJoinPool p;
+        final void push(ForkJoinTask<?> task) {
+            ForkJoinTask<?>[] a; ForkJoinPool p;
             int b = base, s = top, n;
             if ((a = array) != null) {    // ignore if queue removed
                 int m = a.length - 1;     // fenced write for task visibility
@@ -877,21 +909,21 @@ public class ForkJoinPool extends AbstractExecutorService {
          * by owner or with lock held -- it is OK for base, but not
          * top, to move while resizings are in progress.
          */
-        final java.util.concurrent.ForkJoinTask<?>[] growArray() {
-            java.util.concurrent.ForkJoinTask<?>[] oldA = array;
+        final ForkJoinTask<?>[] growArray() {
+            ForkJoinTask<?>[] oldA = array;
             int size = oldA != null ? oldA.length << 1 : INITIAL_QUEUE_CAPACITY;
             if (size > MAXIMUM_QUEUE_CAPACITY)
                 throw new java.util.concurrent.exception.RejectedExecutionException("Queue capacity exceeded");
             int oldMask, t, b;
-            java.util.concurrent.ForkJoinTask<?>[] a = array = new java.util.concurrent.ForkJoinTask<?>[size];
+            ForkJoinTask<?>[] a = array = new ForkJoinTask<?>[size];
             if (oldA != null && (oldMask = oldA.length - 1) >= 0 &&
                 (t = top) - (b = base) > 0) {
                 int mask = size - 1;
                 do { // emulate poll from old array, push to new array
-                    java.util.concurrent.ForkJoinTask<?> x;
+                    ForkJoinTask<?> x;
                     int oldj = ((b & oldMask) << ASHIFT) + ABASE;
                     int j    = ((b &    mask) << ASHIFT) + ABASE;
-                    x = (java.util.concurrent.ForkJoinTask<?>)U.getObjectVolatile(oldA, oldj);
+                    x = (ForkJoinTask<?>)U.getObjectVolatile(oldA, oldj);
                     if (x != null &&
                         U.compareAndSwapObject(oldA, oldj, x, null))
                         U.putObjectVolatile(a, j, x);
@@ -904,12 +936,12 @@ public class ForkJoinPool extends AbstractExecutorService {
          * Takes next task, if one exists, in LIFO order.  Call only
          * by owner in unshared queues.
          */
-        final java.util.concurrent.ForkJoinTask<?> pop() {
-            java.util.concurrent.ForkJoinTask<?>[] a; java.util.concurrent.ForkJoinTask<?> t; int m;
+        final ForkJoinTask<?> pop() {
+            ForkJoinTask<?>[] a; ForkJoinTask<?> t; int m;
             if ((a = array) != null && (m = a.length - 1) >= 0) {
                 for (int s; (s = top - 1) - base >= 0;) {
                     long j = ((m & s) << ASHIFT) + ABASE;
-                    if ((t = (java.util.concurrent.ForkJoinTask<?>)U.getObject(a, j)) == null)
+                    if ((t = (ForkJoinTask<?>)U.getObject(a, j)) == null)
                         break;
                     if (U.compareAndSwapObject(a, j, t, null)) {
                         U.putOrderedInt(this, QTOP, s);
@@ -925,11 +957,11 @@ public class ForkJoinPool extends AbstractExecutorService {
          * can be claimed without contention. Specialized versions
          * appear in ForkJoinPool methods scan and helpStealer.
          */
-        final java.util.concurrent.ForkJoinTask<?> pollAt(int b) {
-            java.util.concurrent.ForkJoinTask<?> t; java.util.concurrent.ForkJoinTask<?>[] a;
+        final ForkJoinTask<?> pollAt(int b) {
+            ForkJoinTask<?> t; ForkJoinTask<?>[] a;
             if ((a = array) != null) {
                 int j = (((a.length - 1) & b) << ASHIFT) + ABASE;
-                if ((t = (java.util.concurrent.ForkJoinTask<?>)U.getObjectVolatile(a, j)) != null &&
+                if ((t = (ForkJoinTask<?>)U.getObjectVolatile(a, j)) != null &&
                     base == b && U.compareAndSwapObject(a, j, t, null)) {
                     base = b + 1;
                     return t;
@@ -941,11 +973,11 @@ public class ForkJoinPool extends AbstractExecutorService {
         /**
          * Takes next task, if one exists, in FIFO order.
          */
-        final java.util.concurrent.ForkJoinTask<?> poll() {
-            java.util.concurrent.ForkJoinTask<?>[] a; int b; java.util.concurrent.ForkJoinTask<?> t;
+        final ForkJoinTask<?> poll() {
+            ForkJoinTask<?>[] a; int b; ForkJoinTask<?> t;
             while ((b = base) - top < 0 && (a = array) != null) {
                 int j = (((a.length - 1) & b) << ASHIFT) + ABASE;
-                t = (java.util.concurrent.ForkJoinTask<?>)U.getObjectVolatile(a, j);
+                t = (ForkJoinTask<?>)U.getObjectVolatile(a, j);
                 if (base == b) {
                     if (t != null) {
                         if (U.compareAndSwapObject(a, j, t, null)) {
@@ -963,28 +995,28 @@ public class ForkJoinPool extends AbstractExecutorService {
         /**
          * Takes next task, if one exists, in order specified by mode.
          */
-        final java.util.concurrent.ForkJoinTask<?> nextLocalTask() {
+        final ForkJoinTask<?> nextLocalTask() {
             return (config & FIFO_QUEUE) == 0 ? pop() : poll();
         }
 
         /**
          * Returns next task, if one exists, in order specified by mode.
          */
-        final java.util.concurrent.ForkJoinTask<?> peek() {
-            java.util.concurrent.ForkJoinTask<?>[] a = array; int m;
+        final ForkJoinTask<?> peek() {
+            ForkJoinTask<?>[] a = array; int m;
             if (a == null || (m = a.length - 1) < 0)
                 return null;
             int i = (config & FIFO_QUEUE) == 0 ? top - 1 : base;
             int j = ((i & m) << ASHIFT) + ABASE;
-            return (java.util.concurrent.ForkJoinTask<?>)U.getObjectVolatile(a, j);
+            return (ForkJoinTask<?>)U.getObjectVolatile(a, j);
         }
 
         /**
          * Pops the given task only if it is at the current top.
          * (A shared version is available only via FJP.tryExternalUnpush)
         */
-        final boolean tryUnpush(java.util.concurrent.ForkJoinTask<?> t) {
-            java.util.concurrent.ForkJoinTask<?>[] a; int s;
+        final boolean tryUnpush(ForkJoinTask<?> t) {
+            ForkJoinTask<?>[] a; int s;
             if ((a = array) != null && (s = top) != base &&
                 U.compareAndSwapObject
                 (a, (((a.length - 1) & --s) << ASHIFT) + ABASE, t, null)) {
@@ -998,17 +1030,17 @@ public class ForkJoinPool extends AbstractExecutorService {
          * Removes and cancels all known tasks, ignoring any exceptions.
          */
         final void cancelAll() {
-            java.util.concurrent.ForkJoinTask<?> t;
+            ForkJoinTask<?> t;
             if ((t = currentJoin) != null) {
                 currentJoin = null;
-                java.util.concurrent.ForkJoinTask.cancelIgnoringExceptions(t);
+                ForkJoinTask.cancelIgnoringExceptions(t);
             }
             if ((t = currentSteal) != null) {
                 currentSteal = null;
-                java.util.concurrent.ForkJoinTask.cancelIgnoringExceptions(t);
+                ForkJoinTask.cancelIgnoringExceptions(t);
             }
             while ((t = poll()) != null)
-                java.util.concurrent.ForkJoinTask.cancelIgnoringExceptions(t);
+                ForkJoinTask.cancelIgnoringExceptions(t);
         }
 
         // Specialized execution methods
@@ -1017,7 +1049,7 @@ public class ForkJoinPool extends AbstractExecutorService {
          * Polls and runs tasks until empty.
          */
         final void pollAndExecAll() {
-            for (java.util.concurrent.ForkJoinTask<?> t; (t = poll()) != null;)
+            for (ForkJoinTask<?> t; (t = poll()) != null;)
                 t.doExec();
         }
 
@@ -1028,12 +1060,12 @@ public class ForkJoinPool extends AbstractExecutorService {
          */
         final void execLocalTasks() {
             int b = base, m, s;
-            java.util.concurrent.ForkJoinTask<?>[] a = array;
+            ForkJoinTask<?>[] a = array;
             if (b - (s = top - 1) <= 0 && a != null &&
                 (m = a.length - 1) >= 0) {
                 if ((config & FIFO_QUEUE) == 0) {
-                    for (java.util.concurrent.ForkJoinTask<?> t;;) {
-                        if ((t = (java.util.concurrent.ForkJoinTask<?>)U.getAndSetObject
+                    for (ForkJoinTask<?> t;;) {
+                        if ((t = (ForkJoinTask<?>)U.getAndSetObject
                              (a, ((m & s) << ASHIFT) + ABASE, null)) == null)
                             break;
                         U.putOrderedInt(this, QTOP, s);
@@ -1050,13 +1082,13 @@ public class ForkJoinPool extends AbstractExecutorService {
         /**
          * Executes the given task and any remaining local tasks.
          */
-        final void runTask(java.util.concurrent.ForkJoinTask<?> task) {
+        final void runTask(ForkJoinTask<?> task) {
             if (task != null) {
                 scanState &= ~SCANNING; // mark as busy
                 (currentSteal = task).doExec();
                 U.putOrderedObject(this, QCURRENTSTEAL, null); // release for GC
                 execLocalTasks();
-                java.util.concurrent.ForkJoinWorkerThread thread = owner;
+                ForkJoinWorkerThread thread = owner;
                 if (++nsteals < 0)      // collect on overflow
                     transferStealCount(pool);
                 scanState |= SCANNING;
@@ -1083,14 +1115,14 @@ public class ForkJoinPool extends AbstractExecutorService {
          *
          * @return true if queue empty and task not known to be done
          */
-        final boolean tryRemoveAndExec(java.util.concurrent.ForkJoinTask<?> task) {
-            java.util.concurrent.ForkJoinTask<?>[] a; int m, s, b, n;
+        final boolean tryRemoveAndExec(ForkJoinTask<?> task) {
+            ForkJoinTask<?>[] a; int m, s, b, n;
             if ((a = array) != null && (m = a.length - 1) >= 0 &&
                 task != null) {
                 while ((n = (s = top) - (b = base)) > 0) {
-                    for (java.util.concurrent.ForkJoinTask<?> t;;) {      // traverse from s to b
+                    for (ForkJoinTask<?> t;;) {      // traverse from s to b
                         long j = ((--s & m) << ASHIFT) + ABASE;
-                        if ((t = (java.util.concurrent.ForkJoinTask<?>)U.getObject(a, j)) == null)
+                        if ((t = (ForkJoinTask<?>)U.getObject(a, j)) == null)
                             return s + 1 == top;     // shorter than expected
                         else if (t == task) {
                             boolean removed = false;
@@ -1127,7 +1159,7 @@ public class ForkJoinPool extends AbstractExecutorService {
          * in either shared or owned mode. Used only by helpComplete.
          */
         final java.util.concurrent.fork.CountedCompleter<?> popCC(java.util.concurrent.fork.CountedCompleter<?> task, int mode) {
-            int s; java.util.concurrent.ForkJoinTask<?>[] a; Object o;
+            int s; ForkJoinTask<?>[] a; Object o;
             if (base - (s = top) < 0 && (a = array) != null) {
                 long j = (((a.length - 1) & (s - 1)) << ASHIFT) + ABASE;
                 if ((o = U.getObjectVolatile(a, j)) != null &&
@@ -1171,7 +1203,7 @@ public class ForkJoinPool extends AbstractExecutorService {
          * the base index, forced negative.
          */
         final int pollAndExecCC(java.util.concurrent.fork.CountedCompleter<?> task) {
-            int b, h; java.util.concurrent.ForkJoinTask<?>[] a; Object o;
+            int b, h; ForkJoinTask<?>[] a; Object o;
             if ((b = base) - top >= 0 || (a = array) == null)
                 h = b | Integer.MIN_VALUE;  // to sense movement on re-poll
             else {
@@ -1227,7 +1259,7 @@ public class ForkJoinPool extends AbstractExecutorService {
             try {
                 U = sun.misc.Unsafe.getUnsafe();
                 Class<?> wk = WorkQueue.class;
-                Class<?> ak = java.util.concurrent.ForkJoinTask[].class;
+                Class<?> ak = ForkJoinTask[].class;
                 QTOP = U.objectFieldOffset
                     (wk.getDeclaredField("top"));
                 QLOCK = U.objectFieldOffset
@@ -1396,6 +1428,24 @@ public class ForkJoinPool extends AbstractExecutorService {
     final UncaughtExceptionHandler ueh;  // per-worker UEH
     final String workerNamePrefix;       // to create worker name string
     volatile AtomicLong stealCounter;    // also used as sync monitor
+    final WorkerGroup[] groups;          // worker groups, or null if none
+
+    /**
+     * A set of workers that prefer to steal from one another, such as
+     * the workers meant to run on the cores of one socket.
+     */
+    static final class WorkerGroup {
+        final int size;                  // target number of members
+        volatile WorkQueue[] members;    // copy-on-write under runState lock
+        long retiredLocalSteals;         // counts of deregistered members,
+        long retiredRemoteSteals;        // guarded by runState lock
+        long retiredScans;
+
+        WorkerGroup(int size) {
+            this.size = size;
+            this.members = new WorkQueue[0];
+        }
+    }
 
     /**
      * Acquires the runState lock; returns current (locked) runState.
@@ -1442,7 +1492,7 @@ public class ForkJoinPool extends AbstractExecutorService {
                             lock.wait();
                         } catch (InterruptedException ie) {
                             if (!(Thread.currentThread() instanceof
-                                    java.util.concurrent.ForkJoinWorkerThread))
+                                    ForkJoinWorkerThread))
                                 wasInterrupted = true;
                         }
                     }
@@ -1480,7 +1530,7 @@ public class ForkJoinPool extends AbstractExecutorService {
     private boolean createWorker() {
         ForkJoinWorkerThreadFactory fac = factory;
         Throwable ex = null;
-        java.util.concurrent.ForkJoinWorkerThread wt = null;
+        ForkJoinWorkerThread wt = null;
         try {
             if (fac != null && (wt = fac.newThread(this)) != null) {
                 wt.start();
@@ -1528,7 +1578,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param wt the worker thread
      * @return the worker's queue
      */
-    final WorkQueue registerWorker(java.util.concurrent.ForkJoinWorkerThread wt) {
+    final WorkQueue registerWorker(ForkJoinWorkerThread wt) {
         UncaughtExceptionHandler handler;
         wt.setDaemon(true);                           // configure thread
         if ((handler = ueh) != null)
@@ -1556,6 +1606,8 @@ public class ForkJoinPool extends AbstractExecutorService {
                 }
                 w.hint = s;                           // use as random seed
                 w.config = i | mode;
+                if (groups != null)
+                    joinGroup(w);
                 w.scanState = i;                      // publication fence
                 ws[i] = w;
             }
@@ -1566,6 +1618,52 @@ public class ForkJoinPool extends AbstractExecutorService {
         return w;
     }
 
+    /**
+     * Adds w to the group with the most unfilled places.  Call only
+     * while holding runState lock.
+     */
+    private void joinGroup(WorkQueue w) {
+        WorkerGroup[] gs = groups;
+        int gi = 0, best = Integer.MIN_VALUE;
+        for (int j = 0; j < gs.length; ++j) {
+            WorkerGroup g = gs[j];
+            int free = g.size - g.members.length;
+            if (free > best) {
+                best = free;
+                gi = j;
+            }
+        }
+        WorkerGroup g = gs[gi];
+        WorkQueue[] ms = g.members;
+        int n = ms.length;
+        ms = Arrays.copyOf(ms, n + 1);
+        ms[n] = w;
+        w.group = gi;
+        g.members = ms;
+    }
+
+    /**
+     * Removes w from its group, retaining its counts.  Call only while
+     * holding runState lock.
+     */
+    private void leaveGroup(WorkQueue w) {
+        WorkerGroup g = groups[w.group];
+        WorkQueue[] ms = g.members;
+        int n = ms.length;
+        for (int j = 0; j < n; ++j) {
+            if (ms[j] == w) {
+                WorkQueue[] nms = new WorkQueue[n - 1];
+                System.arraycopy(ms, 0, nms, 0, j);
+                System.arraycopy(ms, j + 1, nms, j, n - j - 1);
+                g.members = nms;
+                break;
+            }
+        }
+        g.retiredLocalSteals += w.localSteals;
+        g.retiredRemoteSteals += w.remoteSteals;
+        g.retiredScans += w.nscans;
+    }
+
     /**
      * Final callback from terminating worker, as well as upon failure
      * to construct or start a worker.  Removes record of worker from
@@ -1575,7 +1673,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param wt the worker thread, or null if construction failed
      * @param ex the exception causing failure, or null if none
      */
-    final void deregisterWorker(java.util.concurrent.ForkJoinWorkerThread wt, Throwable ex) {
+    final void deregisterWorker(ForkJoinWorkerThread wt, Throwable ex) {
         WorkQueue w = null;
         if (wt != null && (w = wt.workQueue) != null) {
             WorkQueue[] ws;                           // remove index from array
@@ -1583,6 +1681,8 @@ public class ForkJoinPool extends AbstractExecutorService {
             int rs = lockRunState();
             if ((ws = workQueues) != null && ws.length > idx && ws[idx] == w)
                 ws[idx] = null;
+            if (w.group >= 0)
+                leaveGroup(w);
             unlockRunState(rs, rs & ~RSLOCK);
         }
         long c;                                       // decrement counts
@@ -1613,9 +1713,9 @@ public class ForkJoinPool extends AbstractExecutorService {
                 break;
         }
         if (ex == null)                               // help clean on way out
-            java.util.concurrent.ForkJoinTask.helpExpungeStaleExceptions();
+            ForkJoinTask.helpExpungeStaleExceptions();
         else                                          // rethrow
-            java.util.concurrent.ForkJoinTask.rethrow(ex);
+            ForkJoinTask.rethrow(ex);
     }
 
     // Signalling
@@ -1687,7 +1787,7 @@ public class ForkJoinPool extends AbstractExecutorService {
         w.growArray();                   // allocate queue
         int seed = w.hint;               // initially holds randomization hint
         int r = (seed == 0) ? 1 : seed;  // avoid 0 for xorShift
-        for (java.util.concurrent.ForkJoinTask<?> t;;) {
+        for (ForkJoinTask<?> t;;) {
             if ((t = scan(w, r)) != null)
                 w.runTask(t);
             else if (!awaitWork(w, r))
@@ -1712,18 +1812,24 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param r a random seed
      * @return a task, or null if none found
      */
-    private java.util.concurrent.ForkJoinTask<?> scan(WorkQueue w, int r) {
+    private ForkJoinTask<?> scan(WorkQueue w, int r) {
         WorkQueue[] ws; int m;
         if ((ws = workQueues) != null && (m = ws.length - 1) > 0 && w != null) {
             int ss = w.scanState;                     // initially non-negative
+            int wg = w.group;
+            if (wg >= 0 && ss >= 0) {                 // try own group first
+                ForkJoinTask<?> t;
+                if ((t = scanGroup(w, groups[wg], r)) != null)
+                    return t;
+            }
             for (int origin = r & m, k = origin, oldSum = 0, checkSum = 0;;) {
-                WorkQueue q; java.util.concurrent.ForkJoinTask<?>[] a; java.util.concurrent.ForkJoinTask<?> t;
+                WorkQueue q; ForkJoinTask<?>[] a; ForkJoinTask<?> t;
                 int b, n; long c;
                 if ((q = ws[k]) != null) {
                     if ((n = (b = q.base) - q.top) < 0 &&
                         (a = q.array) != null) {      // non-empty
                         long i = (((a.length - 1) & b) << ASHIFT) + ABASE;
-                        if ((t = ((java.util.concurrent.ForkJoinTask<?>)
+                        if ((t = ((ForkJoinTask<?>)
                                   U.getObjectVolatile(a, i))) != null &&
                             q.base == b) {
                             if (ss >= 0) {
@@ -1731,6 +1837,12 @@ public class ForkJoinPool extends AbstractExecutorService {
                                     q.base = b + 1;
                                     if (n < -1)       // signal others
                                         signalWork(ws, q);
+                                    if (wg >= 0) {
+                                        if (q.group == wg)
+                                            ++w.localSteals;
+                                        else
+                                            ++w.remoteSteals;
+                                    }
                                     return t;
                                 }
                             }
@@ -1769,6 +1881,47 @@ public class ForkJoinPool extends AbstractExecutorService {
         return null;
     }
 
+    /**
+     * Makes one pass over the other members of w's group, starting at
+     * a random member, and tries to steal a top-level task from the
+     * first non-empty one.  Unlike scan, does not retry on contention
+     * or take part in inactivation: on failure the caller falls back
+     * to a full scan.
+     *
+     * @param w the worker (via its WorkQueue)
+     * @param g the worker's group
+     * @param r a random seed
+     * @return a task, or null if none found
+     */
+    private ForkJoinTask<?> scanGroup(WorkQueue w, WorkerGroup g, int r) {
+        WorkQueue[] ms; int n;
+        ++w.nscans;
+        if (g != null && (ms = g.members) != null && (n = ms.length) > 1) {
+            for (int j = 0, k = (r & 0x7fffffff) % n; j < n; ++j) {
+                WorkQueue q; ForkJoinTask<?>[] a; ForkJoinTask<?> t;
+                int b, d;
+                if ((q = ms[k]) != null && q != w &&
+                    (d = (b = q.base) - q.top) < 0 &&
+                    (a = q.array) != null) {
+                    long i = (((a.length - 1) & b) << ASHIFT) + ABASE;
+                    if ((t = ((ForkJoinTask<?>)
+                              U.getObjectVolatile(a, i))) != null &&
+                        q.base == b &&
+                        U.compareAndSwapObject(a, i, t, null)) {
+                        q.base = b + 1;
+                        ++w.localSteals;
+                        if (d < -1)                   // signal others
+                            signalWork(workQueues, q);
+                        return t;
+                    }
+                }
+                if (++k == n)
+                    k = 0;
+            }
+        }
+        return null;
+    }
+
     /**
      * Possibly blocks worker w waiting for a task to steal, or
      * returns false if the worker should terminate.  If inactivating
@@ -1909,14 +2062,14 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param w caller
      * @param task the task to join
      */
-    private void helpStealer(WorkQueue w, java.util.concurrent.ForkJoinTask<?> task) {
+    private void helpStealer(WorkQueue w, ForkJoinTask<?> task) {
         WorkQueue[] ws = workQueues;
         int oldSum = 0, checkSum, m;
         if (ws != null && (m = ws.length - 1) >= 0 && w != null &&
             task != null) {
             do {                                       // restart point
                 checkSum = 0;                          // for stability check
-                java.util.concurrent.ForkJoinTask<?> subtask;
+                ForkJoinTask<?> subtask;
                 WorkQueue j = w, v;                    // v is subtask stealer
                 descent: for (subtask = task; subtask.status >= 0; ) {
                     for (int h = j.hint | 1, k = 0, i; ; k += 2) {
@@ -1931,9 +2084,9 @@ public class ForkJoinPool extends AbstractExecutorService {
                         }
                     }
                     for (;;) {                         // help v or descend
-                        java.util.concurrent.ForkJoinTask<?>[] a; int b;
+                        ForkJoinTask<?>[] a; int b;
                         checkSum += (b = v.base);
-                        java.util.concurrent.ForkJoinTask<?> next = v.currentJoin;
+                        ForkJoinTask<?> next = v.currentJoin;
                         if (subtask.status < 0 || j.currentJoin != subtask ||
                             v.currentSteal != subtask) // stale
                             break descent;
@@ -1944,14 +2097,14 @@ public class ForkJoinPool extends AbstractExecutorService {
                             break;
                         }
                         int i = (((a.length - 1) & b) << ASHIFT) + ABASE;
-                        java.util.concurrent.ForkJoinTask<?> t = ((java.util.concurrent.ForkJoinTask<?>)
+                        ForkJoinTask<?> t = ((ForkJoinTask<?>)
                                              U.getObjectVolatile(a, i));
                         if (v.base == b) {
                             if (t == null)             // stale
                                 break descent;
                             if (U.compareAndSwapObject(a, i, t, null)) {
                                 v.base = b + 1;
-                                java.util.concurrent.ForkJoinTask<?> ps = w.currentSteal;
+                                ForkJoinTask<?> ps = w.currentSteal;
                                 int top = w.top;
                                 do {
                                     U.putOrderedObject(w, QCURRENTSTEAL, t);
@@ -2031,10 +2184,10 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param deadline for timed waits, if nonzero
      * @return task status on exit
      */
-    final int awaitJoin(WorkQueue w, java.util.concurrent.ForkJoinTask<?> task, long deadline) {
+    final int awaitJoin(WorkQueue w, ForkJoinTask<?> task, long deadline) {
         int s = 0;
         if (task != null && w != null) {
-            java.util.concurrent.ForkJoinTask<?> prevJoin = w.currentJoin;
+            ForkJoinTask<?> prevJoin = w.currentJoin;
             U.putOrderedObject(w, QCURRENTJOIN, task);
             java.util.concurrent.fork.CountedCompleter<?>
                     cc = (task instanceof java.util.concurrent.fork.CountedCompleter) ?
@@ -2100,9 +2253,9 @@ public class ForkJoinPool extends AbstractExecutorService {
      * find tasks either.
      */
     final void helpQuiescePool(WorkQueue w) {
-        java.util.concurrent.ForkJoinTask<?> ps = w.currentSteal; // save context
+        ForkJoinTask<?> ps = w.currentSteal; // save context
         for (boolean active = true;;) {
-            long c; WorkQueue q; java.util.concurrent.ForkJoinTask<?> t; int b;
+            long c; WorkQueue q; ForkJoinTask<?> t; int b;
             w.execLocalTasks();     // run locals before each scan
             if ((q = findNonEmptyStealQueue()) != null) {
                 if (!active) {      // re-establish active count
@@ -2135,8 +2288,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      *
      * @return a task, if available
      */
-    final java.util.concurrent.ForkJoinTask<?> nextTaskFor(WorkQueue w) {
-        for (java.util.concurrent.ForkJoinTask<?> t;;) {
+    final ForkJoinTask<?> nextTaskFor(WorkQueue w) {
+        for (ForkJoinTask<?> t;;) {
             WorkQueue q; int b;
             if ((t = w.nextLocalTask()) != null)
                 return t;
@@ -2190,9 +2343,9 @@ public class ForkJoinPool extends AbstractExecutorService {
      * compensate by a factor of (#idle/#active) threads.
      */
     static int getSurplusQueuedTaskCount() {
-        Thread t; java.util.concurrent.ForkJoinWorkerThread wt; ForkJoinPool pool; WorkQueue q;
-        if (((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread)) {
-            int p = (pool = (wt = (java.util.concurrent.ForkJoinWorkerThread)t).pool).
+        Thread t; ForkJoinWorkerThread wt; ForkJoinPool pool; WorkQueue q;
+        if (((t = Thread.currentThread()) instanceof ForkJoinWorkerThread)) {
+            int p = (pool = (wt = (ForkJoinWorkerThread)t).pool).
                 config & SMASK;
             int n = (q = wt.workQueue).top - q.base;
             int a = (int)(pool.ctl >> AC_SHIFT) + p;
@@ -2259,7 +2412,7 @@ public class ForkJoinPool extends AbstractExecutorService {
 
         int pass = 0;                             // 3 passes to help terminate
         for (long oldSum = 0L;;) {                // or until done or stable
-            WorkQueue[] ws; WorkQueue w; java.util.concurrent.ForkJoinWorkerThread wt; int m;
+            WorkQueue[] ws; WorkQueue w; ForkJoinWorkerThread wt; int m;
             long checkSum = ctl;
             if ((short)(checkSum >>> TC_SHIFT) + (config & SMASK) <= 0 ||
                 (ws = workQueues) == null || (m = ws.length - 1) <= 0) {
@@ -2315,7 +2468,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      *
      * @param task the task. Caller must ensure non-null.
      */
-    private void externalSubmit(java.util.concurrent.ForkJoinTask<?> task) {
+    private void externalSubmit(ForkJoinTask<?> task) {
         int r;                                    // initialize caller's probe
         if ((r = ThreadLocalRandom.getProbe()) == 0) {
             ThreadLocalRandom.localInit();
@@ -2350,7 +2503,7 @@ public class ForkJoinPool extends AbstractExecutorService {
             }
             else if ((q = ws[k = r & m & SQMASK]) != null) {
                 if (q.qlock == 0 && U.compareAndSwapInt(q, QLOCK, 0, 1)) {
-                    java.util.concurrent.ForkJoinTask<?>[] a = q.array;
+                    ForkJoinTask<?>[] a = q.array;
                     int s = q.top;
                     boolean submitted = false; // initial submission or resizing
                     try {                      // locked version of push
@@ -2397,14 +2550,14 @@ public class ForkJoinPool extends AbstractExecutorService {
      *
      * @param task the task. Caller must ensure non-null.
      */
-    final void externalPush(java.util.concurrent.ForkJoinTask<?> task) {
+    final void externalPush(ForkJoinTask<?> task) {
         WorkQueue[] ws; WorkQueue q; int m;
         int r = ThreadLocalRandom.getProbe();
         int rs = runState;
         if ((ws = workQueues) != null && (m = (ws.length - 1)) >= 0 &&
             (q = ws[m & r & SQMASK]) != null && r != 0 && rs > 0 &&
             U.compareAndSwapInt(q, QLOCK, 0, 1)) {
-            java.util.concurrent.ForkJoinTask<?>[] a; int am, n, s;
+            ForkJoinTask<?>[] a; int am, n, s;
             if ((a = q.array) != null &&
                 (am = a.length - 1) > (n = (s = q.top) - q.base)) {
                 int j = ((am & s) << ASHIFT) + ABASE;
@@ -2437,8 +2590,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      * locks if apparently non-empty, validates upon locking, and
      * adjusts top. Each check can fail but rarely does.
      */
-    final boolean tryExternalUnpush(java.util.concurrent.ForkJoinTask<?> task) {
-        WorkQueue[] ws; WorkQueue w; java.util.concurrent.ForkJoinTask<?>[] a; int m, s;
+    final boolean tryExternalUnpush(ForkJoinTask<?> task) {
+        WorkQueue[] ws; WorkQueue w; ForkJoinTask<?>[] a; int m, s;
         int r = ThreadLocalRandom.getProbe();
         if ((ws = workQueues) != null && (m = ws.length - 1) >= 0 &&
             (w = ws[m & r & SQMASK]) != null &&
@@ -2542,6 +2695,124 @@ public class ForkJoinPool extends AbstractExecutorService {
         checkPermission();
     }
 
+    /**
+     * Creates a {@code ForkJoinPool} with the given parameters,
+     * optionally compensating for workers that block.  When {@code
+     * compensateBlocking} is true, a task running in this pool that
+     * parks via {@link java.util.concurrent.locks.LockSupport}, or
+     * blocks reading a {@link java.net.Socket}, is treated as if it had
+     * invoked {@link #managedBlock}: a spare worker may be activated
+     * or created to keep the pool at its target parallelism while the
+     * task is blocked.  This allows tasks written in a blocking,
+     * thread-per-request style (for example those waiting on locks,
+     * {@link java.util.concurrent.blocking.queue.BlockingQueue#take
+     * BlockingQueue.take} or socket input) to share a small set of
+     * workers without starving tasks that are ready to run.  Every
+     * blocked task still occupies a thread, so the number of
+     * concurrently blocked tasks remains bounded by the implementation
+     * limit on the number of threads.
+     *
+     * @param parallelism the parallelism level. For default value,
+     * use {@link java.lang.Runtime#availableProcessors}.
+     * @param factory the factory for creating new threads. For default value,
+     * use {@link #defaultForkJoinWorkerThreadFactory}.
+     * @param handler the handler for internal worker threads that
+     * terminate due to unrecoverable errors encountered while executing
+     * tasks. For default value, use {@code null}.
+     * @param asyncMode if true,
+     * establishes local first-in-first-out scheduling mode for forked
+     * tasks that are never joined. For default value, use {@code false}.
+     * @param compensateBlocking if true, activate spare workers while
+     * tasks are parked or blocked in socket reads. For default value,
+     * use {@code false}.
+     * @throws IllegalArgumentException if parallelism less than or
+     *         equal to zero, or greater than implementation limit
+     * @throws NullPointerException if the factory is null
+     * @throws SecurityException if a security manager exists and
+     *         the caller is not permitted to modify threads
+     *         because it does not hold {@link
+     *         java.lang.RuntimePermission}{@code ("modifyThread")}
+     * @since 1.8
+     */
+    public ForkJoinPool(int parallelism,
+                        ForkJoinWorkerThreadFactory factory,
+                        UncaughtExceptionHandler handler,
+                        boolean asyncMode,
+                        boolean compensateBlocking) {
+        this(checkParallelism(parallelism),
+             checkFactory(factory),
+             handler,
+             (asyncMode ? FIFO_QUEUE : LIFO_QUEUE) |
+             (compensateBlocking ? COMPENSATED : 0),
+             "ForkJoinPool-" + nextPoolId() + "-worker-");
+        checkPermission();
+    }
+
+    /**
+     * Creates a {@code ForkJoinPool} with the given parameters, whose
+     * workers are partitioned into groups of the given sizes.  Workers
+     * try to steal tasks from members of their own group before
+     * scanning other groups, which keeps stolen work, and the data it
+     * touches, local when the groups correspond to processors sharing
+     * a cache or memory node.  For example, a two-socket machine with
+     * 64 cores per socket might use {@code new int[] { 64, 64 }}.
+     * Workers created beyond the given sizes, such as spares
+     * compensating for blocked workers, join the group with the most
+     * unfilled places.
+     *
+     * @param parallelism the parallelism level. For default value,
+     * use {@link java.lang.Runtime#availableProcessors}.
+     * @param factory the factory for creating new threads. For default value,
+     * use {@link #defaultForkJoinWorkerThreadFactory}.
+     * @param handler the handler for internal worker threads that
+     * terminate due to unrecoverable errors encountered while executing
+     * tasks. For default value, use {@code null}.
+     * @param asyncMode if true,
+     * establishes local first-in-first-out scheduling mode for forked
+     * tasks that are never joined. For default value, use {@code false}.
+     * @param groupSizes the number of workers in each group
+     * @throws IllegalArgumentException if parallelism less than or
+     *         equal to zero, or greater than implementation limit, or
+     *         if any group size is not positive, or the group sizes do
+     *         not sum to the parallelism level
+     * @throws NullPointerException if the factory or groupSizes is null
+     * @throws SecurityException if a security manager exists and
+     *         the caller is not permitted to modify threads
+     *         because it does not hold {@link
+     *         java.lang.RuntimePermission}{@code ("modifyThread")}
+     * @since 1.8
+     */
+    public ForkJoinPool(int parallelism,
+                        ForkJoinWorkerThreadFactory factory,
+                        UncaughtExceptionHandler handler,
+                        boolean asyncMode,
+                        int[] groupSizes) {
+        this(checkParallelism(parallelism),
+             checkFactory(factory),
+             handler,
+             asyncMode ? FIFO_QUEUE : LIFO_QUEUE,
+             "ForkJoinPool-" + nextPoolId() + "-worker-",
+             checkGroups(parallelism, groupSizes));
+        checkPermission();
+    }
+
+    private static WorkerGroup[] checkGroups(int parallelism,
+                                             int[] groupSizes) {
+        int n = groupSizes.length, total = 0;
+        if (n == 0)
+            throw new IllegalArgumentException();
+        WorkerGroup[] gs = new WorkerGroup[n];
+        for (int i = 0; i < n; ++i) {
+            int size = groupSizes[i];
+            if (size <= 0 || (total += size) > parallelism)
+                throw new IllegalArgumentException();
+            gs[i] = new WorkerGroup(size);
+        }
+        if (total != parallelism)
+            throw new IllegalArgumentException();
+        return gs;
+    }
+
     private static int checkParallelism(int parallelism) {
         if (parallelism <= 0 || parallelism > MAX_CAP)
             throw new IllegalArgumentException();
@@ -2565,7 +2836,22 @@ public class ForkJoinPool extends AbstractExecutorService {
                          UncaughtExceptionHandler handler,
                          int mode,
                          String workerNamePrefix) {
+        this(parallelism, factory, handler, mode, workerNamePrefix, null);
+    }
+
+    /**
+     * Creates a {@code ForkJoinPool} with the given parameters and
+     * worker groups (or null), without any security checks or
+     * parameter validation.
+     */
+    private ForkJoinPool(int parallelism,
+                         ForkJoinWorkerThreadFactory factory,
+                         UncaughtExceptionHandler handler,
+                         int mode,
+                         String workerNamePrefix,
+                         WorkerGroup[] groups) {
         this.workerNamePrefix = workerNamePrefix;
+        this.groups = groups;
         this.factory = factory;
         this.ueh = handler;
         this.config = (parallelism & SMASK) | mode;
@@ -2610,7 +2896,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public <T> T invoke(java.util.concurrent.ForkJoinTask<T> task) {
+    public <T> T invoke(ForkJoinTask<T> task) {
         if (task == null)
             throw new NullPointerException();
         externalPush(task);
@@ -2625,7 +2911,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public void execute(java.util.concurrent.ForkJoinTask<?> task) {
+    public void execute(ForkJoinTask<?> task) {
         if (task == null)
             throw new NullPointerException();
         externalPush(task);
@@ -2641,11 +2927,11 @@ public class ForkJoinPool extends AbstractExecutorService {
     public void execute(Runnable task) {
         if (task == null)
             throw new NullPointerException();
-        java.util.concurrent.ForkJoinTask<?> job;
-        if (task instanceof java.util.concurrent.ForkJoinTask<?>) // avoid re-wrap
-            job = (java.util.concurrent.ForkJoinTask<?>) task;
+        ForkJoinTask<?> job;
+        if (task instanceof ForkJoinTask<?>) // avoid re-wrap
+            job = (ForkJoinTask<?>) task;
         else
-            job = new java.util.concurrent.ForkJoinTask.RunnableExecuteAction(task);
+            job = new ForkJoinTask.RunnableExecuteAction(task);
         externalPush(job);
     }
 
@@ -2659,7 +2945,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public <T> java.util.concurrent.ForkJoinTask<T> submit(java.util.concurrent.ForkJoinTask<T> task) {
+    public <T> ForkJoinTask<T> submit(ForkJoinTask<T> task) {
         if (task == null)
             throw new NullPointerException();
         externalPush(task);
@@ -2671,8 +2957,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public <T> java.util.concurrent.ForkJoinTask<T> submit(Callable<T> task) {
-        java.util.concurrent.ForkJoinTask<T> job = new java.util.concurrent.ForkJoinTask.AdaptedCallable<T>(task);
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        ForkJoinTask<T> job = new ForkJoinTask.AdaptedCallable<T>(task);
         externalPush(job);
         return job;
     }
@@ -2682,8 +2968,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public <T> java.util.concurrent.ForkJoinTask<T> submit(Runnable task, T result) {
-        java.util.concurrent.ForkJoinTask<T> job = new java.util.concurrent.ForkJoinTask.AdaptedRunnable<T>(task, result);
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        ForkJoinTask<T> job = new ForkJoinTask.AdaptedRunnable<T>(task, result);
         externalPush(job);
         return job;
     }
@@ -2693,14 +2979,14 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @throws java.util.concurrent.exception.RejectedExecutionException if the task cannot be
      *         scheduled for execution
      */
-    public java.util.concurrent.ForkJoinTask<?> submit(Runnable task) {
+    public ForkJoinTask<?> submit(Runnable task) {
         if (task == null)
             throw new NullPointerException();
-        java.util.concurrent.ForkJoinTask<?> job;
-        if (task instanceof java.util.concurrent.ForkJoinTask<?>) // avoid re-wrap
-            job = (java.util.concurrent.ForkJoinTask<?>) task;
+        ForkJoinTask<?> job;
+        if (task instanceof ForkJoinTask<?>) // avoid re-wrap
+            job = (ForkJoinTask<?>) task;
         else
-            job = new java.util.concurrent.ForkJoinTask.AdaptedRunnableAction(task);
+            job = new ForkJoinTask.AdaptedRunnableAction(task);
         externalPush(job);
         return job;
     }
@@ -2718,12 +3004,12 @@ public class ForkJoinPool extends AbstractExecutorService {
         boolean done = false;
         try {
             for (Callable<T> t : tasks) {
-                java.util.concurrent.ForkJoinTask<T> f = new java.util.concurrent.ForkJoinTask.AdaptedCallable<T>(t);
+                ForkJoinTask<T> f = new ForkJoinTask.AdaptedCallable<T>(t);
                 futures.add(f);
                 externalPush(f);
             }
             for (int i = 0, size = futures.size(); i < size; i++)
-                ((java.util.concurrent.ForkJoinTask<?>)futures.get(i)).quietlyJoin();
+                ((ForkJoinTask<?>)futures.get(i)).quietlyJoin();
             done = true;
             return futures;
         } finally {
@@ -2794,6 +3080,18 @@ public class ForkJoinPool extends AbstractExecutorService {
         return (config & FIFO_QUEUE) != 0;
     }
 
+    /**
+     * Returns {@code true} if this pool compensates for tasks that
+     * park via {@link java.util.concurrent.locks.LockSupport} or block
+     * in socket reads.
+     *
+     * @return {@code true} if this pool compensates for blocked tasks
+     * @since 1.8
+     */
+    public boolean isBlockingCompensated() {
+        return (config & COMPENSATED) != 0;
+    }
+
     /**
      * Returns an estimate of the number of worker threads that are
      * not blocked waiting to join tasks or for other managed
@@ -2865,6 +3163,98 @@ public class ForkJoinPool extends AbstractExecutorService {
         return count;
     }
 
+    /**
+     * Returns the number of worker groups this pool was constructed
+     * with, or zero if it does not partition its workers.
+     *
+     * @return the number of worker groups
+     * @since 1.8
+     */
+    public int getWorkerGroupCount() {
+        WorkerGroup[] gs = groups;
+        return (gs == null) ? 0 : gs.length;
+    }
+
+    /**
+     * Returns an estimate of the number of tasks that workers in the
+     * given group have stolen from other members of the same group.
+     * Like {@link #getStealCount}, the value is approximate while the
+     * pool is not quiescent.
+     *
+     * @param group the group index
+     * @return the number of steals within the group
+     * @throws IndexOutOfBoundsException if the index is not less than
+     *         {@link #getWorkerGroupCount}
+     * @since 1.8
+     */
+    public long getGroupLocalStealCount(int group) {
+        WorkerGroup g = workerGroup(group);
+        long count = g.retiredLocalSteals;
+        for (WorkQueue w : g.members)
+            count += w.localSteals;
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the number of tasks that workers in the
+     * given group have taken from outside the group, either from
+     * workers in other groups or from external submission queues.  A
+     * high value relative to {@link #getGroupLocalStealCount} means
+     * the group is often idle while others are busy.
+     *
+     * @param group the group index
+     * @return the number of steals from outside the group
+     * @throws IndexOutOfBoundsException if the index is not less than
+     *         {@link #getWorkerGroupCount}
+     * @since 1.8
+     */
+    public long getGroupRemoteStealCount(int group) {
+        WorkerGroup g = workerGroup(group);
+        long count = g.retiredRemoteSteals;
+        for (WorkQueue w : g.members)
+            count += w.remoteSteals;
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the number of times workers in the given
+     * group have scanned their group for a task to steal.
+     *
+     * @param group the group index
+     * @return the number of group scans
+     * @throws IndexOutOfBoundsException if the index is not less than
+     *         {@link #getWorkerGroupCount}
+     * @since 1.8
+     */
+    public long getGroupScanCount(int group) {
+        WorkerGroup g = workerGroup(group);
+        long count = g.retiredScans;
+        for (WorkQueue w : g.members)
+            count += w.nscans;
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the number of worker threads currently in
+     * the given group.
+     *
+     * @param group the group index
+     * @return the number of workers in the group
+     * @throws IndexOutOfBoundsException if the index is not less than
+     *         {@link #getWorkerGroupCount}
+     * @since 1.8
+     */
+    public int getGroupPoolSize(int group) {
+        return workerGroup(group).members.length;
+    }
+
+    private WorkerGroup workerGroup(int group) {
+        WorkerGroup[] gs = groups;
+        if (gs == null || group < 0 || group >= gs.length)
+            throw new IndexOutOfBoundsException("group: " + group);
+        return gs[group];
+    }
+
     /**
      * Returns an estimate of the total number of tasks currently held
      * in queues by worker threads (but not including tasks submitted
@@ -2930,8 +3320,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      *
      * @return the next submission, or {@code null} if none
      */
-    protected java.util.concurrent.ForkJoinTask<?> pollSubmission() {
-        WorkQueue[] ws; WorkQueue w; java.util.concurrent.ForkJoinTask<?> t;
+    protected ForkJoinTask<?> pollSubmission() {
+        WorkQueue[] ws; WorkQueue w; ForkJoinTask<?> t;
         if ((ws = workQueues) != null) {
             for (int i = 0; i < ws.length; i += 2) {
                 if ((w = ws[i]) != null && (t = w.poll()) != null)
@@ -2958,9 +3348,9 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param c the collection to transfer elements into
      * @return the number of elements transferred
      */
-    protected int drainTasksTo(Collection<? super java.util.concurrent.ForkJoinTask<?>> c) {
+    protected int drainTasksTo(Collection<? super ForkJoinTask<?>> c) {
         int count = 0;
-        WorkQueue[] ws; WorkQueue w; java.util.concurrent.ForkJoinTask<?> t;
+        WorkQueue[] ws; WorkQueue w; ForkJoinTask<?> t;
         if ((ws = workQueues) != null) {
             for (int i = 0; i < ws.length; ++i) {
                 if ((w = ws[i]) != null) {
@@ -3084,7 +3474,7 @@ public class ForkJoinPool extends AbstractExecutorService {
      * period after shutdown may indicate that submitted tasks have
      * ignored or suppressed interruption, or are waiting for I/O,
      * causing this executor not to properly terminate. (See the
-     * advisory notes for class {@link java.util.concurrent.ForkJoinTask} stating that
+     * advisory notes for class {@link ForkJoinTask} stating that
      * tasks should not normally entail blocking operations.  But if
      * they do, they must abort them on interrupt.)
      *
@@ -3147,7 +3537,7 @@ public class ForkJoinPool extends AbstractExecutorService {
 
     /**
      * If called by a ForkJoinTask operating in this pool, equivalent
-     * in effect to {@link java.util.concurrent.ForkJoinTask#helpQuiesce}. Otherwise,
+     * in effect to {@link ForkJoinTask#helpQuiesce}. Otherwise,
      * waits and/or attempts to assist performing tasks until this
      * pool {@link #isQuiescent} or the indicated timeout elapses.
      *
@@ -3158,10 +3548,10 @@ public class ForkJoinPool extends AbstractExecutorService {
      */
     public boolean awaitQuiescence(long timeout, TimeUnit unit) {
         long nanos = unit.toNanos(timeout);
-        java.util.concurrent.ForkJoinWorkerThread wt;
+        ForkJoinWorkerThread wt;
         Thread thread = Thread.currentThread();
-        if ((thread instanceof java.util.concurrent.ForkJoinWorkerThread) &&
-            (wt = (java.util.concurrent.ForkJoinWorkerThread)thread).pool == this) {
+        if ((thread instanceof ForkJoinWorkerThread) &&
+            (wt = (ForkJoinWorkerThread)thread).pool == this) {
             helpQuiescePool(wt.workQueue);
             return true;
         }
@@ -3178,7 +3568,7 @@ public class ForkJoinPool extends AbstractExecutorService {
             }
             found = false;
             for (int j = (m + 1) << 2; j >= 0; --j) {
-                java.util.concurrent.ForkJoinTask<?> t; WorkQueue q; int b, k;
+                ForkJoinTask<?> t; WorkQueue q; int b, k;
                 if ((k = r++ & m) <= m && k >= 0 && (q = ws[k]) != null &&
                     (b = q.base) - q.top < 0) {
                     found = true;
@@ -3275,7 +3665,7 @@ public class ForkJoinPool extends AbstractExecutorService {
 
     /**
      * Runs the given possibly blocking task.  When {@linkplain
-     * java.util.concurrent.ForkJoinTask#inForkJoinPool() running in a ForkJoinPool}, this
+     * ForkJoinTask#inForkJoinPool() running in a ForkJoinPool}, this
      * method possibly arranges for a spare thread to be activated if
      * necessary to ensure sufficient parallelism while the current
      * thread is blocked in {@link ManagedBlocker#block blocker.block()}.
@@ -3302,10 +3692,10 @@ public class ForkJoinPool extends AbstractExecutorService {
     public static void managedBlock(ManagedBlocker blocker)
         throws InterruptedException {
         ForkJoinPool p;
-        java.util.concurrent.ForkJoinWorkerThread wt;
+        ForkJoinWorkerThread wt;
         Thread t = Thread.currentThread();
-        if ((t instanceof java.util.concurrent.ForkJoinWorkerThread) &&
-            (p = (wt = (java.util.concurrent.ForkJoinWorkerThread)t).pool) != null) {
+        if ((t instanceof ForkJoinWorkerThread) &&
+            (p = (wt = (ForkJoinWorkerThread)t).pool) != null) {
             WorkQueue w = wt.workQueue;
             while (!blocker.isReleasable()) {
                 if (p.tryCompensate(w)) {
@@ -3331,11 +3721,11 @@ public class ForkJoinPool extends AbstractExecutorService {
 
     @Override
     protected <T> java.util.concurrent.future.RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
-        return new java.util.concurrent.ForkJoinTask.AdaptedRunnable<T>(runnable, value);
+        return new ForkJoinTask.AdaptedRunnable<T>(runnable, value);
     }
 
     protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
-        return new java.util.concurrent.ForkJoinTask.AdaptedCallable<T>(callable);
+        return new ForkJoinTask.AdaptedCallable<T>(callable);
     }
 
     // Unsafe mechanics
@@ -3410,6 +3800,7 @@ public class ForkJoinPool extends AbstractExecutorService {
         int parallelism = -1;
         ForkJoinWorkerThreadFactory factory = null;
         UncaughtExceptionHandler handler = null;
+        String gp = null;
         try {  // ignore exceptions in accessing/parsing properties
             String pp = System.getProperty
                 ("java.util.concurrent.fork.ForkJoinPool.common.parallelism");
@@ -3417,6 +3808,8 @@ public class ForkJoinPool extends AbstractExecutorService {
                 ("java.util.concurrent.fork.ForkJoinPool.common.threadFactory");
             String hp = System.getProperty
                 ("java.util.concurrent.fork.ForkJoinPool.common.exceptionHandler");
+            gp = System.getProperty
+                ("java.util.concurrent.fork.ForkJoinPool.common.groupSizes");
             if (pp != null)
                 parallelism = Integer.parseInt(pp);
             if (fp != null)
@@ -3438,8 +3831,19 @@ public class ForkJoinPool extends AbstractExecutorService {
             parallelism = 1;
         if (parallelism > MAX_CAP)
             parallelism = MAX_CAP;
+        WorkerGroup[] groups = null;
+        if (gp != null && parallelism > 0) {
+            try {
+                String[] sizes = gp.split(",");
+                int[] groupSizes = new int[sizes.length];
+                for (int i = 0; i < sizes.length; ++i)
+                    groupSizes[i] = Integer.parseInt(sizes[i].trim());
+                groups = checkGroups(parallelism, groupSizes);
+            } catch (Exception ignore) {
+            }
+        }
         return new ForkJoinPool(parallelism, factory, handler, LIFO_QUEUE,
-                                "ForkJoinPool.commonPool-worker-");
+                                "ForkJoinPool.commonPool-worker-", groups);
     }
 
     /**
@@ -3465,11 +3869,11 @@ public class ForkJoinPool extends AbstractExecutorService {
                 });
         }
 
-        public final java.util.concurrent.ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-            return (java.util.concurrent.ForkJoinWorkerThread.InnocuousForkJoinWorkerThread)
+        public final ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            return (ForkJoinWorkerThread.InnocuousForkJoinWorkerThread)
                 java.security.AccessController.doPrivileged(
-                    new java.security.PrivilegedAction<java.util.concurrent.ForkJoinWorkerThread>() {
-                    public java.util.concurrent.ForkJoinWorkerThread run() {
+                    new java.security.PrivilegedAction<ForkJoinWorkerThread>() {
+                    public ForkJoinWorkerThread run() {
                         return new ForkJoinWorkerThread.InnocuousForkJoinWorkerThread(pool);
                     }}, innocuousAcc);
         }
@@ -42,8 +42,6 @@ import java.util.RandomAccess;
 import java.lang.ref.WeakReference;
 import java.lang.ref.ReferenceQueue;
 import java.util.concurrent.*;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.exception.CancellationException;
 import java.util.concurrent.exception.ExecutionException;
 import java.util.concurrent.exception.RejectedExecutionException;
@@ -54,16 +52,16 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.lang.reflect.Constructor;
 
 /**
- * Abstract base class for tasks that run within a {@link java.util.concurrent.ForkJoinPool}.
+ * Abstract base class for tasks that run within a {@link ForkJoinPool}.
  * A {@code ForkJoinTask} is a thread-like entity that is much
  * lighter weight than a normal thread.  Huge numbers of tasks and
  * subtasks may be hosted by a small number of actual threads in a
  * ForkJoinPool, at the price of some usage limitations.
  *
  * <p>A "main" {@code ForkJoinTask} begins execution when it is
- * explicitly submitted to a {@link java.util.concurrent.ForkJoinPool}, or, if not already
+ * explicitly submitted to a {@link ForkJoinPool}, or, if not already
  * engaged in a ForkJoin computation, commenced in the {@link
- * java.util.concurrent.ForkJoinPool#commonPool()} via {@link #fork}, {@link #invoke}, or
+ * ForkJoinPool#commonPool()} via {@link #fork}, {@link #invoke}, or
  * related methods.  Once started, it will usually in turn start other
  * subtasks.  As indicated by the name of this class, many programs
  * using {@code ForkJoinTask} employ only methods {@link #fork} and
@@ -108,9 +106,9 @@ import java.lang.reflect.Constructor;
  * java.util.concurrent.fork.CountedCompleter}) often fall into this category.  (2) To minimize
  * resource impact, tasks should be small; ideally performing only the
  * (possibly) blocking action. (3) Unless the {@link
- * java.util.concurrent.ForkJoinPool.ManagedBlocker} API is used, or the number of possibly
+ * ForkJoinPool.ManagedBlocker} API is used, or the number of possibly
  * blocked tasks is known to be less than the pool's {@link
- * java.util.concurrent.ForkJoinPool#getParallelism} level, the pool cannot guarantee that
+ * ForkJoinPool#getParallelism} level, the pool cannot guarantee that
  * enough threads will be available to ensure progress or good
  * performance.
  *
@@ -322,9 +320,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     private int externalAwaitDone() {
         int s = ((this instanceof java.util.concurrent.fork.CountedCompleter) ? // try helping
-                 java.util.concurrent.ForkJoinPool.common.externalHelpComplete(
+                 ForkJoinPool.common.externalHelpComplete(
                      (java.util.concurrent.fork.CountedCompleter<?>)this, 0) :
-                 java.util.concurrent.ForkJoinPool.common.tryExternalUnpush(this) ? doExec() : 0);
+                 ForkJoinPool.common.tryExternalUnpush(this) ? doExec() : 0);
         if (s >= 0 && (s = status) >= 0) {
             boolean interrupted = false;
             do {
@@ -357,9 +355,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
             throw new InterruptedException();
         if ((s = status) >= 0 &&
             (s = ((this instanceof java.util.concurrent.fork.CountedCompleter) ?
-                  java.util.concurrent.ForkJoinPool.common.externalHelpComplete(
+                  ForkJoinPool.common.externalHelpComplete(
                       (java.util.concurrent.fork.CountedCompleter<?>)this, 0) :
-                  java.util.concurrent.ForkJoinPool.common.tryExternalUnpush(this) ? doExec() :
+                  ForkJoinPool.common.tryExternalUnpush(this) ? doExec() :
                   0)) >= 0) {
             while ((s = status) >= 0) {
                 if (U.compareAndSwapInt(this, STATUS, s, s | SIGNAL)) {
@@ -383,10 +381,10 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return status upon completion
      */
     private int doJoin() {
-        int s; Thread t; java.util.concurrent.ForkJoinWorkerThread wt; java.util.concurrent.ForkJoinPool.WorkQueue w;
+        int s; Thread t; ForkJoinWorkerThread wt; ForkJoinPool.WorkQueue w;
         return (s = status) < 0 ? s :
-            ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) ?
-            (w = (wt = (java.util.concurrent.ForkJoinWorkerThread)t).workQueue).
+            ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) ?
+            (w = (wt = (ForkJoinWorkerThread)t).workQueue).
             tryUnpush(this) && (s = doExec()) < 0 ? s :
             wt.pool.awaitJoin(w, this, 0L) :
             externalAwaitDone();
@@ -398,10 +396,10 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return status upon completion
      */
     private int doInvoke() {
-        int s; Thread t; java.util.concurrent.ForkJoinWorkerThread wt;
+        int s; Thread t; ForkJoinWorkerThread wt;
         return (s = doExec()) < 0 ? s :
-            ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) ?
-            (wt = (java.util.concurrent.ForkJoinWorkerThread)t).pool.
+            ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) ?
+            (wt = (ForkJoinWorkerThread)t).pool.
             awaitJoin(wt.workQueue, this, 0L) :
             externalAwaitDone();
     }
@@ -683,7 +681,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
     /**
      * Arranges to asynchronously execute this task in the pool the
      * current task is running in, if applicable, or using the {@link
-     * java.util.concurrent.ForkJoinPool#commonPool()} if not {@link #inForkJoinPool}.  While
+     * ForkJoinPool#commonPool()} if not {@link #inForkJoinPool}.  While
      * it is not necessarily enforced, it is a usage error to fork a
      * task more than once unless it has completed and been
      * reinitialized.  Subsequent modifications to the state of this
@@ -697,10 +695,10 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     public final ForkJoinTask<V> fork() {
         Thread t;
-        if ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread)
-            ((java.util.concurrent.ForkJoinWorkerThread)t).workQueue.push(this);
+        if ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread)
+            ((ForkJoinWorkerThread)t).workQueue.push(this);
         else
-            java.util.concurrent.ForkJoinPool.common.externalPush(this);
+            ForkJoinPool.common.externalPush(this);
         return this;
     }
 
@@ -998,7 +996,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * member of a ForkJoinPool and was interrupted while waiting
      */
     public final V get() throws InterruptedException, java.util.concurrent.exception.ExecutionException {
-        int s = (Thread.currentThread() instanceof java.util.concurrent.ForkJoinWorkerThread) ?
+        int s = (Thread.currentThread() instanceof ForkJoinWorkerThread) ?
             doJoin() : externalInterruptibleAwaitDone();
         Throwable ex;
         if ((s &= DONE_MASK) == CANCELLED)
@@ -1033,14 +1031,14 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
             long d = System.nanoTime() + nanos;
             long deadline = (d == 0L) ? 1L : d; // avoid 0
             Thread t = Thread.currentThread();
-            if (t instanceof java.util.concurrent.ForkJoinWorkerThread) {
-                java.util.concurrent.ForkJoinWorkerThread wt = (java.util.concurrent.ForkJoinWorkerThread)t;
+            if (t instanceof ForkJoinWorkerThread) {
+                ForkJoinWorkerThread wt = (ForkJoinWorkerThread)t;
                 s = wt.pool.awaitJoin(wt.workQueue, this, deadline);
             }
             else if ((s = ((this instanceof java.util.concurrent.fork.CountedCompleter) ?
-                           java.util.concurrent.ForkJoinPool.common.externalHelpComplete(
+                           ForkJoinPool.common.externalHelpComplete(
                                (CountedCompleter<?>)this, 0) :
-                           java.util.concurrent.ForkJoinPool.common.tryExternalUnpush(this) ?
+                           ForkJoinPool.common.tryExternalUnpush(this) ?
                            doExec() : 0)) >= 0) {
                 long ns, ms; // measure in nanosecs, but wait in millisecs
                 while ((s = status) >= 0 &&
@@ -1092,19 +1090,19 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
 
     /**
      * Possibly executes tasks until the pool hosting the current task
-     * {@link java.util.concurrent.ForkJoinPool#isQuiescent is quiescent}. This method may
+     * {@link ForkJoinPool#isQuiescent is quiescent}. This method may
      * be of use in designs in which many tasks are forked, but none
      * are explicitly joined, instead executing them until all are
      * processed.
      */
     public static void helpQuiesce() {
         Thread t;
-        if ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) {
-            java.util.concurrent.ForkJoinWorkerThread wt = (java.util.concurrent.ForkJoinWorkerThread)t;
+        if ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) {
+            ForkJoinWorkerThread wt = (ForkJoinWorkerThread)t;
             wt.pool.helpQuiescePool(wt.workQueue);
         }
         else
-            java.util.concurrent.ForkJoinPool.quiesceCommonPool();
+            ForkJoinPool.quiesceCommonPool();
     }
 
     /**
@@ -1137,22 +1135,22 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @see #inForkJoinPool
      * @return the pool, or {@code null} if none
      */
-    public static java.util.concurrent.ForkJoinPool getPool() {
+    public static ForkJoinPool getPool() {
         Thread t = Thread.currentThread();
-        return (t instanceof java.util.concurrent.ForkJoinWorkerThread) ?
-            ((java.util.concurrent.ForkJoinWorkerThread) t).pool : null;
+        return (t instanceof ForkJoinWorkerThread) ?
+            ((ForkJoinWorkerThread) t).pool : null;
     }
 
     /**
      * Returns {@code true} if the current thread is a {@link
-     * java.util.concurrent.ForkJoinWorkerThread} executing as a ForkJoinPool computation.
+     * ForkJoinWorkerThread} executing as a ForkJoinPool computation.
      *
      * @return {@code true} if the current thread is a {@link
-     * java.util.concurrent.ForkJoinWorkerThread} executing as a ForkJoinPool computation,
+     * ForkJoinWorkerThread} executing as a ForkJoinPool computation,
      * or {@code false} otherwise
      */
     public static boolean inForkJoinPool() {
-        return Thread.currentThread() instanceof java.util.concurrent.ForkJoinWorkerThread;
+        return Thread.currentThread() instanceof ForkJoinWorkerThread;
     }
 
     /**
@@ -1167,9 +1165,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     public boolean tryUnfork() {
         Thread t;
-        return (((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) ?
-                ((java.util.concurrent.ForkJoinWorkerThread)t).workQueue.tryUnpush(this) :
-                java.util.concurrent.ForkJoinPool.common.tryExternalUnpush(this));
+        return (((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) ?
+                ((ForkJoinWorkerThread)t).workQueue.tryUnpush(this) :
+                ForkJoinPool.common.tryExternalUnpush(this));
     }
 
     /**
@@ -1181,11 +1179,11 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return the number of tasks
      */
     public static int getQueuedTaskCount() {
-        Thread t; java.util.concurrent.ForkJoinPool.WorkQueue q;
-        if ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread)
-            q = ((java.util.concurrent.ForkJoinWorkerThread)t).workQueue;
+        Thread t; ForkJoinPool.WorkQueue q;
+        if ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread)
+            q = ((ForkJoinWorkerThread)t).workQueue;
         else
-            q = java.util.concurrent.ForkJoinPool.commonSubmitterQueue();
+            q = ForkJoinPool.commonSubmitterQueue();
         return (q == null) ? 0 : q.queueSize();
     }
 
@@ -1203,7 +1201,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return the surplus number of tasks, which may be negative
      */
     public static int getSurplusQueuedTaskCount() {
-        return java.util.concurrent.ForkJoinPool.getSurplusQueuedTaskCount();
+        return ForkJoinPool.getSurplusQueuedTaskCount();
     }
 
     // Extension methods
@@ -1257,9 +1255,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return the next task, or {@code null} if none are available
      */
     protected static ForkJoinTask<?> peekNextLocalTask() {
-        Thread t; java.util.concurrent.ForkJoinPool.WorkQueue q;
-        if ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread)
-            q = ((java.util.concurrent.ForkJoinWorkerThread)t).workQueue;
+        Thread t; ForkJoinPool.WorkQueue q;
+        if ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread)
+            q = ((ForkJoinWorkerThread)t).workQueue;
         else
             q = ForkJoinPool.commonSubmitterQueue();
         return (q == null) ? null : q.peek();
@@ -1276,8 +1274,8 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     protected static ForkJoinTask<?> pollNextLocalTask() {
         Thread t;
-        return ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) ?
-            ((java.util.concurrent.ForkJoinWorkerThread)t).workQueue.nextLocalTask() :
+        return ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) ?
+            ((ForkJoinWorkerThread)t).workQueue.nextLocalTask() :
             null;
     }
 
@@ -1295,8 +1293,8 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return a task, or {@code null} if none are available
      */
     protected static ForkJoinTask<?> pollTask() {
-        Thread t; java.util.concurrent.ForkJoinWorkerThread wt;
-        return ((t = Thread.currentThread()) instanceof java.util.concurrent.ForkJoinWorkerThread) ?
+        Thread t; ForkJoinWorkerThread wt;
+        return ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread) ?
             (wt = (ForkJoinWorkerThread)t).pool.nextTaskFor(wt.workQueue) :
             null;
     }
@@ -1403,7 +1401,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
         public final void setRawResult(Void v) { }
         public final boolean exec() { runnable.run(); return true; }
         void internalPropagateException(Throwable ex) {
-            java.util.concurrent.ForkJoinTask.rethrow(ex); // rethrow outside exec() catches.
+            ForkJoinTask.rethrow(ex); // rethrow outside exec() catches.
         }
         private static final long serialVersionUID = 5232453952276885070L;
     }
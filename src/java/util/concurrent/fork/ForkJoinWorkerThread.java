@@ -37,19 +37,17 @@ package java.util.concurrent.fork;
 
 import java.security.AccessControlContext;
 import java.security.ProtectionDomain;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinTask;
 
 /**
- * A thread managed by a {@link java.util.concurrent.ForkJoinPool}, which executes
- * {@link java.util.concurrent.ForkJoinTask}s.
+ * A thread managed by a {@link ForkJoinPool}, which executes
+ * {@link ForkJoinTask}s.
  * This class is subclassable solely for the sake of adding
  * functionality -- there are no overridable methods dealing with
  * scheduling or execution.  However, you can override initialization
  * and termination methods surrounding the main task processing loop.
  * If you do create such a subclass, you will also need to supply a
- * custom {@link java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory} to
- * {@linkplain java.util.concurrent.ForkJoinPool#ForkJoinPool use it} in a {@code ForkJoinPool}.
+ * custom {@link ForkJoinPool.ForkJoinWorkerThreadFactory} to
+ * {@linkplain ForkJoinPool#ForkJoinPool use it} in a {@code ForkJoinPool}.
  *
  * @since 1.7
  * @author Doug Lea
@@ -72,8 +70,8 @@ public class ForkJoinWorkerThread extends Thread {
      * both here and in the subclass to access and set Thread fields.
      */
 
-    final java.util.concurrent.ForkJoinPool pool;                // the pool this thread works in
-    final java.util.concurrent.ForkJoinPool.WorkQueue workQueue; // work-stealing mechanics
+    final ForkJoinPool pool;                // the pool this thread works in
+    final ForkJoinPool.WorkQueue workQueue; // work-stealing mechanics
 
     /**
      * Creates a ForkJoinWorkerThread operating in the given pool.
@@ -81,7 +79,7 @@ public class ForkJoinWorkerThread extends Thread {
      * @param pool the pool this thread works in
      * @throws NullPointerException if pool is null
      */
-    protected ForkJoinWorkerThread(java.util.concurrent.ForkJoinPool pool) {
+    protected ForkJoinWorkerThread(ForkJoinPool pool) {
         // Use a placeholder until a useful name can be set in registerWorker
         super("aForkJoinWorkerThread");
         this.pool = pool;
@@ -91,7 +89,7 @@ public class ForkJoinWorkerThread extends Thread {
     /**
      * Version for InnocuousForkJoinWorkerThread
      */
-    ForkJoinWorkerThread(java.util.concurrent.ForkJoinPool pool, ThreadGroup threadGroup,
+    ForkJoinWorkerThread(ForkJoinPool pool, ThreadGroup threadGroup,
                          AccessControlContext acc) {
         super(threadGroup, null, "aForkJoinWorkerThread");
         U.putOrderedObject(this, INHERITEDACCESSCONTROLCONTEXT, acc);
@@ -105,7 +103,7 @@ public class ForkJoinWorkerThread extends Thread {
      *
      * @return the pool
      */
-    public java.util.concurrent.ForkJoinPool getPool() {
+    public ForkJoinPool getPool() {
         return pool;
     }
 
@@ -123,6 +121,20 @@ public class ForkJoinWorkerThread extends Thread {
         return workQueue.getPoolIndex();
     }
 
+    /**
+     * Returns the index of the worker group this thread belongs to, or
+     * -1 if its pool was not constructed with worker groups.  The
+     * group does not change during the lifetime of the thread, so a
+     * thread factory or an overriding {@link #onStart} may use it to
+     * bind the thread to the corresponding processors.
+     *
+     * @return the group index, or -1 if none
+     * @since 1.8
+     */
+    public int getGroupIndex() {
+        return workQueue.group;
+    }
+
     /**
      * Initializes internal state after construction but before
      * processing any tasks. If you override this method, you must
@@ -34,6 +34,9 @@
  */
 
 package java.util.concurrent.future;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.concurrent.*;
 import java.util.concurrent.exception.CompletionException;
 import java.util.concurrent.exception.ExecutionException;
@@ -994,6 +997,143 @@ public class CompletableFuture<T> implements Future<T>, CompletionStage<T> {
         return d;
     }
 
+    /* ------------- Fused pipelines -------------- */
+
+    // Stage kinds for pipelines
+    static final byte P_APPLY   = 0;
+    static final byte P_ACCEPT  = 1;
+    static final byte P_RUN     = 2;
+    static final byte P_HANDLE  = 3;
+    static final byte P_WHEN    = 4;
+    static final byte P_EXCEPT  = 5;
+    static final byte P_COMPOSE = 6;
+
+    /**
+     * A Completion running a sequence of synchronous stages, starting
+     * at index from, in place of one Completion and one future per
+     * stage.  A compose stage whose future is not yet done suspends
+     * the sequence by pushing a new UniPipeline for the remaining
+     * stages onto that future.
+     */
+    @SuppressWarnings("serial")
+    static final class UniPipeline<V> extends UniCompletion<Object,V> {
+        Object[] fns;
+        byte[] kinds;
+        final int from;
+        final int stages;                  // for getDependentDepth
+        UniPipeline(CompletableFuture<V> dep, CompletableFuture<Object> src,
+                    Object[] fns, byte[] kinds, int from) {
+            super(null, dep, src);
+            this.fns = fns; this.kinds = kinds; this.from = from;
+            this.stages = kinds.length - from;
+        }
+        final CompletableFuture<V> tryFire(int mode) {
+            CompletableFuture<V> d; CompletableFuture<Object> a;
+            if ((d = dep) == null ||
+                !d.uniPipeline(a = src, fns, kinds, from,
+                               mode > 0 ? null : this))
+                return null;
+            dep = null; src = null; fns = null; kinds = null;
+            return d.postFire(a, mode);
+        }
+    }
+
+    final boolean uniPipeline(CompletableFuture<Object> a, Object[] fns,
+                              byte[] kinds, int from, UniPipeline<T> c) {
+        Object r;
+        if (a == null || (r = a.result) == null || fns == null)
+            return false;
+        if (result == null) {
+            if (c != null && !c.claim())
+                return false;
+            // a resumed pipeline relays a composed result, as uniCompose
+            runPipeline(from > 0 ? encodeRelay(r) : r, fns, kinds, from);
+            if (result == null)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs stages from index i on the given encoded source result,
+     * completing this future with the outcome of the last stage
+     * unless suspended on an incomplete composed future.  Outcomes
+     * are encoded as they would be by the corresponding Uni methods.
+     */
+    @SuppressWarnings("unchecked")
+    final void runPipeline(Object r, Object[] fns, byte[] kinds, int i) {
+        for (int n = kinds.length; i < n; ++i) {
+            Object f = fns[i], s = r, v; Throwable x = null;
+            if (r instanceof AltResult) {
+                x = ((AltResult)r).ex;
+                s = null;
+            }
+            try {
+                switch (kinds[i]) {
+                case P_APPLY:
+                    if (x != null)
+                        r = encodeThrowable(x, r);
+                    else
+                        r = ((v = ((Function<Object,Object>)f).apply(s))
+                             == null) ? NIL : v;
+                    break;
+                case P_ACCEPT:
+                    if (x != null)
+                        r = encodeThrowable(x, r);
+                    else {
+                        ((Consumer<Object>)f).accept(s);
+                        r = NIL;
+                    }
+                    break;
+                case P_RUN:
+                    if (x != null)
+                        r = encodeThrowable(x, r);
+                    else {
+                        ((Runnable)f).run();
+                        r = NIL;
+                    }
+                    break;
+                case P_HANDLE:
+                    r = ((v = ((BiFunction<Object,Throwable,Object>)f)
+                          .apply(s, x)) == null) ? NIL : v;
+                    break;
+                case P_WHEN:
+                    ((BiConsumer<Object,Throwable>)f).accept(s, x);
+                    if (x != null)
+                        r = encodeThrowable(x, r);
+                    break;
+                case P_EXCEPT:
+                    if (x != null)
+                        r = ((v = ((Function<Throwable,Object>)f).apply(x))
+                             == null) ? NIL : v;
+                    break;
+                case P_COMPOSE:
+                    if (x != null)
+                        r = encodeThrowable(x, r);
+                    else {
+                        CompletableFuture<Object> g =
+                            ((Function<Object,CompletionStage<Object>>)f)
+                            .apply(s).toCompletableFuture();
+                        Object gr;
+                        if ((gr = g.result) == null) {
+                            UniPipeline<T> c = new UniPipeline<T>
+                                (this, g, fns, kinds, i + 1);
+                            g.push(c);
+                            c.tryFire(SYNC);
+                            return;
+                        }
+                        r = encodeRelay(gr);
+                    }
+                    break;
+                }
+            } catch (Throwable ex) {
+                r = (kinds[i] == P_WHEN && x != null) ?
+                    encodeThrowable(x, r) : encodeThrowable(ex);
+            }
+        }
+        internalComplete(encodeRelay(r));
+    }
+
     /* ------------- Two-input Completions -------------- */
 
     /** A Completion for an action with two sources */
@@ -2192,6 +2332,226 @@ public class CompletableFuture<T> implements Future<T>, CompletionStage<T> {
         return uniExceptionallyStage(fn);
     }
 
+    /**
+     * Returns a new {@link Pipeline} for building a chain of
+     * synchronous stages triggered by the completion of this
+     * CompletableFuture.  The chain is compiled into a single
+     * dependent action when {@link Pipeline#toCompletableFuture} is
+     * invoked, avoiding the intermediate CompletableFutures and
+     * dependent actions otherwise created for each stage.
+     *
+     * @return a new pipeline with no stages
+     * @since 1.8
+     */
+    public Pipeline<T> pipeline() {
+        return new Pipeline<T>(this);
+    }
+
+    /**
+     * A builder for a chain of synchronous stages that run, in order,
+     * in a single dependent action of a source CompletableFuture.
+     * Each stage method has the same effect on the outcome seen by
+     * later stages as the similarly named {@link CompletionStage}
+     * method, but the outcomes of intermediate stages are not
+     * available as CompletableFutures, and so cannot be observed,
+     * completed, or cancelled independently.  Stages run in the
+     * thread that completes the source, or the thread invoking
+     * {@link #toCompletableFuture} if the source is already
+     * complete.  When the future returned by a {@link #thenCompose}
+     * stage is not yet complete, the remaining stages run when it
+     * completes.
+     *
+     * <p>Pipelines are not thread-safe, and may be compiled only once.
+     *
+     * @param <T> the result type of the last stage
+     * @since 1.8
+     */
+    public static final class Pipeline<T> {
+        private final CompletableFuture<?> source;
+        private Object[] fns;
+        private byte[] kinds;
+        private int size;
+        private boolean compiled;
+
+        Pipeline(CompletableFuture<?> source) {
+            this.source = source;
+            this.fns = new Object[4];
+            this.kinds = new byte[4];
+        }
+
+        @SuppressWarnings("unchecked")
+        private <U> Pipeline<U> add(Object fn, byte kind) {
+            if (fn == null)
+                throw new NullPointerException();
+            if (compiled)
+                throw new IllegalStateException("Pipeline already compiled");
+            int n = size;
+            if (n == kinds.length) {
+                fns = Arrays.copyOf(fns, n << 1);
+                kinds = Arrays.copyOf(kinds, n << 1);
+            }
+            fns[n] = fn;
+            kinds[n] = kind;
+            size = n + 1;
+            return (Pipeline<U>)this;
+        }
+
+        /**
+         * Adds a stage that applies the given function to a normal
+         * result.
+         *
+         * @param fn the function to use to compute the stage result
+         * @param <U> the function's return type
+         * @return this pipeline
+         * @throws NullPointerException if the function is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#thenApply
+         */
+        public <U> Pipeline<U> thenApply(Function<? super T,? extends U> fn) {
+            return add(fn, P_APPLY);
+        }
+
+        /**
+         * Adds a stage that performs the given action on a normal
+         * result.
+         *
+         * @param action the action to perform
+         * @return this pipeline
+         * @throws NullPointerException if the action is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#thenAccept
+         */
+        public Pipeline<Void> thenAccept(Consumer<? super T> action) {
+            return add(action, P_ACCEPT);
+        }
+
+        /**
+         * Adds a stage that runs the given action after a normal
+         * result.
+         *
+         * @param action the action to perform
+         * @return this pipeline
+         * @throws NullPointerException if the action is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#thenRun
+         */
+        public Pipeline<Void> thenRun(Runnable action) {
+            return add(action, P_RUN);
+        }
+
+        /**
+         * Adds a stage that continues with the stage returned by the
+         * given function applied to a normal result.
+         *
+         * @param fn the function returning a new CompletionStage
+         * @param <U> the type of the returned CompletionStage's result
+         * @return this pipeline
+         * @throws NullPointerException if the function is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#thenCompose
+         */
+        public <U> Pipeline<U> thenCompose(
+            Function<? super T, ? extends CompletionStage<U>> fn) {
+            return add(fn, P_COMPOSE);
+        }
+
+        /**
+         * Adds a stage that applies the given function to the result
+         * or exception of the previous stage.
+         *
+         * @param fn the function to use to compute the stage result
+         * @param <U> the function's return type
+         * @return this pipeline
+         * @throws NullPointerException if the function is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#handle
+         */
+        public <U> Pipeline<U> handle(
+            BiFunction<? super T, Throwable, ? extends U> fn) {
+            return add(fn, P_HANDLE);
+        }
+
+        /**
+         * Adds a stage that performs the given action with the result
+         * or exception of the previous stage, preserving that outcome.
+         *
+         * @param action the action to perform
+         * @return this pipeline
+         * @throws NullPointerException if the action is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletionStage#whenComplete
+         */
+        public Pipeline<T> whenComplete(
+            BiConsumer<? super T, ? super Throwable> action) {
+            return add(action, P_WHEN);
+        }
+
+        /**
+         * Adds a stage that applies the given function to the
+         * exception of the previous stage, if it completed
+         * exceptionally.
+         *
+         * @param fn the function to use to compute the stage result
+         * @return this pipeline
+         * @throws NullPointerException if the function is null
+         * @throws IllegalStateException if this pipeline was compiled
+         * @see CompletableFuture#exceptionally
+         */
+        public Pipeline<T> exceptionally(
+            Function<Throwable, ? extends T> fn) {
+            return add(fn, P_EXCEPT);
+        }
+
+        /**
+         * Returns the number of stages added to this pipeline.
+         *
+         * @return the number of stages
+         */
+        public int getStageCount() {
+            return size;
+        }
+
+        /**
+         * Compiles this pipeline, returning a new CompletableFuture
+         * that is completed with the outcome of the last stage, or
+         * with the same result as the source if there are no stages.
+         *
+         * @return the new CompletableFuture
+         * @throws IllegalStateException if this pipeline was compiled
+         */
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<T> toCompletableFuture() {
+            if (compiled)
+                throw new IllegalStateException("Pipeline already compiled");
+            compiled = true;
+            Object[] fs = Arrays.copyOf(fns, size);
+            byte[] ks = Arrays.copyOf(kinds, size);
+            fns = null; kinds = null;
+            CompletableFuture<Object> a = (CompletableFuture<Object>)source;
+            CompletableFuture<T> d = new CompletableFuture<T>();
+            Object r;
+            if ((r = a.result) != null)
+                d.runPipeline(r, fs, ks, 0);
+            else {
+                UniPipeline<T> c = new UniPipeline<T>(d, a, fs, ks, 0);
+                a.push(c);
+                c.tryFire(SYNC);
+            }
+            return d;
+        }
+
+        /**
+         * Returns a string identifying this pipeline and its number of
+         * stages.
+         *
+         * @return a string identifying this pipeline
+         */
+        public String toString() {
+            return super.toString() + "[" + size + " stages" +
+                (compiled ? ", compiled]" : "]");
+        }
+    }
+
     /* ------------- Arbitrary-arity constructions -------------- */
 
     /**
@@ -2240,6 +2600,43 @@ public class CompletableFuture<T> implements Future<T>, CompletionStage<T> {
         return orTree(cfs, 0, cfs.length - 1);
     }
 
+    /**
+     * Completes each of the given CompletableFutures, if not already
+     * completed, with the value at the same index of the given array.
+     * All of the values are set before any dependent actions are
+     * triggered, so that actions depending on several of the given
+     * futures, such as those of {@link #allOf}, run once rather than
+     * being retried as each input completes.
+     *
+     * @param cfs the CompletableFutures
+     * @param values the result values
+     * @param <T> the type of the values
+     * @return the number of CompletableFutures that this invocation
+     * caused to transition to a completed state
+     * @throws NullPointerException if either array or any of the
+     * CompletableFutures is {@code null}
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @since 1.8
+     */
+    public static <T> int completeAll(CompletableFuture<? super T>[] cfs,
+                                      T[] values) {
+        int n = cfs.length;
+        if (values.length != n)
+            throw new IllegalArgumentException();
+        for (CompletableFuture<? super T> f : cfs)
+            if (f == null)
+                throw new NullPointerException();
+        int count = 0;
+        for (int i = 0; i < n; ++i) {
+            T v = values[i];
+            if (cfs[i].internalComplete((v == null) ? NIL : v))
+                ++count;
+        }
+        for (CompletableFuture<? super T> f : cfs)
+            f.postComplete();
+        return count;
+    }
+
     /* ------------- Control and status methods -------------- */
 
     /**
@@ -2337,6 +2734,76 @@ public class CompletableFuture<T> implements Future<T>, CompletionStage<T> {
         return count;
     }
 
+    /**
+     * Returns the estimated number of stages that directly or
+     * indirectly depend on the completion of this CompletableFuture,
+     * counting each stage of a compiled {@link Pipeline} separately.
+     * This method traverses all dependents, and is designed for use in
+     * monitoring system state, not for synchronization control.
+     *
+     * @return the number of dependent stages
+     * @since 1.8
+     */
+    public int getNumberOfDependentStages() {
+        return scanDependents(false);
+    }
+
+    /**
+     * Returns the estimated length of the longest chain of stages
+     * that depend on the completion of this CompletableFuture, which
+     * bounds the number of dependent actions triggered one after
+     * another upon its completion.  Each stage of a compiled {@link
+     * Pipeline} counts separately.  This method traverses all
+     * dependents, and is designed for use in monitoring system
+     * state, not for synchronization control.
+     *
+     * @return the depth of dependent stages
+     * @since 1.8
+     */
+    public int getDependentDepth() {
+        return scanDependents(true);
+    }
+
+    /**
+     * Traverses dependents breadth-first, returning either the total
+     * number of stages or the largest number of stages on a path from
+     * this future, as reached by the traversal.
+     */
+    private int scanDependents(boolean depth) {
+        IdentityHashMap<CompletableFuture<?>,Integer> seen =
+            new IdentityHashMap<CompletableFuture<?>,Integer>();
+        ArrayDeque<CompletableFuture<?>> queue =
+            new ArrayDeque<CompletableFuture<?>>();
+        seen.put(this, 0);
+        queue.add(this);
+        int stages = 0, deepest = 0;
+        for (CompletableFuture<?> f; (f = queue.poll()) != null; ) {
+            int base = seen.get(f);
+            for (Completion p = f.stack; p != null; p = p.next) {
+                CompletableFuture<?> d; int k = 1;
+                if (p instanceof CoCompletion) {
+                    BiCompletion<?,?,?> b = ((CoCompletion)p).base;
+                    d = (b == null) ? null : b.dep;
+                }
+                else if (p instanceof UniCompletion) {
+                    d = ((UniCompletion<?,?>)p).dep;
+                    if (p instanceof UniPipeline)
+                        k = Math.max(1, ((UniPipeline<?>)p).stages);
+                }
+                else
+                    continue;               // Signaller
+                if (d != null && !seen.containsKey(d)) {
+                    seen.put(d, base + k);
+                    stages += k;
+                    if (base + k > deepest)
+                        deepest = base + k;
+                    queue.add(d);
+                }
+            }
+        }
+        return depth ? deepest : stages;
+    }
+
     /**
      * Returns a string identifying this CompletableFuture, as well as
      * its completion state.  The state, in brackets, contains the
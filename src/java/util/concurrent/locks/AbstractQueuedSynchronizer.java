@@ -38,6 +38,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
 import sun.misc.Unsafe;
 
 /**
@@ -81,6 +82,18 @@ import sun.misc.Unsafe;
  * <p>这个类的序列化只存储底层的原子整数维护状态，所以反序列化的对象有空线程队列。
  * 需要可串行化的典型子类将定义一个{@code readObject}方法，该方法在反串行化时将此恢复为已知的初始状态。
  *
+ * <p>Two opt-in facilities help with synchronizers guarding very short
+ * critical sections.  {@link #setAdaptiveSpinning Adaptive spinning}
+ * lets the thread at the head of the queue retry for a while before
+ * parking, when recent waits suggest the synchronizer will be released
+ * sooner than a park and unpark would take.  {@link
+ * #setContentionMonitoring Contention monitoring} counts contended
+ * acquires, parks and wait times, which can be sampled
+ * with {@link #getContentionStatistics}.  Neither touches acquires that
+ * succeed without queuing.  Both are disabled by default, in which case
+ * they cost a single field read per contended acquire, and neither
+ * survives serialization.
+ *
  * <h3>Usage</h3>
  *
  * <p>要使用这个类作为同步器的基础，
@@ -423,6 +436,12 @@ public abstract class AbstractQueuedSynchronizer
      */
     private volatile int state;
 
+    /**
+     * Adaptive spinning and contention monitoring state, or null if
+     * neither has ever been enabled.  Set only by CAS in contention().
+     */
+    private transient volatile Contention contention;
+
     /**
      * 返回同步状态的当前值。该操作的内存语义为{@code volatile} read。
      * @return current state value
@@ -460,6 +479,99 @@ public abstract class AbstractQueuedSynchronizer
      */
     static final long spinForTimeoutThreshold = 1000L;
 
+    /** Number of CPUS, to place bounds on spinning */
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum adaptive spin limit.  Spinning is pointless on a
+     * uniprocessor, since the holder cannot release while we spin.
+     */
+    static final int MAX_SPINS = (NCPU > 1) ? 1 << 10 : 0;
+
+    /** The minimum (and initial) adaptive spin limit when enabled */
+    static final int MIN_SPINS = (NCPU > 1) ? 1 << 4 : 0;
+
+    /**
+     * The recent average contended wait, in nanoseconds, above which a
+     * queued thread does not spin at all: the holder probably runs for
+     * much longer than a park/unpark round trip.
+     */
+    static final long MAX_SPIN_WAIT_NANOS = 1L << 15;
+
+    /**
+     * Adaptive spinning and contention monitoring state.  The spin
+     * limit and recent wait estimate are heuristics updated without
+     * synchronization, so concurrent updates may occasionally be lost.
+     *
+     * The spin limit adapts in the style of adaptive monitor spinning:
+     * it doubles each time a thread acquires without parking, and halves
+     * each time one has to park after spinning.  Independently, an
+     * exponentially weighted average of recent contended waits, which
+     * for a thread at the head of the queue approximates the remaining
+     * hold time, switches spinning off while waits are long.
+     */
+    static final class Contention {
+        volatile boolean spinning;
+        volatile boolean monitoring;
+        volatile int spinLimit = MIN_SPINS;
+        volatile long recentWaitNanos;
+        final LongAdder contendedAcquires = new LongAdder();
+        final LongAdder parks = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+
+        /**
+         * Returns true if the wait of an acquire that starts queuing
+         * should be timed, which is only when spinning or monitoring is
+         * enabled.
+         */
+        boolean timing() {
+            return monitoring || spinning;
+        }
+
+        /**
+         * Returns the number of times a queued thread at the head of
+         * the queue may retry before parking.
+         */
+        int spinBudget() {
+            return (spinning && recentWaitNanos < MAX_SPIN_WAIT_NANOS) ?
+                spinLimit : 0;
+        }
+
+        /**
+         * Records a contended acquire that started queuing at the given
+         * time and parked the given number of times.  Called only for
+         * acquires timed because timing() returned true.
+         */
+        void acquired(long startTime, int parkCount) {
+            long w = System.nanoTime() - startTime;
+            long r = recentWaitNanos;
+            recentWaitNanos = r + ((w - r) >> 3);
+            if (spinning) {
+                int s = spinLimit;
+                spinLimit = (parkCount == 0) ?
+                    Math.min(MAX_SPINS, s << 1) :
+                    Math.max(MIN_SPINS, s >>> 1);
+            }
+            if (monitoring) {
+                contendedAcquires.increment();
+                waitNanos.add(w);
+                if (parkCount != 0)
+                    parks.add(parkCount);
+            }
+        }
+    }
+
+    /**
+     * Returns the contention state, creating it if necessary.
+     */
+    private Contention contention() {
+        Contention k;
+        while ((k = contention) == null)
+            unsafe.compareAndSwapObject(this, contentionOffset, null,
+                                        new Contention());
+        return k;
+    }
+
     /**
      * 将节点插入队列，必要时进行初始化。见上图。
      * @param node 要插入的节点
@@ -764,6 +876,10 @@ public abstract class AbstractQueuedSynchronizer
      * @return {@code true} if interrupted while waiting
      */
     final boolean acquireQueued(final Node node, int arg) {
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = timing ? System.nanoTime() : 0L;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             boolean interrupted = false;
@@ -783,16 +899,25 @@ public abstract class AbstractQueuedSynchronizer
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
+                    if (timing)
+                        k.acquired(startTime, parks);
                     return interrupted;
                 }
+                // 启用自适应自旋时，头节点的后继在阻塞前先重试若干次
+                if (p == head && spins > 0) {
+                    --spins;
+                    continue;
+                }
                 /**
                  * 如果不是头节点或者自旋失败，则将该Thread进行阻塞
                  *   shouldParkAfterFailedAcquire():将上一个node节点的状态设置为-1，并返回true
                  *   parkAndCheckInterrupt():将该线程进行park阻塞
                  */
-                if (shouldParkAfterFailedAcquire(p, node) &&
-                    parkAndCheckInterrupt())
-                    interrupted = true;
+                if (shouldParkAfterFailedAcquire(p, node)) {
+                    ++parks;
+                    if (parkAndCheckInterrupt())
+                        interrupted = true;
+                }
             }
         } finally {
             if (failed)
@@ -807,6 +932,10 @@ public abstract class AbstractQueuedSynchronizer
     private void doAcquireInterruptibly(int arg)
         throws InterruptedException {
         final Node node = addWaiter(Node.EXCLUSIVE);
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = timing ? System.nanoTime() : 0L;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             for (;;) {
@@ -815,11 +944,19 @@ public abstract class AbstractQueuedSynchronizer
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
+                    if (timing)
+                        k.acquired(startTime, parks);
                     return;
                 }
-                if (shouldParkAfterFailedAcquire(p, node) &&
-                    parkAndCheckInterrupt())
-                    throw new InterruptedException();
+                if (p == head && spins > 0) {
+                    --spins;
+                    continue;
+                }
+                if (shouldParkAfterFailedAcquire(p, node)) {
+                    ++parks;
+                    if (parkAndCheckInterrupt())
+                        throw new InterruptedException();
+                }
             }
         } finally {
             if (failed)
@@ -840,6 +977,10 @@ public abstract class AbstractQueuedSynchronizer
             return false;
         final long deadline = System.nanoTime() + nanosTimeout;
         final Node node = addWaiter(Node.EXCLUSIVE);
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = deadline - nanosTimeout;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             for (;;) {
@@ -848,14 +989,22 @@ public abstract class AbstractQueuedSynchronizer
                     setHead(node);
                     p.next = null; // help GC
                     failed = false;
+                    if (timing)
+                        k.acquired(startTime, parks);
                     return true;
                 }
                 nanosTimeout = deadline - System.nanoTime();
                 if (nanosTimeout <= 0L)
                     return false;
+                if (p == head && spins > 0) {
+                    --spins;
+                    continue;
+                }
                 if (shouldParkAfterFailedAcquire(p, node) &&
-                    nanosTimeout > spinForTimeoutThreshold)
+                    nanosTimeout > spinForTimeoutThreshold) {
+                    ++parks;
                     LockSupport.parkNanos(this, nanosTimeout);
+                }
                 if (Thread.interrupted())
                     throw new InterruptedException();
             }
@@ -871,6 +1020,10 @@ public abstract class AbstractQueuedSynchronizer
      */
     private void doAcquireShared(int arg) {
         final Node node = addWaiter(Node.SHARED);
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = timing ? System.nanoTime() : 0L;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             boolean interrupted = false;
@@ -884,12 +1037,20 @@ public abstract class AbstractQueuedSynchronizer
                         if (interrupted)
                             selfInterrupt();
                         failed = false;
+                        if (timing)
+                            k.acquired(startTime, parks);
                         return;
                     }
+                    if (spins > 0) {
+                        --spins;
+                        continue;
+                    }
+                }
+                if (shouldParkAfterFailedAcquire(p, node)) {
+                    ++parks;
+                    if (parkAndCheckInterrupt())
+                        interrupted = true;
                 }
-                if (shouldParkAfterFailedAcquire(p, node) &&
-                    parkAndCheckInterrupt())
-                    interrupted = true;
             }
         } finally {
             if (failed)
@@ -904,6 +1065,10 @@ public abstract class AbstractQueuedSynchronizer
     private void doAcquireSharedInterruptibly(int arg)
         throws InterruptedException {
         final Node node = addWaiter(Node.SHARED);
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = timing ? System.nanoTime() : 0L;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             for (;;) {
@@ -914,12 +1079,20 @@ public abstract class AbstractQueuedSynchronizer
                         setHeadAndPropagate(node, r);
                         p.next = null; // help GC
                         failed = false;
+                        if (timing)
+                            k.acquired(startTime, parks);
                         return;
                     }
+                    if (spins > 0) {
+                        --spins;
+                        continue;
+                    }
+                }
+                if (shouldParkAfterFailedAcquire(p, node)) {
+                    ++parks;
+                    if (parkAndCheckInterrupt())
+                        throw new InterruptedException();
                 }
-                if (shouldParkAfterFailedAcquire(p, node) &&
-                    parkAndCheckInterrupt())
-                    throw new InterruptedException();
             }
         } finally {
             if (failed)
@@ -940,6 +1113,10 @@ public abstract class AbstractQueuedSynchronizer
             return false;
         final long deadline = System.nanoTime() + nanosTimeout;
         final Node node = addWaiter(Node.SHARED);
+        final Contention k = contention;
+        final boolean timing = k != null && k.timing();
+        final long startTime = deadline - nanosTimeout;
+        int spins = (k == null) ? 0 : k.spinBudget(), parks = 0;
         boolean failed = true;
         try {
             for (;;) {
@@ -950,15 +1127,23 @@ public abstract class AbstractQueuedSynchronizer
                         setHeadAndPropagate(node, r);
                         p.next = null; // help GC
                         failed = false;
+                        if (timing)
+                            k.acquired(startTime, parks);
                         return true;
                     }
                 }
                 nanosTimeout = deadline - System.nanoTime();
                 if (nanosTimeout <= 0L)
                     return false;
+                if (p == head && spins > 0) {
+                    --spins;
+                    continue;
+                }
                 if (shouldParkAfterFailedAcquire(p, node) &&
-                    nanosTimeout > spinForTimeoutThreshold)
+                    nanosTimeout > spinForTimeoutThreshold) {
+                    ++parks;
                     LockSupport.parkNanos(this, nanosTimeout);
+                }
                 if (Thread.interrupted())
                     throw new InterruptedException();
             }
@@ -1288,6 +1473,97 @@ public abstract class AbstractQueuedSynchronizer
         return head != null;
     }
 
+    // Adaptive spinning and contention monitoring
+
+    /**
+     * Enables or disables adaptive spinning.  When enabled, a thread
+     * that has queued and reaches the head of the queue retries
+     * acquiring up to a spin limit before parking.  The limit grows
+     * while spinning succeeds and shrinks while it fails, and spinning
+     * is skipped entirely while recent contended waits have been long
+     * compared with the cost of parking.  Spinning is never used on a
+     * uniprocessor.
+     *
+     * <p>Spinning pays off only for synchronizers held for very short
+     * periods under contention; otherwise it wastes processor time
+     * that the holder could use.
+     *
+     * @param enabled {@code true} to enable adaptive spinning
+     * @since 1.8
+     */
+    public final void setAdaptiveSpinning(boolean enabled) {
+        if (enabled || contention != null)
+            contention().spinning = enabled;
+    }
+
+    /**
+     * Returns {@code true} if adaptive spinning is enabled.
+     *
+     * @return {@code true} if adaptive spinning is enabled
+     * @since 1.8
+     */
+    public final boolean isAdaptiveSpinning() {
+        Contention k = contention;
+        return k != null && k.spinning;
+    }
+
+    /**
+     * Enables or disables the gathering of contention statistics.
+     * Disabling monitoring retains the statistics gathered so far.
+     *
+     * @param enabled {@code true} to enable contention monitoring
+     * @see #getContentionStatistics
+     * @since 1.8
+     */
+    public final void setContentionMonitoring(boolean enabled) {
+        if (enabled || contention != null)
+            contention().monitoring = enabled;
+    }
+
+    /**
+     * Returns {@code true} if contention monitoring is enabled.
+     *
+     * @return {@code true} if contention monitoring is enabled
+     * @since 1.8
+     */
+    public final boolean isContentionMonitoring() {
+        Contention k = contention;
+        return k != null && k.monitoring;
+    }
+
+    /**
+     * Returns a snapshot of the contention statistics gathered while
+     * {@linkplain #setContentionMonitoring contention monitoring} was
+     * enabled.  The statistics are all zero if it never has been.
+     *
+     * @return the contention statistics
+     * @since 1.8
+     */
+    public final ContentionStatistics getContentionStatistics() {
+        Contention k = contention;
+        if (k == null)
+            return new ContentionStatistics(0L, 0L, 0L, 0);
+        return new ContentionStatistics(k.contendedAcquires.sum(),
+                                        k.parks.sum(),
+                                        k.waitNanos.sum(),
+                                        k.spinning ? k.spinLimit : 0);
+    }
+
+    /**
+     * Resets the contention statistics to zero.  Acquires in progress
+     * may still be recorded after the reset.
+     *
+     * @since 1.8
+     */
+    public final void resetContentionStatistics() {
+        Contention k = contention;
+        if (k != null) {
+            k.contendedAcquires.reset();
+            k.parks.reset();
+            k.waitNanos.reset();
+        }
+    }
+
     /**
      * 返回队列中的第一个(等待时间最长的)线程，如果当前没有线程排队，则返回{@code null}。
      *
@@ -2146,6 +2422,7 @@ public abstract class AbstractQueuedSynchronizer
     private static final long tailOffset;
     private static final long waitStatusOffset;
     private static final long nextOffset;
+    private static final long contentionOffset;
 
     static {
         try {
@@ -2159,6 +2436,8 @@ public abstract class AbstractQueuedSynchronizer
                 (Node.class.getDeclaredField("waitStatus"));
             nextOffset = unsafe.objectFieldOffset
                 (Node.class.getDeclaredField("next"));
+            contentionOffset = unsafe.objectFieldOffset
+                (AbstractQueuedSynchronizer.class.getDeclaredField("contention"));
 
         } catch (Exception ex) { throw new Error(ex); }
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.locks;
+
+/**
+ * A snapshot of the contention statistics of an {@link
+ * AbstractQueuedSynchronizer}, as returned by {@link
+ * AbstractQueuedSynchronizer#getContentionStatistics}.  Statistics are
+ * gathered only while {@linkplain
+ * AbstractQueuedSynchronizer#setContentionMonitoring contention
+ * monitoring} is enabled.  The counters are maintained without
+ * blocking and are not read atomically with respect to one another, so
+ * a snapshot taken while the synchronizer is in use may be slightly
+ * inconsistent; each value is nevertheless one that its counter held
+ * during the call.
+ *
+ * <p>A <em>contended</em> acquire is one that failed its first attempt,
+ * entered the wait queue and then completed, including reacquiring
+ * after a condition wait; its <em>wait</em> is the time from queuing to
+ * acquiring, including any time spent spinning.  A <em>park</em> is
+ * each time a contended acquire blocked.  Acquires that succeed
+ * immediately are not counted, so that monitoring adds nothing to
+ * uncontended acquires, and acquires abandoned because of interruption
+ * or timeout contribute no statistics.
+ *
+ * @since 1.8
+ */
+public final class ContentionStatistics {
+    private final long contendedAcquireCount;
+    private final long parkCount;
+    private final long totalWaitNanos;
+    private final int spinLimit;
+
+    ContentionStatistics(long contendedAcquireCount, long parkCount,
+                         long totalWaitNanos, int spinLimit) {
+        this.contendedAcquireCount = contendedAcquireCount;
+        this.parkCount = parkCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.spinLimit = spinLimit;
+    }
+
+    /**
+     * Returns the number of acquires that completed after queuing.
+     *
+     * @return the number of contended acquires
+     */
+    public long getContendedAcquireCount() {
+        return contendedAcquireCount;
+    }
+
+    /**
+     * Returns the number of times queued threads blocked.  Comparing
+     * this with the number of contended acquires shows how often
+     * spinning avoided blocking.
+     *
+     * @return the number of parks
+     */
+    public long getParkCount() {
+        return parkCount;
+    }
+
+    /**
+     * Returns the total time contended acquires spent waiting.
+     *
+     * @return the total wait time, in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    /**
+     * Returns the mean time contended acquires spent waiting, or zero
+     * if there were none.
+     *
+     * @return the average wait time, in nanoseconds
+     */
+    public long getAverageWaitNanos() {
+        return (contendedAcquireCount == 0L) ? 0L :
+            totalWaitNanos / contendedAcquireCount;
+    }
+
+    /**
+     * Returns the current adaptive spin limit, the number of times a
+     * thread at the head of the queue retries before blocking, or zero
+     * if adaptive spinning is disabled.
+     *
+     * @return the spin limit
+     */
+    public int getSpinLimit() {
+        return spinLimit;
+    }
+
+    /**
+     * Returns a string summarizing these statistics.
+     *
+     * @return a string summarizing these statistics
+     */
+    public String toString() {
+        return "[contended = " + contendedAcquireCount +
+            ", parks = " + parkCount +
+            ", average wait = " + getAverageWaitNanos() + "ns" +
+            ", spin limit = " + spinLimit + "]";
+    }
+}
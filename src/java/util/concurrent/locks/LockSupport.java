@@ -68,6 +68,18 @@ import sun.misc.Unsafe;
  * parameter is strongly encouraged. The normal argument to supply as
  * a {@code blocker} within a lock implementation is {@code this}.
  *
+ * <p>When invoked from a worker thread of a {@link
+ * java.util.concurrent.fork.ForkJoinPool} constructed to {@linkplain
+ * java.util.concurrent.fork.ForkJoinPool#isBlockingCompensated
+ * compensate for blocking}, the {@code park} methods behave as if
+ * parking within {@link
+ * java.util.concurrent.fork.ForkJoinPool#managedBlock}, so that the
+ * pool may activate a spare worker while the caller is blocked.
+ * Blockers that are themselves {@link
+ * java.util.concurrent.fork.ForkJoinPool.ManagedBlocker}s are assumed
+ * to be already managed, and are not compensated twice.  Timed parks
+ * shorter than about a millisecond are not compensated either.
+ *
  * <p>These methods are designed to be used as tools for creating
  * higher-level synchronization utilities, and are not in themselves
  * useful for most concurrency control applications.  The {@code park}
@@ -121,6 +133,82 @@ public class LockSupport {
         UNSAFE.putObject(t, parkBlockerOffset, arg);
     }
 
+    /**
+     * The shortest timed park that is compensated.  Activating or
+     * creating a spare worker costs tens of microseconds, and a worker
+     * lost for less than this hardly reduces parallelism, so shorter
+     * parks (such as those of timed waits about to expire) block
+     * uncompensated.
+     */
+    static final long COMPENSATE_MIN_NANOS = 1000L * 1000L;
+
+    /**
+     * Returns true if a park with the given arguments may last long
+     * enough to be worth compensating.
+     */
+    private static boolean longPark(boolean absolute, long time) {
+        if (absolute)
+            return time - System.currentTimeMillis() >=
+                COMPENSATE_MIN_NANOS / (1000L * 1000L);
+        return time == 0L || time >= COMPENSATE_MIN_NANOS;
+    }
+
+    /**
+     * Parks the current thread, first arranging compensation if it is
+     * a worker of a pool that compensates for blocking and the park
+     * may last long enough for a spare worker to be of use.
+     */
+    private static void park(Thread t, Object blocker,
+                             boolean absolute, long time) {
+        if (t instanceof java.util.concurrent.fork.ForkJoinWorkerThread &&
+            !(blocker instanceof java.util.concurrent.fork.ForkJoinPool.ManagedBlocker) &&
+            longPark(absolute, time) &&
+            ((java.util.concurrent.fork.ForkJoinWorkerThread)t).getPool()
+            .isBlockingCompensated()) {
+            CompensatedPark p = new CompensatedPark(absolute, time);
+            try {
+                java.util.concurrent.fork.ForkJoinPool.managedBlock(p);
+            } catch (InterruptedException | RuntimeException ex) {
+                // spare not available; park uncompensated below
+            }
+            if (!p.parked)
+                UNSAFE.park(absolute, time);
+        }
+        else
+            UNSAFE.park(absolute, time);
+    }
+
+    /**
+     * A ManagedBlocker parking at most once.  If the pool declines to
+     * compensate, the next call to isReleasable parks uncompensated
+     * rather than letting managedBlock retry, which it would do
+     * indefinitely for a terminating worker.
+     */
+    static final class CompensatedPark
+        implements java.util.concurrent.fork.ForkJoinPool.ManagedBlocker {
+        final boolean absolute;
+        final long time;
+        boolean attempted;
+        boolean parked;
+        CompensatedPark(boolean absolute, long time) {
+            this.absolute = absolute;
+            this.time = time;
+        }
+        public boolean isReleasable() {
+            if (attempted && !parked)
+                block();
+            attempted = true;
+            return parked;
+        }
+        public boolean block() {
+            if (!parked) {
+                parked = true;
+                UNSAFE.park(absolute, time);
+            }
+            return true;
+        }
+    }
+
     /**
      * Makes available the permit for the given thread, if it
      * was not already available.  If the thread was blocked on
@@ -168,7 +256,7 @@ public class LockSupport {
     public static void park(Object blocker) {
         Thread t = Thread.currentThread();
         setBlocker(t, blocker);
-        UNSAFE.park(false, 0L);
+        park(t, blocker, false, 0L);
         setBlocker(t, null);
     }
 
@@ -208,7 +296,7 @@ public class LockSupport {
         if (nanos > 0) {
             Thread t = Thread.currentThread();
             setBlocker(t, blocker);
-            UNSAFE.park(false, nanos);
+            park(t, blocker, false, nanos);
             setBlocker(t, null);
         }
     }
@@ -249,7 +337,7 @@ public class LockSupport {
     public static void parkUntil(Object blocker, long deadline) {
         Thread t = Thread.currentThread();
         setBlocker(t, blocker);
-        UNSAFE.park(true, deadline);
+        park(t, blocker, true, deadline);
         setBlocker(t, null);
     }
 
@@ -297,7 +385,7 @@ public class LockSupport {
      * for example, the interrupt status of the thread upon return.
      */
     public static void park() {
-        UNSAFE.park(false, 0L);
+        park(Thread.currentThread(), null, false, 0L);
     }
 
     /**
@@ -331,7 +419,7 @@ public class LockSupport {
      */
     public static void parkNanos(long nanos) {
         if (nanos > 0)
-            UNSAFE.park(false, nanos);
+            park(Thread.currentThread(), null, false, nanos);
     }
 
     /**
@@ -365,7 +453,7 @@ public class LockSupport {
      *        to wait until
      */
     public static void parkUntil(long deadline) {
-        UNSAFE.park(true, deadline);
+        park(Thread.currentThread(), null, true, deadline);
     }
 
     /**
@@ -1465,6 +1465,55 @@ public class ReentrantReadWriteLock
         return sync.getWaitingThreads((AbstractQueuedSynchronizer.ConditionObject)condition);
     }
 
+    /**
+     * Enables or disables adaptive spinning for this lock: a thread
+     * at the head of the wait queue retries for an adaptively tuned
+     * number of times before blocking.  This can reduce latency when
+     * the lock is held for very short periods under contention.
+     *
+     * @param enabled {@code true} to enable adaptive spinning
+     * @see AbstractQueuedSynchronizer#setAdaptiveSpinning
+     * @since 1.8
+     */
+    public void setAdaptiveSpinning(boolean enabled) {
+        sync.setAdaptiveSpinning(enabled);
+    }
+
+    /**
+     * Returns {@code true} if adaptive spinning is enabled for this lock.
+     *
+     * @return {@code true} if adaptive spinning is enabled
+     * @since 1.8
+     */
+    public boolean isAdaptiveSpinning() {
+        return sync.isAdaptiveSpinning();
+    }
+
+    /**
+     * Enables or disables the gathering of contention statistics for
+     * this lock.
+     *
+     * @param enabled {@code true} to enable contention monitoring
+     * @see #getContentionStatistics
+     * @since 1.8
+     */
+    public void setContentionMonitoring(boolean enabled) {
+        sync.setContentionMonitoring(enabled);
+    }
+
+    /**
+     * Returns a snapshot of the contention statistics gathered for
+     * this lock while contention monitoring was enabled.  This method
+     * is designed for use in monitoring of the system state, not for
+     * synchronization control.
+     *
+     * @return the contention statistics
+     * @since 1.8
+     */
+    public ContentionStatistics getContentionStatistics() {
+        return sync.getContentionStatistics();
+    }
+
     /**
      * Returns a string identifying this lock, as well as its lock state.
      * The state, in brackets, includes the String {@code "Write locks ="}
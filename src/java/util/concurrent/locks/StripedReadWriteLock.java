@@ -0,0 +1,938 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.concurrent.locks;
+
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A reentrant {@link ReadWriteLock} that scales read locking with the
+ * number of processors.  {@link ReentrantReadWriteLock} counts readers
+ * in a single synchronization word, so every read lock and unlock
+ * writes the same cache line, which limits read throughput on large
+ * machines no matter how short the read-side critical sections are.
+ * This lock instead counts readers in a table of padded cells, in the
+ * manner of {@link java.util.concurrent.atomic.LongAdder}: each reading
+ * thread increments and later decrements the cell selected by its
+ * thread-local probe, so readers on different processors usually touch
+ * different cache lines.  A writer announces itself with a flag that
+ * readers check after counting themselves, and then waits for the sum
+ * of all cells to drain to zero.
+ *
+ * <p>The price of this design is paid by writers, which must read every
+ * cell, and by memory: each lock that has seen concurrent readers holds
+ * a table of cells, each on its own cache line.  It is intended for
+ * read-mostly data such as configuration or routing tables, that are
+ * read at high rates by many threads and updated rarely.
+ *
+ * <p>This lock supports the same usage as {@code ReentrantReadWriteLock}:
+ *
+ * <ul>
+ * <li><b>Reentrancy.</b> Both read and write locks may be reacquired by
+ * the threads holding them.  Reentrant read acquisitions are counted
+ * per thread and do not touch shared state at all.
+ *
+ * <li><b>Lock downgrading.</b> A thread holding the write lock may
+ * acquire the read lock, then release the write lock.  Upgrading from
+ * a read lock to the write lock is not possible; an attempt to acquire
+ * the write lock while holding only the read lock throws {@link
+ * IllegalMonitorStateException} rather than deadlocking.
+ *
+ * <li><b>Interruption and timeouts.</b> Both locks support interruptible
+ * and timed acquisition.
+ *
+ * <li><b>{@link Condition} support.</b> The write lock provides a
+ * {@code Condition} implementation that behaves with respect to the
+ * write lock as the {@code Condition} of a {@link ReentrantLock} does.
+ * The read lock does not support conditions.
+ * </ul>
+ *
+ * <p>Writers are preferred: once a writer has announced itself, new
+ * readers (other than threads already holding the read lock) wait until
+ * it has released the write lock.  Writers are ordered among themselves
+ * by an internal non-fair {@link ReentrantLock}, and readers that find a
+ * writer active queue on the same lock.  No fairness policy is
+ * supported.
+ *
+ * <p>Unlike {@code ReentrantReadWriteLock}, this class is not
+ * serializable, and its instrumentation is limited to the methods
+ * below.
+ *
+ * @since 1.8
+ */
+public class StripedReadWriteLock implements ReadWriteLock {
+
+    /*
+     * Overview:
+     *
+     * Readers are counted in cells: first the single base cell, then,
+     * once a reader fails to update a cell because of contention, a
+     * table of cells sized to the next power of two of the number of
+     * processors, indexed by thread probe.  Each thread remembers in
+     * its ReadHold which cell it counted itself in, so that it can
+     * uncount itself from the same cell even if its probe has changed.
+     *
+     * Writers serialize on writerLock, then set writerActive and wait
+     * until the cells sum to zero (or to one, if they hold the read
+     * lock when reacquiring after a condition wait).  Readers increment
+     * their cell and then read writerActive; writers write writerActive
+     * and then read the cells.  As all of these accesses are volatile,
+     * either the reader sees the flag, or the writer sees the count.  A
+     * reader that sees the flag uncounts itself and takes the slow
+     * path: it acquires writerLock, counts itself while holding it, and
+     * releases it.  While a writer holds writerLock, no slow-path
+     * reader can count itself, except the writer itself when
+     * downgrading.
+     *
+     * A reader that uncounts itself while writerActive is set unparks
+     * the waiting writer, which re-checks the sum.  The writer sets
+     * waitingWriter before re-reading the cells, and the reader reads
+     * it after decrementing, so no wakeup can be lost.
+     */
+
+    /** Number of CPUS, to size the cell table and bound spinning */
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    /** The number of times a writer re-checks readers before parking */
+    static final int WRITER_SPINS = (NCPU > 1) ? 1 << 6 : 0;
+
+    /**
+     * A padded reader count.
+     */
+    @sun.misc.Contended static final class Cell {
+        volatile long value;
+        final boolean cas(long cmp, long val) {
+            return U.compareAndSwapLong(this, VALUE, cmp, val);
+        }
+        final void decrement() {
+            U.getAndAddLong(this, VALUE, -1L);
+        }
+    }
+
+    /**
+     * Per-thread read hold state.
+     */
+    static final class ReadHold {
+        /** The number of reentrant read holds */
+        int count;
+        /** The cell this thread is counted in while count > 0 */
+        Cell cell;
+    }
+
+    /**
+     * ThreadLocal subclass, initializing holds on first access.
+     */
+    static final class ThreadLocalReadHold extends ThreadLocal<ReadHold> {
+        public ReadHold initialValue() {
+            return new ReadHold();
+        }
+    }
+
+    /** Inner class providing readlock */
+    private final ReadLock readerLock;
+    /** Inner class providing writelock */
+    private final WriteLock writerLock;
+
+    /** Serializes writers, and readers that find a writer active */
+    final ReentrantLock writeSync = new ReentrantLock();
+
+    /** True while a writer holds, or is waiting to drain readers for, the write lock */
+    volatile boolean writerActive;
+
+    /** The writer waiting for readers to drain, if any */
+    volatile Thread waitingWriter;
+
+    /** The cell readers use until contention is seen */
+    final Cell base = new Cell();
+
+    /** Table of cells, or null. When non-null, size is a power of 2. */
+    volatile Cell[] cells;
+
+    /** The current thread's read holds */
+    final ThreadLocalReadHold readHolds = new ThreadLocalReadHold();
+
+    /**
+     * Creates a new {@code StripedReadWriteLock}.
+     */
+    public StripedReadWriteLock() {
+        readerLock = new ReadLock(this);
+        writerLock = new WriteLock(this);
+    }
+
+    public StripedReadWriteLock.WriteLock writeLock() { return writerLock; }
+    public StripedReadWriteLock.ReadLock  readLock()  { return readerLock; }
+
+    // Reader counting
+
+    /**
+     * Counts the current thread in some cell, returning the cell.
+     */
+    final Cell count() {
+        Cell[] cs; Cell c; long v;
+        if ((cs = cells) == null) {
+            if (base.cas(v = base.value, v + 1L))
+                return base;
+            cs = initCells();
+        }
+        int h = getProbe();
+        if (h == 0) {
+            ThreadLocalRandom.current(); // force initialization
+            h = getProbe();
+        }
+        for (;;) {
+            c = cs[h & (cs.length - 1)];
+            if (c.cas(v = c.value, v + 1L))
+                return c;
+            h = advanceProbe(h);
+        }
+    }
+
+    /**
+     * Creates the cell table if it does not yet exist.
+     */
+    private Cell[] initCells() {
+        Cell[] cs;
+        if ((cs = cells) == null) {
+            int n = 2;
+            while (n < NCPU)
+                n <<= 1;
+            Cell[] ncs = new Cell[n];
+            for (int i = 0; i < n; ++i)
+                ncs[i] = new Cell();
+            if (!U.compareAndSwapObject(this, CELLS, null, ncs))
+                ncs = cells;
+            cs = ncs;
+        }
+        return cs;
+    }
+
+    /**
+     * Uncounts a reader from the given cell, waking a waiting writer
+     * if there is one.
+     */
+    final void uncount(Cell c) {
+        c.decrement();
+        Thread w;
+        if (writerActive && (w = waitingWriter) != null)
+            LockSupport.unpark(w);
+    }
+
+    /**
+     * Returns the number of threads counted in all cells.  The result
+     * may include readers that are about to back off.
+     */
+    final long readerCount() {
+        long sum = base.value;
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell c : cs)
+                sum += c.value;
+        }
+        return sum;
+    }
+
+    /**
+     * Tries to count the current thread as a reader without waiting
+     * for a writer.  Must be called only if the thread holds no read
+     * lock.
+     */
+    final boolean tryFastRead(ReadHold h) {
+        Cell c = count();
+        if (!writerActive) {
+            h.cell = c;
+            h.count = 1;
+            return true;
+        }
+        uncount(c);
+        return false;
+    }
+
+    /**
+     * Counts the current thread as a reader while holding writeSync.
+     */
+    final void lockedRead(ReadHold h) {
+        // assert writeSync.isHeldByCurrentThread();
+        h.cell = count();
+        h.count = 1;
+    }
+
+    // Writer draining
+
+    /**
+     * Announces the current writer, which holds writeSync for the first
+     * time, and waits for readers other than itself to drain.
+     *
+     * @param self the number of read holds counted for the current
+     *        thread, zero or one
+     * @param interruptible whether to throw on interrupt
+     * @param timed whether to give up at the deadline
+     * @param deadline the System.nanoTime deadline, if timed
+     * @return true if readers drained, false on timeout, in which case
+     *         writerActive has been cleared
+     * @throws InterruptedException if interruptible and interrupted,
+     *         in which case writerActive has been cleared
+     */
+    final boolean awaitReaders(long self, boolean interruptible,
+                               boolean timed, long deadline)
+        throws InterruptedException {
+        Thread current = Thread.currentThread();
+        waitingWriter = current;
+        writerActive = true;
+        boolean interrupted = false, drained = false;
+        try {
+            for (int spins = WRITER_SPINS; ; ) {
+                if (readerCount() == self) {
+                    drained = true;
+                    break;
+                }
+                if (spins > 0)
+                    --spins;
+                else if (!timed)
+                    LockSupport.park(this);
+                else {
+                    long nanos = deadline - System.nanoTime();
+                    if (nanos <= 0L)
+                        break;
+                    LockSupport.parkNanos(this, nanos);
+                }
+                if (Thread.interrupted()) {
+                    if (interruptible)
+                        throw new InterruptedException();
+                    interrupted = true;
+                }
+            }
+        } finally {
+            waitingWriter = null;
+            if (!drained)
+                writerActive = false;
+            if (interrupted)
+                current.interrupt();
+        }
+        return drained;
+    }
+
+    /**
+     * Checks that the current thread, which has just acquired writeSync
+     * for the first time, is not trying to upgrade a read lock.
+     */
+    final void checkNotReader() {
+        if (readHolds.get().count > 0) {
+            writeSync.unlock();
+            throw new IllegalMonitorStateException
+                ("write lock requested by read lock holder");
+        }
+    }
+
+    /**
+     * The lock returned by method {@link StripedReadWriteLock#readLock}.
+     */
+    public static class ReadLock implements Lock {
+        private final StripedReadWriteLock lock;
+
+        /**
+         * Constructor for use by subclasses
+         *
+         * @param lock the outer lock object
+         * @throws NullPointerException if the lock is null
+         */
+        protected ReadLock(StripedReadWriteLock lock) {
+            if (lock == null)
+                throw new NullPointerException();
+            this.lock = lock;
+        }
+
+        /**
+         * Acquires the read lock.
+         *
+         * <p>Acquires the read lock if the write lock is not held by
+         * another thread, nor being awaited by a writer, and returns
+         * immediately.  If the current thread already holds the read
+         * lock, its hold count is incremented without touching any
+         * shared state.  Otherwise the current thread blocks until the
+         * writer has released the write lock.
+         */
+        public void lock() {
+            final StripedReadWriteLock l = lock;
+            ReadHold h = l.readHolds.get();
+            if (h.count > 0)
+                ++h.count;
+            else if (!l.tryFastRead(h)) {
+                l.writeSync.lock();
+                try {
+                    l.lockedRead(h);
+                } finally {
+                    l.writeSync.unlock();
+                }
+            }
+        }
+
+        /**
+         * Acquires the read lock unless the current thread is
+         * {@linkplain Thread#interrupt interrupted}.
+         *
+         * @throws InterruptedException if the current thread is interrupted
+         */
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            final StripedReadWriteLock l = lock;
+            ReadHold h = l.readHolds.get();
+            if (h.count > 0)
+                ++h.count;
+            else if (!l.tryFastRead(h)) {
+                l.writeSync.lockInterruptibly();
+                try {
+                    l.lockedRead(h);
+                } finally {
+                    l.writeSync.unlock();
+                }
+            }
+        }
+
+        /**
+         * Acquires the read lock only if the write lock is not held or
+         * awaited by another thread at the time of invocation.
+         *
+         * @return {@code true} if the read lock was acquired
+         */
+        public boolean tryLock() {
+            final StripedReadWriteLock l = lock;
+            ReadHold h = l.readHolds.get();
+            if (h.count > 0) {
+                ++h.count;
+                return true;
+            }
+            if (l.tryFastRead(h))
+                return true;
+            if (!l.writeSync.tryLock())
+                return false;
+            try {
+                l.lockedRead(h);
+            } finally {
+                l.writeSync.unlock();
+            }
+            return true;
+        }
+
+        /**
+         * Acquires the read lock if the write lock is not held or
+         * awaited by another thread within the given waiting time and
+         * the current thread has not been {@linkplain Thread#interrupt
+         * interrupted}.
+         *
+         * @param timeout the time to wait for the read lock
+         * @param unit the time unit of the timeout argument
+         * @return {@code true} if the read lock was acquired
+         * @throws InterruptedException if the current thread is interrupted
+         * @throws NullPointerException if the time unit is null
+         */
+        public boolean tryLock(long timeout, TimeUnit unit)
+                throws InterruptedException {
+            long nanos = unit.toNanos(timeout);
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            final StripedReadWriteLock l = lock;
+            ReadHold h = l.readHolds.get();
+            if (h.count > 0) {
+                ++h.count;
+                return true;
+            }
+            if (l.tryFastRead(h))
+                return true;
+            if (!l.writeSync.tryLock(nanos, TimeUnit.NANOSECONDS))
+                return false;
+            try {
+                l.lockedRead(h);
+            } finally {
+                l.writeSync.unlock();
+            }
+            return true;
+        }
+
+        /**
+         * Attempts to release this lock.
+         *
+         * <p>If the current thread's read hold count reaches zero, the
+         * lock becomes available for write lock attempts.
+         *
+         * @throws IllegalMonitorStateException if the current thread
+         *         does not hold this lock
+         */
+        public void unlock() {
+            final StripedReadWriteLock l = lock;
+            ReadHold h = l.readHolds.get();
+            if (h.count <= 0)
+                throw new IllegalMonitorStateException();
+            if (--h.count == 0) {
+                Cell c = h.cell;
+                h.cell = null;
+                l.uncount(c);
+            }
+        }
+
+        /**
+         * Throws {@code UnsupportedOperationException} because
+         * {@code ReadLocks} do not support conditions.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Returns a string identifying this lock, as well as its lock
+         * state.  The state, in brackets, includes the String {@code
+         * "Read locks ="} followed by the estimated number of threads
+         * holding the read lock.
+         *
+         * @return a string identifying this lock, as well as its lock state
+         */
+        public String toString() {
+            return super.toString() +
+                "[Read locks = " + lock.getReadLockCount() + "]";
+        }
+    }
+
+    /**
+     * The lock returned by method {@link StripedReadWriteLock#writeLock}.
+     */
+    public static class WriteLock implements Lock {
+        private final StripedReadWriteLock lock;
+
+        /**
+         * Constructor for use by subclasses
+         *
+         * @param lock the outer lock object
+         * @throws NullPointerException if the lock is null
+         */
+        protected WriteLock(StripedReadWriteLock lock) {
+            if (lock == null)
+                throw new NullPointerException();
+            this.lock = lock;
+        }
+
+        /**
+         * Acquires the write lock.
+         *
+         * <p>Acquires the write lock if no other thread holds the read
+         * or write lock, and returns immediately, setting the write lock
+         * hold count to one.  If the current thread already holds the
+         * write lock, the hold count is incremented.  Otherwise the
+         * current thread blocks until other writers have released the
+         * write lock, and then until all readers have released the read
+         * lock; no new readers are admitted while it waits.
+         *
+         * @throws IllegalMonitorStateException if the current thread
+         *         holds the read lock but not the write lock
+         */
+        public void lock() {
+            final StripedReadWriteLock l = lock;
+            l.writeSync.lock();
+            if (l.writeSync.getHoldCount() == 1) {
+                l.checkNotReader();
+                try {
+                    l.awaitReaders(0L, false, false, 0L);
+                } catch (InterruptedException cannotHappen) {
+                    throw new Error(cannotHappen);
+                }
+            }
+        }
+
+        /**
+         * Acquires the write lock unless the current thread is
+         * {@linkplain Thread#interrupt interrupted}.
+         *
+         * @throws InterruptedException if the current thread is interrupted
+         * @throws IllegalMonitorStateException if the current thread
+         *         holds the read lock but not the write lock
+         */
+        public void lockInterruptibly() throws InterruptedException {
+            final StripedReadWriteLock l = lock;
+            l.writeSync.lockInterruptibly();
+            if (l.writeSync.getHoldCount() == 1) {
+                l.checkNotReader();
+                boolean acquired = false;
+                try {
+                    acquired = l.awaitReaders(0L, true, false, 0L);
+                } finally {
+                    if (!acquired)
+                        l.writeSync.unlock();
+                }
+            }
+        }
+
+        /**
+         * Acquires the write lock only if it is not held by another
+         * thread, and no thread holds the read lock, at the time of
+         * invocation.
+         *
+         * @return {@code true} if the write lock was acquired
+         * @throws IllegalMonitorStateException if the current thread
+         *         holds the read lock but not the write lock
+         */
+        public boolean tryLock() {
+            final StripedReadWriteLock l = lock;
+            if (!l.writeSync.tryLock())
+                return false;
+            if (l.writeSync.getHoldCount() > 1)
+                return true;
+            l.checkNotReader();
+            boolean acquired = false;
+            try {
+                acquired = l.awaitReaders(0L, false, true, System.nanoTime());
+            } catch (InterruptedException cannotHappen) {
+                throw new Error(cannotHappen);
+            } finally {
+                if (!acquired)
+                    l.writeSync.unlock();
+            }
+            return acquired;
+        }
+
+        /**
+         * Acquires the write lock if it is not held by another thread
+         * and all readers release the read lock within the given
+         * waiting time, and the current thread has not been
+         * {@linkplain Thread#interrupt interrupted}.
+         *
+         * @param timeout the time to wait for the write lock
+         * @param unit the time unit of the timeout argument
+         * @return {@code true} if the write lock was acquired
+         * @throws InterruptedException if the current thread is interrupted
+         * @throws IllegalMonitorStateException if the current thread
+         *         holds the read lock but not the write lock
+         * @throws NullPointerException if the time unit is null
+         */
+        public boolean tryLock(long timeout, TimeUnit unit)
+                throws InterruptedException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            final StripedReadWriteLock l = lock;
+            if (!l.writeSync.tryLock(timeout, unit))
+                return false;
+            if (l.writeSync.getHoldCount() > 1)
+                return true;
+            l.checkNotReader();
+            boolean acquired = false;
+            try {
+                acquired = l.awaitReaders(0L, true, true, deadline);
+            } finally {
+                if (!acquired)
+                    l.writeSync.unlock();
+            }
+            return acquired;
+        }
+
+        /**
+         * Attempts to release this lock.
+         *
+         * <p>If the current thread is the holder of this lock then the
+         * hold count is decremented.  If the hold count is now zero
+         * then the lock is released, admitting readers.
+         *
+         * @throws IllegalMonitorStateException if the current thread
+         *         does not hold this lock
+         */
+        public void unlock() {
+            final StripedReadWriteLock l = lock;
+            if (!l.writeSync.isHeldByCurrentThread())
+                throw new IllegalMonitorStateException();
+            if (l.writeSync.getHoldCount() == 1)
+                l.writerActive = false;
+            l.writeSync.unlock();
+        }
+
+        /**
+         * Returns a {@link Condition} instance for use with this
+         * {@link Lock} instance.  The returned instance supports the
+         * same usages as do the {@link Object} monitor methods, and
+         * behaves as the conditions of {@link ReentrantLock} do: while
+         * the current thread is waiting, the write lock is fully
+         * released, admitting readers, and before returning from a wait
+         * the write lock is reacquired, waiting again for readers to
+         * drain.
+         *
+         * @return the Condition object
+         */
+        public Condition newCondition() {
+            return new WriteCondition(lock, lock.writeSync.newCondition());
+        }
+
+        /**
+         * Returns a string identifying this lock, as well as its lock
+         * state.  The state, in brackets includes either the String
+         * {@code "Unlocked"} or the String {@code "Locked"}.
+         *
+         * @return a string identifying this lock, as well as its lock state
+         */
+        public String toString() {
+            return super.toString() + (lock.isWriteLocked() ?
+                                       "[Locked]" : "[Unlocked]");
+        }
+
+        /**
+         * Queries if this write lock is held by the current thread.
+         *
+         * @return {@code true} if the current thread holds this lock
+         */
+        public boolean isHeldByCurrentThread() {
+            return lock.writeSync.isHeldByCurrentThread();
+        }
+
+        /**
+         * Queries the number of holds on this write lock by the current
+         * thread.
+         *
+         * @return the number of holds on this lock by the current thread,
+         *         or zero if this lock is not held by the current thread
+         */
+        public int getHoldCount() {
+            return lock.writeSync.getHoldCount();
+        }
+    }
+
+    /**
+     * Condition of the write lock.  Delegates to a condition of
+     * writeSync, clearing writerActive while waiting and draining
+     * readers again after the wait, whether or not it completes
+     * normally.
+     */
+    static final class WriteCondition implements Condition {
+        final StripedReadWriteLock lock;
+        final Condition condition;
+
+        WriteCondition(StripedReadWriteLock lock, Condition condition) {
+            this.lock = lock;
+            this.condition = condition;
+        }
+
+        /**
+         * Releases the write lock for readers before waiting.
+         */
+        private void release() {
+            if (!lock.writeSync.isHeldByCurrentThread())
+                throw new IllegalMonitorStateException();
+            lock.writerActive = false;
+        }
+
+        /**
+         * Drains readers after the condition has reacquired writeSync.
+         */
+        private void reacquire() {
+            StripedReadWriteLock l = lock;
+            try {
+                l.awaitReaders((l.readHolds.get().count > 0) ? 1L : 0L,
+                               false, false, 0L);
+            } catch (InterruptedException cannotHappen) {
+                throw new Error(cannotHappen);
+            }
+        }
+
+        public void await() throws InterruptedException {
+            release();
+            try {
+                condition.await();
+            } finally {
+                reacquire();
+            }
+        }
+
+        public void awaitUninterruptibly() {
+            release();
+            try {
+                condition.awaitUninterruptibly();
+            } finally {
+                reacquire();
+            }
+        }
+
+        public long awaitNanos(long nanosTimeout) throws InterruptedException {
+            release();
+            try {
+                return condition.awaitNanos(nanosTimeout);
+            } finally {
+                reacquire();
+            }
+        }
+
+        public boolean await(long time, TimeUnit unit)
+                throws InterruptedException {
+            release();
+            try {
+                return condition.await(time, unit);
+            } finally {
+                reacquire();
+            }
+        }
+
+        public boolean awaitUntil(Date deadline) throws InterruptedException {
+            release();
+            try {
+                return condition.awaitUntil(deadline);
+            } finally {
+                reacquire();
+            }
+        }
+
+        public void signal() {
+            condition.signal();
+        }
+
+        public void signalAll() {
+            condition.signalAll();
+        }
+    }
+
+    // Instrumentation and status
+
+    /**
+     * Queries if the write lock is held by any thread.  This method is
+     * designed for use in monitoring system state, not for
+     * synchronization control.
+     *
+     * @return {@code true} if any thread holds the write lock and
+     *         {@code false} otherwise
+     */
+    public boolean isWriteLocked() {
+        return writeSync.isLocked() && writerActive;
+    }
+
+    /**
+     * Queries if the write lock is held by the current thread.
+     *
+     * @return {@code true} if the current thread holds the write lock and
+     *         {@code false} otherwise
+     */
+    public boolean isWriteLockedByCurrentThread() {
+        return writeSync.isHeldByCurrentThread();
+    }
+
+    /**
+     * Queries the number of reentrant write holds on this lock by the
+     * current thread.
+     *
+     * @return the number of holds on the write lock by the current thread,
+     *         or zero if the write lock is not held by the current thread
+     */
+    public int getWriteHoldCount() {
+        return writeSync.getHoldCount();
+    }
+
+    /**
+     * Queries the number of reentrant read holds on this lock by the
+     * current thread.
+     *
+     * @return the number of holds on the read lock by the current thread,
+     *         or zero if the read lock is not held by the current thread
+     */
+    public int getReadHoldCount() {
+        return readHolds.get().count;
+    }
+
+    /**
+     * Returns an estimate of the number of threads holding the read
+     * lock.  Reentrant holds are not counted, and the value may
+     * transiently include readers backing off for a writer.  This
+     * method is designed for use in monitoring system state, not for
+     * synchronization control.
+     *
+     * @return the estimated number of threads holding the read lock
+     */
+    public int getReadLockCount() {
+        long n = readerCount();
+        return (n <= 0L) ? 0 : (n >= Integer.MAX_VALUE) ?
+            Integer.MAX_VALUE : (int)n;
+    }
+
+    /**
+     * Queries whether any threads are waiting to acquire the write
+     * lock, or waiting to acquire the read lock because of a writer.
+     *
+     * @return {@code true} if there may be other threads waiting to
+     *         acquire the lock
+     */
+    public final boolean hasQueuedThreads() {
+        return writeSync.hasQueuedThreads();
+    }
+
+    /**
+     * Returns a string identifying this lock, as well as its lock state.
+     * The state, in brackets, includes the String {@code "Write locks ="}
+     * followed by the number of reentrantly held write locks if held by
+     * the current thread or some positive number otherwise, and the
+     * String {@code "Read locks ="} followed by the estimated number of
+     * threads holding read locks.
+     *
+     * @return a string identifying this lock, as well as its lock state
+     */
+    public String toString() {
+        int w = isWriteLocked() ? Math.max(1, getWriteHoldCount()) : 0;
+        return super.toString() +
+            "[Write locks = " + w + ", Read locks = " + getReadLockCount() + "]";
+    }
+
+    /**
+     * Returns the probe value for the current thread.
+     * Duplicated from ThreadLocalRandom because of packaging restrictions.
+     */
+    static final int getProbe() {
+        return U.getInt(Thread.currentThread(), PROBE);
+    }
+
+    /**
+     * Pseudo-randomly advances and records the given probe value for the
+     * given thread.
+     * Duplicated from ThreadLocalRandom because of packaging restrictions.
+     */
+    static final int advanceProbe(int probe) {
+        probe ^= probe << 13;   // xorshift
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        U.putInt(Thread.currentThread(), PROBE, probe);
+        return probe;
+    }
+
+    // Unsafe mechanics
+    private static final sun.misc.Unsafe U;
+    private static final long VALUE;
+    private static final long CELLS;
+    private static final long PROBE;
+    static {
+        try {
+            U = sun.misc.Unsafe.getUnsafe();
+            VALUE = U.objectFieldOffset
+                (Cell.class.getDeclaredField("value"));
+            CELLS = U.objectFieldOffset
+                (StripedReadWriteLock.class.getDeclaredField("cells"));
+            Class<?> tk = Thread.class;
+            PROBE = U.objectFieldOffset
+                (tk.getDeclaredField("threadLocalRandomProbe"));
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+}
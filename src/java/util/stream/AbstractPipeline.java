@@ -514,7 +514,21 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
         Objects.requireNonNull(sink);
 
         for ( @SuppressWarnings("rawtypes") AbstractPipeline p=AbstractPipeline.this; p.depth > 0; p=p.previousStage) {
-            sink = p.opWrapSink(p.previousStage.combinedFlags, sink);
+            int n = 0;
+            for (AbstractPipeline<?, ?, ?> q = p; q.depth > 0 && q.opIsFusible(); q = q.previousStage)
+                ++n;
+            if (n > 1) {
+                // Collapse the run of fusible stages ending at p into one sink
+                @SuppressWarnings("rawtypes") AbstractPipeline last = p;
+                AbstractPipeline<?, ?, ?>[] stages = new AbstractPipeline<?, ?, ?>[n];
+                stages[n - 1] = p;
+                for (int i = n - 2; i >= 0; --i)
+                    stages[i] = p = p.previousStage;
+                sink = last.opWrapFusedSink(stages, sink);
+            }
+            else {
+                sink = p.opWrapSink(p.previousStage.combinedFlags, sink);
+            }
         }
         return (Sink<P_IN>) sink;
     }
@@ -657,6 +671,45 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
      */
     abstract Sink<E_IN> opWrapSink(int flags, Sink<E_OUT> sink);
 
+    /**
+     * Returns whether this operation may be fused with adjacent fusible
+     * operations into a single sink by {@link #opWrapFusedSink}.
+     *
+     * @implSpec The default implementation returns {@code false}.
+     *
+     * @return {@code true} if this operation is fusible
+     */
+    boolean opIsFusible() {
+        return false;
+    }
+
+    /**
+     * Accepts a {@code Sink} which will receive the results of this
+     * operation, and returns a single {@code Sink} which performs the
+     * operations of the given run of consecutive fusible stages, ending with
+     * this stage, in order.  The result is equivalent to wrapping the sink
+     * with {@link #opWrapSink} of each stage in turn, but avoids a sink, and
+     * a level of calls, per stage.  Only called on fusible operations.
+     *
+     * @implSpec The default implementation does not fuse: it wraps the sink
+     * with {@link #opWrapSink} of each stage in turn, from this stage
+     * upstream.
+     *
+     * @param stages the fusible stages, from upstream to this stage
+     * @param sink sink to which elements should be sent after processing
+     * @return a sink which accepts elements of the input type of the first
+     *         stage and performs the operations of all the stages
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    Sink<?> opWrapFusedSink(AbstractPipeline<?, ?, ?>[] stages, Sink<E_OUT> sink) {
+        Sink s = sink;
+        for (int i = stages.length - 1; i >= 0; --i) {
+            AbstractPipeline p = stages[i];
+            s = p.opWrapSink(p.previousStage.combinedFlags, s);
+        }
+        return s;
+    }
+
     /**
      * Performs a parallel evaluation of the operation using the specified
      * {@code PipelineHelper} which describes the upstream intermediate
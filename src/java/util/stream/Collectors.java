@@ -44,6 +44,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.collection.ConcurrentHashMap;
 import java.util.concurrent.collection.ConcurrentMap;
 import java.util.function.BiConsumer;
@@ -410,7 +411,34 @@ public final class Collectors {
      */
     public static <T> Collector<T, ?, Long>
     counting() {
-        return reducing(0L, e -> 1L, Long::sum);
+        return summingLong(e -> 1L);
+    }
+
+    /**
+     * Returns a {@link Collector.Characteristics#CONCURRENT concurrent} and
+     * {@link Collector.Characteristics#UNORDERED unordered} {@code Collector}
+     * accepting elements of type {@code T} that counts the number of input
+     * elements.  If no elements are present, the result is 0.
+     *
+     * <p>The count is kept in a {@link LongAdder}, so this collector may be
+     * used as the downstream of {@link #groupingByConcurrent(Function, Collector)}
+     * without serializing threads that update the same key, and as the
+     * top-level collector of an unordered parallel stream without any
+     * combining step.
+     *
+     * @param <T> the type of the input elements
+     * @return a concurrent {@code Collector} that counts the input elements
+     *
+     * @see #counting()
+     * @see #summingLongConcurrent(ToLongFunction)
+     */
+    public static <T> Collector<T, ?, Long>
+    countingConcurrent() {
+        return new CollectorImpl<T, LongAdder, Long>(
+                LongAdder::new,
+                (a, t) -> a.increment(),
+                (a, b) -> { a.add(b.sum()); return a; },
+                LongAdder::sum, CH_CONCURRENT_NOID);
     }
 
     /**
@@ -487,6 +515,33 @@ public final class Collectors {
                 a -> a[0], CH_NOID);
     }
 
+    /**
+     * Returns a {@link Collector.Characteristics#CONCURRENT concurrent} and
+     * {@link Collector.Characteristics#UNORDERED unordered} {@code Collector}
+     * that produces the sum of a long-valued function applied to the input
+     * elements.  If no elements are present, the result is 0.
+     *
+     * <p>The sum is kept in a {@link LongAdder}, so this collector may be
+     * used as the downstream of {@link #groupingByConcurrent(Function, Collector)}
+     * without serializing threads that update the same key.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper a function extracting the property to be summed
+     * @return a concurrent {@code Collector} that produces the sum of a
+     * derived property
+     *
+     * @see #summingLong(ToLongFunction)
+     * @see #countingConcurrent()
+     */
+    public static <T> Collector<T, ?, Long>
+    summingLongConcurrent(ToLongFunction<? super T> mapper) {
+        return new CollectorImpl<T, LongAdder, Long>(
+                LongAdder::new,
+                (a, t) -> a.add(mapper.applyAsLong(t)),
+                (a, b) -> { a.add(b.sum()); return a; },
+                LongAdder::sum, CH_CONCURRENT_NOID);
+    }
+
     /**
      * Returns a {@code Collector} that produces the sum of a double-valued
      * function applied to the input elements.  If no elements are present,
@@ -1054,6 +1109,9 @@ public final class Collectors {
                                             Collector<? super T, A, D> downstream) {
         Supplier<A> downstreamSupplier = downstream.supplier();
         BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        // Containers of existing keys are looked up with get, which
+        // does not lock, before falling back to computeIfAbsent, which
+        // locks the bin even when the key is present.
         BinaryOperator<ConcurrentMap<K, A>> merger = Collectors.<K, A, ConcurrentMap<K, A>>mapMerger(downstream.combiner());
         @SuppressWarnings("unchecked")
         Supplier<ConcurrentMap<K, A>> mangledFactory = (Supplier<ConcurrentMap<K, A>>) mapFactory;
@@ -1061,14 +1119,18 @@ public final class Collectors {
         if (downstream.characteristics().contains(Collector.Characteristics.CONCURRENT)) {
             accumulator = (m, t) -> {
                 K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
-                A resultContainer = m.computeIfAbsent(key, k -> downstreamSupplier.get());
+                A resultContainer = m.get(key);
+                if (resultContainer == null)
+                    resultContainer = m.computeIfAbsent(key, k -> downstreamSupplier.get());
                 downstreamAccumulator.accept(resultContainer, t);
             };
         }
         else {
             accumulator = (m, t) -> {
                 K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
-                A resultContainer = m.computeIfAbsent(key, k -> downstreamSupplier.get());
+                A resultContainer = m.get(key);
+                if (resultContainer == null)
+                    resultContainer = m.computeIfAbsent(key, k -> downstreamSupplier.get());
                 synchronized (resultContainer) {
                     downstreamAccumulator.accept(resultContainer, t);
                 }
@@ -1091,6 +1153,127 @@ public final class Collectors {
         }
     }
 
+    /**
+     * Returns a {@code Collector} implementing a cascaded "group by"
+     * operation on input elements of type {@code T}, grouping elements
+     * according to a classification function, and then performing a
+     * reduction operation on the values associated with a given key using
+     * the specified downstream {@code Collector}.  This produces the same
+     * result as {@link #groupingBy(Function, Collector)}, but is organized
+     * for parallel evaluation.
+     *
+     * <p>Each intermediate result holds its keys in a fixed number of
+     * partitions selected by key hash.  Combining two intermediate results
+     * therefore merges corresponding partitions only, the smaller into the
+     * larger, and large combines merge the partitions in parallel.  No
+     * synchronization is performed while accumulating, and elements are
+     * presented to the downstream collector in encounter order.
+     *
+     * <p>There are no guarantees on the type, mutability,
+     * serializability, or thread-safety of the {@code Map} returned.
+     *
+     * @implSpec
+     * This produces a result equivalent to:
+     * <pre>{@code
+     *     groupingByPartitioned(classifier, HashMap::new, downstream);
+     * }</pre>
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream reduction
+     * @param classifier a classifier function mapping input elements to keys
+     * @param downstream a {@code Collector} implementing the downstream reduction
+     * @return a {@code Collector} implementing the cascaded group-by operation
+     *
+     * @see #groupingBy(Function, Collector)
+     * @see #groupingByPartitioned(Function, Supplier, Collector)
+     * @see #groupingByConcurrent(Function, Collector)
+     */
+    public static <T, K, A, D>
+    Collector<T, ?, Map<K, D>> groupingByPartitioned(Function<? super T, ? extends K> classifier,
+                                                     Collector<? super T, A, D> downstream) {
+        return groupingByPartitioned(classifier, HashMap::new, downstream);
+    }
+
+    /**
+     * Returns a {@code Collector} implementing a cascaded "group by"
+     * operation on input elements of type {@code T}, grouping elements
+     * according to a classification function, and then performing a
+     * reduction operation on the values associated with a given key using
+     * the specified downstream {@code Collector}.  The {@code Map} produced
+     * by the Collector is created with the supplied factory function.  This
+     * is organized for parallel evaluation, as described in
+     * {@link #groupingByPartitioned(Function, Collector)}, and differs from
+     * {@link #groupingBy(Function, Supplier, Collector)} in two respects:
+     * <ul>
+     * <li>Keys are grouped by {@link Object#equals equals} and
+     * {@link Object#hashCode hashCode}, whatever the map produced by the
+     * factory uses.  If that map identifies keys differently, as a
+     * {@code TreeMap} whose comparator is inconsistent with {@code equals}
+     * does, a group whose key it considers already present replaces the
+     * earlier group rather than being combined with it.
+     * <li>The map produced by the factory is filled only once, by the
+     * finisher, after all partial results have been combined, and in no
+     * particular key order.  A map ordered by insertion, such as a
+     * {@code LinkedHashMap}, therefore does not reflect the order in which
+     * keys were first encountered.
+     * </ul>
+     * When the factory produces a {@code HashMap}, or any map that identifies
+     * keys by {@code equals} and orders them independently of insertion, the
+     * result is the same as that of
+     * {@code groupingBy(classifier, mapFactory, downstream)}.
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream reduction
+     * @param <M> the type of the resulting {@code Map}
+     * @param classifier a classifier function mapping input elements to keys
+     * @param mapFactory a function which, when called, produces a new empty
+     *                   {@code Map} of the desired type
+     * @param downstream a {@code Collector} implementing the downstream reduction
+     * @return a {@code Collector} implementing the cascaded group-by operation
+     *
+     * @see #groupingBy(Function, Supplier, Collector)
+     * @see #groupingByPartitioned(Function, Collector)
+     */
+    public static <T, K, D, A, M extends Map<K, D>>
+    Collector<T, ?, M> groupingByPartitioned(Function<? super T, ? extends K> classifier,
+                                             Supplier<M> mapFactory,
+                                             Collector<? super T, A, D> downstream) {
+        Supplier<A> downstreamSupplier = downstream.supplier();
+        BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        int n = Math.min(Integer.highestOneBit(Math.max(AbstractTask.LEAF_TARGET, 1)),
+                         KeyPartitions.MAX_PARTITIONS);
+        BiConsumer<KeyPartitions<K, A>, T> accumulator = (p, t) -> {
+            K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+            A container = p.partitionFor(key).computeIfAbsent(key, k -> downstreamSupplier.get());
+            downstreamAccumulator.accept(container, t);
+        };
+        BinaryOperator<KeyPartitions<K, A>> merger = (l, r) -> l.merge(r, downstreamCombiner);
+        boolean identityFinish
+            = downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH);
+        Function<A, D> downstreamFinisher = downstream.finisher();
+        Function<KeyPartitions<K, A>, M> finisher = p -> {
+            M m = mapFactory.get();
+            for (HashMap<K, A> part : p.parts) {
+                if (part != null) {
+                    for (Map.Entry<K, A> e : part.entrySet()) {
+                        @SuppressWarnings("unchecked")
+                        D d = identityFinish ? (D) e.getValue()
+                            : downstreamFinisher.apply(e.getValue());
+                        m.put(e.getKey(), d);
+                    }
+                }
+            }
+            return m;
+        };
+        return new CollectorImpl<>(() -> new KeyPartitions<K, A>(n), accumulator,
+                                   merger, finisher, CH_NOID);
+    }
+
     /**
      * Returns a {@code Collector} which partitions the input elements according
      * to a {@code Predicate}, and organizes them into a
@@ -1534,6 +1717,89 @@ public final class Collectors {
                 (l, r) -> { l.combine(r); return l; }, CH_ID);
     }
 
+    /**
+     * Intermediate container used by groupingByPartitioned: a
+     * power-of-two number of maps, each holding the keys whose hash
+     * selects it.  The partition is chosen from the high bits of the
+     * multiplicatively mixed hash, so that the keys within a partition
+     * remain well spread over the buckets of its HashMap, which uses
+     * the low bits.  Maps are created on first use, so that leaves
+     * seeing few keys stay cheap.
+     */
+    static final class KeyPartitions<K, A> {
+        /** Upper bound on the number of partitions */
+        static final int MAX_PARTITIONS = 64;
+
+        /**
+         * Combined number of keys above which combining merges the
+         * partitions in parallel.
+         */
+        static final int PARALLEL_MERGE_THRESHOLD = 1 << 13;
+
+        final HashMap<K, A>[] parts;
+        final int shift;
+
+        @SuppressWarnings("unchecked")
+        KeyPartitions(int n) {
+            parts = (HashMap<K, A>[]) new HashMap<?, ?>[n];
+            shift = 32 - Integer.numberOfTrailingZeros(n);
+        }
+
+        HashMap<K, A> partitionFor(Object key) {
+            int i = (shift == 32) ? 0 : (key.hashCode() * 0x9e3779b9) >>> shift;
+            HashMap<K, A> m = parts[i];
+            if (m == null)
+                parts[i] = m = new HashMap<>();
+            return m;
+        }
+
+        int size() {
+            int s = 0;
+            for (HashMap<K, A> m : parts)
+                if (m != null)
+                    s += m.size();
+            return s;
+        }
+
+        /**
+         * Merges the keys of other, which holds later elements, into
+         * this container, combining the containers of keys present in
+         * both with op.
+         */
+        KeyPartitions<K, A> merge(KeyPartitions<K, A> other, BinaryOperator<A> op) {
+            HashMap<K, A>[] ps = parts, qs = other.parts;
+            int n = ps.length;
+            if (n > 1 && size() + other.size() >= PARALLEL_MERGE_THRESHOLD)
+                IntStream.range(0, n).parallel().forEach(
+                    i -> ps[i] = mergePartition(ps[i], qs[i], op));
+            else {
+                for (int i = 0; i < n; ++i)
+                    ps[i] = mergePartition(ps[i], qs[i], op);
+            }
+            return this;
+        }
+
+        /**
+         * Merges the smaller of two partitions into the larger one,
+         * preserving the left-to-right order of op's arguments.
+         */
+        static <K, A> HashMap<K, A> mergePartition(HashMap<K, A> l, HashMap<K, A> r,
+                                                   BinaryOperator<A> op) {
+            if (l == null)
+                return r;
+            if (r == null)
+                return l;
+            if (l.size() >= r.size()) {
+                for (Map.Entry<K, A> e : r.entrySet())
+                    l.merge(e.getKey(), e.getValue(), op);
+                return l;
+            }
+            for (Map.Entry<K, A> e : l.entrySet())
+                r.merge(e.getKey(), e.getValue(), (rv, lv) -> op.apply(lv, rv));
+            return r;
+        }
+    }
+
     /**
      * Implementation class used by partitioningBy.
      */
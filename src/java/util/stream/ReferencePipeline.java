@@ -159,42 +159,15 @@ abstract class ReferencePipeline<P_IN, P_OUT>
     @Override
     public final Stream<P_OUT> filter(Predicate<? super P_OUT> predicate) {
         Objects.requireNonNull(predicate);
-        return new StatelessOp<P_OUT, P_OUT>(this, StreamShape.REFERENCE,
-                                     StreamOpFlag.NOT_SIZED) {
-            @Override
-            Sink<P_OUT> opWrapSink(int flags, Sink<P_OUT> sink) {
-                return new Sink.ChainedReference<P_OUT, P_OUT>(sink) {
-                    @Override
-                    public void begin(long size) {
-                        downstream.begin(-1);
-                    }
-
-                    @Override
-                    public void accept(P_OUT u) {
-                        if (predicate.test(u))
-                            downstream.accept(u);
-                    }
-                };
-            }
-        };
+        return new FusibleOp<P_OUT, P_OUT>(this, StreamOpFlag.NOT_SIZED,
+                                           FusibleOp.FILTER, predicate);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public final <R> Stream<R> map(Function<? super P_OUT, ? extends R> mapper) {
         Objects.requireNonNull(mapper);
-        return new StatelessOp<P_OUT, R>(this, StreamShape.REFERENCE,
-                                     StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT) {
-            @Override
-            Sink<P_OUT> opWrapSink(int flags, Sink<R> sink) {
-                return new Sink.ChainedReference<P_OUT, R>(sink) {
-                    @Override
-                    public void accept(P_OUT u) {
-                        downstream.accept(mapper.apply(u));
-                    }
-                };
-            }
-        };
+        return new FusibleOp<P_OUT, R>(this, StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT,
+                                       FusibleOp.MAP, mapper);
     }
 
     @Override
@@ -362,19 +335,7 @@ abstract class ReferencePipeline<P_IN, P_OUT>
     @Override
     public final Stream<P_OUT> peek(Consumer<? super P_OUT> action) {
         Objects.requireNonNull(action);
-        return new StatelessOp<P_OUT, P_OUT>(this, StreamShape.REFERENCE,
-                                     0) {
-            @Override
-            Sink<P_OUT> opWrapSink(int flags, Sink<P_OUT> sink) {
-                return new Sink.ChainedReference<P_OUT, P_OUT>(sink) {
-                    @Override
-                    public void accept(P_OUT u) {
-                        action.accept(u);
-                        downstream.accept(u);
-                    }
-                };
-            }
-        };
+        return new FusibleOp<P_OUT, P_OUT>(this, 0, FusibleOp.PEEK, action);
     }
 
     // Stateful intermediate operations from Stream
@@ -625,6 +586,142 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         }
     }
 
+    /**
+     * A stateless filter, map or peek stage of a Stream.  A run of two or
+     * more consecutive such stages is evaluated by a single {@link FusedSink}
+     * rather than a chain of sinks, one per stage.
+     *
+     * @param <E_IN> type of elements in the upstream source
+     * @param <E_OUT> type of elements in produced by this stage
+     */
+    static final class FusibleOp<E_IN, E_OUT> extends StatelessOp<E_IN, E_OUT> {
+        static final byte FILTER = 0;
+        static final byte MAP    = 1;
+        static final byte PEEK   = 2;
+
+        /** The kind of operation: FILTER, MAP or PEEK */
+        final byte kind;
+
+        /** The Predicate, Function or Consumer of the operation */
+        final Object fn;
+
+        FusibleOp(AbstractPipeline<?, E_IN, ?> upstream, int opFlags,
+                  byte kind, Object fn) {
+            super(upstream, StreamShape.REFERENCE, opFlags);
+            this.kind = kind;
+            this.fn = fn;
+        }
+
+        @Override
+        boolean opIsFusible() {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Sink<E_IN> opWrapSink(int flags, Sink<E_OUT> sink) {
+            switch (kind) {
+            case FILTER: {
+                Predicate<? super E_IN> predicate = (Predicate<? super E_IN>) fn;
+                return new Sink.ChainedReference<E_IN, E_OUT>(sink) {
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(E_IN u) {
+                        if (predicate.test(u))
+                            downstream.accept((E_OUT) u);
+                    }
+                };
+            }
+            case MAP: {
+                Function<? super E_IN, ? extends E_OUT> mapper =
+                        (Function<? super E_IN, ? extends E_OUT>) fn;
+                return new Sink.ChainedReference<E_IN, E_OUT>(sink) {
+                    @Override
+                    public void accept(E_IN u) {
+                        downstream.accept(mapper.apply(u));
+                    }
+                };
+            }
+            default: {
+                Consumer<? super E_IN> action = (Consumer<? super E_IN>) fn;
+                return new Sink.ChainedReference<E_IN, E_OUT>(sink) {
+                    @Override
+                    public void accept(E_IN u) {
+                        action.accept(u);
+                        downstream.accept((E_OUT) u);
+                    }
+                };
+            }
+            }
+        }
+
+        @Override
+        Sink<?> opWrapFusedSink(AbstractPipeline<?, ?, ?>[] stages, Sink<E_OUT> sink) {
+            int n = stages.length;
+            byte[] kinds = new byte[n];
+            Object[] fns = new Object[n];
+            boolean sized = true;
+            for (int i = 0; i < n; i++) {
+                FusibleOp<?, ?> op = (FusibleOp<?, ?>) stages[i];
+                if ((kinds[i] = op.kind) == FILTER)
+                    sized = false;
+                fns[i] = op.fn;
+            }
+            return new FusedSink<>(kinds, fns, sized, sink);
+        }
+    }
+
+    /**
+     * A {@code Sink} performing a run of fused filter, map and peek
+     * operations on each element, in order, before passing the result, if
+     * any, downstream.
+     *
+     * @param <E_OUT> type of elements passed downstream
+     */
+    static final class FusedSink<E_OUT> extends Sink.ChainedReference<Object, E_OUT> {
+        private final byte[] kinds;
+        private final Object[] fns;
+        private final boolean sized;
+
+        FusedSink(byte[] kinds, Object[] fns, boolean sized, Sink<? super E_OUT> downstream) {
+            super(downstream);
+            this.kinds = kinds;
+            this.fns = fns;
+            this.sized = sized;
+        }
+
+        @Override
+        public void begin(long size) {
+            downstream.begin(sized ? size : -1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void accept(Object u) {
+            final byte[] kinds = this.kinds;
+            final Object[] fns = this.fns;
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                case FusibleOp.FILTER:
+                    if (!((Predicate<Object>) fns[i]).test(u))
+                        return;
+                    break;
+                case FusibleOp.MAP:
+                    u = ((Function<Object, Object>) fns[i]).apply(u);
+                    break;
+                default:
+                    ((Consumer<Object>) fns[i]).accept(u);
+                    break;
+                }
+            }
+            downstream.accept((E_OUT) u);
+        }
+    }
+
     /**
      * Base class for a stateful intermediate stage of a Stream.
      *
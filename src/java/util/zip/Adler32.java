@@ -113,9 +113,13 @@ class Adler32 implements Checksum {
         } else if (buffer.hasArray()) {
             adler = updateBytes(adler, buffer.array(), pos + buffer.arrayOffset(), rem);
         } else {
-            byte[] b = new byte[rem];
-            buffer.get(b);
-            adler = updateBytes(adler, b, 0, b.length);
+            // read-only heap buffer: copy through a bounded array
+            byte[] b = new byte[Math.min(rem, 4096)];
+            while (buffer.hasRemaining()) {
+                int n = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, n);
+                adler = updateBytes(adler, b, 0, n);
+            }
         }
         buffer.position(limit);
     }
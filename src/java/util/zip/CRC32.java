@@ -110,9 +110,13 @@ class CRC32 implements Checksum {
         } else if (buffer.hasArray()) {
             crc = updateBytes(crc, buffer.array(), pos + buffer.arrayOffset(), rem);
         } else {
-            byte[] b = new byte[rem];
-            buffer.get(b);
-            crc = updateBytes(crc, b, 0, b.length);
+            // read-only heap buffer: copy through a bounded array
+            byte[] b = new byte[Math.min(rem, 4096)];
+            while (buffer.hasRemaining()) {
+                int n = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, n);
+                crc = updateBytes(crc, b, 0, n);
+            }
         }
         buffer.position(limit);
     }
@@ -131,6 +135,60 @@ class CRC32 implements Checksum {
         return (long)crc & 0xffffffffL;
     }
 
+    /**
+     * Returns the CRC-32 of the concatenation of two byte sequences,
+     * given the CRC-32 of each and the length of the second, as
+     * crc32_combine in zlib does.  The operator that feeds one zero bit
+     * through the CRC register is squared repeatedly to feed
+     * {@code len2} zero bytes in O(log len2) steps.
+     */
+    static int combine(int crc1, int crc2, long len2) {
+        if (len2 <= 0)
+            return crc1 ^ crc2;
+        int[] even = new int[32];     // even-power-of-two zeros operator
+        int[] odd = new int[32];      // odd-power-of-two zeros operator
+
+        // put operator for one zero bit in odd
+        odd[0] = 0xedb88320;          // CRC-32 polynomial
+        int row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        gf2MatrixSquare(even, odd);   // two zero bits
+        gf2MatrixSquare(odd, even);   // four zero bits
+
+        // apply len2 zeros to crc1 (first square will put the operator
+        // for one zero byte, eight zero bits, in even)
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0)
+                crc1 = gf2MatrixTimes(even, crc1);
+            len2 >>= 1;
+            if (len2 == 0)
+                break;
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0)
+                crc1 = gf2MatrixTimes(odd, crc1);
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static int gf2MatrixTimes(int[] mat, int vec) {
+        int sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0)
+                sum ^= mat[i];
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(int[] square, int[] mat) {
+        for (int n = 0; n < 32; n++)
+            square[n] = gf2MatrixTimes(mat, mat[n]);
+    }
+
     private native static int update(int crc, int b);
     private native static int updateBytes(int crc, byte[] b, int off, int len);
 
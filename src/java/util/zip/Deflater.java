@@ -25,6 +25,9 @@
 
 package java.util.zip;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * This class provides support for general purpose compression using the
  * popular ZLIB compression library. The ZLIB compression library was
@@ -81,6 +84,14 @@ class Deflater {
     private boolean finish, finished;
     private long bytesRead;
     private long bytesWritten;
+    private ByteBuffer input;       // input set by setInput(ByteBuffer)
+    private byte[] inStage, outStage;
+
+    /*
+     * Size of the arrays through which the contents of buffers that are
+     * not backed by an accessible array are passed to ZLIB.
+     */
+    private static final int STAGE_SIZE = 16 * 1024;
 
     /**
      * Compression method for the deflate algorithm (the only one currently
@@ -207,6 +218,7 @@ class Deflater {
             this.buf = b;
             this.off = off;
             this.len = len;
+            this.input = null;
         }
     }
 
@@ -220,6 +232,35 @@ class Deflater {
         setInput(b, 0, b.length);
     }
 
+    /**
+     * Sets input data for compression. This should be called whenever
+     * needsInput() returns true indicating that more input data is required.
+     * <p>
+     * The input data are the bytes of the buffer between its position and
+     * its limit.  The buffer is retained by this compressor, and its
+     * position is advanced as its bytes are consumed by {@code deflate};
+     * it must not be modified until it is no longer needed, when
+     * needsInput() returns true, or setInput is invoked again.
+     * <p>
+     * The contents of a buffer backed by an accessible array are passed
+     * to ZLIB in place; those of other buffers are copied through a small
+     * internal array.
+     *
+     * @param input the input data bytes
+     * @see Deflater#needsInput
+     * @since 1.8
+     */
+    public void setInput(ByteBuffer input) {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        synchronized (zsRef) {
+            this.off = 0;
+            this.len = input.remaining();
+            this.input = input;
+        }
+    }
+
     /**
      * Sets preset dictionary for compression. A preset dictionary is used
      * when the history buffer can be predetermined. When the data is later
@@ -440,16 +481,148 @@ class Deflater {
             ensureOpen();
             if (flush == NO_FLUSH || flush == SYNC_FLUSH ||
                 flush == FULL_FLUSH) {
-                int thisLen = this.len;
-                int n = deflateBytes(zsRef.address(), b, off, len, flush);
-                bytesWritten += n;
-                bytesRead += (thisLen - this.len);
-                return n;
+                return deflate0(b, off, len, flush);
             }
             throw new IllegalArgumentException();
         }
     }
 
+    /**
+     * Compresses the input data and fills specified buffer with compressed
+     * data. Returns actual number of bytes of compressed data. A return value
+     * of 0 indicates that {@link #needsInput() needsInput} should be called
+     * in order to determine if more input data is required.
+     *
+     * <p>This method uses {@link #NO_FLUSH} as its compression flush mode.
+     * An invocation of this method of the form {@code deflater.deflate(output)}
+     * yields the same result as the invocation of
+     * {@code deflater.deflate(output, Deflater.NO_FLUSH)}.
+     *
+     * @param output the buffer for the compressed data
+     * @return the actual number of bytes of compressed data written to the
+     *         output buffer
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     * @since 1.8
+     */
+    public int deflate(ByteBuffer output) {
+        return deflate(output, NO_FLUSH);
+    }
+
+    /**
+     * Compresses the input data and fills the specified buffer with compressed
+     * data. Returns actual number of bytes of data compressed.
+     *
+     * <p>The compressed bytes are written at the position of the buffer,
+     * which is advanced by their number, up to its limit.  A buffer backed
+     * by an accessible array is written in place; other buffers are filled
+     * through a small internal array.  The flush modes are those of
+     * {@link #deflate(byte[], int, int, int)}, the space available being the
+     * remaining bytes of the buffer.
+     *
+     * @param output the buffer for the compressed data
+     * @param flush the compression flush mode
+     * @return the actual number of bytes of compressed data written to
+     *         the output buffer
+     *
+     * @throws IllegalArgumentException if the flush mode is invalid
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     * @since 1.8
+     */
+    public int deflate(ByteBuffer output, int flush) {
+        if (output.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        synchronized (zsRef) {
+            ensureOpen();
+            if (flush != NO_FLUSH && flush != SYNC_FLUSH &&
+                flush != FULL_FLUSH) {
+                throw new IllegalArgumentException();
+            }
+            int pos = output.position();
+            if (output.hasArray()) {
+                int n = deflate0(output.array(), output.arrayOffset() + pos,
+                                 output.remaining(), flush);
+                output.position(pos + n);
+                return n;
+            }
+            if (outStage == null)
+                outStage = new byte[STAGE_SIZE];
+            int total = 0;
+            int n, chunk;
+            do {
+                chunk = Math.min(output.remaining(), STAGE_SIZE);
+                n = deflate0(outStage, 0, chunk, flush);
+                output.put(outStage, 0, n);
+                total += n;
+            } while (n == chunk && output.hasRemaining() && !finished);
+            return total;
+        }
+    }
+
+    /*
+     * Deflates into the given array, passing the input buffer to ZLIB
+     * in one or more chunks if it is set.  Chunks before the last are
+     * deflated without flushing or finishing, so that the output is that
+     * of a single call with all of the input.
+     */
+    private int deflate0(byte[] b, int off, int len, int flush) {
+        if (input == null) {
+            int thisLen = this.len;
+            int n = deflateBytes(zsRef.address(), b, off, len, flush);
+            bytesWritten += n;
+            bytesRead += (thisLen - this.len);
+            return n;
+        }
+        int total = 0;
+        boolean partial;
+        do {
+            partial = stageInput();
+            boolean fin = finish;
+            int thisLen = this.len;
+            int n;
+            try {
+                if (partial)
+                    finish = false;
+                n = deflateBytes(zsRef.address(), b, off + total, len - total,
+                                 partial ? NO_FLUSH : flush);
+            } finally {
+                finish = fin;
+            }
+            int consumed = thisLen - this.len;
+            bytesWritten += n;
+            bytesRead += consumed;
+            input.position(input.position() + consumed);
+            this.len = input.remaining();
+            total += n;
+        } while (partial && total < len);
+        return total;
+    }
+
+    /*
+     * Points buf, off and len at the remaining bytes of the input buffer,
+     * or copies as many of them as fit into the input staging array.
+     * Returns true if only part of the remaining bytes is passed.
+     */
+    private boolean stageInput() {
+        int rem = input.remaining();
+        if (input.hasArray()) {
+            buf = input.array();
+            off = input.arrayOffset() + input.position();
+            len = rem;
+            return false;
+        }
+        if (inStage == null)
+            inStage = new byte[STAGE_SIZE];
+        int n = Math.min(rem, STAGE_SIZE);
+        int pos = input.position();
+        input.get(inStage, 0, n);
+        input.position(pos);
+        buf = inStage;
+        off = 0;
+        len = n;
+        return n < rem;
+    }
+
     /**
      * Returns the ADLER-32 value of the uncompressed data.
      * @return the ADLER-32 value of the uncompressed data
@@ -524,6 +697,7 @@ class Deflater {
             finish = false;
             finished = false;
             off = len = 0;
+            input = null;
             bytesRead = bytesWritten = 0;
         }
     }
@@ -542,6 +716,8 @@ class Deflater {
             if (addr != 0) {
                 end(addr);
                 buf = null;
+                input = null;
+                inStage = outStage = null;
             }
         }
     }
@@ -25,6 +25,9 @@
 
 package java.util.zip;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * This class provides support for general purpose decompression using the
  * popular ZLIB compression library. The ZLIB compression library was
@@ -80,9 +83,17 @@ class Inflater {
     private boolean needDict;
     private long bytesRead;
     private long bytesWritten;
+    private ByteBuffer input;       // input set by setInput(ByteBuffer)
+    private byte[] inStage, outStage;
 
     private static final byte[] defaultBuf = new byte[0];
 
+    /*
+     * Size of the arrays through which the contents of buffers that are
+     * not backed by an accessible array are passed to ZLIB.
+     */
+    private static final int STAGE_SIZE = 16 * 1024;
+
     static {
         /* Zip library is loaded from System.initializeSystemClass */
         initIDs();
@@ -130,6 +141,7 @@ class Inflater {
             this.buf = b;
             this.off = off;
             this.len = len;
+            this.input = null;
         }
     }
 
@@ -144,6 +156,36 @@ class Inflater {
         setInput(b, 0, b.length);
     }
 
+    /**
+     * Sets input data for decompression. Should be called whenever
+     * needsInput() returns true indicating that more input data is
+     * required.
+     * <p>
+     * The input data are the bytes of the buffer between its position and
+     * its limit.  The buffer is retained by this decompressor, and its
+     * position is advanced as its bytes are consumed by {@code inflate};
+     * it must not be modified until it is no longer needed, when
+     * needsInput() returns true, or setInput is invoked again.
+     * <p>
+     * The contents of a buffer backed by an accessible array are passed
+     * to ZLIB in place; those of other buffers are copied through a small
+     * internal array.
+     *
+     * @param input the input data bytes
+     * @see Inflater#needsInput
+     * @since 1.8
+     */
+    public void setInput(ByteBuffer input) {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        synchronized (zsRef) {
+            this.off = 0;
+            this.len = input.remaining();
+            this.input = input;
+        }
+    }
+
     /**
      * Sets the preset dictionary to the given array of bytes. Should be
      * called when inflate() returns 0 and needsDictionary() returns true
@@ -255,12 +297,65 @@ class Inflater {
         }
         synchronized (zsRef) {
             ensureOpen();
+            return inflate0(b, off, len);
+        }
+    }
+
+    /*
+     * Inflates into the given array, passing the input buffer to ZLIB
+     * in one or more chunks if it is set.
+     */
+    private int inflate0(byte[] b, int off, int len)
+        throws DataFormatException
+    {
+        if (input == null) {
             int thisLen = this.len;
             int n = inflateBytes(zsRef.address(), b, off, len);
             bytesWritten += n;
             bytesRead += (thisLen - this.len);
             return n;
         }
+        int total = 0;
+        boolean partial;
+        do {
+            partial = stageInput();
+            int thisLen = this.len;
+            int n = inflateBytes(zsRef.address(), b, off + total, len - total);
+            int consumed = thisLen - this.len;
+            bytesWritten += n;
+            bytesRead += consumed;
+            input.position(input.position() + consumed);
+            this.len = input.remaining();
+            total += n;
+            if (finished || needDict || (n == 0 && consumed == 0))
+                break;
+        } while (partial && total < len);
+        return total;
+    }
+
+    /*
+     * Points buf, off and len at the remaining bytes of the input buffer,
+     * or copies as many of them as fit into the input staging array.
+     * Returns true if only part of the remaining bytes is passed.
+     */
+    private boolean stageInput() {
+        int rem = input.remaining();
+        if (input.hasArray()) {
+            buf = input.array();
+            off = input.arrayOffset() + input.position();
+            len = rem;
+            return false;
+        }
+        if (inStage == null)
+            inStage = new byte[STAGE_SIZE];
+        int n = Math.min(rem, STAGE_SIZE);
+        int pos = input.position();
+        input.get(inStage, 0, n);
+        input.position(pos);
+        buf = inStage;
+        off = 0;
+        len = n;
+        return n < rem;
     }
 
     /**
@@ -280,6 +375,54 @@ class Inflater {
         return inflate(b, 0, b.length);
     }
 
+    /**
+     * Uncompresses bytes into specified buffer. Returns actual number
+     * of bytes uncompressed. A return value of 0 indicates that
+     * needsInput() or needsDictionary() should be called in order to
+     * determine if more input data or a preset dictionary is required.
+     * In the latter case, getAdler() can be used to get the Adler-32
+     * value of the dictionary required.
+     * <p>
+     * The uncompressed bytes are written at the position of the buffer,
+     * which is advanced by their number, up to its limit.  A buffer backed
+     * by an accessible array is written in place; other buffers are filled
+     * through a small internal array.
+     *
+     * @param output the buffer for the uncompressed data
+     * @return the actual number of uncompressed bytes
+     * @exception DataFormatException if the compressed data format is invalid
+     * @exception ReadOnlyBufferException if the buffer is read-only
+     * @see Inflater#needsInput
+     * @see Inflater#needsDictionary
+     * @since 1.8
+     */
+    public int inflate(ByteBuffer output) throws DataFormatException {
+        if (output.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        synchronized (zsRef) {
+            ensureOpen();
+            int pos = output.position();
+            if (output.hasArray()) {
+                int n = inflate0(output.array(), output.arrayOffset() + pos,
+                                 output.remaining());
+                output.position(pos + n);
+                return n;
+            }
+            if (outStage == null)
+                outStage = new byte[STAGE_SIZE];
+            int total = 0;
+            int n, chunk;
+            do {
+                chunk = Math.min(output.remaining(), STAGE_SIZE);
+                n = inflate0(outStage, 0, chunk);
+                output.put(outStage, 0, n);
+                total += n;
+            } while (n == chunk && output.hasRemaining() && !finished && !needDict);
+            return total;
+        }
+    }
+
     /**
      * Returns the ADLER-32 value of the uncompressed data.
      * @return the ADLER-32 value of the uncompressed data
@@ -354,6 +497,7 @@ class Inflater {
             finished = false;
             needDict = false;
             off = len = 0;
+            input = null;
             bytesRead = bytesWritten = 0;
         }
     }
@@ -372,6 +516,8 @@ class Inflater {
             if (addr != 0) {
                 end(addr);
                 buf = null;
+                input = null;
+                inStage = outStage = null;
             }
         }
     }
@@ -0,0 +1,765 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.zip.ZipConstants64.*;
+import static java.util.zip.ZipUtils.*;
+
+/**
+ * A read-only ZIP file that is memory-mapped and indexed in Java, for
+ * scanning and reading large archives from many threads.
+ *
+ * <p>Unlike {@link ZipFile}, which reads the central directory through
+ * native code, a {@code MappedZipFile} maps the whole archive into memory
+ * when it is opened, copies the central directory and indexes the entry
+ * names in an open-addressed hash table; the names of large directories
+ * are hashed in parallel.  Entry data is then read straight from the
+ * mapping:
+ * <ul>
+ * <li>{@link #getByteBuffer getByteBuffer} returns the data of a
+ *     {@linkplain ZipEntry#STORED stored} entry as a read-only slice of
+ *     the mapping, without copying it;
+ * <li>{@link #getInputStream getInputStream} returns a stream reading an
+ *     entry, with its own {@link Inflater} for a {@linkplain
+ *     ZipEntry#DEFLATED deflated} entry.
+ * </ul>
+ *
+ * <p>All methods may be invoked concurrently by multiple threads, and the
+ * streams and buffers of different entries (or of the same entry) may be
+ * read concurrently.  {@link #stream} returns a stream that splits well,
+ * so that entries may be processed in parallel.
+ *
+ * <p>The archive must not be modified while it is open, as the entries
+ * are read from the mapping.  Since a mapping cannot safely be released
+ * while it may still be in use, {@link #close} does not release it; the
+ * mapping is released when it becomes unreachable, and buffers and
+ * streams obtained before {@code close} remain usable.
+ *
+ * <p>Multi-disk archives and encrypted entries are not supported.
+ *
+ * @see ZipFile
+ * @since 1.8
+ */
+public class MappedZipFile implements ZipConstants, Closeable {
+
+    private static final int STORED = ZipEntry.STORED;
+    private static final int DEFLATED = ZipEntry.DEFLATED;
+
+    /**
+     * File offsets between the starts of successive mapped regions of
+     * an archive larger than a single mapping.  Each region extends up
+     * to the maximum mapping size, so any entry of at most about 1 GB
+     * lies within the region its data starts in.
+     */
+    private static final long REGION_STEP = 1L << 30;
+
+    /**
+     * Number of entries above which their names are hashed in parallel.
+     */
+    private static final int PARALLEL_INDEX_MIN = 1 << 13;
+
+    private final String name;
+    private final ZipCoder zc;
+    private final FileChannel ch;
+    private final ByteBuffer[] regions;   // read-only, little-endian
+    private final byte[] cen;             // central directory
+    private final int[] entryPos;         // offsets of CEN headers in cen
+    private final int[] table;            // entry index + 1, or 0 if empty
+    private final int[] hashes;           // name hash of each entry
+    private final String comment;
+    private final Deque<Inflater> inflaterCache = new ArrayDeque<>();
+    private volatile boolean closeRequested;
+
+    /**
+     * Opens and maps a ZIP file for reading, decoding entry names and
+     * comments with UTF-8.
+     *
+     * @param file the ZIP file to be opened for reading
+     * @throws ZipException if a ZIP format error has occurred
+     * @throws IOException if an I/O error has occurred
+     * @throws SecurityException if a security manager exists and
+     *         its {@code checkRead} method doesn't allow read access
+     *         to the file
+     */
+    public MappedZipFile(File file) throws IOException {
+        this(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens and maps a ZIP file for reading.
+     *
+     * @param file the ZIP file to be opened for reading
+     * @param charset
+     *        the {@linkplain java.nio.charset.Charset charset} to
+     *        be used to decode the ZIP entry name and comment that are not
+     *        encoded by using UTF-8 encoding (indicated by entry's general
+     *        purpose flag).
+     * @throws ZipException if a ZIP format error has occurred
+     * @throws IOException if an I/O error has occurred
+     * @throws SecurityException if a security manager exists and
+     *         its {@code checkRead} method doesn't allow read access
+     *         to the file
+     */
+    public MappedZipFile(File file, Charset charset) throws IOException {
+        if (charset == null)
+            throw new NullPointerException("charset is null");
+        this.name = file.getPath();
+        this.zc = ZipCoder.get(charset);
+        FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long size = ch.size();
+            int nregions = (size <= Integer.MAX_VALUE) ? 1
+                : (int) ((size - 1) / REGION_STEP) + 1;
+            ByteBuffer[] regions = new ByteBuffer[nregions];
+            for (int i = 0; i < nregions; i++) {
+                long start = i * REGION_STEP;
+                long len = Math.min(size - start, Integer.MAX_VALUE);
+                regions[i] = ch.map(FileChannel.MapMode.READ_ONLY, start, len)
+                               .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            this.ch = ch;
+            this.regions = regions;
+
+            // END header, and ZIP64 END header if needed
+            long endPos = findEnd(size);
+            int total = getU16(endPos + ENDTOT);
+            long cenLen = getU32(endPos + ENDSIZ);
+            long cenOff = getU32(endPos + ENDOFF);
+            int commentLen = getU16(endPos + ENDCOM);
+            if ((total == ZIP64_MAGICCOUNT || cenLen == ZIP64_MAGICVAL ||
+                 cenOff == ZIP64_MAGICVAL) && endPos >= ZIP64_LOCHDR &&
+                getU32(endPos - ZIP64_LOCHDR) == ZIP64_LOCSIG) {
+                long end64 = getU64(endPos - ZIP64_LOCHDR + 8);
+                if (end64 < 0 || end64 > endPos - ZIP64_ENDHDR ||
+                    getU32(end64) != ZIP64_ENDSIG)
+                    throw new ZipException("invalid ZIP64 END header");
+                long total64 = getU64(end64 + ZIP64_ENDTOT);
+                if (total64 < 0 || total64 > Integer.MAX_VALUE)
+                    throw new ZipException("invalid ZIP64 END header (too many entries)");
+                total = (int) total64;
+                cenLen = getU64(end64 + ZIP64_ENDSIZ);
+                cenOff = getU64(end64 + ZIP64_ENDOFF);
+            }
+            if (cenLen < 0 || cenLen > Integer.MAX_VALUE - 1 ||
+                cenOff < 0 || cenOff + cenLen > endPos)
+                throw new ZipException("invalid END header (bad central directory offset)");
+            this.comment = (commentLen == 0) ? null
+                : zc.toString(getBytes(endPos + ENDHDR, commentLen));
+
+            this.cen = getBytes(cenOff, (int) cenLen);
+            this.entryPos = scanCen(cen, total);
+            int n = entryPos.length;
+            this.hashes = new int[n];
+            if (n >= PARALLEL_INDEX_MIN) {
+                Arrays.parallelSetAll(hashes, this::nameHash);
+            } else {
+                Arrays.setAll(hashes, this::nameHash);
+            }
+            this.table = buildTable(hashes);
+        } catch (Throwable t) {
+            ch.close();
+            throw t;
+        }
+    }
+
+    /**
+     * Returns the position of the END header, searching backwards over
+     * a ZIP file comment of at most 64 KB.
+     */
+    private long findEnd(long size) throws ZipException {
+        long minPos = Math.max(0, size - ENDHDR - 0xFFFF);
+        for (long pos = size - ENDHDR; pos >= minPos; pos--) {
+            if (getU32(pos) == ENDSIG &&
+                pos + ENDHDR + getU16(pos + ENDCOM) == size)
+                return pos;
+        }
+        throw new ZipException("zip END header not found");
+    }
+
+    /**
+     * Returns the offsets of the CEN headers of the central directory.
+     */
+    private static int[] scanCen(byte[] cen, int total) throws ZipException {
+        int[] pos = new int[total];
+        int p = 0;
+        for (int i = 0; i < total; i++) {
+            if (p > cen.length - CENHDR || get32(cen, p) != CENSIG)
+                throw new ZipException("invalid CEN header (bad signature)");
+            if ((get16(cen, p + CENFLG) & 1) != 0)
+                throw new ZipException("invalid CEN header (encrypted entry)");
+            int method = get16(cen, p + CENHOW);
+            if (method != STORED && method != DEFLATED)
+                throw new ZipException("invalid CEN header (bad compression method: " +
+                                       method + ")");
+            pos[i] = p;
+            p += CENHDR + get16(cen, p + CENNAM) + get16(cen, p + CENEXT) +
+                 get16(cen, p + CENCOM);
+            if (p > cen.length)
+                throw new ZipException("invalid CEN header (bad header size)");
+        }
+        return pos;
+    }
+
+    private int nameHash(int i) {
+        int p = entryPos[i];
+        return hash(cen, p + CENHDR, get16(cen, p + CENNAM));
+    }
+
+    private static int hash(byte[] b, int off, int len) {
+        int h = 0;
+        for (int i = off, end = off + len; i < end; i++)
+            h = 31 * h + b[i];
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Builds the open-addressed index of entries by name hash, with
+     * linear probing and a load factor of at most one half.
+     */
+    private static int[] buildTable(int[] hashes) {
+        int n = hashes.length;
+        int[] table = new int[Math.max(2, Integer.highestOneBit(n) << 2)];
+        int mask = table.length - 1;
+        for (int i = 0; i < n; i++) {
+            int j = hashes[i] & mask;
+            while (table[j] != 0)
+                j = (j + 1) & mask;
+            table[j] = i + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the index of the entry with the given encoded name, or -1.
+     * If there are several, the first in the central directory is
+     * returned, as by ZipFile.
+     */
+    private int lookup(byte[] bname) {
+        int h = hash(bname, 0, bname.length);
+        int mask = table.length - 1;
+        int found = -1;
+        for (int j = h & mask; table[j] != 0; j = (j + 1) & mask) {
+            int i = table[j] - 1;
+            if (hashes[i] == h && (found < 0 || i < found)) {
+                int p = entryPos[i];
+                int nlen = get16(cen, p + CENNAM);
+                if (nlen == bname.length && rangeEquals(cen, p + CENHDR, bname))
+                    found = i;
+            }
+        }
+        return found;
+    }
+
+    private static boolean rangeEquals(byte[] b, int off, byte[] other) {
+        for (int i = 0; i < other.length; i++) {
+            if (b[off + i] != other[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the entry with the given name, or of the
+     * directory entry with the name followed by a slash, or -1.
+     */
+    private int lookup(String name) {
+        int i = lookup(encode(name, false));
+        if (i < 0 && !zc.isUTF8()) {
+            // names of entries with the EFS flag are encoded in UTF-8
+            i = lookup(encode(name, true));
+            if (i >= 0 && (get16(cen, entryPos[i] + CENFLG) & EFS) == 0)
+                i = -1;
+        }
+        if (i < 0 && !name.isEmpty() && !name.endsWith("/"))
+            i = lookup(name + "/");
+        return i;
+    }
+
+    /*
+     * The coder keeps its encoder and decoder, which must not be used by
+     * two threads at once.
+     */
+    private byte[] encode(String s, boolean utf8) {
+        synchronized (zc) {
+            return utf8 ? zc.getBytesUTF8(s) : zc.getBytes(s);
+        }
+    }
+
+    private String decode(byte[] b, boolean utf8) {
+        synchronized (zc) {
+            return utf8 ? zc.toStringUTF8(b, b.length) : zc.toString(b);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closeRequested)
+            throw new IllegalStateException("zip file closed");
+    }
+
+    /**
+     * Returns the zip file entry for the specified name, or null
+     * if not found.
+     *
+     * @param name the name of the entry
+     * @return the zip file entry, or null if not found
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public ZipEntry getEntry(String name) {
+        if (name == null)
+            throw new NullPointerException("name");
+        ensureOpen();
+        int i = lookup(name);
+        return (i < 0) ? null : entryAt(i);
+    }
+
+    /**
+     * Creates the ZipEntry of the entry at the given index.
+     */
+    private ZipEntry entryAt(int i) {
+        int p = entryPos[i];
+        ZipEntry e = new ZipEntry();
+        int flag = get16(cen, p + CENFLG);
+        boolean utf8 = !zc.isUTF8() && (flag & EFS) != 0;
+        int nlen = get16(cen, p + CENNAM);
+        int elen = get16(cen, p + CENEXT);
+        int clen = get16(cen, p + CENCOM);
+        e.flag = flag;
+        byte[] bname = Arrays.copyOfRange(cen, p + CENHDR, p + CENHDR + nlen);
+        e.name = decode(bname, utf8);
+        e.xdostime = get32(cen, p + CENTIM);
+        e.crc = get32(cen, p + CENCRC);
+        e.method = get16(cen, p + CENHOW);
+        long[] sizes = sizes(p);
+        e.csize = sizes[0];
+        e.size = sizes[1];
+        if (elen > 0) {
+            int off = p + CENHDR + nlen;
+            e.setExtra0(Arrays.copyOfRange(cen, off, off + elen), false);
+        }
+        if (clen > 0) {
+            int off = p + CENHDR + nlen + elen;
+            byte[] bcomm = Arrays.copyOfRange(cen, off, off + clen);
+            e.comment = decode(bcomm, utf8);
+        }
+        return e;
+    }
+
+    /**
+     * Returns the compressed size, size and LOC header offset of the
+     * entry whose CEN header is at p, taking them from its ZIP64 extra
+     * field where the header holds the magic value.
+     */
+    private long[] sizes(int p) {
+        long csize = get32(cen, p + CENSIZ);
+        long size = get32(cen, p + CENLEN);
+        long locoff = get32(cen, p + CENOFF);
+        if (csize == ZIP64_MAGICVAL || size == ZIP64_MAGICVAL ||
+            locoff == ZIP64_MAGICVAL) {
+            int off = p + CENHDR + get16(cen, p + CENNAM);
+            int end = off + get16(cen, p + CENEXT);
+            while (off + 4 <= end) {
+                int tag = get16(cen, off);
+                int sz = get16(cen, off + 2);
+                off += 4;
+                if (off + sz > end)
+                    break;
+                if (tag == EXTID_ZIP64) {
+                    // only the fields with the magic value are present
+                    int q = off;
+                    if (size == ZIP64_MAGICVAL && q + 8 <= off + sz) {
+                        size = get64(cen, q);
+                        q += 8;
+                    }
+                    if (csize == ZIP64_MAGICVAL && q + 8 <= off + sz) {
+                        csize = get64(cen, q);
+                        q += 8;
+                    }
+                    if (locoff == ZIP64_MAGICVAL && q + 8 <= off + sz) {
+                        locoff = get64(cen, q);
+                    }
+                    break;
+                }
+                off += sz;
+            }
+        }
+        return new long[] { csize, size, locoff };
+    }
+
+    /**
+     * Returns the data of the entry at the given index, as a read-only,
+     * little-endian buffer positioned at zero.
+     */
+    private ByteBuffer data(int i) throws IOException {
+        long[] sizes = sizes(entryPos[i]);
+        long csize = sizes[0];
+        long locoff = sizes[2];
+        if (locoff < 0 || locoff > ch.size() - LOCHDR || getU32(locoff) != LOCSIG)
+            throw new ZipException("invalid LOC header (bad signature)");
+        long start = locoff + LOCHDR + getU16(locoff + LOCNAM) + getU16(locoff + LOCEXT);
+        if (csize < 0 || csize > Integer.MAX_VALUE || start + csize > ch.size())
+            throw new ZipException("invalid entry compressed size");
+        int r = region(start);
+        long rel = start - r * REGION_STEP;
+        ByteBuffer region = regions[r];
+        if (rel + csize <= region.capacity()) {
+            ByteBuffer b = region.duplicate();
+            b.limit((int) (rel + csize)).position((int) rel);
+            return b.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        // a huge entry crossing the end of its region
+        ensureOpen();
+        return ch.map(FileChannel.MapMode.READ_ONLY, start, csize)
+                 .asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private int entryIndex(ZipEntry entry) throws ZipException {
+        if (entry == null)
+            throw new NullPointerException("entry");
+        ensureOpen();
+        int i = lookup(entry.name);
+        if (i < 0)
+            throw new ZipException("entry not found: " + entry.name);
+        return i;
+    }
+
+    /**
+     * Returns the data of a stored entry as a read-only slice of the
+     * mapped archive, or the inflated data of a deflated entry in a new
+     * buffer.  The returned buffer is positioned at zero and its limit
+     * is the size of the entry data.
+     *
+     * @param entry the zip file entry
+     * @return a buffer holding the entry data
+     * @throws ZipException if a ZIP format error has occurred, the entry
+     *         is not in this ZIP file, or a deflated entry is larger than
+     *         2 GB
+     * @throws IOException if an I/O error has occurred
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public ByteBuffer getByteBuffer(ZipEntry entry) throws IOException {
+        int i = entryIndex(entry);
+        ByteBuffer data = data(i);
+        if (get16(cen, entryPos[i] + CENHOW) == STORED)
+            return data;
+        long size = sizes(entryPos[i])[1];
+        if (size < 0 || size > Integer.MAX_VALUE)
+            throw new ZipException("entry too large to inflate into a buffer");
+        byte[] out = new byte[(int) size];
+        try (InputStream in = new EntryInflaterInputStream(data, getInflater(), size)) {
+            int n = 0;
+            while (n < out.length) {
+                int k = in.read(out, n, out.length - n);
+                if (k < 0)
+                    throw new ZipException("invalid entry size");
+                n += k;
+            }
+        }
+        return ByteBuffer.wrap(out);
+    }
+
+    /**
+     * Returns an input stream for reading the contents of the specified
+     * zip file entry.  Streams are independent of each other and may be
+     * read concurrently.
+     *
+     * @param entry the zip file entry
+     * @return the input stream for reading the contents of the specified
+     * zip file entry.
+     * @throws ZipException if a ZIP format error has occurred, or the
+     *         entry is not in this ZIP file
+     * @throws IOException if an I/O error has occurred
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public InputStream getInputStream(ZipEntry entry) throws IOException {
+        int i = entryIndex(entry);
+        ByteBuffer data = data(i);
+        if (get16(cen, entryPos[i] + CENHOW) == STORED)
+            return new BufferInputStream(data);
+        return new EntryInflaterInputStream(data, getInflater(),
+                                            sizes(entryPos[i])[1]);
+    }
+
+    /**
+     * Returns the path name of the ZIP file.
+     * @return the path name of the ZIP file
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the zip file comment, or null if none.
+     *
+     * @return the comment string for the zip file, or null if none
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public String getComment() {
+        ensureOpen();
+        return comment;
+    }
+
+    /**
+     * Returns the number of entries in the ZIP file.
+     * @return the number of entries in the ZIP file
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public int size() {
+        ensureOpen();
+        return entryPos.length;
+    }
+
+    /**
+     * Returns an enumeration of the ZIP file entries, in the order of the
+     * central directory.
+     * @return an enumeration of the ZIP file entries
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public Enumeration<? extends ZipEntry> entries() {
+        ensureOpen();
+        return new Enumeration<ZipEntry>() {
+            private int i = 0;
+
+            public boolean hasMoreElements() {
+                ensureOpen();
+                return i < entryPos.length;
+            }
+
+            public ZipEntry nextElement() {
+                ensureOpen();
+                if (i >= entryPos.length)
+                    throw new NoSuchElementException();
+                return entryAt(i++);
+            }
+        };
+    }
+
+    /**
+     * Returns an ordered {@code Stream} over the ZIP file entries, in the
+     * order of the central directory.  The stream is sized and splits
+     * evenly, so that entries may be efficiently processed in parallel.
+     *
+     * @return an ordered {@code Stream} of entries in this ZIP file
+     * @throws IllegalStateException if the zip file has been closed
+     */
+    public Stream<? extends ZipEntry> stream() {
+        ensureOpen();
+        return IntStream.range(0, entryPos.length).mapToObj(this::entryAt);
+    }
+
+    /**
+     * Closes the ZIP file.  Buffers and input streams previously returned
+     * remain usable; the mapping of the archive is released when it is no
+     * longer reachable.
+     *
+     * @throws IOException if an I/O error has occurred
+     */
+    public void close() throws IOException {
+        if (closeRequested)
+            return;
+        closeRequested = true;
+        synchronized (inflaterCache) {
+            Inflater inf;
+            while ((inf = inflaterCache.poll()) != null)
+                inf.end();
+        }
+        ch.close();
+    }
+
+    // Little-endian reads from the mapped archive
+
+    private int region(long pos) {
+        return (regions.length == 1) ? 0 : (int) (pos / REGION_STEP);
+    }
+
+    private int getU16(long pos) {
+        int r = region(pos);
+        return regions[r].getShort((int) (pos - r * REGION_STEP)) & 0xffff;
+    }
+
+    private long getU32(long pos) {
+        int r = region(pos);
+        return regions[r].getInt((int) (pos - r * REGION_STEP)) & 0xffffffffL;
+    }
+
+    private long getU64(long pos) {
+        int r = region(pos);
+        return regions[r].getLong((int) (pos - r * REGION_STEP));
+    }
+
+    private byte[] getBytes(long pos, int len) throws IOException {
+        byte[] b = new byte[len];
+        int r = region(pos);
+        long rel = pos - r * REGION_STEP;
+        if (rel + len <= regions[r].capacity()) {
+            ByteBuffer d = regions[r].duplicate();
+            d.position((int) rel);
+            d.get(b);
+        } else {
+            ByteBuffer d = ByteBuffer.wrap(b);
+            while (d.hasRemaining()) {
+                if (ch.read(d, pos + d.position()) < 0)
+                    throw new EOFException();
+            }
+        }
+        return b;
+    }
+
+    /*
+     * Gets an inflater from the list of available inflaters or allocates
+     * a new one.
+     */
+    private Inflater getInflater() {
+        Inflater inf;
+        synchronized (inflaterCache) {
+            while ((inf = inflaterCache.poll()) != null) {
+                if (!inf.ended()) {
+                    return inf;
+                }
+            }
+        }
+        return new Inflater(true);
+    }
+
+    /*
+     * Releases the specified inflater to the list of available inflaters.
+     */
+    private void releaseInflater(Inflater inf) {
+        if (!inf.ended()) {
+            inf.reset();
+            synchronized (inflaterCache) {
+                if (!closeRequested) {
+                    inflaterCache.add(inf);
+                    return;
+                }
+            }
+            inf.end();
+        }
+    }
+
+    /**
+     * Input stream reading the remaining bytes of a buffer.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        BufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xff : -1;
+        }
+
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            int n = Math.min(len, buf.remaining());
+            if (n == 0)
+                return -1;
+            buf.get(b, off, n);
+            return n;
+        }
+
+        public long skip(long n) {
+            if (n <= 0)
+                return 0;
+            int k = (int) Math.min(n, buf.remaining());
+            buf.position(buf.position() + k);
+            return k;
+        }
+
+        public int available() {
+            return buf.remaining();
+        }
+    }
+
+    /**
+     * Inflater stream for a deflated entry, which returns its inflater
+     * to the cache when closed.
+     */
+    private class EntryInflaterInputStream extends InflaterInputStream {
+        private final long size;
+        private boolean closeRequested = false;
+        private boolean eof = false;
+
+        EntryInflaterInputStream(ByteBuffer data, Inflater inf, long size) {
+            super(new BufferInputStream(data), inf,
+                  Math.max(512, Math.min(data.remaining() + 1, 8192)));
+            this.size = size;
+        }
+
+        public void close() throws IOException {
+            if (closeRequested)
+                return;
+            closeRequested = true;
+            super.close();
+            releaseInflater(inf);
+        }
+
+        // Override fill() method to provide an extra "dummy" byte
+        // at the end of the input stream. This is required when
+        // using the "nowrap" Inflater option.
+        protected void fill() throws IOException {
+            if (eof) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        public int available() throws IOException {
+            if (closeRequested)
+                return 0;
+            long avail = size - inf.getBytesWritten();
+            return (avail > (long) Integer.MAX_VALUE ?
+                    Integer.MAX_VALUE : (int) Math.max(avail, 0));
+        }
+    }
+}
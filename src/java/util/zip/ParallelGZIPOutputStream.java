@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package java.util.zip;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.fork.ForkJoinPool;
+import java.util.concurrent.fork.RecursiveAction;
+
+/**
+ * This class implements a stream filter for writing compressed data in
+ * the GZIP file format, compressing on several threads.
+ *
+ * <p>The data written is split into blocks, which are deflated
+ * concurrently as tasks of a {@link ForkJoinPool}.  The deflater of each
+ * block is primed with the last 32 KB of the preceding block as its
+ * dictionary, so that matches may reach back across the block boundary
+ * as in a single deflate stream.  Each block is terminated by a sync
+ * flush and the last block is finished, so that the compressed blocks
+ * concatenate into one deflate stream; the CRC-32 of the data is combined
+ * from those of the blocks.  The output is a single standard GZIP member,
+ * readable by {@link GZIPInputStream} and any other GZIP decompressor,
+ * and is slightly larger than that of {@link GZIPOutputStream}.
+ *
+ * <p>Compressed blocks are written to the underlying stream in order, by
+ * the thread writing to this stream, which is blocked while too many
+ * blocks are waiting to be written.
+ *
+ * @see GZIPOutputStream
+ * @since 1.8
+ */
+public class ParallelGZIPOutputStream extends FilterOutputStream {
+
+    /*
+     * GZIP header magic number.
+     */
+    private final static int GZIP_MAGIC = 0x8b1f;
+
+    /*
+     * Trailer size in bytes.
+     */
+    private final static int TRAILER_SIZE = 8;
+
+    /*
+     * Maximum size of a deflate dictionary (the window size).
+     */
+    private final static int DICT_SIZE = 32 * 1024;
+
+    /**
+     * The default block size, 128 KB.
+     */
+    public final static int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int level;
+    private final int blockSize;
+    private final int maxPending;
+
+    private byte[] block;                 // block being filled
+    private int count;                    // bytes in block
+    private byte[] prev;                  // previous block, for dictionary
+    private int prevCount;
+    private final ArrayDeque<BlockTask> pending = new ArrayDeque<>();
+    private final ArrayDeque<Deflater> deflaters = new ArrayDeque<>();
+
+    private int crc;                      // CRC-32 of the blocks written
+    private long totalIn;                 // uncompressed bytes written
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Creates a new output stream compressing with the default
+     * compression level and block size in the {@linkplain
+     * ForkJoinPool#commonPool() common pool}.
+     *
+     * @param out the output stream
+     * @exception IOException If an I/O error has occurred.
+     */
+    public ParallelGZIPOutputStream(OutputStream out) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE,
+             ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new output stream compressing with the specified
+     * compression level and block size in the specified pool.
+     *
+     * @param out the output stream
+     * @param level the compression level (0-9), or
+     *        {@link Deflater#DEFAULT_COMPRESSION}
+     * @param blockSize the number of uncompressed bytes deflated by a task
+     * @param pool the pool executing the compression tasks
+     * @exception IOException If an I/O error has occurred.
+     * @exception IllegalArgumentException if the compression level is
+     *            invalid or {@code blockSize <= 0}
+     */
+    public ParallelGZIPOutputStream(OutputStream out, int level,
+                                    int blockSize, ForkJoinPool pool)
+        throws IOException
+    {
+        super(out);
+        if (out == null || pool == null) {
+            throw new NullPointerException();
+        } else if ((level < 0 || level > 9) &&
+                   level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level");
+        } else if (blockSize <= 0) {
+            throw new IllegalArgumentException("block size <= 0");
+        }
+        this.pool = pool;
+        this.level = level;
+        this.blockSize = blockSize;
+        this.maxPending = 2 * pool.getParallelism() + 1;
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    /**
+     * Writes a byte to the compressed output stream.
+     * @param b the byte to be written
+     * @exception IOException If an I/O error has occurred.
+     */
+    public synchronized void write(int b) throws IOException {
+        ensureOpen();
+        block[count++] = (byte)b;
+        if (count == blockSize)
+            submit(false);
+    }
+
+    /**
+     * Writes array of bytes to the compressed output stream. This method
+     * will block while too many compressed blocks are waiting to be
+     * written.
+     * @param b the data to be written
+     * @param off the start offset of the data
+     * @param len the length of the data
+     * @exception IOException If an I/O error has occurred.
+     */
+    public synchronized void write(byte[] b, int off, int len)
+        throws IOException
+    {
+        ensureOpen();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize)
+                submit(false);
+        }
+    }
+
+    /**
+     * Writes the blocks already compressed or being compressed to the
+     * output stream and flushes it.  Data still buffered in the current
+     * block is not compressed until the block is filled or the stream is
+     * finished.
+     * @exception IOException If an I/O error has occurred.
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        while (!pending.isEmpty())
+            writeBlock(pending.poll());
+        out.flush();
+    }
+
+    /**
+     * Finishes writing compressed data to the output stream without closing
+     * the underlying stream. Use this method when applying multiple filters
+     * in succession to the same output stream.
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void finish() throws IOException {
+        if (!finished) {
+            ensureOpen();
+            submit(true);
+            while (!pending.isEmpty())
+                writeBlock(pending.poll());
+            byte[] trailer = new byte[TRAILER_SIZE];
+            writeInt(crc, trailer, 0);                // CRC-32 of uncompr. data
+            writeInt((int)totalIn, trailer, 4);       // Number of uncompr. bytes
+            out.write(trailer);
+            finished = true;
+            block = prev = null;
+        }
+    }
+
+    /**
+     * Writes remaining compressed data to the output stream and closes the
+     * underlying stream.
+     * @exception IOException if an I/O error has occurred
+     */
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            try {
+                finish();
+            } finally {
+                closed = true;
+                synchronized (deflaters) {
+                    Deflater def;
+                    while ((def = deflaters.poll()) != null)
+                        def.end();
+                }
+                out.close();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException("Stream closed");
+        if (finished)
+            throw new IOException("write beyond end of stream");
+    }
+
+    /*
+     * Starts compressing the current block, first writing the oldest
+     * block if too many are pending.
+     */
+    private void submit(boolean last) throws IOException {
+        while (pending.size() >= maxPending)
+            writeBlock(pending.poll());
+        int dictLen = Math.min(prevCount, DICT_SIZE);
+        BlockTask task = new BlockTask(block, count, prev, prevCount - dictLen,
+                                       dictLen, last);
+        pending.add(task);
+        pool.execute(task);
+        prev = block;
+        prevCount = count;
+        block = last ? null : new byte[blockSize];
+        count = 0;
+    }
+
+    /*
+     * Waits for a block to be compressed and writes it.
+     */
+    private void writeBlock(BlockTask task) throws IOException {
+        task.join();
+        out.write(task.out, 0, task.outLen);
+        crc = CRC32.combine(crc, task.crc, task.len);
+        totalIn += task.len;
+    }
+
+    private Deflater getDeflater() {
+        synchronized (deflaters) {
+            Deflater def = deflaters.poll();
+            if (def != null)
+                return def;
+        }
+        return new Deflater(level, true);
+    }
+
+    private void releaseDeflater(Deflater def) {
+        def.reset();
+        synchronized (deflaters) {
+            if (!closed) {
+                deflaters.add(def);
+                return;
+            }
+        }
+        def.end();
+    }
+
+    /**
+     * Compresses one block, primed with the tail of the block before it.
+     */
+    private final class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 6361478409218427374L;
+
+        final byte[] in;
+        final int len;
+        final byte[] dict;
+        final int dictOff;
+        final int dictLen;
+        final boolean last;
+        byte[] out;
+        int outLen;
+        int crc;
+
+        BlockTask(byte[] in, int len, byte[] dict, int dictOff, int dictLen,
+                  boolean last) {
+            this.in = in;
+            this.len = len;
+            this.dict = dict;
+            this.dictOff = dictOff;
+            this.dictLen = dictLen;
+            this.last = last;
+        }
+
+        protected void compute() {
+            CRC32 c = new CRC32();
+            c.update(in, 0, len);
+            crc = (int)c.getValue();
+
+            // room for the block stored, plus headers
+            byte[] b = new byte[len + (len >>> 10) * 5 + 64];
+            int n = 0;
+            Deflater def = getDeflater();
+            try {
+                if (dictLen > 0)
+                    def.setDictionary(dict, dictOff, dictLen);
+                def.setInput(in, 0, len);
+                if (last) {
+                    def.finish();
+                    while (!def.finished()) {
+                        if (n == b.length)
+                            b = Arrays.copyOf(b, b.length * 2);
+                        n += def.deflate(b, n, b.length - n);
+                    }
+                } else {
+                    do {
+                        if (n == b.length)
+                            b = Arrays.copyOf(b, b.length * 2);
+                        n += def.deflate(b, n, b.length - n, Deflater.SYNC_FLUSH);
+                    } while (n == b.length);
+                }
+            } finally {
+                releaseDeflater(def);
+            }
+            out = b;
+            outLen = n;
+        }
+    }
+
+    /*
+     * Writes GZIP member header.
+     */
+    private void writeHeader() throws IOException {
+        out.write(new byte[] {
+                      (byte) GZIP_MAGIC,        // Magic number (short)
+                      (byte)(GZIP_MAGIC >> 8),  // Magic number (short)
+                      Deflater.DEFLATED,        // Compression method (CM)
+                      0,                        // Flags (FLG)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Modification time MTIME (int)
+                      0,                        // Extra flags (XFLG)
+                      0                         // Operating system (OS)
+                  });
+    }
+
+    /*
+     * Writes integer in Intel byte order to a byte array, starting at a
+     * given offset.
+     */
+    private void writeInt(int i, byte[] buf, int offset) {
+        buf[offset] = (byte)i;
+        buf[offset + 1] = (byte)(i >> 8);
+        buf[offset + 2] = (byte)(i >> 16);
+        buf[offset + 3] = (byte)(i >> 24);
+    }
+}
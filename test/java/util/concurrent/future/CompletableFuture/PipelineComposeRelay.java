@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+/*
+ * @test
+ * @summary A fused pipeline resumed after a late thenCompose stage
+ *          reports exceptions as the unfused chain does
+ * @run main PipelineComposeRelay
+ */
+
+import java.util.concurrent.exception.CompletionException;
+import java.util.concurrent.future.CompletableFuture;
+import java.util.concurrent.future.CompletionStage;
+import java.util.function.Function;
+
+public class PipelineComposeRelay {
+
+    static final RuntimeException FAILURE = new RuntimeException("failure");
+
+    interface Chain {
+        CompletionStage<Object> apply(CompletionStage<Integer> composed);
+    }
+
+    public static void main(String[] args) throws Throwable {
+        for (boolean late : new boolean[] { false, true }) {
+            check("handle", late,
+                  s -> s.handle((v, x) -> (Object) x),
+                  g -> CompletableFuture.completedFuture(1).pipeline()
+                      .thenCompose(v -> g).handle((v, x) -> (Object) x)
+                      .toCompletableFuture());
+            check("whenComplete", late,
+                  s -> recordWhen(s),
+                  g -> recordWhen(CompletableFuture.completedFuture(1)
+                      .pipeline().thenCompose(v -> g)));
+            check("exceptionally", late,
+                  s -> recordExceptionally(s),
+                  g -> recordExceptionally(CompletableFuture.completedFuture(1)
+                      .pipeline().thenCompose(v -> g)));
+        }
+        if (failures > 0)
+            throw new AssertionError(failures + " failures");
+    }
+
+    static int failures;
+
+    static CompletionStage<Object> recordWhen(CompletionStage<Integer> s) {
+        Object[] seen = new Object[1];
+        return s.whenComplete((v, x) -> seen[0] = x)
+            .handle((v, x) -> seen[0]);
+    }
+
+    static CompletionStage<Object> recordWhen(
+        CompletableFuture.Pipeline<Integer> p) {
+        Object[] seen = new Object[1];
+        return p.whenComplete((v, x) -> seen[0] = x).toCompletableFuture()
+            .handle((v, x) -> seen[0]);
+    }
+
+    static CompletionStage<Object> recordExceptionally(
+        CompletionStage<Integer> s) {
+        Object[] seen = new Object[1];
+        return s.exceptionally(x -> { seen[0] = x; return 0; })
+            .thenApply(v -> seen[0]);
+    }
+
+    static CompletionStage<Object> recordExceptionally(
+        CompletableFuture.Pipeline<Integer> p) {
+        Object[] seen = new Object[1];
+        return p.exceptionally(x -> { seen[0] = x; return 0; })
+            .toCompletableFuture().thenApply(v -> seen[0]);
+    }
+
+    /**
+     * Runs the unfused and fused chains on a composed future failing
+     * before or after the chains are built, and checks that both see
+     * the same kind of exception.
+     */
+    static void check(String name, boolean late,
+                      Function<CompletionStage<Integer>,
+                               CompletionStage<Object>> unfused,
+                      Chain fused) throws Throwable {
+        CompletableFuture<Integer> g1 = new CompletableFuture<>();
+        CompletableFuture<Integer> g2 = new CompletableFuture<>();
+        if (!late) {
+            g1.completeExceptionally(FAILURE);
+            g2.completeExceptionally(FAILURE);
+        }
+        CompletableFuture<Object> expected =
+            unfused.apply(CompletableFuture.completedFuture(1)
+                          .thenCompose(v -> g1)).toCompletableFuture();
+        CompletableFuture<Object> actual =
+            fused.apply(g2).toCompletableFuture();
+        if (late) {
+            g1.completeExceptionally(FAILURE);
+            g2.completeExceptionally(FAILURE);
+        }
+        Object e = expected.join(), a = actual.join();
+        if (!(e instanceof CompletionException) ||
+            ((Throwable) e).getCause() != FAILURE)
+            fail(name, late, "unfused chain saw " + e);
+        if (a == null || e == null || a.getClass() != e.getClass() ||
+            ((Throwable) a).getCause() != ((Throwable) e).getCause())
+            fail(name, late, "fused pipeline saw " + a +
+                 ", unfused chain saw " + e);
+    }
+
+    static void fail(String name, boolean late, String msg) {
+        failures++;
+        System.err.println(name + (late ? " (late): " : " (early): ") + msg);
+    }
+}